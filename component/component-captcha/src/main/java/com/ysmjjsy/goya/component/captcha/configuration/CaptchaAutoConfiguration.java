@@ -2,7 +2,9 @@ package com.ysmjjsy.goya.component.captcha.configuration;
 
 import com.ysmjjsy.goya.component.captcha.api.CaptchaService;
 import com.ysmjjsy.goya.component.captcha.configuration.properties.CaptchaProperties;
+import com.ysmjjsy.goya.component.captcha.constants.CaptchaConst;
 import com.ysmjjsy.goya.component.captcha.core.DefaultCaptchaManager;
+import com.ysmjjsy.goya.component.captcha.definition.AbstractRenderer;
 import com.ysmjjsy.goya.component.captcha.enums.CaptchaCategoryEnum;
 import com.ysmjjsy.goya.component.captcha.factory.CaptchaRendererFactory;
 import com.ysmjjsy.goya.component.captcha.provider.ResourceProvider;
@@ -11,12 +13,22 @@ import com.ysmjjsy.goya.component.captcha.renderer.behavior.WordClickCaptchaRend
 import com.ysmjjsy.goya.component.captcha.renderer.graphic.*;
 import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
 /**
  * <p></p>
  *
@@ -55,6 +67,40 @@ public class CaptchaAutoConfiguration {
         return resourceProvider;
     }
 
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnProperty(prefix = CaptchaConst.PROPERTY_CAPTCHA + ".pool", name = "enabled", havingValue = "true", matchIfMissing = true)
+    static class CaptchaPoolConfiguration {
+
+        @PostConstruct
+        public void init() {
+            log.debug("[Goya] |- common [captcha] CaptchaPoolConfiguration auto configure.");
+        }
+
+        @Bean(destroyMethod = "shutdownNow")
+        public ExecutorService captchaPoolExecutor(CaptchaProperties captchaProperties) {
+            int threads = Math.max(captchaProperties.pool().threads(), 1);
+            BasicThreadFactory threadFactory = BasicThreadFactory.builder()
+                    .namingPattern("captcha-pool-%d")
+                    .daemon(true)
+                    .priority(Thread.MIN_PRIORITY)
+                    .build();
+            ExecutorService executorService = new ThreadPoolExecutor(threads, threads,
+                    0L, TimeUnit.MILLISECONDS,
+                    new LinkedBlockingQueue<>(),
+                    threadFactory);
+            log.trace("[Goya] |- common [captcha] CaptchaPoolConfiguration |- bean [captchaPoolExecutor] register.");
+            return executorService;
+        }
+
+        @Bean
+        public SmartInitializingSingleton captchaPoolInitializer(List<AbstractRenderer<?, ?>> renderers, CaptchaProperties captchaProperties, @Qualifier("captchaPoolExecutor") ExecutorService captchaPoolExecutor) {
+            // 在所有单例（包括资源加载器）初始化完成后再预热，避免启动阶段阻塞
+            SmartInitializingSingleton initializer = () -> renderers.forEach(renderer -> renderer.enablePool(captchaProperties.pool().size(), captchaPoolExecutor));
+            log.trace("[Goya] |- common [captcha] CaptchaPoolConfiguration |- bean [captchaPoolInitializer] register.");
+            return initializer;
+        }
+    }
+
     @Configuration(proxyBeanMethods = false)
     static class BehaviorCaptchaConfiguration {
 
@@ -37,7 +37,12 @@ public record CaptchaProperties(
          * 文字点选验证码配置
          */
         @DefaultValue
-        WordClick wordClick
+        WordClick wordClick,
+        /*
+         * 预渲染验证码池配置
+         */
+        @DefaultValue
+        Pool pool
 ) {
 
     @Schema(description = "验证码配置参数")
@@ -199,5 +204,30 @@ public record CaptchaProperties(
             Integer fontSize
     ) {
     }
-}
 
+    /**
+     * 预渲染验证码池
+     */
+    @Schema(description = "预渲染验证码池")
+    public record Pool(
+            /*
+              是否开启预渲染
+             */
+            @Schema(description = "是否开启预渲染")
+            @DefaultValue("true")
+            boolean enabled,
+            /*
+              每种验证码预渲染的数量
+             */
+            @Schema(description = "每种验证码预渲染的数量")
+            @DefaultValue("32")
+            Integer size,
+            /*
+              后台绘制线程数
+             */
+            @Schema(description = "后台绘制线程数")
+            @DefaultValue("1")
+            Integer threads
+    ) {
+    }
+}
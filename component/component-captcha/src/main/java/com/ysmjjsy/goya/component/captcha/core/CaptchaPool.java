@@ -0,0 +1,102 @@
+package com.ysmjjsy.goya.component.captcha.core;
+
+import com.ysmjjsy.goya.component.captcha.definition.Metadata;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.ObjectUtils;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * <p>预渲染验证码池</p>
+ * <p>
+ * 每种验证码类型一个有界池，由后台线程提前绘制并编码好图片，请求线程只做 O(1) 的出队操作。
+ * 池中剩余数量低于一半时触发异步补充；池被取空时退化为同步绘制，保证可用性。
+ *
+ * @author goya
+ * @since 2026/2/4 10:05
+ */
+@Slf4j
+public class CaptchaPool {
+
+    private final String name;
+    private final Supplier<Metadata> drawer;
+    private final Executor executor;
+    private final BlockingQueue<Metadata> queue;
+    private final int lowWatermark;
+    private final AtomicBoolean refilling = new AtomicBoolean(false);
+
+    public CaptchaPool(String name, Supplier<Metadata> drawer, int capacity, Executor executor) {
+        this.name = name;
+        this.drawer = drawer;
+        this.executor = executor;
+        this.queue = new ArrayBlockingQueue<>(Math.max(capacity, 1));
+        this.lowWatermark = Math.max(capacity / 2, 1);
+    }
+
+    /**
+     * 获取一个预渲染的验证码，池为空时同步绘制
+     *
+     * @return 验证码元数据 {@link Metadata}
+     */
+    public Metadata obtain() {
+        Metadata metadata = queue.poll();
+        if (queue.size() < lowWatermark) {
+            refill();
+        }
+
+        if (ObjectUtils.isEmpty(metadata)) {
+            log.debug("[Goya] |- Captcha pool [{}] is empty, draw synchronously.", name);
+            return drawer.get();
+        }
+        return metadata;
+    }
+
+    /**
+     * 预热，异步填满验证码池
+     */
+    public void warmUp() {
+        refill();
+    }
+
+    /**
+     * 当前池中可用的验证码数量
+     *
+     * @return 数量
+     */
+    public int size() {
+        return queue.size();
+    }
+
+    private void refill() {
+        if (!refilling.compareAndSet(false, true)) {
+            return;
+        }
+
+        try {
+            executor.execute(this::fill);
+        } catch (RejectedExecutionException e) {
+            refilling.set(false);
+            log.warn("[Goya] |- Captcha pool [{}] refill rejected.", name, e);
+        }
+    }
+
+    private void fill() {
+        try {
+            while (queue.remainingCapacity() > 0) {
+                if (!queue.offer(drawer.get())) {
+                    break;
+                }
+            }
+            log.trace("[Goya] |- Captcha pool [{}] refilled, size is [{}].", name, queue.size());
+        } catch (Exception e) {
+            log.error("[Goya] |- Captcha pool [{}] refill catch error.", name, e);
+        } finally {
+            refilling.set(false);
+        }
+    }
+}
@@ -20,8 +20,6 @@ import java.time.Duration;
  */
 public abstract class AbstractGraphicRenderer extends AbstractRenderer<String, String> {
 
-    private GraphicCaptcha graphicCaptcha;
-
     protected AbstractGraphicRenderer(ResourceProvider resourceProvider, Duration expire) {
         super(resourceProvider, CaptchaConst.CACHE_NAME_CAPTCHA_GRAPHIC, expire);
     }
@@ -49,8 +47,15 @@ public abstract class AbstractGraphicRenderer extends AbstractRenderer<String, S
             identity = GoyaIdUtils.fastSimpleUUID();
         }
 
-        this.put(identity, generateValue(identity));
-        return getGraphicCaptcha();
+        Metadata metadata = obtain();
+
+        GraphicCaptcha graphicCaptcha = new GraphicCaptcha();
+        graphicCaptcha.setIdentity(identity);
+        graphicCaptcha.setGraphicImageBase64(metadata.getGraphicImageBase64());
+        graphicCaptcha.setCategory(getCategory());
+
+        this.put(identity, metadata.getCharacters());
+        return graphicCaptcha;
     }
 
     @Override
@@ -79,24 +84,4 @@ public abstract class AbstractGraphicRenderer extends AbstractRenderer<String, S
 
         return true;
     }
-
-    private GraphicCaptcha getGraphicCaptcha() {
-        return graphicCaptcha;
-    }
-
-    protected void setGraphicCaptcha(GraphicCaptcha graphicCaptcha) {
-        this.graphicCaptcha = graphicCaptcha;
-    }
-
-    protected String generateValue(String key) {
-        Metadata metadata = draw();
-
-        GraphicCaptcha graphicCaptcha = new GraphicCaptcha();
-        graphicCaptcha.setIdentity(key);
-        graphicCaptcha.setGraphicImageBase64(metadata.getGraphicImageBase64());
-        graphicCaptcha.setCategory(getCategory());
-        this.setGraphicCaptcha(graphicCaptcha);
-
-        return metadata.getCharacters();
-    }
 }
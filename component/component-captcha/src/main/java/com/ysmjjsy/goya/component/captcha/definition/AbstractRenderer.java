@@ -1,12 +1,14 @@
 package com.ysmjjsy.goya.component.captcha.definition;
 
 import com.ysmjjsy.goya.component.captcha.configuration.properties.CaptchaProperties;
+import com.ysmjjsy.goya.component.captcha.core.CaptchaPool;
 import com.ysmjjsy.goya.component.captcha.provider.ResourceProvider;
 import com.ysmjjsy.goya.component.framework.cache.support.CacheSupport;
 import com.ysmjjsy.goya.component.framework.common.utils.GoyaImgUtils;
 
 import java.awt.image.BufferedImage;
 import java.time.Duration;
+import java.util.concurrent.Executor;
 
 /**
  * <p>基础绘制器</p>
@@ -20,12 +22,36 @@ public abstract class AbstractRenderer<K, V> extends CacheSupport<K, V> implemen
     protected static final String BASE64_GIF_IMAGE_PREFIX = "data:image/gif;base64,";
 
     private final ResourceProvider resourceProvider;
+    private CaptchaPool captchaPool;
 
     protected AbstractRenderer(ResourceProvider resourceProvider, String cacheName, Duration expire) {
         super(cacheName, expire);
         this.resourceProvider = resourceProvider;
     }
 
+    /**
+     * 开启预渲染池，并异步预热
+     *
+     * @param capacity 池容量
+     * @param executor 后台绘制线程池
+     */
+    public void enablePool(int capacity, Executor executor) {
+        this.captchaPool = new CaptchaPool(getCategory().getCode(), this::draw, capacity, executor);
+        this.captchaPool.warmUp();
+    }
+
+    /**
+     * 获取验证码元数据，开启预渲染池时从池中获取，否则同步绘制
+     *
+     * @return 验证码元数据 {@link Metadata}
+     */
+    protected Metadata obtain() {
+        if (captchaPool != null) {
+            return captchaPool.obtain();
+        }
+        return draw();
+    }
+
     protected ResourceProvider getResourceProvider() {
         return resourceProvider;
     }
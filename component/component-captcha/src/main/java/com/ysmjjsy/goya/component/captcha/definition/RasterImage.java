@@ -0,0 +1,56 @@
+package com.ysmjjsy.goya.component.captcha.definition;
+
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+
+/**
+ * <p>预解码图片</p>
+ * <p>
+ * 资源图片在启动时一次性解码为 ARGB 像素数组常驻内存，绘制时只需一次数组拷贝即可得到可修改的 {@link BufferedImage}，
+ * 无需每次请求都做 Base64 与 PNG 解码。像素数组只读，不允许修改。
+ *
+ * @param width  宽度
+ * @param height 高度
+ * @param alpha  是否包含透明通道
+ * @param pixels ARGB 像素，按行存储
+ * @author goya
+ * @since 2026/2/4 09:40
+ */
+public record RasterImage(int width, int height, boolean alpha, int[] pixels) {
+
+    /**
+     * 从 {@link BufferedImage} 解码
+     *
+     * @param image 原始图片
+     * @return {@link RasterImage}
+     */
+    public static RasterImage of(BufferedImage image) {
+        int width = image.getWidth();
+        int height = image.getHeight();
+        int[] pixels = image.getRGB(0, 0, width, height, null, 0, width);
+        return new RasterImage(width, height, image.getColorModel().hasAlpha(), pixels);
+    }
+
+    /**
+     * 获取指定坐标的 ARGB 像素值
+     *
+     * @param x x 坐标
+     * @param y y 坐标
+     * @return ARGB 像素值
+     */
+    public int getRGB(int x, int y) {
+        return pixels[y * width + x];
+    }
+
+    /**
+     * 创建可修改的图片副本
+     *
+     * @return 新的 {@link BufferedImage}，类型为 TYPE_INT_ARGB 或 TYPE_INT_RGB
+     */
+    public BufferedImage toBufferedImage() {
+        BufferedImage image = new BufferedImage(width, height, alpha ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB);
+        int[] target = ((DataBufferInt) image.getRaster().getDataBuffer()).getData();
+        System.arraycopy(pixels, 0, target, 0, pixels.length);
+        return image;
+    }
+}
@@ -2,12 +2,17 @@ package com.ysmjjsy.goya.component.captcha.provider;
 
 import com.google.common.collect.Maps;
 import com.ysmjjsy.goya.component.captcha.configuration.properties.CaptchaProperties;
+import com.ysmjjsy.goya.component.captcha.definition.RasterImage;
 import com.ysmjjsy.goya.component.captcha.enums.CaptchaResourceEnum;
 import com.ysmjjsy.goya.component.captcha.enums.FontStyleEnum;
 import com.ysmjjsy.goya.component.framework.common.exception.GoyaException;
-import com.ysmjjsy.goya.component.framework.common.utils.*;
+import com.ysmjjsy.goya.component.framework.common.utils.GoyaFileUtils;
+import com.ysmjjsy.goya.component.framework.common.utils.GoyaFontUtils;
+import com.ysmjjsy.goya.component.framework.common.utils.GoyaImgUtils;
+import com.ysmjjsy.goya.component.framework.common.utils.GoyaManagementUtils;
 import com.ysmjjsy.goya.component.framework.core.context.SpringContext;
 import lombok.Getter;
+import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.collections4.MapUtils;
 import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.lang3.ObjectUtils;
@@ -18,11 +23,14 @@ import org.springframework.beans.factory.InitializingBean;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.io.Resource;
 
-import java.awt.*;
+import java.awt.Font;
 import java.awt.image.BufferedImage;
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
@@ -39,10 +47,7 @@ public class ResourceProvider implements InitializingBean {
     private static final String FONT_RESOURCE = "classpath*:/fonts/*.ttf";
     private static final String FONT_FOLDER = "/usr/share/fonts/goya/";
 
-    private final Map<String, String[]> imageIndexes = Maps.newConcurrentMap();
-    private final Map<String, String> jigsawOriginalImages = Maps.newConcurrentMap();
-    private final Map<String, String> jigsawTemplateImages = Maps.newConcurrentMap();
-    private final Map<String, String> wordClickImages = Maps.newConcurrentMap();
+    private final Map<String, RasterImage[]> images = Maps.newConcurrentMap();
     @Getter
     private final CaptchaProperties captchaProperties;
     private Map<String, Font> fonts = Maps.newConcurrentMap();
@@ -52,16 +57,16 @@ public class ResourceProvider implements InitializingBean {
         this.captchaProperties = captchaProperties;
     }
 
-    private static Map<String, String> getImages(String location) {
+    private static List<RasterImage> getImages(String location) {
         if (SpringContext.isClasspathAllUrl(location)) {
             try {
                 Resource[] resources = SpringContext.getResources(location);
-                Map<String, String> images = Maps.newConcurrentMap();
+                List<RasterImage> images = new ArrayList<>();
                 if (ArrayUtils.isNotEmpty(resources)) {
                     Arrays.stream(resources).forEach(resource -> {
-                        String data = SpringContext.toBase64(resource);
-                        if (StringUtils.isNotBlank(data)) {
-                            images.put(GoyaIdUtils.fastSimpleUUID(), data);
+                        RasterImage image = getImage(resource);
+                        if (ObjectUtils.isNotEmpty(image)) {
+                            images.add(image);
                         }
                     });
                 }
@@ -71,7 +76,19 @@ public class ResourceProvider implements InitializingBean {
             }
         }
 
-        return new ConcurrentHashMap<>(8);
+        return new ArrayList<>();
+    }
+
+    private static RasterImage getImage(Resource resource) {
+        try (InputStream inputStream = resource.getInputStream()) {
+            BufferedImage image = GoyaImgUtils.read(inputStream);
+            if (ObjectUtils.isNotEmpty(image)) {
+                return RasterImage.of(image);
+            }
+        } catch (IOException | GoyaException e) {
+            log.error("[Goya] |- Decode image [{}] catch error!", resource.getFilename(), e);
+        }
+        return null;
     }
 
     private static Font getFont(Resource resource) {
@@ -142,24 +159,23 @@ public class ResourceProvider implements InitializingBean {
 
         log.debug("[Goya] |- Captcha resource loading is BEGIN！");
 
-        loadImages(jigsawOriginalImages, getCaptchaProperties().jigsaw().originalResource(), CaptchaResourceEnum.JIGSAW_ORIGINAL);
+        loadImages(getCaptchaProperties().jigsaw().originalResource(), CaptchaResourceEnum.JIGSAW_ORIGINAL);
 
-        loadImages(jigsawTemplateImages, getCaptchaProperties().jigsaw().templateResource(), CaptchaResourceEnum.JIGSAW_TEMPLATE);
+        loadImages(getCaptchaProperties().jigsaw().templateResource(), CaptchaResourceEnum.JIGSAW_TEMPLATE);
 
-        loadImages(wordClickImages, getCaptchaProperties().wordClick().imageResource(), CaptchaResourceEnum.WORD_CLICK);
+        loadImages(getCaptchaProperties().wordClick().imageResource(), CaptchaResourceEnum.WORD_CLICK);
 
         loadFonts();
 
         log.debug("[Goya] |- Jigsaw captcha resource loading is END！");
     }
 
-    private void loadImages(Map<String, String> container, String location, CaptchaResourceEnum captchaResource) {
-        Map<String, String> resource = getImages(location);
+    private void loadImages(String location, CaptchaResourceEnum captchaResource) {
+        List<RasterImage> resource = getImages(location);
 
-        if (MapUtils.isNotEmpty(resource)) {
-            container.putAll(resource);
+        if (CollectionUtils.isNotEmpty(resource)) {
+            images.put(captchaResource.name(), resource.toArray(new RasterImage[0]));
             log.debug("[Goya] |- {} load complete, total number is [{}]", captchaResource.getCode(), resource.size());
-            imageIndexes.put(captchaResource.name(), resource.keySet().toArray(new String[0]));
         }
     }
 
@@ -205,41 +221,52 @@ public class ResourceProvider implements InitializingBean {
         return getFont("WenQuanYi Zen Hei", 25, FontStyleEnum.PLAIN);
     }
 
-    private String getRandomBase64Image(Map<String, String> container, CaptchaResourceEnum captchaResource) {
-        String[] data = this.imageIndexes.get(captchaResource.name());
+    private RasterImage getRandomRaster(CaptchaResourceEnum captchaResource) {
+        RasterImage[] data = this.images.get(captchaResource.name());
         if (ArrayUtils.isNotEmpty(data)) {
-            int randomInt = RandomProvider.randomInt(0, data.length);
-            return container.get(data[randomInt]);
+            return data[RandomProvider.randomInt(0, data.length)];
         }
         return null;
     }
 
-    protected BufferedImage getRandomImage(Map<String, String> container, CaptchaResourceEnum captchaResource) {
-        String data = getRandomBase64Image(container, captchaResource);
-        if (StringUtils.isNotBlank(data)) {
-            return GoyaImgUtils.toImage(data);
+    private BufferedImage getRandomImage(CaptchaResourceEnum captchaResource) {
+        RasterImage raster = getRandomRaster(captchaResource);
+        if (ObjectUtils.isNotEmpty(raster)) {
+            return raster.toBufferedImage();
         }
 
         return null;
     }
 
-    public String getRandomBase64OriginalImage() {
-        return getRandomBase64Image(jigsawOriginalImages, CaptchaResourceEnum.JIGSAW_ORIGINAL);
+    /**
+     * 获取指定类型已加载的资源图片数量
+     *
+     * @param captchaResource 资源类型
+     * @return 图片数量
+     */
+    public int getImageCount(CaptchaResourceEnum captchaResource) {
+        RasterImage[] data = this.images.get(captchaResource.name());
+        return ArrayUtils.getLength(data);
     }
 
-    public String getRandomBase64TemplateImage() {
-        return getRandomBase64Image(jigsawTemplateImages, CaptchaResourceEnum.JIGSAW_TEMPLATE);
+    /**
+     * 随机获取拼图模版。模版只读，返回共享实例
+     *
+     * @return {@link RasterImage}
+     */
+    public RasterImage getRandomTemplateRaster() {
+        return getRandomRaster(CaptchaResourceEnum.JIGSAW_TEMPLATE);
     }
 
     public BufferedImage getRandomOriginalImage() {
-        return getRandomImage(jigsawOriginalImages, CaptchaResourceEnum.JIGSAW_ORIGINAL);
+        return getRandomImage(CaptchaResourceEnum.JIGSAW_ORIGINAL);
     }
 
     public BufferedImage getRandomTemplateImage() {
-        return getRandomImage(jigsawOriginalImages, CaptchaResourceEnum.JIGSAW_ORIGINAL);
+        return getRandomImage(CaptchaResourceEnum.JIGSAW_TEMPLATE);
     }
 
     public BufferedImage getRandomWordClickImage() {
-        return getRandomImage(wordClickImages, CaptchaResourceEnum.WORD_CLICK);
+        return getRandomImage(CaptchaResourceEnum.WORD_CLICK);
     }
 }
@@ -2,11 +2,11 @@ package com.ysmjjsy.goya.component.captcha.renderer.behavior;
 
 import lombok.experimental.UtilityClass;
 
-import java.awt.*;
-import java.awt.image.BufferedImage;
-
 /**
- * <p>高斯模糊算法 </p>
+ * <p>模糊算法 </p>
+ * <p>
+ * 直接在 ARGB 像素数组上做 3x3 分离式盒式模糊：先水平求和、再垂直求和，
+ * 每个像素只需常数次整数运算，不经过 ColorModel，也不创建 Color 对象。
  *
  * @author goya
  * @since 2021/12/11 12:23
@@ -15,71 +15,105 @@ import java.awt.image.BufferedImage;
 public class GaussianBlur {
 
     /**
-     * 高斯模糊
-     *
-     * @param image  原图
-     * @param pixelX X像素点
-     * @param pixelY Y像素点
-     * @param matrix 高斯模糊矩阵
-     * @param values 高斯模糊存周边像素值
-     * @param size   模糊区域大小
+     * 模糊半径
      */
-    public static void execute(BufferedImage image, int pixelX, int pixelY, int[][] matrix, int[] values, int size) {
-        // 抠图区域高斯模糊
-        readPixel(image, pixelX, pixelY, values, size);
-        fillMatrix(matrix, values);
-        image.setRGB(pixelX, pixelY, averageMatrix(matrix));
-    }
+    private static final int RADIUS = 1;
 
-    private static void readPixel(BufferedImage bufferedImage, int x, int y, int[] pixels, int size) {
-        int xStart = x - 1;
-        int yStart = y - 1;
+    /**
+     * 模糊核边长
+     */
+    private static final int KERNEL_SIZE = RADIUS * 2 + 1;
 
-        int current = 0;
-        for (int i = xStart; i < size + xStart; i++) {
-            for (int j = yStart; j < size + yStart; j++) {
-                int tempX = calculatePixel(x, i, bufferedImage.getWidth());
-                int tempY = calculatePixel(y, j, bufferedImage.getHeight());
-                pixels[current++] = bufferedImage.getRGB(tempX, tempY);
-            }
-        }
-    }
+    /**
+     * 模糊核像素数
+     */
+    private static final int KERNEL_AREA = KERNEL_SIZE * KERNEL_SIZE;
 
-    private static int calculatePixel(int value, int step, int bound) {
-        int pixel = step;
-        if (pixel < 0) {
-            pixel = -pixel;
-        } else if (pixel >= bound) {
-            pixel = value;
-        }
-        return pixel;
-    }
+    /**
+     * 模糊区域压暗比例（分子/分母），形成抠图阴影
+     */
+    private static final int SHADE_NUMERATOR = 3;
+    private static final int SHADE_DENOMINATOR = 4;
 
-    private static void fillMatrix(int[][] matrix, int[] values) {
-        int filled = 0;
-        for (int[] x : matrix) {
-            for (int j = 0; j < x.length; j++) {
-                x[j] = values[filled++];
+    /**
+     * 按遮罩对图片指定区域做模糊并压暗
+     *
+     * @param pixels     图片 ARGB 像素，按行存储，原地修改
+     * @param width      图片宽度
+     * @param height     图片高度
+     * @param left       遮罩左上角在图片中的 x 坐标
+     * @param top        遮罩左上角在图片中的 y 坐标
+     * @param mask       遮罩，按行存储，true 表示该像素需要模糊
+     * @param maskWidth  遮罩宽度
+     * @param maskHeight 遮罩高度
+     */
+    public static void execute(int[] pixels, int width, int height, int left, int top, boolean[] mask, int maskWidth, int maskHeight) {
+        // 区域四周各扩展 RADIUS 个像素，越界部分取最近的边缘像素
+        int regionWidth = maskWidth + RADIUS * 2;
+        int regionHeight = maskHeight + RADIUS * 2;
+
+        int[] red = new int[regionWidth * regionHeight];
+        int[] green = new int[regionWidth * regionHeight];
+        int[] blue = new int[regionWidth * regionHeight];
+
+        // 水平方向求和
+        for (int row = 0; row < regionHeight; row++) {
+            int sourceY = clamp(top - RADIUS + row, height);
+            int rowOffset = sourceY * width;
+            int regionOffset = row * regionWidth;
+            for (int column = RADIUS; column < regionWidth - RADIUS; column++) {
+                int r = 0;
+                int g = 0;
+                int b = 0;
+                for (int k = -RADIUS; k <= RADIUS; k++) {
+                    int pixel = pixels[rowOffset + clamp(left - RADIUS + column + k, width)];
+                    r += (pixel >> 16) & 0xFF;
+                    g += (pixel >> 8) & 0xFF;
+                    b += pixel & 0xFF;
+                }
+                red[regionOffset + column] = r;
+                green[regionOffset + column] = g;
+                blue[regionOffset + column] = b;
             }
         }
-    }
 
-    private static int averageMatrix(int[][] matrix) {
-        int r = 0;
-        int g = 0;
-        int b = 0;
-        for (int[] x : matrix) {
-            for (int j = 0; j < x.length; j++) {
-                if (j == 1) {
+        // 垂直方向求和并按遮罩写回
+        int divisor = KERNEL_AREA * SHADE_DENOMINATOR;
+        for (int j = 0; j < maskHeight; j++) {
+            int pixelY = top + j;
+            if (pixelY < 0 || pixelY >= height) {
+                continue;
+            }
+            for (int i = 0; i < maskWidth; i++) {
+                int pixelX = left + i;
+                if (!mask[j * maskWidth + i] || pixelX < 0 || pixelX >= width) {
                     continue;
                 }
-                Color c = new Color(x[j]);
-                r += c.getRed();
-                g += c.getGreen();
-                b += c.getBlue();
+
+                int column = i + RADIUS;
+                int r = 0;
+                int g = 0;
+                int b = 0;
+                for (int k = 0; k < KERNEL_SIZE; k++) {
+                    int index = (j + k) * regionWidth + column;
+                    r += red[index];
+                    g += green[index];
+                    b += blue[index];
+                }
+
+                int target = pixelY * width + pixelX;
+                pixels[target] = (pixels[target] & 0xFF000000)
+                        | ((r * SHADE_NUMERATOR / divisor) << 16)
+                        | ((g * SHADE_NUMERATOR / divisor) << 8)
+                        | (b * SHADE_NUMERATOR / divisor);
             }
         }
+    }
 
-        return new Color(r / 8, g / 8, b / 8).getRGB();
+    private static int clamp(int value, int bound) {
+        if (value < 0) {
+            return 0;
+        }
+        return Math.min(value, bound - 1);
     }
 }
@@ -5,20 +5,21 @@ import com.ysmjjsy.goya.component.captcha.constants.CaptchaConst;
 import com.ysmjjsy.goya.component.captcha.definition.AbstractCaptcha;
 import com.ysmjjsy.goya.component.captcha.definition.Coordinate;
 import com.ysmjjsy.goya.component.captcha.definition.Metadata;
+import com.ysmjjsy.goya.component.captcha.definition.RasterImage;
 import com.ysmjjsy.goya.component.captcha.definition.Verification;
 import com.ysmjjsy.goya.component.captcha.enums.CaptchaCategoryEnum;
+import com.ysmjjsy.goya.component.captcha.enums.CaptchaResourceEnum;
 import com.ysmjjsy.goya.component.captcha.exception.CaptchaException;
 import com.ysmjjsy.goya.component.captcha.provider.RandomProvider;
 import com.ysmjjsy.goya.component.captcha.provider.ResourceProvider;
 import com.ysmjjsy.goya.component.framework.common.utils.GoyaIdUtils;
-import com.ysmjjsy.goya.component.framework.common.utils.GoyaImgUtils;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.ObjectUtils;
 import org.apache.commons.lang3.StringUtils;
 
 import java.awt.*;
 import java.awt.image.BufferedImage;
-import java.util.Objects;
+import java.awt.image.DataBufferInt;
 
 /**
  * <p>拼图滑块验证码处理器 </p>
@@ -33,12 +34,11 @@ public class JigsawCaptchaRenderer extends AbstractBehaviorRenderer<String, Coor
         super(resourceProvider,CaptchaConst.CACHE_NAME_CAPTCHA_JIGSAW, captchaProperties.graphics().expire());
     }
 
-    private static final int AREA_SIZE = 3;
-    private static final int AREA_ARRAY_SIZE = AREA_SIZE * AREA_SIZE;
+    private static final int WHITE = Color.white.getRGB();
+    private static final int OPAQUE = 0xFF000000;
     private static final int BOLD = 5;
     private static final int OFFSET = 100;
     public static final int INT = 2;
-    private JigsawCaptcha jigsawCaptcha;
 
     @Override
     public CaptchaCategoryEnum getCategory() {
@@ -52,22 +52,15 @@ public class JigsawCaptchaRenderer extends AbstractBehaviorRenderer<String, Coor
             identity = GoyaIdUtils.fastUUID();
         }
 
-        this.put(identity, generateValue(identity));
-        return this.jigsawCaptcha;
-    }
-
-    public Coordinate generateValue(String key) {
-
-        Metadata metadata = draw();
+        Metadata metadata = obtain();
 
         JigsawCaptcha jigsawCaptcha = new JigsawCaptcha();
-        jigsawCaptcha.setIdentity(key);
+        jigsawCaptcha.setIdentity(identity);
         jigsawCaptcha.setOriginalImageBase64(metadata.getOriginalImageBase64());
         jigsawCaptcha.setSliderImageBase64(metadata.getSliderImageBase64());
 
-        this.jigsawCaptcha = jigsawCaptcha;
-
-        return metadata.getCoordinate();
+        this.put(identity, metadata.getCoordinate());
+        return jigsawCaptcha;
     }
 
     @Override
@@ -106,26 +99,24 @@ public class JigsawCaptchaRenderer extends AbstractBehaviorRenderer<String, Coor
         addWatermark(backgroundGraphics, width, height);
 
         // 抠图图片
-        String sliderImageBase64 = this.getResourceProvider().getRandomBase64TemplateImage();
-        BufferedImage templateImage = GoyaImgUtils.toImage(sliderImageBase64);
+        RasterImage templateImage = this.getResourceProvider().getRandomTemplateRaster();
 
-        return draw(originalImage, templateImage, sliderImageBase64);
+        return draw(originalImage, templateImage);
     }
 
     /**
      * 绘制滑块拼图验证码图片元素
      *
      * @param originalImage     原始图片(验证码背景图)
-     * @param templateImage     模版图片(拼图模版图片，抠图和滑块拼图的形状)
-     * @param sliderImageBase64 滑块拼图图片Base64
+     * @param templateRaster    模版图片(拼图模版图片，抠图和滑块拼图的形状)
      * @return 滑块拼图验证码数据
      */
-    private Metadata draw(BufferedImage originalImage, BufferedImage templateImage, String sliderImageBase64) {
+    private Metadata draw(BufferedImage originalImage, RasterImage templateRaster) {
 
         int originalImageWidth = originalImage.getWidth();
         int originalImageHeight = originalImage.getHeight();
-        int templateImageWidth = templateImage.getWidth();
-        int templateImageHeight = templateImage.getHeight();
+        int templateImageWidth = templateRaster.width();
+        int templateImageHeight = templateRaster.height();
 
         log.trace("[Goya] |- Jigsaw captcha original image width is [{}], height is [{}].", originalImageWidth, originalImageHeight);
         log.trace("[Goya] |- Jigsaw captcha template image width is [{}], height is [{}].", templateImageWidth, templateImageHeight);
@@ -135,28 +126,18 @@ public class JigsawCaptchaRenderer extends AbstractBehaviorRenderer<String, Coor
         int x = coordinate.getX();
         int y = coordinate.getY();
 
-        // 根据模版抠出新的拼图图像
-        BufferedImage jigsawImage = new BufferedImage(templateImageWidth, templateImageHeight, templateImage.getType());
-        Graphics2D graphics = jigsawImage.createGraphics();
-
-        // 如果需要生成RGB格式，需要做如下配置,Transparency 设置透明
-        jigsawImage = graphics.getDeviceConfiguration().createCompatibleImage(templateImageWidth, templateImageHeight, Transparency.TRANSLUCENT);
+        // 根据模版抠出新的拼图图像，透明背景
+        BufferedImage jigsawImage = new BufferedImage(templateImageWidth, templateImageHeight, BufferedImage.TYPE_INT_ARGB);
 
         // 新建的图像根据模板颜色赋值,源图生成遮罩
-        mattingByTemplate(originalImage, templateImage, jigsawImage, x, 0);
+        mattingByTemplate(originalImage, templateRaster, jigsawImage, x, 0);
 
         // 添加干扰项
         int interferencePosition = createInterferencePosition(originalImageWidth, templateImageWidth, x);
         if (interferencePosition != 0) {
-            addInterference(originalImage, sliderImageBase64, interferencePosition);
+            addInterference(originalImage, templateRaster, interferencePosition);
         }
 
-        // 设置“抗锯齿”的属性
-        graphics.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
-        graphics.setStroke(new BasicStroke(BOLD, BasicStroke.CAP_BUTT, BasicStroke.JOIN_BEVEL));
-        graphics.drawImage(jigsawImage, 0, 0, null);
-        graphics.dispose();
-
         log.trace("[Goya] |- Jigsaw captcha jigsaw image width is [{}], height is [{}].", jigsawImage.getWidth(), jigsawImage.getHeight());
 
         Metadata metadata = new Metadata();
@@ -199,93 +180,120 @@ public class JigsawCaptchaRenderer extends AbstractBehaviorRenderer<String, Coor
     /**
      * 根据拼图模版图片抠图
      *
-     * @param originalImage 原图
-     * @param templateImage 拼图模板图
-     * @param jigsawImage   新抠出的小图
-     * @param x             随机扣取坐标X
-     * @param y             随机扣取坐标y
+     * @param originalImage  原图
+     * @param templateRaster 拼图模板图
+     * @param jigsawImage    新抠出的小图
+     * @param x              随机扣取坐标X
+     * @param y              随机扣取坐标y
      */
-    private void mattingByTemplate(BufferedImage originalImage, BufferedImage templateImage, BufferedImage jigsawImage, int x, int y) {
-        // 临时数组遍历用于高斯模糊存周边像素值
-        int[][] matrix = new int[AREA_SIZE][AREA_SIZE];
-        int[] values = new int[AREA_ARRAY_SIZE];
-
-        int templateImageWidth = templateImage.getWidth();
-        int templateImageHeight = templateImage.getHeight();
-
-        // 模板图像宽度
-        for (int i = 0; i < templateImageWidth; i++) {
-            // 模板图片高度
-            for (int j = 0; j < templateImageHeight; j++) {
-
+    private void mattingByTemplate(BufferedImage originalImage, RasterImage templateRaster, BufferedImage jigsawImage, int x, int y) {
+        int width = originalImage.getWidth();
+        int height = originalImage.getHeight();
+        int[] originalPixels = getPixels(originalImage);
+        int[] jigsawPixels = getPixels(jigsawImage);
+
+        int templateImageWidth = templateRaster.width();
+        int templateImageHeight = templateRaster.height();
+        boolean[] mask = toMask(templateRaster);
+
+        // 如果模板图像当前像素点不是透明色 copy源文件信息到目标图片中，必须在模糊前拷贝
+        for (int j = 0; j < templateImageHeight; j++) {
+            int pixelY = y + j;
+            if (pixelY < 0 || pixelY >= height) {
+                continue;
+            }
+            for (int i = 0; i < templateImageWidth; i++) {
                 int pixelX = x + i;
-                int pixelY = y + j;
-
-                // 如果模板图像当前像素点不是透明色 copy源文件信息到目标图片中
-                int templateImageRgb = getImageRgb(templateImage, i, j);
-                if (templateImageRgb < 0) {
-                    jigsawImage.setRGB(i, j, getImageRgb(originalImage, pixelX, pixelY));
-                    // 抠图区域高斯模糊
-                    GaussianBlur.execute(originalImage, pixelX, pixelY, matrix, values, AREA_SIZE);
-                }
-
-                //防止数组越界判断
-                if (isOutOfBound(i, j, templateImageWidth, templateImageHeight)) {
-                    continue;
-                }
-
-                // 描边处理,取带像素和无像素的界点，判断该点是不是临界轮廓点,如果是设置该坐标像素是白色
-                if (isCritical(templateImage, i, j, templateImageRgb)) {
-                    jigsawImage.setRGB(i, j, Color.white.getRGB());
-                    originalImage.setRGB(pixelX, pixelY, Color.white.getRGB());
+                if (mask[j * templateImageWidth + i] && pixelX >= 0 && pixelX < width) {
+                    jigsawPixels[j * templateImageWidth + i] = originalPixels[pixelY * width + pixelX] | OPAQUE;
                 }
             }
         }
-    }
 
-    private int getImageRgb(BufferedImage bufferedImage, int i, int j) {
-        return bufferedImage.getRGB(i, j);
+        // 抠图区域模糊
+        GaussianBlur.execute(originalPixels, width, height, x, y, mask, templateImageWidth, templateImageHeight);
+
+        // 描边处理
+        outline(originalPixels, width, height, jigsawPixels, mask, templateImageWidth, templateImageHeight, x, y);
     }
 
+    /**
+     * 根据拼图模版图片绘制干扰
+     *
+     * @param originalImage  原图
+     * @param templateRaster 拼图模板图
+     * @param x              随机扣取坐标X
+     * @param y              随机扣取坐标y
+     */
+    private void interferenceByTemplate(BufferedImage originalImage, RasterImage templateRaster, int x, int y) {
+        int width = originalImage.getWidth();
+        int height = originalImage.getHeight();
+        int[] originalPixels = getPixels(originalImage);
+
+        int templateImageWidth = templateRaster.width();
+        int templateImageHeight = templateRaster.height();
+        boolean[] mask = toMask(templateRaster);
 
-    private int getTemplateImageRightBorderRgb(BufferedImage templateImage, int i, int j) {
-        return getImageRgb(templateImage, i + 1, j);
-    }
+        // 抠图区域模糊
+        GaussianBlur.execute(originalPixels, width, height, x, y, mask, templateImageWidth, templateImageHeight);
 
-    private int getTemplateImageBottomBorderRgb(BufferedImage templateImage, int i, int j) {
-        return getImageRgb(templateImage, i, j + 1);
+        // 描边处理
+        outline(originalPixels, width, height, null, mask, templateImageWidth, templateImageHeight, x, y);
     }
 
     /**
-     * 防止数组越界判断
+     * 描边处理，取带像素和无像素的界点，判断该点是不是临界轮廓点，如果是设置该坐标像素是白色
      *
-     * @param x                   x 坐标值
-     * @param y                   y 坐标值
-     * @param templateImageWidth  拼图图片宽度
-     * @param templateImageHeight 拼图图片高度度
-     * @return 是否越界， true 越界， false 没有越界
+     * @param originalPixels      原图像素
+     * @param width               原图宽度
+     * @param height              原图高度
+     * @param jigsawPixels        拼图像素，为空时只处理原图
+     * @param mask                模版遮罩
+     * @param templateImageWidth  拼图模版宽度
+     * @param templateImageHeight 拼图模版高度
+     * @param x                   随机扣取坐标X
+     * @param y                   随机扣取坐标y
      */
-    private boolean isOutOfBound(int x, int y, int templateImageWidth, int templateImageHeight) {
-        return x == (templateImageWidth - 1) || y == (templateImageHeight - 1);
-    }
+    private void outline(int[] originalPixels, int width, int height, int[] jigsawPixels, boolean[] mask, int templateImageWidth, int templateImageHeight, int x, int y) {
+        // 最后一行、最后一列没有右侧和下侧像素，防止数组越界
+        for (int j = 0; j < templateImageHeight - 1; j++) {
+            for (int i = 0; i < templateImageWidth - 1; i++) {
+                int index = j * templateImageWidth + i;
+                boolean current = mask[index];
+                if (current == mask[index + 1] && current == mask[index + templateImageWidth]) {
+                    continue;
+                }
 
-    private boolean isPixelBoundary(int main, int boarder) {
-        return main < 0 && boarder >= 0;
-    }
+                if (jigsawPixels != null) {
+                    jigsawPixels[index] = WHITE;
+                }
 
-    private boolean isNoPixelBoundary(int main, int boarder) {
-        return main >= 0 && boarder < 0;
+                int pixelX = x + i;
+                int pixelY = y + j;
+                if (pixelX >= 0 && pixelX < width && pixelY >= 0 && pixelY < height) {
+                    originalPixels[pixelY * width + pixelX] = WHITE;
+                }
+            }
+        }
     }
 
-    private boolean isBoundary(int main, int boarder) {
-        return isNoPixelBoundary(main, boarder) || isPixelBoundary(main, boarder);
+    /**
+     * 模版中 alpha 高位为 1（ARGB 值为负）的像素视为拼图区域
+     *
+     * @param templateRaster 拼图模板图
+     * @return 遮罩
+     */
+    private boolean[] toMask(RasterImage templateRaster) {
+        int[] pixels = templateRaster.pixels();
+        boolean[] mask = new boolean[pixels.length];
+        for (int i = 0; i < pixels.length; i++) {
+            mask[i] = pixels[i] < 0;
+        }
+        return mask;
     }
 
-    private boolean isCritical(BufferedImage templateImage, int x, int y, int baseRgb) {
-        int rightBorderRgb = getTemplateImageRightBorderRgb(templateImage, x, y);
-        int bottomBorderRgb = getTemplateImageBottomBorderRgb(templateImage, x, y);
-        // 描边处理，,取带像素和无像素的界点，判断该点是不是临界轮廓点,如果是设置该坐标像素是白色
-        return isBoundary(baseRgb, rightBorderRgb) || isBoundary(baseRgb, bottomBorderRgb);
+    private int[] getPixels(BufferedImage image) {
+        return ((DataBufferInt) image.getRaster().getDataBuffer()).getData();
     }
 
     private int createInterferencePosition(int originalImageWidth, int templateImageWidth, int x) {
@@ -311,55 +319,17 @@ public class JigsawCaptchaRenderer extends AbstractBehaviorRenderer<String, Coor
         return position;
     }
 
-    private void addInterference(BufferedImage originalImage, String sliderImageBase64, int position) {
-        while (true) {
-            String data = this.getResourceProvider().getRandomBase64TemplateImage();
-            if (!sliderImageBase64.equals(data)) {
-                interferenceByTemplate(originalImage, Objects.requireNonNull(GoyaImgUtils.toImage(data)), position, 0);
-                break;
-            }
+    private void addInterference(BufferedImage originalImage, RasterImage sliderImage, int position) {
+        // 只有一个模版时无法选出不同的干扰图
+        if (this.getResourceProvider().getImageCount(CaptchaResourceEnum.JIGSAW_TEMPLATE) < INT) {
+            return;
         }
-    }
 
-    /**
-     * 根据拼图模版图片绘制干扰
-     *
-     * @param originalImage 原图
-     * @param templateImage 拼图模板图
-     * @param x             随机扣取坐标X
-     * @param y             随机扣取坐标y
-     */
-    private void interferenceByTemplate(BufferedImage originalImage, BufferedImage templateImage, int x, int y) {
-        //临时数组遍历用于高斯模糊存周边像素值
-        int[][] matrix = new int[AREA_SIZE][AREA_SIZE];
-        int[] values = new int[AREA_ARRAY_SIZE];
-
-        int templateImageWidth = templateImage.getWidth();
-        int templateImageHeight = templateImage.getHeight();
-        // 模板图像宽度
-        for (int i = 0; i < templateImageWidth; i++) {
-            // 模板图片高度
-            for (int j = 0; j < templateImageHeight; j++) {
-
-                int pixelX = x + i;
-                int pixelY = y + j;
-
-                // 如果模板图像当前像素点不是透明色 copy源文件信息到目标图片中
-                int templateImageRgb = getImageRgb(templateImage, i, j);
-                if (templateImageRgb < 0) {
-                    // 抠图区域高斯模糊
-                    GaussianBlur.execute(originalImage, pixelX, pixelY, matrix, values, AREA_SIZE);
-                }
-
-                // 防止数组越界判断
-                if (isOutOfBound(i, j, templateImageWidth, templateImageHeight)) {
-                    continue;
-                }
-
-                //描边处理，,取带像素和无像素的界点，判断该点是不是临界轮廓点,如果是设置该坐标像素是白色
-                if (isCritical(templateImage, i, j, templateImageRgb)) {
-                    originalImage.setRGB(pixelX, pixelY, Color.white.getRGB());
-                }
+        while (true) {
+            RasterImage data = this.getResourceProvider().getRandomTemplateRaster();
+            if (data != sliderImage) {
+                interferenceByTemplate(originalImage, data, position, 0);
+                break;
             }
         }
     }
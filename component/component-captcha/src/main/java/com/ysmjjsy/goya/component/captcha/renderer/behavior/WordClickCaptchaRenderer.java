@@ -35,8 +35,6 @@ public class WordClickCaptchaRenderer extends AbstractBehaviorRenderer<String, L
         super(resourceProvider, CaptchaConst.CACHE_NAME_CAPTCHA_WORD_CLICK, captchaProperties.graphics().expire());
     }
 
-    private WordClickCaptcha wordClickCaptcha;
-
     private Font getFont() {
         int fontSize = this.getCaptchaProperties().wordClick().fontSize();
         String fontName = this.getCaptchaProperties().watermark().fontName();
@@ -49,30 +47,25 @@ public class WordClickCaptchaRenderer extends AbstractBehaviorRenderer<String, L
         return CaptchaCategoryEnum.WORD_CLICK;
     }
 
-    public List<Coordinate> generateValue(String key) {
+    @Override
+    public AbstractCaptcha getCaptcha(String key) {
+        String identity = key;
+        if (StringUtils.isBlank(identity)) {
+            identity = GoyaIdUtils.fastUUID();
+        }
 
-        Metadata metadata = draw();
+        Metadata metadata = obtain();
 
         WordClickObfuscator wordClickObfuscator = new WordClickObfuscator(metadata.getWords(), metadata.getCoordinates());
 
         WordClickCaptcha wordClickCaptcha = new WordClickCaptcha();
-        wordClickCaptcha.setIdentity(key);
+        wordClickCaptcha.setIdentity(identity);
         wordClickCaptcha.setWordClickImageBase64(metadata.getWordClickImageBase64());
         wordClickCaptcha.setWords(wordClickObfuscator.getWordString());
         wordClickCaptcha.setWordsCount(metadata.getWords().size());
-        this.wordClickCaptcha = wordClickCaptcha;
-        return wordClickObfuscator.getCoordinates();
-    }
-
-    @Override
-    public AbstractCaptcha getCaptcha(String key) {
-        String identity = key;
-        if (StringUtils.isBlank(identity)) {
-            identity = GoyaIdUtils.fastUUID();
-        }
 
-        this.put(identity, generateValue(identity));
-        return this.wordClickCaptcha;
+        this.put(identity, wordClickObfuscator.getCoordinates());
+        return wordClickCaptcha;
     }
 
     @Override
@@ -13,6 +13,7 @@ import com.ysmjjsy.goya.component.framework.bus.runtime.*;
 import com.ysmjjsy.goya.component.framework.bus.stream.BusStreamInboundAdapter;
 import com.ysmjjsy.goya.component.framework.bus.stream.StreamBridgeBusBinder;
 import com.ysmjjsy.goya.component.framework.core.constants.PropertyConst;
+import com.ysmjjsy.goya.component.framework.core.context.propagation.ContextPropagator;
 import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
@@ -49,8 +50,9 @@ public class GoyaBusAutoConfiguration {
     @Bean
     @ConditionalOnMissingBean
     public BusChannels busChannels(@Qualifier(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME)
-                                       TaskExecutor applicationTaskExecutor) {
-        DefaultBusChannels defaultBusChannels = new DefaultBusChannels(applicationTaskExecutor);
+                                   TaskExecutor applicationTaskExecutor,
+                                   ContextPropagator contextPropagator) {
+        DefaultBusChannels defaultBusChannels = new DefaultBusChannels(contextPropagator.wrap(applicationTaskExecutor));
         log.trace("[Goya] |- component [framework] GoyaBusAutoConfiguration |- bean [busChannels] register.");
         return defaultBusChannels;
     }
@@ -1,6 +1,8 @@
 package com.ysmjjsy.goya.component.framework.bus.message;
 
 import com.ysmjjsy.goya.component.framework.bus.runtime.BusChannels;
+import org.springframework.integration.StaticMessageHeaderAccessor;
+import org.springframework.integration.acks.AckUtils;
 import org.springframework.messaging.Message;
 import org.springframework.messaging.MessageHandler;
 import org.springframework.messaging.MessagingException;
@@ -15,6 +17,7 @@ import java.util.Objects;
  * 关键点：
  * - 业务监听器抛异常时：发布到 error 通道，且继续抛出（不吞异常）
  * - 不在这里实现重试/DLQ：交给官方容器错误处理 + broker 能力
+ * - 消息携带 AcknowledgmentCallback 时，分发成功后 ACCEPT、失败后 REJECT，供 binder 在业务处理结束后再确认
  *
  * @author goya
  * @since 2026/1/27 00:35
@@ -35,7 +38,10 @@ public final class BusMessageDispatcher implements MessageHandler {
 
         try {
             registry.dispatch(binding, message);
+            AckUtils.autoAck(StaticMessageHeaderAccessor.getAcknowledgmentCallback(message));
         } catch (Exception ex) {
+            AckUtils.autoNack(StaticMessageHeaderAccessor.getAcknowledgmentCallback(message));
+
             Map<String, Object> headers = new HashMap<>();
             headers.put("stage", "dispatcher-listener");
             headers.put(DefaultBusMessageProducer.HDR_BINDING, binding);
@@ -3,6 +3,8 @@ package com.ysmjjsy.goya.component.framework.bus.runtime;
 import com.ysmjjsy.goya.component.framework.bus.message.BusListenerRegistry;
 import com.ysmjjsy.goya.component.framework.bus.message.DefaultBusMessageProducer;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.integration.StaticMessageHeaderAccessor;
+import org.springframework.integration.acks.AckUtils;
 import org.springframework.messaging.Message;
 import org.springframework.messaging.MessageHandler;
 import org.springframework.messaging.MessagingException;
@@ -17,6 +19,8 @@ import java.util.Objects;
  * 注意：
  * - 监听器异常发布到 error 通道
  * - 但继续抛出异常，让官方容器（kafka/amqp/stream）决定是否重试/DLQ/回滚
+ * - 消息携带 AcknowledgmentCallback 时，分发成功后 ACCEPT、失败后 REJECT，
+ *   inbound 通道异步执行时 binder 据此在业务处理结束后再确认 broker 消息
  *
  * @author goya
  * @since 2026/1/26 23:51
@@ -37,7 +41,10 @@ public final class BusMessageDispatcher implements MessageHandler {
 
         try {
             registry.dispatch(binding, message);
+            AckUtils.autoAck(StaticMessageHeaderAccessor.getAcknowledgmentCallback(message));
         } catch (Exception ex) {
+            AckUtils.autoNack(StaticMessageHeaderAccessor.getAcknowledgmentCallback(message));
+
             Map<String, Object> headers = new HashMap<>();
             headers.put("stage", "dispatcher-listener");
             headers.put(DefaultBusMessageProducer.HDR_BINDING, binding);
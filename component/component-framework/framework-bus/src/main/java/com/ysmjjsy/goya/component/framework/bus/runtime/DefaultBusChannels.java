@@ -1,11 +1,11 @@
 package com.ysmjjsy.goya.component.framework.bus.runtime;
 
-import org.springframework.core.task.TaskExecutor;
 import org.springframework.integration.channel.ExecutorChannel;
 import org.springframework.integration.channel.PublishSubscribeChannel;
 import org.springframework.messaging.SubscribableChannel;
 
 import java.util.Objects;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 
@@ -16,18 +16,19 @@ import java.util.concurrent.ConcurrentMap;
  * - error：PublishSubscribeChannel（允许多个订阅者：日志/告警/指标/审计...）
  * <p>
  * 线程池由 Spring 管理：优先复用应用的 TaskExecutor（官方推荐）。
+ * 传入的执行器应已通过 ContextPropagator 包装，消费端可取得发送端的租户、MDC、安全等上下文。
  *
  * @author goya
  * @since 2026/1/27 00:32
  */
 public final class DefaultBusChannels implements BusChannels {
 
-    private final TaskExecutor executor;
+    private final Executor executor;
     private final ConcurrentMap<String, SubscribableChannel> outbound = new ConcurrentHashMap<>();
     private final ConcurrentMap<String, SubscribableChannel> inbound = new ConcurrentHashMap<>();
     private final SubscribableChannel error;
 
-    public DefaultBusChannels(TaskExecutor executor) {
+    public DefaultBusChannels(Executor executor) {
         this.executor = Objects.requireNonNull(executor);
         this.error = new PublishSubscribeChannel(executor);
     }
@@ -197,6 +197,21 @@ public interface CacheService {
      */
     <K, V> boolean putIfAbsent(String cacheName, K key, V value, Duration expire);
 
+    /**
+     * 续期：只修改已存在 key 的 TTL，不改写 value。
+     *
+     * <p>用于滑动过期等“读后续期”场景：先读再 put 会覆盖并发写入的新值，或把刚被删除的 key 写回。</p>
+     *
+     * <p><b>原子性要求：</b>Redisson/Redis 实现必须满足分布式原子性；Caffeine 实现只保证单 JVM。</p>
+     *
+     * @param cacheName 缓存命名空间
+     * @param key       缓存 key
+     * @param ttl       新的 TTL，必须为正数
+     * @param <K>       key 类型
+     * @return true 表示 key 存在且已续期；false 表示 key 不存在
+     */
+    <K> boolean expire(String cacheName, K key, Duration ttl);
+
     /**
      * 计数：原子自增，并在“首次创建”时设置 TTL。
      *
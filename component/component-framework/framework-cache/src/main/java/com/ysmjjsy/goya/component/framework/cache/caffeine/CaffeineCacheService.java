@@ -211,6 +211,22 @@ public class CaffeineCacheService implements CacheService {
         return existed == null;
     }
 
+    @Override
+    public <K> boolean expire(String cacheName, K key, Duration ttl) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache == null) {
+            return false;
+        }
+        String internalKey = buildInternalKey(cacheName, key);
+
+        if (cache instanceof GoyaCaffeineCache gc) {
+            return gc.expire(internalKey, ttl);
+        }
+
+        // 兜底：Spring Cache 无 per-entry TTL，只能确认存在
+        return cache.get(internalKey) != null;
+    }
+
     @Override
     public <K> long incrByWithTtlOnCreate(String cacheName, K key, long delta, Duration ttlOnCreate) {
         Cache cache = cacheManager.getCache(cacheName);
@@ -151,6 +151,20 @@ public class GoyaCaffeineCache implements org.springframework.cache.Cache {
         return prev == null;
     }
 
+    /**
+     * 续期：原子地只修改已存在条目的过期时间点，不改写 value。
+     *
+     * @param key 键
+     * @param ttl 新的 TTL（为空或负数使用默认 TTL）
+     * @return 条目存在并已续期返回 true
+     */
+    public boolean expire(Object key, Duration ttl) {
+        Duration useTtl = (ttl == null || ttl.isNegative()) ? defaultTtl : ttl;
+        CacheValue updated = cache.asMap().computeIfPresent(key,
+                (k, old) -> CacheValue.of(old.value(), CacheValue.computeExpireAt(System.nanoTime(), useTtl)));
+        return updated != null;
+    }
+
     /**
      * 计数：原子自增，并在首次创建时设置 TTL。
      *
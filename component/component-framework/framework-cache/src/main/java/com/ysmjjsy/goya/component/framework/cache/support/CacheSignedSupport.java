@@ -3,16 +3,18 @@ package com.ysmjjsy.goya.component.framework.cache.support;
 import com.ysmjjsy.goya.component.framework.cache.support.secret.SecretProvider;
 import com.ysmjjsy.goya.component.framework.core.json.GoyaJson;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.core.GenericTypeResolver;
 
 import javax.crypto.Mac;
 import javax.crypto.spec.SecretKeySpec;
 import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
 import java.security.MessageDigest;
+import java.security.SecureRandom;
 import java.time.Duration;
-import java.util.Base64;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
-import java.util.UUID;
 
 /**
  * <p>签章操作集合（Signed Operations）</p>
@@ -26,9 +28,13 @@ import java.util.UUID;
  * <p><b>安全说明：</b></p>
  * <ul>
  *   <li>签名使用 HMAC-SHA256（对称密钥），密钥必须妥善保管（不要写死到仓库）。</li>
- *   <li>验签失败的默认策略建议“删除 key + 记录监控”，避免持续污染。</li>
+ *   <li>签名覆盖 cacheName 与 key，同一密钥下的值不能被挪到其他 key 使用。</li>
+ *   <li>验签失败、过期或密钥已下线时删除 key，避免持续污染。</li>
  * </ul>
  *
+ * <p>缓存值为 {@link SignedEnvelope} 的二进制编码；{@link Mac} 按线程、按 kid 复用，
+ * 密钥通过 {@link SecretProvider} 轮换后自动重新初始化。</p>
+ *
  * @param <K> key 类型
  * @param <V> value 类型
  * @author goya
@@ -37,7 +43,12 @@ import java.util.UUID;
 @Slf4j
 public abstract class CacheSignedSupport<K, V> extends CacheSupport<K, V> {
 
+    private static final String HMAC_SHA256 = "HmacSHA256";
+    private static final SecureRandom RANDOM = new SecureRandom();
+
     private final SecretProvider secretProvider;
+    private final ThreadLocal<Map<String, KeyedMac>> macs = ThreadLocal.withInitial(HashMap::new);
+    private volatile Class<V> valueType;
 
     protected CacheSignedSupport(String cacheName, SecretProvider secretProvider) {
         super(cacheName);
@@ -57,84 +68,64 @@ public abstract class CacheSignedSupport<K, V> extends CacheSupport<K, V> {
      * @param ttl   TTL（建议必填）
      */
     public void putSigned(K key, V value, Duration ttl) {
-        long ts = System.currentTimeMillis();
-        String nonce = UUID.randomUUID().toString().replace("-", "");
-
-        byte[] payload = GoyaJson.serialize(value);
-        String payloadB64 = Base64.getEncoder().encodeToString(payload);
-
-        String payloadHashB64 = Base64.getEncoder().encodeToString(sha256(payload));
-        long ttlSec = (ttl == null ? -1 : ttl.toSeconds());
+        long now = System.currentTimeMillis();
+        byte[] nonce = new byte[SignedEnvelope.NONCE_LENGTH];
+        RANDOM.nextBytes(nonce);
 
         String kid = secretProvider.currentKeyId();
-        String canonical = canonical(cacheName, String.valueOf(key), kid, ts, nonce, ttlSec, payloadHashB64);
+        long expiresAt = ttl == null || ttl.isZero() || ttl.isNegative() ? 0 : now + ttl.toMillis();
+        byte[] data = new SignedEnvelope(kid, now, expiresAt, nonce, GoyaJson.serialize(value)).encode();
+        sign(mac(kid), key, data);
 
-        String sigB64 = Base64.getEncoder().encodeToString(
-                hmacSha256(secretProvider.secretFor(kid), canonical)
-        );
-
-        SignedEnvelope env = new SignedEnvelope(kid, ts, nonce, ttlSec, payloadB64, payloadHashB64, sigB64);
-
-        cacheService.put(cacheName, key, GoyaJson.toJson(env), ttl);
+        cacheService.put(cacheName, key, data, ttl);
     }
 
     /**
      * 获取并验证签章。
      *
-     * <p>当验签失败时，默认应当视为未命中，并建议删除该 key（防止反复污染）。</p>
+     * <p>当验签失败时，默认应当视为未命中，并删除该 key（防止反复污染）。</p>
      *
      * @param key 缓存 key
-     * @return 验签通过返回业务值；未命中/验签失败返回 Optional.empty()
+     * @return 验签通过返回业务值；未命中/验签失败/已过期返回 Optional.empty()
      */
     public Optional<V> getVerified(K key) {
-        String json = cacheService.get(cacheName, key, String.class);
-        if (json == null) {
-            return Optional.empty();
-        }
-
+        final byte[] data;
         final SignedEnvelope env;
         try {
-            env = GoyaJson.fromJson(json, SignedEnvelope.class);
+            data = cacheService.get(cacheName, key, byte[].class);
+            if (data == null) {
+                return Optional.empty();
+            }
+            env = SignedEnvelope.decode(data);
         } catch (Exception _) {
+            // 包含旧版 JSON 信封
             log.warn("Signed envelope parse failed, cacheName={}, key={}", cacheName, key);
             cacheService.delete(cacheName, key);
             return Optional.empty();
         }
 
-        byte[] payload;
+        final Mac mac;
         try {
-            payload = Base64.getDecoder().decode(env.payloadB64());
+            mac = mac(env.kid());
         } catch (Exception _) {
-            log.warn("Signed payload base64 decode failed, cacheName={}, key={}", cacheName, key);
+            log.warn("Signed key unavailable, cacheName={}, key={}, kid={}", cacheName, key, env.kid());
             cacheService.delete(cacheName, key);
             return Optional.empty();
         }
 
-        String computedHashB64 = Base64.getEncoder().encodeToString(sha256(payload));
-        if (constantTimeEquals(computedHashB64, env.payloadSha256B64())) {
-            log.warn("Signed payload hash mismatch, cacheName={}, key={}", cacheName, key);
+        if (!verify(mac, key, data)) {
+            log.warn("Signed signature mismatch, cacheName={}, key={}", cacheName, key);
             cacheService.delete(cacheName, key);
             return Optional.empty();
         }
 
-        String canonical = canonical(cacheName, String.valueOf(key), env.kid(), env.ts(), env.nonce(), env.ttlSec(), env.payloadSha256B64());
-        String expectedSigB64 = Base64.getEncoder().encodeToString(
-                hmacSha256(secretProvider.secretFor(env.kid()), canonical)
-        );
-
-        if (constantTimeEquals(expectedSigB64, env.sigB64())) {
-            log.warn("Signed signature mismatch, cacheName={}, key={}", cacheName, key);
+        if (env.isExpired(System.currentTimeMillis())) {
+            log.debug("Signed envelope expired, cacheName={}, key={}", cacheName, key);
             cacheService.delete(cacheName, key);
             return Optional.empty();
         }
 
-        Class<?>[] typeArguments = GenericTypeResolver.resolveTypeArguments(getClass(), CacheSignedSupport.class);
-        if (typeArguments == null || typeArguments.length < 2) {
-            throw new IllegalStateException("无法解析泛型类型参数: " + getClass().getName());
-        }
-        @SuppressWarnings("unchecked")
-        Class<V> serviceClass = (Class<V>) typeArguments[1];
-        V value = GoyaJson.fromJson(payload, serviceClass);
+        V value = GoyaJson.fromJson(env.payload(), valueType());
         return Optional.ofNullable(value);
     }
 
@@ -161,56 +152,76 @@ public abstract class CacheSignedSupport<K, V> extends CacheSupport<K, V> {
 
 
     /**
-     * 构造规范化签名串。
-     *
-     * <p>注意：这里使用竖线分隔，并固定字段顺序，避免不同实现产生歧义。</p>
+     * 计算签名并写入信封末尾
      */
-    private static String canonical(String cacheName,
-                                    String key,
-                                    String kid,
-                                    long ts,
-                                    String nonce,
-                                    long ttlSec,
-                                    String payloadSha256B64) {
-        return cacheName + "|" + key + "|" + kid + "|" + ts + "|" + nonce + "|" + ttlSec + "|" + payloadSha256B64;
-    }
-
-    private static byte[] sha256(byte[] bytes) {
+    private void sign(Mac mac, K key, byte[] data) {
+        int signedLength = data.length - SignedEnvelope.TAG_LENGTH;
         try {
-            MessageDigest md = MessageDigest.getInstance("SHA-256");
-            return md.digest(bytes);
-        } catch (Exception e) {
+            update(mac, key);
+            mac.update(data, 0, signedLength);
+            mac.doFinal(data, signedLength);
+        } catch (GeneralSecurityException e) {
             throw new IllegalStateException(e);
         }
     }
 
-    private static byte[] hmacSha256(byte[] secret, String data) {
-        try {
-            Mac mac = Mac.getInstance("HmacSHA256");
-            mac.init(new SecretKeySpec(secret, "HmacSHA256"));
-            return mac.doFinal(data.getBytes(StandardCharsets.UTF_8));
-        } catch (Exception e) {
-            throw new IllegalStateException(e);
-        }
+    /**
+     * 常量时间比较信封末尾的签名
+     */
+    private boolean verify(Mac mac, K key, byte[] data) {
+        int signedLength = data.length - SignedEnvelope.TAG_LENGTH;
+        update(mac, key);
+        mac.update(data, 0, signedLength);
+        byte[] expected = mac.doFinal();
+        return MessageDigest.isEqual(expected, Arrays.copyOfRange(data, signedLength, data.length));
     }
 
     /**
-     * 常量时间字符串比较，用于降低计时侧信道风险。
+     * cacheName 与 key 以长度前缀写入，避免拼接歧义
      */
-    private static boolean constantTimeEquals(String a, String b) {
-        if (a == null || b == null) {
-            return true;
-        }
-        byte[] ab = a.getBytes(StandardCharsets.UTF_8);
-        byte[] bb = b.getBytes(StandardCharsets.UTF_8);
-        if (ab.length != bb.length) {
-            return true;
+    private void update(Mac mac, K key) {
+        updateWithLength(mac, cacheName.getBytes(StandardCharsets.UTF_8));
+        updateWithLength(mac, String.valueOf(key).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void updateWithLength(Mac mac, byte[] bytes) {
+        int length = bytes.length;
+        mac.update((byte) (length >>> 24));
+        mac.update((byte) (length >>> 16));
+        mac.update((byte) (length >>> 8));
+        mac.update((byte) length);
+        mac.update(bytes);
+    }
+
+    /**
+     * 当前线程中 kid 对应的 Mac；密钥变化时重新初始化，kid 已下线时由 {@link SecretProvider} 抛出异常
+     */
+    private Mac mac(String kid) {
+        byte[] secret = secretProvider.secretFor(kid);
+        Map<String, KeyedMac> local = macs.get();
+        KeyedMac keyed = local.get(kid);
+        if (keyed == null || !Arrays.equals(keyed.secret(), secret)) {
+            try {
+                Mac mac = Mac.getInstance(HMAC_SHA256);
+                mac.init(new SecretKeySpec(secret, HMAC_SHA256));
+                keyed = new KeyedMac(secret.clone(), mac);
+                local.put(kid, keyed);
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException(e);
+            }
         }
+        return keyed.mac();
+    }
 
-        int r = 0;
-        for (int i = 0; i < ab.length; i++) {
-            r |= (ab[i] ^ bb[i]);
+    private Class<V> valueType() {
+        Class<V> type = valueType;
+        if (type == null) {
+            type = getValueType();
+            valueType = type;
         }
-        return r != 0;
+        return type;
+    }
+
+    private record KeyedMac(byte[] secret, Mac mac) {
     }
 }
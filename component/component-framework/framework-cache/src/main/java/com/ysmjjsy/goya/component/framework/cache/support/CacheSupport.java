@@ -80,6 +80,17 @@ public abstract class CacheSupport<K, V> {
         cacheService.put(cacheName, key, value, Objects.isNull(expire) ? this.expire : expire);
     }
 
+    /**
+     * 续期，只修改已存在缓存的过期时间，不改写值
+     *
+     * @param key    key
+     * @param expire expire
+     * @return 缓存存在并已续期返回 true
+     */
+    public boolean expire(K key, Duration expire) {
+        return cacheService.expire(cacheName, key, Objects.isNull(expire) ? this.expire : expire);
+    }
+
     /**
      * 删除缓存
      *
@@ -1,32 +1,108 @@
 package com.ysmjjsy.goya.component.framework.cache.support;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
 /**
  * <p>签章缓存信封</p>
  *
  * <p>缓存中不直接存业务对象，而是存“payload + 元信息 + 签名”。验证通过后才反序列化为业务对象。</p>
  *
- * <p>字段说明：</p>
+ * <p>二进制布局（大端）：</p>
+ * <pre>
+ * version(1) | kidLen(1) | kid | issuedAt(8) | expiresAt(8) | nonce(16) | payloadLen(4) | payload | tag(32)
+ * </pre>
  * <ul>
  *   <li>kid：密钥标识，用于支持密钥轮换</li>
- *   <li>ts：写入时间（毫秒）</li>
+ *   <li>issuedAt：写入时间（毫秒）</li>
+ *   <li>expiresAt：过期时间（毫秒），0 表示不过期；缓存系统之外再做一次校验，防止 TTL 被绕过</li>
  *   <li>nonce：随机数，增强防重放能力</li>
- *   <li>ttlSec：写入时记录的 TTL 秒数（仅用于签名输入；真实过期仍由缓存系统控制）</li>
- *   <li>payloadB64：业务对象序列化后的 Base64</li>
- *   <li>payloadSha256B64：payload 的 SHA-256 Base64（用于避免把大 payload 直接拼进签名串）</li>
- *   <li>sigB64：HMAC-SHA256 的 Base64 签名</li>
+ *   <li>payload：业务对象序列化结果，不再做 Base64 与二次 JSON 包装</li>
+ *   <li>tag：HMAC-SHA256，覆盖 cacheName、key 以及 tag 之前的全部字节</li>
  * </ul>
  *
- * <p><b>不可变性：</b>record 天然不可变，适合做安全敏感结构（减少被误改的可能）。</p>
- *
+ * @param kid       密钥标识
+ * @param issuedAt  写入时间
+ * @param expiresAt 过期时间，0 表示不过期
+ * @param nonce     随机数
+ * @param payload   业务数据
  * @author goya
  * @since 2026/1/26 16:05
  */
 public record SignedEnvelope(
         String kid,
-        long ts,
-        String nonce,
-        long ttlSec,
-        String payloadB64,
-        String payloadSha256B64,
-        String sigB64
-) {}
+        long issuedAt,
+        long expiresAt,
+        byte[] nonce,
+        byte[] payload
+) {
+
+    public static final byte VERSION = 2;
+    public static final int NONCE_LENGTH = 16;
+    public static final int TAG_LENGTH = 32;
+
+    private static final int FIXED_LENGTH = 1 + 1 + Long.BYTES + Long.BYTES + NONCE_LENGTH + Integer.BYTES + TAG_LENGTH;
+
+    /**
+     * 编码，末尾预留 {@link #TAG_LENGTH} 字节由调用方写入签名
+     *
+     * @return 字节数组
+     */
+    public byte[] encode() {
+        byte[] kidBytes = kid.getBytes(StandardCharsets.UTF_8);
+        if (kidBytes.length > 0xFF) {
+            throw new IllegalArgumentException("kid is too long: " + kid);
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(FIXED_LENGTH + kidBytes.length + payload.length);
+        buffer.put(VERSION)
+                .put((byte) kidBytes.length)
+                .put(kidBytes)
+                .putLong(issuedAt)
+                .putLong(expiresAt)
+                .put(nonce)
+                .putInt(payload.length)
+                .put(payload);
+        return buffer.array();
+    }
+
+    /**
+     * 解码，不校验签名
+     *
+     * @param data {@link #encode()} 并写入签名后的字节数组
+     * @return 信封
+     * @throws IllegalArgumentException 版本不支持或长度不一致
+     */
+    public static SignedEnvelope decode(byte[] data) {
+        if (data.length < FIXED_LENGTH || data[0] != VERSION) {
+            throw new IllegalArgumentException("Unsupported signed envelope");
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(data, 1, data.length - 1);
+        int kidLength = buffer.get() & 0xFF;
+        if (data.length < FIXED_LENGTH + kidLength) {
+            throw new IllegalArgumentException("Malformed signed envelope");
+        }
+        String kid = new String(data, buffer.position(), kidLength, StandardCharsets.UTF_8);
+        buffer.position(buffer.position() + kidLength);
+        long issuedAt = buffer.getLong();
+        long expiresAt = buffer.getLong();
+        byte[] nonce = new byte[NONCE_LENGTH];
+        buffer.get(nonce);
+        int payloadLength = buffer.getInt();
+        if (payloadLength < 0 || buffer.remaining() != payloadLength + TAG_LENGTH) {
+            throw new IllegalArgumentException("Malformed signed envelope");
+        }
+        byte[] payload = new byte[payloadLength];
+        buffer.get(payload);
+        return new SignedEnvelope(kid, issuedAt, expiresAt, nonce, payload);
+    }
+
+    /**
+     * 是否已过期
+     *
+     * @param now 当前时间（毫秒）
+     * @return 过期返回 true
+     */
+    public boolean isExpired(long now) {
+        return expiresAt > 0 && now >= expiresAt;
+    }
+}
@@ -0,0 +1,64 @@
+package com.ysmjjsy.goya.component.framework.cache.support.secret;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * <p>可轮换的多密钥实现</p>
+ *
+ * <p>轮换流程：</p>
+ * <ul>
+ *   <li>{@link #rotate(String, byte[])} 加入新密钥并切换为写入密钥，旧密钥仍可用于验签</li>
+ *   <li>旧数据全部过期后调用 {@link #retire(String)} 下线旧密钥，之后以旧密钥签名的数据验签失败</li>
+ * </ul>
+ *
+ * @author goya
+ * @since 2026/2/8 14:10
+ */
+public class RotatingSecretProvider implements SecretProvider {
+
+    private final Map<String, byte[]> secrets = new ConcurrentHashMap<>();
+    private volatile String currentKeyId;
+
+    public RotatingSecretProvider(String keyId, byte[] secret) {
+        this.secrets.put(keyId, secret);
+        this.currentKeyId = keyId;
+    }
+
+    /**
+     * 加入新密钥并作为写入密钥
+     *
+     * @param keyId  kid
+     * @param secret 密钥
+     */
+    public void rotate(String keyId, byte[] secret) {
+        secrets.put(keyId, secret);
+        currentKeyId = keyId;
+    }
+
+    /**
+     * 下线密钥，不允许下线当前写入密钥
+     *
+     * @param keyId kid
+     */
+    public void retire(String keyId) {
+        if (keyId.equals(currentKeyId)) {
+            throw new IllegalArgumentException("Can not retire current kid: " + keyId);
+        }
+        secrets.remove(keyId);
+    }
+
+    @Override
+    public String currentKeyId() {
+        return currentKeyId;
+    }
+
+    @Override
+    public byte[] secretFor(String keyId) {
+        byte[] secret = secrets.get(keyId);
+        if (secret == null) {
+            throw new IllegalArgumentException("Unknown kid: " + keyId);
+        }
+        return secret;
+    }
+}
@@ -6,8 +6,9 @@ package com.ysmjjsy.goya.component.framework.cache.support.secret;
  * <p>用于 SignedOps 的 HMAC 签名。建议支持密钥轮换（key rotation）：</p>
  * <ul>
  *   <li>currentKeyId() 返回当前写入使用的 kid</li>
- *   <li>secretFor(kid) 返回对应 kid 的密钥</li>
+ *   <li>secretFor(kid) 返回对应 kid 的密钥；kid 未知或已下线时抛出异常，对应数据视为验签失败</li>
  * </ul>
+ * <p>调用方会按 kid 缓存初始化后的 Mac，并在每次使用前比对密钥内容，实现可以返回同一数组实例以降低开销。</p>
  *
  * @author goya
  * @since 2026/1/26 16:14
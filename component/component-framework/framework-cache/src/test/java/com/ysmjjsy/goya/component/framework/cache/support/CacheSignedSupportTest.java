@@ -0,0 +1,162 @@
+package com.ysmjjsy.goya.component.framework.cache.support;
+
+import com.ysmjjsy.goya.component.framework.cache.api.CacheService;
+import com.ysmjjsy.goya.component.framework.cache.support.secret.RotatingSecretProvider;
+import com.ysmjjsy.goya.component.framework.cache.support.secret.SecretProvider;
+import com.ysmjjsy.goya.component.framework.cache.support.secret.SingleSecretProvider;
+import com.ysmjjsy.goya.component.framework.core.json.GoyaJson;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.support.StaticApplicationContext;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * <p>签章缓存测试</p>
+ * <p>
+ * 缓存服务替换为不处理 TTL 的内存实现，直接读写缓存中的原始字节，
+ * 覆盖篡改、挪用到其他 cacheName / key、信封过期与密钥轮换。
+ *
+ * @author goya
+ * @since 2026/2/11 10:30
+ */
+class CacheSignedSupportTest {
+
+    private static final byte[] SECRET = "test-secret-0123456789abcdef".getBytes(StandardCharsets.UTF_8);
+
+    private Map<String, Object> store;
+    private CacheService cacheService;
+
+    @BeforeAll
+    static void initJson() {
+        StaticApplicationContext context = new StaticApplicationContext();
+        context.getBeanFactory().registerSingleton("jsonMapper", JsonMapper.builder().build());
+        context.refresh();
+        new GoyaJson().setApplicationContext(context);
+    }
+
+    @BeforeEach
+    void setUp() {
+        store = new ConcurrentHashMap<>();
+        cacheService = mapCacheService(store);
+    }
+
+    @Test
+    void verifiesUntouchedEnvelope() {
+        SignedCache cache = cache("signed", new SingleSecretProvider("k1", SECRET));
+        cache.putSigned("a", "value", Duration.ofMinutes(1));
+
+        assertEquals(Optional.of("value"), cache.getVerified("a"));
+    }
+
+    @Test
+    void rejectsAnyModifiedByte() {
+        SignedCache cache = cache("signed", new SingleSecretProvider("k1", SECRET));
+        cache.putSigned("a", "value", Duration.ofMinutes(1));
+        byte[] original = raw("signed", "a");
+
+        for (int i = 0; i < original.length; i++) {
+            byte[] tampered = original.clone();
+            tampered[i] ^= 0x01;
+            store.put(storeKey("signed", "a"), tampered);
+
+            assertTrue(cache.getVerified("a").isEmpty(), "modified byte accepted at index " + i);
+            assertFalse(store.containsKey(storeKey("signed", "a")), "tampered entry not removed at index " + i);
+        }
+    }
+
+    @Test
+    void rejectsEnvelopeMovedToAnotherKey() {
+        SignedCache cache = cache("signed", new SingleSecretProvider("k1", SECRET));
+        cache.putSigned("a", "value", Duration.ofMinutes(1));
+        store.put(storeKey("signed", "b"), raw("signed", "a"));
+
+        assertTrue(cache.getVerified("b").isEmpty());
+        assertEquals(Optional.of("value"), cache.getVerified("a"));
+    }
+
+    @Test
+    void rejectsEnvelopeMovedToAnotherCacheName() {
+        SecretProvider secretProvider = new SingleSecretProvider("k1", SECRET);
+        SignedCache source = cache("signed", secretProvider);
+        SignedCache target = cache("other", secretProvider);
+        source.putSigned("a", "value", Duration.ofMinutes(1));
+        store.put(storeKey("other", "a"), raw("signed", "a"));
+
+        assertTrue(target.getVerified("a").isEmpty());
+        assertEquals(Optional.of("value"), source.getVerified("a"));
+    }
+
+    @Test
+    void rejectsExpiredEnvelopeWhenCacheKeepsIt() throws InterruptedException {
+        SignedCache cache = cache("signed", new SingleSecretProvider("k1", SECRET));
+        cache.putSigned("a", "value", Duration.ofMillis(1));
+        // 内存缓存不处理 TTL，相当于缓存系统的过期被绕过
+        Thread.sleep(10);
+
+        assertTrue(cache.getVerified("a").isEmpty());
+        assertFalse(store.containsKey(storeKey("signed", "a")));
+    }
+
+    @Test
+    void verifiesWithPreviousSecretUntilRetired() {
+        RotatingSecretProvider secretProvider = new RotatingSecretProvider("k1", SECRET);
+        SignedCache cache = cache("signed", secretProvider);
+        cache.putSigned("old", "before", Duration.ofMinutes(1));
+
+        secretProvider.rotate("k2", "rotated-secret-0123456789abcd".getBytes(StandardCharsets.UTF_8));
+        cache.putSigned("new", "after", Duration.ofMinutes(1));
+
+        assertEquals("k2", SignedEnvelope.decode(raw("signed", "new")).kid());
+        assertEquals(Optional.of("before"), cache.getVerified("old"));
+        assertEquals(Optional.of("after"), cache.getVerified("new"));
+
+        secretProvider.retire("k1");
+
+        assertTrue(cache.getVerified("old").isEmpty());
+        assertEquals(Optional.of("after"), cache.getVerified("new"));
+    }
+
+    private SignedCache cache(String cacheName, SecretProvider secretProvider) {
+        SignedCache cache = new SignedCache(cacheName, secretProvider);
+        cache.cacheService = cacheService;
+        return cache;
+    }
+
+    private byte[] raw(String cacheName, String key) {
+        return ((byte[]) store.get(storeKey(cacheName, key))).clone();
+    }
+
+    private static String storeKey(String cacheName, Object key) {
+        return cacheName + "::" + key;
+    }
+
+    /**
+     * 只实现签章读写用到的 get / put / delete，不处理 TTL
+     */
+    private static CacheService mapCacheService(Map<String, Object> store) {
+        return (CacheService) Proxy.newProxyInstance(CacheService.class.getClassLoader(), new Class<?>[]{CacheService.class},
+                (_, method, args) -> switch (method.getName()) {
+                    case "get" -> store.get(storeKey((String) args[0], args[1]));
+                    case "put" -> store.put(storeKey((String) args[0], args[1]), args[2]);
+                    case "delete" -> store.remove(storeKey((String) args[0], args[1])) != null;
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+    }
+
+    private static final class SignedCache extends CacheSignedSupport<String, String> {
+
+        private SignedCache(String cacheName, SecretProvider secretProvider) {
+            super(cacheName, secretProvider);
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package com.ysmjjsy.goya.component.framework.common.enums;
+
+import java.io.Serializable;
+import java.util.*;
+
+/**
+ * <p>CodeEnum 编码查找表</p>
+ * <p>
+ * 每个枚举类型只构建一次（{@link ClassValue} 缓存），包含：
+ * <ul>
+ *   <li>按原始类型的 code 索引（Integer/Long/String 等，命中时无需任何转换）</li>
+ *   <li>按 code 文本索引（{@code String.valueOf(code)}），供 HTTP 参数、JSON 字符串、跨类型数值等场景使用</li>
+ * </ul>
+ * Jackson、MapStruct、Spring MVC 参数转换与 MyBatis TypeHandler 均通过该表查找，避免逐个遍历枚举常量。
+ *
+ * @param <E> 枚举类型
+ * @author goya
+ * @since 2026/2/7 09:30
+ */
+public final class CodeEnumTable<E extends Enum<E> & CodeEnum<?>> {
+
+    private static final ClassValue<CodeEnumTable<?>> TABLES = new ClassValue<>() {
+        @Override
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        protected CodeEnumTable<?> computeValue(Class<?> type) {
+            return new CodeEnumTable(type);
+        }
+    };
+
+    private final Class<E> enumClass;
+    private final Class<?> codeType;
+    private final Map<Object, E> byCode;
+    private final Map<String, E> byText;
+
+    private CodeEnumTable(Class<E> enumClass) {
+        E[] constants = enumClass.getEnumConstants();
+        Map<Object, E> codes = HashMap.newHashMap(constants.length);
+        Map<String, E> texts = HashMap.newHashMap(constants.length);
+        Class<?> type = null;
+        for (E constant : constants) {
+            Object code = constant.getCode();
+            if (code == null) {
+                continue;
+            }
+            if (type == null) {
+                type = code.getClass();
+            }
+            // 与原先遍历查找保持一致：code 重复时以先声明的常量为准
+            codes.putIfAbsent(code, constant);
+            texts.putIfAbsent(String.valueOf(code), constant);
+        }
+        this.enumClass = enumClass;
+        this.codeType = type == null ? String.class : type;
+        this.byCode = Map.copyOf(codes);
+        this.byText = Map.copyOf(texts);
+    }
+
+    /**
+     * 获取枚举类型的查找表
+     *
+     * @param enumClass 枚举类型
+     * @param <E>       枚举类型
+     * @return 查找表
+     * @throws IllegalArgumentException 不是 CodeEnum 枚举
+     */
+    @SuppressWarnings("unchecked")
+    public static <E extends Enum<E> & CodeEnum<?>> CodeEnumTable<E> of(Class<E> enumClass) {
+        if (!isCodeEnum(enumClass)) {
+            throw new IllegalArgumentException("不是 CodeEnum 枚举：" + enumClass);
+        }
+        return (CodeEnumTable<E>) TABLES.get(enumClass);
+    }
+
+    /**
+     * 获取查找表（原始类型入参），用于运行期才知道目标类型的场景
+     *
+     * @param type 类型
+     * @return 查找表，不是 CodeEnum 枚举返回 null
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public static CodeEnumTable<?> ofNullable(Class<?> type) {
+        return isCodeEnum(type) ? (CodeEnumTable) TABLES.get(type) : null;
+    }
+
+    /**
+     * 是否为 CodeEnum 枚举
+     *
+     * @param type 类型
+     * @return true 是
+     */
+    public static boolean isCodeEnum(Class<?> type) {
+        return type != null && type.isEnum() && CodeEnum.class.isAssignableFrom(type);
+    }
+
+    /**
+     * 按 code 查找，类型与声明的 code 类型不一致时按文本匹配（如 Long 1 / "1" 匹配 Integer 1）
+     *
+     * @param code code
+     * @return 枚举常量，不存在返回 null
+     */
+    public E get(Object code) {
+        if (code == null) {
+            return null;
+        }
+        E constant = byCode.get(code);
+        if (constant != null || codeType.isInstance(code)) {
+            return constant;
+        }
+        return byText.get(code.toString());
+    }
+
+    /**
+     * 按 code 文本查找
+     *
+     * @param text code 文本
+     * @return 枚举常量，不存在返回 null
+     */
+    public E getByText(String text) {
+        return text == null ? null : byText.get(text);
+    }
+
+    /**
+     * 按 code 查找，不存在抛出异常
+     *
+     * @param code code
+     * @return 枚举常量
+     * @throws IllegalArgumentException 不存在
+     */
+    public E require(Object code) {
+        E constant = get(code);
+        if (constant == null) {
+            throw new IllegalArgumentException("未找到枚举：" + enumClass.getName() + ", code=" + code);
+        }
+        return constant;
+    }
+
+    /**
+     * 将文本解析为声明的 code 类型（Integer/Long/String），用于需要原始类型 code 的场景
+     *
+     * @param text 文本
+     * @return code，无法解析时返回原文本
+     */
+    public Serializable parseCode(String text) {
+        E constant = getByText(text);
+        if (constant != null) {
+            return constant.getCode();
+        }
+        return text;
+    }
+
+    /**
+     * 枚举类型
+     *
+     * @return 枚举类型
+     */
+    public Class<E> enumClass() {
+        return enumClass;
+    }
+
+    /**
+     * code 的声明类型（取第一个非空 code 的类型）
+     *
+     * @return code 类型
+     */
+    public Class<?> codeType() {
+        return codeType;
+    }
+}
@@ -17,6 +17,8 @@ public class EnumKit {
     /**
      * 按 code 查找枚举常量。
      *
+     * <p>基于 {@link CodeEnumTable} 哈希查找；code 类型与声明类型不一致时按文本匹配（如 "1" 匹配 Integer 1）。</p>
+     *
      * @param enumClass 枚举类型
      * @param code code
      * @param <E> 枚举类型
@@ -28,12 +30,7 @@ public class EnumKit {
         if (enumClass == null || code == null) {
             return Optional.empty();
         }
-        for (E e : enumClass.getEnumConstants()) {
-            if (Objects.equals(e.getCode(), code)) {
-                return Optional.of(e);
-            }
-        }
-        return Optional.empty();
+        return Optional.ofNullable(CodeEnumTable.of(enumClass).get(code));
     }
 
     /**
@@ -47,8 +44,7 @@ public class EnumKit {
      */
     public static <E extends Enum<E> & CodeEnum<C>, C extends Serializable>
     E requireByCode(Class<E> enumClass, C code) {
-        return findByCode(enumClass, code)
-                .orElseThrow(() -> new IllegalArgumentException("未找到枚举：" + enumClass.getName() + ", code=" + code));
+        return CodeEnumTable.of(enumClass).require(code);
     }
 
     /**
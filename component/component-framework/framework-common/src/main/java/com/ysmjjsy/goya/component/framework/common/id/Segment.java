@@ -0,0 +1,22 @@
+package com.ysmjjsy.goya.component.framework.common.id;
+
+/**
+ * <p>号段</p>
+ * <p>表示区间 (maxId - step, maxId]</p>
+ *
+ * @param maxId 号段最大值（包含）
+ * @param step  号段长度
+ * @author goya
+ * @since 2026/2/5 10:02
+ */
+public record Segment(long maxId, int step) {
+
+    /**
+     * 号段第一个可用 ID
+     *
+     * @return ID
+     */
+    public long first() {
+        return maxId - step + 1;
+    }
+}
@@ -0,0 +1,19 @@
+package com.ysmjjsy.goya.component.framework.common.id;
+
+/**
+ * <p>号段分配器</p>
+ * <p>从数据库等持久化存储中原子地领取一段连续 ID</p>
+ *
+ * @author goya
+ * @since 2026/2/5 10:03
+ */
+public interface SegmentAllocator {
+
+    /**
+     * 领取下一个号段
+     *
+     * @param bizTag 业务标识
+     * @return {@link Segment}
+     */
+    Segment allocate(String bizTag);
+}
@@ -0,0 +1,107 @@
+package com.ysmjjsy.goya.component.framework.common.id;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * <p>双缓冲号段 ID 生成器</p>
+ * <p>
+ * 当前号段消耗到阈值时异步预取下一号段，当前号段用完后直接切换，请求线程通常只做一次原子自增。
+ * 仅在号段切换时加锁；预取失败或尚未完成时同步领取，保证可用性。
+ *
+ * @author goya
+ * @since 2026/2/5 10:05
+ */
+public class SegmentIdGenerator {
+
+    private final String bizTag;
+    private final SegmentAllocator allocator;
+    private final Executor executor;
+    private final double preloadRatio;
+
+    private volatile Buffer current;
+    private volatile CompletableFuture<Buffer> next;
+
+    /**
+     * 构造号段 ID 生成器
+     *
+     * @param bizTag       业务标识
+     * @param allocator    号段分配器
+     * @param executor     预取执行器
+     * @param preloadRatio 当前号段消耗比例达到该值时预取下一号段（0-1）
+     */
+    public SegmentIdGenerator(String bizTag, SegmentAllocator allocator, Executor executor, double preloadRatio) {
+        this.bizTag = bizTag;
+        this.allocator = allocator;
+        this.executor = executor;
+        this.preloadRatio = Math.clamp(preloadRatio, 0D, 1D);
+        this.current = allocate();
+    }
+
+    /**
+     * 生成下一个 ID
+     *
+     * @return ID
+     */
+    public long nextId() {
+        while (true) {
+            Buffer buffer = current;
+            long id = buffer.cursor.getAndIncrement();
+            if (id <= buffer.maxId) {
+                if (id == buffer.threshold) {
+                    preload();
+                }
+                return id;
+            }
+            switchBuffer(buffer);
+        }
+    }
+
+    private void preload() {
+        if (next != null) {
+            return;
+        }
+        synchronized (this) {
+            if (next == null) {
+                next = CompletableFuture.supplyAsync(this::allocate, executor);
+            }
+        }
+    }
+
+    private synchronized void switchBuffer(Buffer exhausted) {
+        if (current != exhausted) {
+            return;
+        }
+
+        CompletableFuture<Buffer> future = next;
+        next = null;
+
+        Buffer buffer = null;
+        if (future != null) {
+            try {
+                buffer = future.join();
+            } catch (CompletionException _) {
+                // 预取失败时同步领取，仍失败则由调用方感知异常
+            }
+        }
+        current = buffer != null ? buffer : allocate();
+    }
+
+    private Buffer allocate() {
+        return new Buffer(allocator.allocate(bizTag), preloadRatio);
+    }
+
+    private static final class Buffer {
+        private final AtomicLong cursor;
+        private final long maxId;
+        private final long threshold;
+
+        private Buffer(Segment segment, double preloadRatio) {
+            this.cursor = new AtomicLong(segment.first());
+            this.maxId = segment.maxId();
+            this.threshold = segment.first() + (long) (segment.step() * preloadRatio);
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.ysmjjsy.goya.component.framework.common.id;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+
+/**
+ * <p>号段模式 ID 服务</p>
+ * <p>按业务标识维护 {@link SegmentIdGenerator}，首次使用时领取号段</p>
+ *
+ * @author goya
+ * @since 2026/2/5 10:20
+ */
+public class SegmentIdService {
+
+    private final SegmentAllocator allocator;
+    private final Executor executor;
+    private final double preloadRatio;
+    private final Map<String, SegmentIdGenerator> generators = new ConcurrentHashMap<>();
+
+    public SegmentIdService(SegmentAllocator allocator, Executor executor, double preloadRatio) {
+        this.allocator = allocator;
+        this.executor = executor;
+        this.preloadRatio = preloadRatio;
+    }
+
+    /**
+     * 生成指定业务的下一个 ID
+     *
+     * @param bizTag 业务标识
+     * @return ID
+     */
+    public long nextId(String bizTag) {
+        return generators.computeIfAbsent(bizTag, key -> new SegmentIdGenerator(key, allocator, executor, preloadRatio)).nextId();
+    }
+}
@@ -0,0 +1,223 @@
+package com.ysmjjsy.goya.component.framework.common.id;
+
+import com.ysmjjsy.goya.component.framework.common.error.CommonErrorCode;
+import com.ysmjjsy.goya.component.framework.common.exception.Exceptions;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * <p>雪花算法生成器</p>
+ * <p>结构：1 位符号 + 41 位时间戳 + 5 位数据中心 + 5 位机器 + 12 位序列号</p>
+ * <p>
+ * 时间戳与序列号打包在同一个 {@link AtomicLong} 中，通过 CAS 推进，生成过程无锁。
+ * 时钟小幅回拨（不超过 {@code maxBackwardMillis}）时继续沿用上次的时间戳递增序列号，保证 ID 单调不重复；
+ * 回拨超过阈值则拒绝生成。
+ * 由租约分配节点时可设置有效期（{@link #setValidUntil(long)}），超过有效期仍未续期则拒绝生成，避免节点被他人接管后产生重复 ID。
+ *
+ * @author goya
+ * @since 2026/2/5 09:20
+ */
+public class Snowflake {
+
+    /**
+     * 时间戳起始点（2020-01-01 00:00:00）
+     */
+    public static final long EPOCH = 1577836800000L;
+
+    /**
+     * 机器 ID 位数
+     */
+    public static final long WORKER_ID_BITS = 5L;
+
+    /**
+     * 数据中心 ID 位数
+     */
+    public static final long DATACENTER_ID_BITS = 5L;
+
+    /**
+     * 序列号位数
+     */
+    public static final long SEQUENCE_BITS = 12L;
+
+    /**
+     * 机器 ID 最大值
+     */
+    public static final long MAX_WORKER_ID = ~(-1L << WORKER_ID_BITS);
+
+    /**
+     * 数据中心 ID 最大值
+     */
+    public static final long MAX_DATACENTER_ID = ~(-1L << DATACENTER_ID_BITS);
+
+    /**
+     * 节点（数据中心 + 机器）总数
+     */
+    public static final int MAX_NODES = (int) ((MAX_DATACENTER_ID + 1) * (MAX_WORKER_ID + 1));
+
+    /**
+     * 序列号掩码
+     */
+    private static final long SEQUENCE_MASK = ~(-1L << SEQUENCE_BITS);
+
+    /**
+     * 机器 ID 左移位数
+     */
+    private static final long WORKER_ID_SHIFT = SEQUENCE_BITS;
+
+    /**
+     * 数据中心 ID 左移位数
+     */
+    private static final long DATACENTER_ID_SHIFT = SEQUENCE_BITS + WORKER_ID_BITS;
+
+    /**
+     * 时间戳左移位数
+     */
+    private static final long TIMESTAMP_SHIFT = SEQUENCE_BITS + WORKER_ID_BITS + DATACENTER_ID_BITS;
+
+    /**
+     * 默认允许的时钟回拨毫秒数
+     */
+    public static final long DEFAULT_MAX_BACKWARD_MILLIS = 1000L;
+
+    private final long workerId;
+    private final long datacenterId;
+    private final long node;
+    private final long maxBackwardMillis;
+
+    /**
+     * 高位为相对 EPOCH 的时间戳，低 12 位为序列号
+     */
+    private final AtomicLong state;
+
+    /**
+     * 节点有效期（毫秒时间戳），{@link Long#MAX_VALUE} 表示不限制
+     */
+    private volatile long validUntil = Long.MAX_VALUE;
+
+    public Snowflake(long workerId, long datacenterId) {
+        this(workerId, datacenterId, DEFAULT_MAX_BACKWARD_MILLIS, 0L);
+    }
+
+    /**
+     * 构造雪花算法生成器
+     *
+     * @param workerId          工作机器 ID（0-31）
+     * @param datacenterId      数据中心 ID（0-31）
+     * @param maxBackwardMillis 允许的时钟回拨毫秒数
+     * @param startAfter        上次使用该节点时最后一个 ID 的时间戳（毫秒），生成的 ID 时间戳不会早于它，0 表示不限制
+     */
+    public Snowflake(long workerId, long datacenterId, long maxBackwardMillis, long startAfter) {
+        if (workerId > MAX_WORKER_ID || workerId < 0) {
+            throw new IllegalArgumentException("Worker ID must be between 0 and " + MAX_WORKER_ID);
+        }
+        if (datacenterId > MAX_DATACENTER_ID || datacenterId < 0) {
+            throw new IllegalArgumentException("Datacenter ID must be between 0 and " + MAX_DATACENTER_ID);
+        }
+        this.workerId = workerId;
+        this.datacenterId = datacenterId;
+        this.node = (datacenterId << DATACENTER_ID_SHIFT) | (workerId << WORKER_ID_SHIFT);
+        this.maxBackwardMillis = Math.max(maxBackwardMillis, 0L);
+        long offset = Math.max(startAfter - EPOCH, 0L);
+        // 序列号置满，下一次生成必然进入新的毫秒
+        this.state = new AtomicLong(offset > 0 ? (offset << SEQUENCE_BITS) | SEQUENCE_MASK : 0L);
+    }
+
+    /**
+     * 根据节点编号（0-1023）构造，高 5 位为数据中心，低 5 位为机器
+     *
+     * @param nodeId            节点编号
+     * @param maxBackwardMillis 允许的时钟回拨毫秒数
+     * @param startAfter        上次使用该节点时最后一个 ID 的时间戳（毫秒）
+     * @return {@link Snowflake}
+     */
+    public static Snowflake ofNode(int nodeId, long maxBackwardMillis, long startAfter) {
+        return new Snowflake(nodeId & MAX_WORKER_ID, (nodeId >> WORKER_ID_BITS) & MAX_DATACENTER_ID, maxBackwardMillis, startAfter);
+    }
+
+    /**
+     * 生成下一个 ID
+     *
+     * @return 雪花算法 ID
+     */
+    public long nextId() {
+        while (true) {
+            long current = state.get();
+            long last = current >>> SEQUENCE_BITS;
+            long millis = System.currentTimeMillis();
+            if (millis >= validUntil) {
+                throw Exceptions.system(CommonErrorCode.SYSTEM_ERROR)
+                        .userMessage("Snowflake node lease expired at " + validUntil + ". Refusing to generate id")
+                        .build();
+            }
+            long now = millis - EPOCH;
+
+            long next;
+            if (now > last) {
+                next = now << SEQUENCE_BITS;
+            } else {
+                if (last - now > maxBackwardMillis) {
+                    throw Exceptions.system(CommonErrorCode.SYSTEM_ERROR)
+                            .userMessage("Clock moved backwards " + (last - now) + " ms. Refusing to generate id")
+                            .build();
+                }
+                // 同一毫秒或小幅回拨：沿用上次时间戳，序列号耗尽时等待时钟追上
+                if ((current & SEQUENCE_MASK) == SEQUENCE_MASK) {
+                    waitUntilAfter(last);
+                    continue;
+                }
+                next = current + 1;
+            }
+
+            if (state.compareAndSet(current, next)) {
+                return ((next >>> SEQUENCE_BITS) << TIMESTAMP_SHIFT) | node | (next & SEQUENCE_MASK);
+            }
+        }
+    }
+
+    /**
+     * 最后一次生成 ID 使用的时间戳（毫秒），用于租约续期时记录，防止节点被复用后时间回退
+     *
+     * @return 时间戳
+     */
+    public long lastTimestamp() {
+        return (state.get() >>> SEQUENCE_BITS) + EPOCH;
+    }
+
+    /**
+     * 设置节点有效期，租约续期成功后延长
+     *
+     * @param validUntil 有效期（毫秒时间戳），{@link Long#MAX_VALUE} 表示不限制
+     */
+    public void setValidUntil(long validUntil) {
+        this.validUntil = validUntil;
+    }
+
+    public long getWorkerId() {
+        return workerId;
+    }
+
+    public long getDatacenterId() {
+        return datacenterId;
+    }
+
+    /**
+     * 解析 ID 中的时间戳（毫秒）
+     *
+     * @param id 雪花算法 ID
+     * @return 时间戳
+     */
+    public static long extractTimestamp(long id) {
+        return (id >>> TIMESTAMP_SHIFT) + EPOCH;
+    }
+
+    private static void waitUntilAfter(long last) {
+        long behind = last - (System.currentTimeMillis() - EPOCH);
+        if (behind > 1) {
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(behind - 1));
+        } else {
+            Thread.onSpinWait();
+        }
+    }
+}
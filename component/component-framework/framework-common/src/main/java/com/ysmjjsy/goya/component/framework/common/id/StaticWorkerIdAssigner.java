@@ -0,0 +1,38 @@
+package com.ysmjjsy.goya.component.framework.common.id;
+
+/**
+ * <p>固定节点分配器</p>
+ * <p>直接使用配置的数据中心与机器 ID，适用于单实例或由部署侧保证节点唯一的场景</p>
+ *
+ * @author goya
+ * @since 2026/2/5 09:38
+ */
+public class StaticWorkerIdAssigner implements WorkerIdAssigner {
+
+    private final WorkerLease lease;
+
+    public StaticWorkerIdAssigner(long workerId, long datacenterId) {
+        if (workerId > Snowflake.MAX_WORKER_ID || workerId < 0) {
+            throw new IllegalArgumentException("Worker ID must be between 0 and " + Snowflake.MAX_WORKER_ID);
+        }
+        if (datacenterId > Snowflake.MAX_DATACENTER_ID || datacenterId < 0) {
+            throw new IllegalArgumentException("Datacenter ID must be between 0 and " + Snowflake.MAX_DATACENTER_ID);
+        }
+        this.lease = new WorkerLease((int) ((datacenterId << Snowflake.WORKER_ID_BITS) | workerId), "static", 0L);
+    }
+
+    @Override
+    public WorkerLease acquire() {
+        return lease;
+    }
+
+    @Override
+    public boolean renew(WorkerLease lease, long lastTimestamp) {
+        return true;
+    }
+
+    @Override
+    public void release(WorkerLease lease, long lastTimestamp) {
+        // 固定节点无需释放
+    }
+}
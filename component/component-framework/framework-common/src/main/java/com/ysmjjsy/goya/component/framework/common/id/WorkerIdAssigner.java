@@ -0,0 +1,35 @@
+package com.ysmjjsy.goya.component.framework.common.id;
+
+/**
+ * <p>雪花算法节点分配器</p>
+ * <p>集群中每个实例通过租约获得唯一的节点编号，租约需要定期续期，实例下线时释放</p>
+ *
+ * @author goya
+ * @since 2026/2/5 09:36
+ */
+public interface WorkerIdAssigner {
+
+    /**
+     * 申请节点租约
+     *
+     * @return {@link WorkerLease}
+     */
+    WorkerLease acquire();
+
+    /**
+     * 续期节点租约
+     *
+     * @param lease         当前租约
+     * @param lastTimestamp 当前生成器最后使用的时间戳（毫秒）
+     * @return 是否续期成功，false 表示租约已丢失
+     */
+    boolean renew(WorkerLease lease, long lastTimestamp);
+
+    /**
+     * 释放节点租约
+     *
+     * @param lease         当前租约
+     * @param lastTimestamp 当前生成器最后使用的时间戳（毫秒）
+     */
+    void release(WorkerLease lease, long lastTimestamp);
+}
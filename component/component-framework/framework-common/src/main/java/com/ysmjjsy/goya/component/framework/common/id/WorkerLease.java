@@ -0,0 +1,13 @@
+package com.ysmjjsy.goya.component.framework.common.id;
+
+/**
+ * <p>雪花算法节点租约</p>
+ *
+ * @param nodeId        节点编号（0-1023），高 5 位为数据中心，低 5 位为机器
+ * @param owner         租约持有者标识
+ * @param lastTimestamp 该节点上一次持有者记录的最后时间戳（毫秒），0 表示未知
+ * @author goya
+ * @since 2026/2/5 09:35
+ */
+public record WorkerLease(int nodeId, String owner, long lastTimestamp) {
+}
@@ -3,22 +3,42 @@ package com.ysmjjsy.goya.component.framework.common.pool;
 import com.ysmjjsy.goya.component.framework.common.error.CommonErrorCode;
 import com.ysmjjsy.goya.component.framework.common.exception.Exceptions;
 import org.apache.commons.lang3.ObjectUtils;
+import org.apache.commons.pool2.PooledObject;
 import org.apache.commons.pool2.PooledObjectFactory;
 import org.apache.commons.pool2.impl.GenericObjectPool;
 import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
 import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
 
 /**
  * <p>对象池抽象定义</p>
+ * <p>
+ * 支持两种模式：
+ * <ul>
+ *   <li>池化：通过 commons-pool2 借出/归还对象</li>
+ *   <li>共享：对象本身线程安全时（如各类 SDK Client），只创建一个实例，{@link #get()} 始终返回该实例，
+ *   {@link #close(Object)} 不做任何处理，避免借还开销与多实例各自维护连接池</li>
+ * </ul>
  *
  * @author goya
  * @since 2025/11/1 16:02
  */
 public abstract class AbstractObjectPool<T> {
 
-    private final GenericObjectPool<T> genericObjectPool;
+    private final PooledObjectFactory<T> pooledObjectFactory;
+    private final @Nullable GenericObjectPool<T> genericObjectPool;
+    private volatile @Nullable PooledObject<T> shared;
 
     protected AbstractObjectPool(@NonNull PooledObjectFactory<T> pooledObjectFactory, @NonNull Pool pool) {
+        this(pooledObjectFactory, pool, false);
+    }
+
+    protected AbstractObjectPool(@NonNull PooledObjectFactory<T> pooledObjectFactory, @NonNull Pool pool, boolean shared) {
+        this.pooledObjectFactory = pooledObjectFactory;
+        if (shared) {
+            this.genericObjectPool = null;
+            return;
+        }
         GenericObjectPoolConfig<T> config = new GenericObjectPoolConfig<>();
         config.setMaxTotal(pool.getMaxTotal());
         config.setMaxIdle(pool.getMaxIdle());
@@ -32,6 +52,9 @@ public abstract class AbstractObjectPool<T> {
     }
 
     public T get() {
+        if (genericObjectPool == null) {
+            return sharedObject();
+        }
         try {
             return genericObjectPool.borrowObject();
         } catch (Exception e) {
@@ -40,8 +63,54 @@ public abstract class AbstractObjectPool<T> {
     }
 
     public void close(T client) {
-        if (ObjectUtils.isNotEmpty(client)) {
+        if (genericObjectPool != null && ObjectUtils.isNotEmpty(client)) {
             genericObjectPool.returnObject(client);
         }
     }
+
+    /**
+     * 是否为共享模式
+     *
+     * @return 共享模式返回 true
+     */
+    public boolean isShared() {
+        return genericObjectPool == null;
+    }
+
+    /**
+     * 销毁池中全部对象，容器关闭时调用
+     */
+    public void shutdown() {
+        if (genericObjectPool != null) {
+            genericObjectPool.close();
+            return;
+        }
+        PooledObject<T> current = shared;
+        shared = null;
+        if (current != null) {
+            try {
+                pooledObjectFactory.destroyObject(current);
+            } catch (Exception _) {
+                // 关闭阶段忽略
+            }
+        }
+    }
+
+    private T sharedObject() {
+        PooledObject<T> current = shared;
+        if (current == null) {
+            synchronized (this) {
+                current = shared;
+                if (current == null) {
+                    try {
+                        current = pooledObjectFactory.makeObject();
+                    } catch (Exception e) {
+                        throw Exceptions.system(CommonErrorCode.SYSTEM_ERROR).cause(e).userMessage("Can not create shared object.").build();
+                    }
+                    shared = current;
+                }
+            }
+        }
+        return current.getObject();
+    }
 }
@@ -15,6 +15,8 @@ import java.nio.charset.StandardCharsets;
 @UtilityClass
 public class GoyaByteUtils {
 
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
     /**
      * 将字符串转换为 UTF-8 字节数组
      *
@@ -90,11 +92,13 @@ public class GoyaByteUtils {
         if (bytes.length == 0) {
             return "";
         }
-        StringBuilder sb = new StringBuilder(bytes.length * 2);
-        for (byte b : bytes) {
-            sb.append(String.format("%02x", b & 0xff));
+        char[] chars = new char[bytes.length * 2];
+        for (int i = 0, j = 0; i < bytes.length; i++) {
+            int v = bytes[i] & 0xff;
+            chars[j++] = HEX_DIGITS[v >>> 4];
+            chars[j++] = HEX_DIGITS[v & 0x0f];
         }
-        return sb.toString();
+        return new String(chars);
     }
 
     /**
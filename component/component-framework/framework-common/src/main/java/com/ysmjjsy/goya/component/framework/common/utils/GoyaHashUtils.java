@@ -0,0 +1,255 @@
+package com.ysmjjsy.goya.component.framework.common.utils;
+
+import com.google.common.hash.Hashing;
+import com.ysmjjsy.goya.component.framework.common.error.CommonErrorCode;
+import com.ysmjjsy.goya.component.framework.common.exception.Exceptions;
+import lombok.experimental.UtilityClass;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * <p>哈希工具类</p>
+ * <p>
+ * 摘要算法（MD5 / SHA-256 / SM3）按线程复用 {@link MessageDigest} 实例，避免每次调用都走 JCA Provider 查找；
+ * 非加密哈希（xxHash64 / Murmur3）用于分片、缓存 key 等不需要抗碰撞的场景。
+ * 十六进制编码使用查表实现，Base64URL 使用共享的无填充编码器。
+ * <p>
+ * SM3 依赖已注册的 JCA Provider（如引入 framework-crypto 时注册的 BouncyCastle），不可用时抛出系统异常。
+ *
+ * @author goya
+ * @since 2026/2/7 10:05
+ */
+@UtilityClass
+public class GoyaHashUtils {
+
+    public static final String MD5 = "MD5";
+    public static final String SHA_256 = "SHA-256";
+    public static final String SM3 = "SM3";
+
+    private static final Base64.Encoder BASE64_URL = Base64.getUrlEncoder().withoutPadding();
+
+    private static final Map<String, ThreadLocal<MessageDigest>> DIGESTS = new ConcurrentHashMap<>();
+
+    /* ---------------- xxHash64 常量 ---------------- */
+
+    private static final long PRIME64_1 = 0x9E3779B185EBCA87L;
+    private static final long PRIME64_2 = 0xC2B2AE3D27D4EB4FL;
+    private static final long PRIME64_3 = 0x165667B19E3779F9L;
+    private static final long PRIME64_4 = 0x85EBCA77C2B2AE63L;
+    private static final long PRIME64_5 = 0x27D4EB2F165667C5L;
+
+    // ==================== 摘要 ====================
+
+    /**
+     * 计算摘要
+     *
+     * @param algorithm 算法名
+     * @param data      数据
+     * @return 摘要
+     */
+    public static byte[] digest(String algorithm, byte[] data) {
+        MessageDigest md = messageDigest(algorithm);
+        return md.digest(data);
+    }
+
+    /**
+     * 计算摘要，读取 buffer 的剩余内容，不改变 buffer 的 position
+     *
+     * @param algorithm 算法名
+     * @param data      数据
+     * @return 摘要
+     */
+    public static byte[] digest(String algorithm, ByteBuffer data) {
+        MessageDigest md = messageDigest(algorithm);
+        md.update(data.duplicate());
+        return md.digest();
+    }
+
+    public static byte[] md5(byte[] data) {
+        return digest(MD5, data);
+    }
+
+    public static String md5Hex(String data) {
+        return GoyaByteUtils.toHexString(md5(utf8(data)));
+    }
+
+    public static byte[] sha256(byte[] data) {
+        return digest(SHA_256, data);
+    }
+
+    public static String sha256Hex(String data) {
+        return GoyaByteUtils.toHexString(sha256(utf8(data)));
+    }
+
+    /**
+     * SHA-256 后 Base64URL（无填充）编码，用于 DPoP ath、JWK Thumbprint 等
+     *
+     * @param data 数据
+     * @return Base64URL 字符串
+     */
+    public static String sha256Base64Url(String data) {
+        return base64Url(sha256(utf8(data)));
+    }
+
+    public static byte[] sm3(byte[] data) {
+        return digest(SM3, data);
+    }
+
+    public static String sm3Hex(String data) {
+        return GoyaByteUtils.toHexString(sm3(utf8(data)));
+    }
+
+    // ==================== 非加密哈希 ====================
+
+    public static long xxHash64(byte[] data) {
+        return xxHash64(ByteBuffer.wrap(data), 0L);
+    }
+
+    public static long xxHash64(String data) {
+        return xxHash64(utf8(data));
+    }
+
+    /**
+     * xxHash64，读取 buffer 的剩余内容，不改变 buffer 的 position
+     *
+     * @param data 数据
+     * @param seed 种子
+     * @return 哈希值
+     */
+    public static long xxHash64(ByteBuffer data, long seed) {
+        ByteBuffer buf = data.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+        int p = buf.position();
+        int end = buf.limit();
+        int len = end - p;
+        long h64;
+
+        if (len >= 32) {
+            int limit = end - 32;
+            long v1 = seed + PRIME64_1 + PRIME64_2;
+            long v2 = seed + PRIME64_2;
+            long v3 = seed;
+            long v4 = seed - PRIME64_1;
+            do {
+                v1 = round(v1, buf.getLong(p));
+                v2 = round(v2, buf.getLong(p + 8));
+                v3 = round(v3, buf.getLong(p + 16));
+                v4 = round(v4, buf.getLong(p + 24));
+                p += 32;
+            } while (p <= limit);
+
+            h64 = Long.rotateLeft(v1, 1) + Long.rotateLeft(v2, 7) + Long.rotateLeft(v3, 12) + Long.rotateLeft(v4, 18);
+            h64 = mergeRound(h64, v1);
+            h64 = mergeRound(h64, v2);
+            h64 = mergeRound(h64, v3);
+            h64 = mergeRound(h64, v4);
+        } else {
+            h64 = seed + PRIME64_5;
+        }
+
+        h64 += len;
+
+        while (p + 8 <= end) {
+            h64 ^= round(0, buf.getLong(p));
+            h64 = Long.rotateLeft(h64, 27) * PRIME64_1 + PRIME64_4;
+            p += 8;
+        }
+        if (p + 4 <= end) {
+            h64 ^= (buf.getInt(p) & 0xFFFFFFFFL) * PRIME64_1;
+            h64 = Long.rotateLeft(h64, 23) * PRIME64_2 + PRIME64_3;
+            p += 4;
+        }
+        while (p < end) {
+            h64 ^= (buf.get(p) & 0xFF) * PRIME64_5;
+            h64 = Long.rotateLeft(h64, 11) * PRIME64_1;
+            p++;
+        }
+
+        h64 ^= h64 >>> 33;
+        h64 *= PRIME64_2;
+        h64 ^= h64 >>> 29;
+        h64 *= PRIME64_3;
+        h64 ^= h64 >>> 32;
+        return h64;
+    }
+
+    public static int murmur3x32(byte[] data) {
+        return Hashing.murmur3_32_fixed().hashBytes(data).asInt();
+    }
+
+    public static long murmur3x128(byte[] data) {
+        return Hashing.murmur3_128().hashBytes(data).asLong();
+    }
+
+    /**
+     * Murmur3 128 位哈希的低 64 位，读取 buffer 的剩余内容，不改变 buffer 的 position
+     *
+     * @param data 数据
+     * @return 哈希值
+     */
+    public static long murmur3x128(ByteBuffer data) {
+        return Hashing.murmur3_128().hashBytes(data.duplicate()).asLong();
+    }
+
+    // ==================== 编码 ====================
+
+    /**
+     * Base64URL（无填充）编码
+     *
+     * @param data 数据
+     * @return Base64URL 字符串
+     */
+    public static String base64Url(byte[] data) {
+        return BASE64_URL.encodeToString(data);
+    }
+
+    // ==================== 内部方法 ====================
+
+    private static byte[] utf8(String data) {
+        return data.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static MessageDigest messageDigest(String algorithm) {
+        ThreadLocal<MessageDigest> local = DIGESTS.computeIfAbsent(algorithm, GoyaHashUtils::threadLocalDigest);
+        MessageDigest md = local.get();
+        if (md == null) {
+            // Provider 在首次调用后才注册（如 SM3）时重新查找
+            local.remove();
+            md = local.get();
+            if (md == null) {
+                throw Exceptions.system(CommonErrorCode.SYSTEM_ERROR)
+                        .userMessage("不支持的摘要算法：" + algorithm)
+                        .build();
+            }
+        }
+        md.reset();
+        return md;
+    }
+
+    private static ThreadLocal<MessageDigest> threadLocalDigest(String algorithm) {
+        return ThreadLocal.withInitial(() -> {
+            try {
+                return MessageDigest.getInstance(algorithm);
+            } catch (NoSuchAlgorithmException _) {
+                return null;
+            }
+        });
+    }
+
+    private static long round(long acc, long input) {
+        acc += input * PRIME64_2;
+        acc = Long.rotateLeft(acc, 31);
+        return acc * PRIME64_1;
+    }
+
+    private static long mergeRound(long acc, long val) {
+        acc ^= round(0, val);
+        return acc * PRIME64_1 + PRIME64_4;
+    }
+}
@@ -1,15 +1,16 @@
 package com.ysmjjsy.goya.component.framework.common.utils;
 
-import com.ysmjjsy.goya.component.framework.common.error.CommonErrorCode;
-import com.ysmjjsy.goya.component.framework.common.exception.Exceptions;
+import com.ysmjjsy.goya.component.framework.common.id.Snowflake;
 import lombok.experimental.UtilityClass;
 
 import java.security.SecureRandom;
 import java.time.Instant;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Random;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ThreadLocalRandom;
-import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * <p>身份标识工具类</p>
@@ -39,120 +40,17 @@ public class GoyaIdUtils {
      */
     private static final String HEX_ALPHABET = "0123456789abcdef";
 
-    /**
-     * 雪花算法：时间戳起始点（2020-01-01 00:00:00）
-     */
-    private static final long EPOCH = 1577836800000L;
-
-    /**
-     * 雪花算法：机器 ID 位数
-     */
-    private static final long WORKER_ID_BITS = 5L;
-
-    /**
-     * 雪花算法：数据中心 ID 位数
-     */
-    private static final long DATACENTER_ID_BITS = 5L;
-
-    /**
-     * 雪花算法：序列号位数
-     */
-    private static final long SEQUENCE_BITS = 12L;
-
-    /**
-     * 雪花算法：机器 ID 最大值
-     */
-    private static final long MAX_WORKER_ID = ~(-1L << WORKER_ID_BITS);
-
-    /**
-     * 雪花算法：数据中心 ID 最大值
-     */
-    private static final long MAX_DATACENTER_ID = ~(-1L << DATACENTER_ID_BITS);
-
-    /**
-     * 雪花算法：序列号掩码
-     */
-    private static final long SEQUENCE_MASK = ~(-1L << SEQUENCE_BITS);
-
-    /**
-     * 雪花算法：机器 ID 左移位数
-     */
-    private static final long WORKER_ID_SHIFT = SEQUENCE_BITS;
-
-    /**
-     * 雪花算法：数据中心 ID 左移位数
-     */
-    private static final long DATACENTER_ID_SHIFT = SEQUENCE_BITS + WORKER_ID_BITS;
-
-    /**
-     * 雪花算法：时间戳左移位数
-     */
-    private static final long TIMESTAMP_SHIFT = SEQUENCE_BITS + WORKER_ID_BITS + DATACENTER_ID_BITS;
-
     // ==================== 雪花算法实例 ====================
 
     /**
-     * 默认雪花算法生成器（单例）
+     * 默认雪花算法生成器，启动时由节点租约替换为集群唯一的节点
      */
-    private static class DefaultSnowflake {
-        private final long workerId;
-        private final long datacenterId;
-        private final AtomicLong sequence = new AtomicLong(0);
-        private volatile long lastTimestamp = -1L;
-
-        DefaultSnowflake() {
-            // 使用默认值：workerId=0, datacenterId=0
-            this(0L, 0L);
-        }
-
-        DefaultSnowflake(long workerId, long datacenterId) {
-            if (workerId > MAX_WORKER_ID || workerId < 0) {
-                throw new IllegalArgumentException("Worker ID must be between 0 and " + MAX_WORKER_ID);
-            }
-            if (datacenterId > MAX_DATACENTER_ID || datacenterId < 0) {
-                throw new IllegalArgumentException("Datacenter ID must be between 0 and " + MAX_DATACENTER_ID);
-            }
-            this.workerId = workerId;
-            this.datacenterId = datacenterId;
-        }
-
-        synchronized long nextId() {
-            long timestamp = System.currentTimeMillis();
-
-            if (timestamp < lastTimestamp) {
-                throw Exceptions.system(CommonErrorCode.SYSTEM_ERROR).userMessage("Clock moved backwards. Refusing to generate id").build();
-            }
-
-            if (timestamp == lastTimestamp) {
-                long seq = sequence.incrementAndGet() & SEQUENCE_MASK;
-                if (seq == 0) {
-                    timestamp = tilNextMillis(lastTimestamp);
-                }
-            } else {
-                sequence.set(0);
-            }
-
-            lastTimestamp = timestamp;
-
-            return ((timestamp - EPOCH) << TIMESTAMP_SHIFT)
-                    | (datacenterId << DATACENTER_ID_SHIFT)
-                    | (workerId << WORKER_ID_SHIFT)
-                    | sequence.get();
-        }
-
-        private long tilNextMillis(long lastTimestamp) {
-            long timestamp = System.currentTimeMillis();
-            while (timestamp <= lastTimestamp) {
-                timestamp = System.currentTimeMillis();
-            }
-            return timestamp;
-        }
-    }
+    private static volatile Snowflake defaultSnowflake = new Snowflake(0L, 0L);
 
     /**
-     * 默认雪花算法生成器实例
+     * 指定节点的雪花算法生成器缓存，同一节点共享同一实例，避免同一毫秒内重复
      */
-    private static final DefaultSnowflake DEFAULT_SNOWFLAKE = new DefaultSnowflake();
+    private static final Map<Integer, Snowflake> SNOWFLAKES = new ConcurrentHashMap<>();
 
     /**
      * 线程安全的随机数生成器（用于 NanoId）
@@ -227,12 +125,12 @@ public class GoyaIdUtils {
     /**
      * 生成雪花算法 ID（字符串格式）
      * <p>框架中用于生成实体主键的默认方法</p>
-     * <p>使用默认的 workerId=0 和 datacenterId=0</p>
+     * <p>使用默认生成器，节点由 {@link #setDefaultSnowflake(Snowflake)} 指定</p>
      *
      * @return 雪花算法 ID 字符串
      */
     public static String getSeataSnowflakeNextIdStr() {
-        return String.valueOf(DEFAULT_SNOWFLAKE.nextId());
+        return String.valueOf(defaultSnowflake.nextId());
     }
 
     /**
@@ -242,18 +140,26 @@ public class GoyaIdUtils {
      * @return 雪花算法 ID
      */
     public static long getSnowflakeNextId() {
-        return DEFAULT_SNOWFLAKE.nextId();
+        return defaultSnowflake.nextId();
     }
 
     /**
      * 使用指定 workerId 和 datacenterId 生成雪花算法 ID
+     * <p>同一节点复用同一生成器；调用方需自行保证该节点不与默认生成器及其他实例冲突</p>
      *
      * @param workerId     工作机器 ID（0-31）
      * @param datacenterId 数据中心 ID（0-31）
      * @return 雪花算法 ID
      */
     public static long getSnowflakeNextId(long workerId, long datacenterId) {
-        return new DefaultSnowflake(workerId, datacenterId).nextId();
+        if (workerId > Snowflake.MAX_WORKER_ID || workerId < 0) {
+            throw new IllegalArgumentException("Worker ID must be between 0 and " + Snowflake.MAX_WORKER_ID);
+        }
+        if (datacenterId > Snowflake.MAX_DATACENTER_ID || datacenterId < 0) {
+            throw new IllegalArgumentException("Datacenter ID must be between 0 and " + Snowflake.MAX_DATACENTER_ID);
+        }
+        int node = (int) ((datacenterId << Snowflake.WORKER_ID_BITS) | workerId);
+        return SNOWFLAKES.computeIfAbsent(node, key -> new Snowflake(workerId, datacenterId)).nextId();
     }
 
     /**
@@ -267,6 +173,25 @@ public class GoyaIdUtils {
         return String.valueOf(getSnowflakeNextId(workerId, datacenterId));
     }
 
+    /**
+     * 替换默认雪花算法生成器
+     * <p>由节点租约管理在获取到集群唯一节点后调用</p>
+     *
+     * @param snowflake 雪花算法生成器
+     */
+    public static void setDefaultSnowflake(Snowflake snowflake) {
+        defaultSnowflake = Objects.requireNonNull(snowflake, "snowflake 不能为空");
+    }
+
+    /**
+     * 获取默认雪花算法生成器
+     *
+     * @return {@link Snowflake}
+     */
+    public static Snowflake getDefaultSnowflake() {
+        return defaultSnowflake;
+    }
+
     // ==================== NanoId 相关 ====================
 
     /**
@@ -1,39 +1,43 @@
 package com.ysmjjsy.goya.component.framework.common.utils;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import lombok.experimental.UtilityClass;
+import lombok.extern.slf4j.Slf4j;
 import org.lionsoul.ip2region.xdb.*;
 
 import java.io.IOException;
 import java.io.InputStream;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * <p>根据ip地址定位工具类，离线方式</p>
+ * <p>
+ * IPv4 / IPv6 库在首次查询对应版本时才加载，互不影响；库加载为纯内存 {@link Searcher}，查询无需加锁。
+ * 通过 {@link #reloadIpV4(Path)} / {@link #reloadIpV6(Path)} 从文件热更新，新库加载校验完成后原子替换，
+ * 进行中的查询继续使用旧库。解析后的 {@link Region} 按 IP 缓存在各自的库中，缓存与检索器一同替换，
+ * 替换前发起的查询只会写入旧库的缓存，替换一个版本的库不影响另一个版本的缓存。
  *
  * @author goya
  * @since 2025/10/14 17:35
  */
+@Slf4j
 @UtilityClass
 public final class GoyaRegionUtils {
 
     private static final String IPV4_DB = "db/ip2region.xdb";
     private static final String IPV6_DB = "db/ipv6wry.db";
 
-    private static final Searcher IPV4_SEARCHER;
-    private static final Searcher IPV6_SEARCHER;
+    /**
+     * Region 缓存容量
+     */
+    private static final long CACHE_SIZE = 10_000L;
 
-    private static final ReentrantReadWriteLock IPV4_LOCK = new ReentrantReadWriteLock();
-    private static final ReentrantReadWriteLock IPV6_LOCK = new ReentrantReadWriteLock();
-
-    static {
-        try {
-            IPV4_SEARCHER = loadFromResource(IPV4_DB);
-            IPV6_SEARCHER = loadFromResource(IPV6_DB);
-        } catch (Exception e) {
-            // 基础设施初始化失败，直接中止进程
-            throw new ExceptionInInitializerError(e);
-        }
-    }
+    private static final Database IPV4 = new Database(IPV4_DB);
+    private static final Database IPV6 = new Database(IPV6_DB);
 
     /* =====================================================
      * Public API
@@ -51,33 +55,68 @@ public final class GoyaRegionUtils {
     }
 
     public static Region resolveIpV4(String ip) {
-        IPV4_LOCK.readLock().lock();
-        try {
-            String raw = IPV4_SEARCHER.search(ip);
-            return parse(raw);
-        } catch (Exception _) {
-            return Region.EMPTY;
-        } finally {
-            IPV4_LOCK.readLock().unlock();
-        }
+        return lookup(IPV4, ip);
     }
 
     public static Region resolveIpV6(String ip) {
-        IPV6_LOCK.readLock().lock();
-        try {
-            String raw = IPV6_SEARCHER.search(ip);
-            return parse(raw);
-        } catch (Exception _) {
-            return Region.EMPTY;
-        } finally {
-            IPV6_LOCK.readLock().unlock();
-        }
+        return lookup(IPV6, ip);
+    }
+
+    /**
+     * 从文件热更新 IPv4 库
+     *
+     * @param path xdb 文件路径
+     * @throws IOException  读取失败
+     * @throws XdbException 文件格式校验失败
+     */
+    public static void reloadIpV4(Path path) throws IOException, XdbException {
+        IPV4.swap(loadFromFile(path));
+    }
+
+    /**
+     * 从文件热更新 IPv6 库
+     *
+     * @param path xdb 文件路径
+     * @throws IOException  读取失败
+     * @throws XdbException 文件格式校验失败
+     */
+    public static void reloadIpV6(Path path) throws IOException, XdbException {
+        IPV6.swap(loadFromFile(path));
+    }
+
+    /**
+     * 清空 Region 缓存
+     */
+    public static void clearCache() {
+        IPV4.clearCache();
+        IPV6.clearCache();
     }
 
     /* =====================================================
      * Internal
      * ===================================================== */
 
+    private static Region lookup(Database database, String ip) {
+        Generation generation = database.current();
+        if (generation == null) {
+            return Region.EMPTY;
+        }
+        Region cached = generation.cache().getIfPresent(ip);
+        if (cached != null) {
+            return cached;
+        }
+
+        Region region;
+        try {
+            region = parse(generation.searcher().search(ip));
+        } catch (Exception _) {
+            return Region.EMPTY;
+        }
+        // 写入检索器所属的缓存，替换期间查到的旧库结果随旧缓存一起丢弃
+        generation.cache().put(ip, region);
+        return region;
+    }
+
     private static Searcher loadFromResource(String resourcePath) throws IOException, XdbException {
         ClassLoader cl = Thread.currentThread().getContextClassLoader();
         if (cl == null) {
@@ -89,22 +128,32 @@ public final class GoyaRegionUtils {
                 throw new IllegalStateException(
                         "ip2region resource not found: " + resourcePath);
             }
+            return load(is);
+        }
+    }
 
-            // 1. load whole file into memory
-            LongByteArray content = Searcher.loadContentFromInputStream(is);
+    private static Searcher loadFromFile(Path path) throws IOException, XdbException {
+        Objects.requireNonNull(path, "path 不能为空");
+        try (InputStream is = Files.newInputStream(path)) {
+            return load(is);
+        }
+    }
 
-            // 2. parse header
-            Header header = Searcher.loadHeaderFromBuffer(content);
+    private static Searcher load(InputStream is) throws IOException, XdbException {
+        // 1. load whole file into memory
+        LongByteArray content = Searcher.loadContentFromInputStream(is);
 
-            // 3. detect IP version
-            Version version = Version.fromHeader(header);
+        // 2. parse header
+        Header header = Searcher.loadHeaderFromBuffer(content);
 
-            // 4. verify structure
-            Searcher.verify(header, content.length());
+        // 3. detect IP version
+        Version version = Version.fromHeader(header);
 
-            // 5. create pure in-memory searcher (fastest)
-            return Searcher.newWithBuffer(version, content);
-        }
+        // 4. verify structure
+        Searcher.verify(header, content.length());
+
+        // 5. create pure in-memory searcher (fastest)
+        return Searcher.newWithBuffer(version, content);
     }
 
     private static Region parse(String raw) {
@@ -129,4 +178,70 @@ public final class GoyaRegionUtils {
     private static String part(String[] parts, int index) {
         return index < parts.length ? parts[index] : "";
     }
-}
\ No newline at end of file
+
+    /**
+     * 检索器与其查询结果缓存，一同替换
+     *
+     * @param searcher 检索器
+     * @param cache    Region 缓存
+     */
+    private record Generation(Searcher searcher, Cache<String, Region> cache) {
+
+        private static Generation of(Searcher searcher) {
+            return new Generation(searcher, CacheBuilder.newBuilder()
+                    .maximumSize(CACHE_SIZE)
+                    .build());
+        }
+    }
+
+    /**
+     * 单个版本的库：首次使用时从 classpath 加载，之后可原子替换
+     */
+    private static final class Database {
+
+        private final String resourcePath;
+        private final AtomicReference<Generation> ref = new AtomicReference<>();
+
+        /**
+         * 默认资源加载失败后不再重复尝试，等待热更新
+         */
+        private volatile boolean failed;
+
+        private Database(String resourcePath) {
+            this.resourcePath = resourcePath;
+        }
+
+        private Generation current() {
+            Generation generation = ref.get();
+            if (generation != null || failed) {
+                return generation;
+            }
+            synchronized (this) {
+                generation = ref.get();
+                if (generation == null && !failed) {
+                    try {
+                        generation = Generation.of(loadFromResource(resourcePath));
+                        ref.set(generation);
+                    } catch (Exception e) {
+                        failed = true;
+                        log.error("[Goya] |- Region database [{}] load failed, lookups return empty region until reloaded.", resourcePath, e);
+                    }
+                }
+            }
+            return generation;
+        }
+
+        private void swap(Searcher searcher) {
+            // 内存模式的旧库不持有文件句柄，进行中的查询结束后由 GC 回收
+            ref.set(Generation.of(searcher));
+            failed = false;
+        }
+
+        private void clearCache() {
+            Generation generation = ref.get();
+            if (generation != null) {
+                generation.cache().invalidateAll();
+            }
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package com.ysmjjsy.goya.component.framework.common.id;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * <p>号段 ID 生成器并发测试</p>
+ * <p>号段很小，使多线程频繁跨越号段边界，覆盖预取、切换与预取失败后同步领取</p>
+ *
+ * @author goya
+ * @since 2026/2/10 18:00
+ */
+class SegmentIdGeneratorTest {
+
+    private static final int THREADS = 16;
+    private static final int IDS_PER_THREAD = 20_000;
+    private static final int STEP = 64;
+
+    private ExecutorService preloadExecutor;
+    private ExecutorService workers;
+
+    @BeforeEach
+    void setUp() {
+        preloadExecutor = Executors.newFixedThreadPool(2);
+        workers = Executors.newFixedThreadPool(THREADS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        preloadExecutor.shutdownNow();
+        workers.shutdownNow();
+    }
+
+    @Test
+    void concurrentIdsAreUniqueAcrossSegmentRefills() throws Exception {
+        CountingAllocator allocator = new CountingAllocator(STEP, 0);
+        SegmentIdGenerator generator = new SegmentIdGenerator("test", allocator, preloadExecutor, 0.5D);
+
+        Set<Long> ids = generate(generator);
+
+        assertEquals(THREADS * IDS_PER_THREAD, ids.size(), "duplicate ids generated");
+        assertTrue(allocator.calls.get() >= THREADS * IDS_PER_THREAD / STEP, "segments were not refilled");
+    }
+
+    @Test
+    void concurrentIdsAreUniqueWhenPreloadFails() throws Exception {
+        // 每 3 次领取失败 1 次，预取失败时在切换线程上同步重新领取
+        CountingAllocator allocator = new CountingAllocator(STEP, 3);
+        SegmentIdGenerator generator = new SegmentIdGenerator("test", allocator, preloadExecutor, 0.5D);
+
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+        AtomicInteger errors = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        Future<?>[] futures = new Future<?>[THREADS];
+        for (int t = 0; t < THREADS; t++) {
+            futures[t] = workers.submit(() -> {
+                await(start);
+                for (int i = 0; i < IDS_PER_THREAD; i++) {
+                    try {
+                        assertTrue(ids.add(generator.nextId()), "duplicate id generated");
+                    } catch (IllegalStateException _) {
+                        // 同步领取也失败时由调用方感知，不影响后续生成
+                        errors.incrementAndGet();
+                    }
+                }
+            });
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+
+        assertEquals(THREADS * IDS_PER_THREAD - errors.get(), ids.size());
+        assertTrue(allocator.failures.get() > 0, "allocation failure was not exercised");
+    }
+
+    private Set<Long> generate(SegmentIdGenerator generator) throws Exception {
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+        CountDownLatch start = new CountDownLatch(1);
+        Future<?>[] futures = new Future<?>[THREADS];
+        for (int t = 0; t < THREADS; t++) {
+            futures[t] = workers.submit(() -> {
+                await(start);
+                for (int i = 0; i < IDS_PER_THREAD; i++) {
+                    ids.add(generator.nextId());
+                }
+            });
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        return ids;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 内存号段分配器，模拟数据库 max_id = max_id + step
+     */
+    private static final class CountingAllocator implements SegmentAllocator {
+
+        private final AtomicLong maxId = new AtomicLong();
+        private final AtomicInteger calls = new AtomicInteger();
+        private final AtomicInteger failures = new AtomicInteger();
+        private final int step;
+        private final int failEvery;
+
+        private CountingAllocator(int step, int failEvery) {
+            this.step = step;
+            this.failEvery = failEvery;
+        }
+
+        @Override
+        public Segment allocate(String bizTag) {
+            int call = calls.incrementAndGet();
+            // 首次领取在构造器中，不注入失败
+            if (failEvery > 0 && call > 1 && call % failEvery == 0) {
+                failures.incrementAndGet();
+                throw new IllegalStateException("allocate failed");
+            }
+            return new Segment(maxId.addAndGet(step), step);
+        }
+    }
+}
@@ -1,6 +1,5 @@
 package com.ysmjjsy.goya.component.framework.core.autoconfigure;
 
-import com.fasterxml.jackson.databind.Module;
 import com.ysmjjsy.goya.component.framework.core.enums.CodeEnumJacksonModule;
 import com.ysmjjsy.goya.component.framework.core.enums.dict.CodeEnumClasspathScanner;
 import com.ysmjjsy.goya.component.framework.core.enums.dict.DefaultEnumDictionaryService;
@@ -13,6 +12,7 @@ import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.annotation.Bean;
+import tools.jackson.databind.JacksonModule;
 
 import java.util.Set;
 
@@ -34,11 +34,11 @@ public class CoreEnumAutoConfiguration {
     /**
      * 注册 CodeEnum Jackson Module。
      *
-     * @return Module
+     * @return JacksonModule
      */
     @Bean
-    public Module codeEnumJacksonModule() {
-        Module module = CodeEnumJacksonModule.create();
+    public JacksonModule codeEnumJacksonModule() {
+        JacksonModule module = CodeEnumJacksonModule.create();
         log.trace("[Goya] |- component [framework] CoreI18nAutoConfiguration |- bean [codeEnumJacksonModule] register.");
         return module;
     }
@@ -1,19 +1,28 @@
 package com.ysmjjsy.goya.component.framework.core.autoconfigure;
 
 import com.ysmjjsy.goya.component.framework.core.context.SpringContext;
+import com.ysmjjsy.goya.component.framework.core.context.propagation.ContextContributor;
+import com.ysmjjsy.goya.component.framework.core.context.propagation.ContextPropagator;
+import com.ysmjjsy.goya.component.framework.core.context.propagation.ScopedValueContributor;
 import com.ysmjjsy.goya.component.framework.core.processor.ApplicationContentPostProcessor;
 import com.ysmjjsy.goya.component.framework.core.strategy.StrategyChoose;
 import com.ysmjjsy.goya.component.framework.core.strategy.chain.ChainContext;
 import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.concurrent.BasicThreadFactory;
+import org.jspecify.annotations.NonNull;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.core.task.VirtualThreadTaskExecutor;
 
+import java.util.concurrent.Callable;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 /**
  * <p></p>
@@ -52,10 +61,28 @@ public class CoreFrameworkAutoConfiguration {
     }
 
     /**
-     * 执行周期性或定时任务
+     * 跨线程上下文传播。
+     * <p>
+     * 同时作为 TaskDecorator，由 Spring Boot 应用到 applicationTaskExecutor 与 {@code @Async}。
+     *
+     * @param contributors 各模块注册的上下文参与者
+     * @param scopedValues 需要传播的 ScopedValue
+     * @return ContextPropagator
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public ContextPropagator contextPropagator(ObjectProvider<ContextContributor<?>> contributors,
+                                               ObjectProvider<ScopedValueContributor<?>> scopedValues) {
+        ContextPropagator bean = new ContextPropagator(contributors.orderedStream().toList(), scopedValues.orderedStream().toList());
+        log.trace("[Goya] |- component [framework] FrameWorkAutoConfiguration |- bean [contextPropagator] register.");
+        return bean;
+    }
+
+    /**
+     * 执行周期性或定时任务，任务携带提交线程的上下文
      */
     @Bean(name = "scheduledExecutorService")
-    public ScheduledExecutorService scheduledExecutorService() {
+    public ScheduledExecutorService scheduledExecutorService(ContextPropagator contextPropagator) {
         // daemon 必须为 true
         BasicThreadFactory.Builder builder = BasicThreadFactory.builder().daemon(true);
         if (SpringContext.isVirtual()) {
@@ -67,6 +94,27 @@ public class CoreFrameworkAutoConfiguration {
         ScheduledThreadPoolExecutor scheduledThreadPoolExecutor = new ScheduledThreadPoolExecutor(core,
                 builder.build(),
                 new ThreadPoolExecutor.CallerRunsPolicy()) {
+
+            // execute / submit 均委托到 schedule
+            @Override
+            public @NonNull ScheduledFuture<?> schedule(@NonNull Runnable command, long delay, @NonNull TimeUnit unit) {
+                return super.schedule(contextPropagator.decorate(command), delay, unit);
+            }
+
+            @Override
+            public <V> @NonNull ScheduledFuture<V> schedule(@NonNull Callable<V> callable, long delay, @NonNull TimeUnit unit) {
+                return super.schedule(contextPropagator.wrap(callable), delay, unit);
+            }
+
+            @Override
+            public @NonNull ScheduledFuture<?> scheduleAtFixedRate(@NonNull Runnable command, long initialDelay, long period, @NonNull TimeUnit unit) {
+                return super.scheduleAtFixedRate(contextPropagator.decorate(command), initialDelay, period, unit);
+            }
+
+            @Override
+            public @NonNull ScheduledFuture<?> scheduleWithFixedDelay(@NonNull Runnable command, long initialDelay, long delay, @NonNull TimeUnit unit) {
+                return super.scheduleWithFixedDelay(contextPropagator.decorate(command), initialDelay, delay, unit);
+            }
         };
         log.trace("[Goya] |- component [framework] FrameWorkAutoConfiguration |- bean [scheduledExecutorService] register.");
         return scheduledThreadPoolExecutor;
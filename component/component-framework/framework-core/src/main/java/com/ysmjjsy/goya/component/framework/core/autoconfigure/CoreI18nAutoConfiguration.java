@@ -3,6 +3,8 @@ package com.ysmjjsy.goya.component.framework.core.autoconfigure;
 import com.ysmjjsy.goya.component.framework.core.autoconfigure.properties.I18nProperties;
 import com.ysmjjsy.goya.component.framework.core.i18n.DefaultResolver;
 import com.ysmjjsy.goya.component.framework.core.i18n.I18nResolver;
+import com.ysmjjsy.goya.component.framework.core.i18n.LocaleContextContributor;
+import com.ysmjjsy.goya.component.framework.core.i18n.MessageCatalog;
 import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
@@ -44,23 +46,54 @@ public class CoreI18nAutoConfiguration {
         ms.setDefaultEncoding(props.encoding());
         ms.setUseCodeAsDefaultMessage(props.useCodeAsDefaultMessage());
         ms.setFallbackToSystemLocale(false);
-        ms.setCacheSeconds(60);
+        ms.setCacheSeconds(refreshSeconds(props));
         log.trace("[Goya] |- component [framework] CoreI18nAutoConfiguration |- bean [messageSource] register.");
         return ms;
     }
 
     /**
-     * 默认 I18nResolver。
+     * 按 Locale 预编译的文案目录。
      *
      * @param messageSource messageSource
+     * @param props         i18n 配置项
+     * @return MessageCatalog
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public MessageCatalog messageCatalog(MessageSource messageSource, I18nProperties props) {
+        MessageCatalog catalog = new MessageCatalog(messageSource, props.refreshInterval(), props.catalogMaxEntries());
+        log.trace("[Goya] |- component [framework] CoreI18nAutoConfiguration |- bean [messageCatalog] register.");
+        return catalog;
+    }
+
+    /**
+     * LocaleContext 跨线程传播。
+     *
+     * @return LocaleContextContributor
+     */
+    @Bean
+    public LocaleContextContributor localeContextContributor() {
+        LocaleContextContributor contributor = new LocaleContextContributor();
+        log.trace("[Goya] |- component [framework] CoreI18nAutoConfiguration |- bean [localeContextContributor] register.");
+        return contributor;
+    }
+
+    /**
+     * 默认 I18nResolver。
+     *
+     * @param messageCatalog messageCatalog
      * @return LocaleProvider
      */
     @Bean
     @ConditionalOnMissingBean(I18nResolver.class)
-    public I18nResolver defaultResolver(MessageSource messageSource) {
-        DefaultResolver resolver = new DefaultResolver(messageSource);
+    public I18nResolver defaultResolver(MessageCatalog messageCatalog) {
+        DefaultResolver resolver = new DefaultResolver(messageCatalog);
         log.trace("[Goya] |- component [framework] CoreI18nAutoConfiguration |- bean [defaultResolver] register.");
         return resolver;
     }
 
+    private static int refreshSeconds(I18nProperties props) {
+        long seconds = props.refreshInterval().toSeconds();
+        return seconds > 0 ? (int) Math.min(seconds, Integer.MAX_VALUE) : -1;
+    }
 }
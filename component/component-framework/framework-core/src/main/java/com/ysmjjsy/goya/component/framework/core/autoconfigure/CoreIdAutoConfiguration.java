@@ -0,0 +1,60 @@
+package com.ysmjjsy.goya.component.framework.core.autoconfigure;
+
+import com.ysmjjsy.goya.component.framework.common.id.StaticWorkerIdAssigner;
+import com.ysmjjsy.goya.component.framework.common.id.WorkerIdAssigner;
+import com.ysmjjsy.goya.component.framework.core.autoconfigure.properties.IdProperties;
+import com.ysmjjsy.goya.component.framework.core.id.SnowflakeLeaseManager;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+
+import java.time.Duration;
+import java.util.concurrent.ScheduledExecutorService;
+
+/**
+ * <p>分布式 ID 自动装配</p>
+ * <p>存在 {@link WorkerIdAssigner}（如 Redis 节点租约）时使用租约节点，否则使用配置的固定节点</p>
+ *
+ * @author goya
+ * @since 2026/2/5 11:05
+ */
+@Slf4j
+@AutoConfiguration(after = CoreFrameworkAutoConfiguration.class)
+@EnableConfigurationProperties(IdProperties.class)
+public class CoreIdAutoConfiguration {
+
+    @PostConstruct
+    public void init() {
+        log.debug("[Goya] |- component [framework] CoreIdAutoConfiguration auto configure.");
+    }
+
+    /**
+     * 雪花算法节点租约管理，初始化后 {@code GoyaIdUtils} 默认生成器即为集群唯一节点。
+     *
+     * @param idProperties             配置项
+     * @param assignerProvider         节点分配器
+     * @param scheduledExecutorService 心跳执行器
+     * @return SnowflakeLeaseManager
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public SnowflakeLeaseManager snowflakeLeaseManager(IdProperties idProperties,
+                                                       ObjectProvider<WorkerIdAssigner> assignerProvider,
+                                                       @Qualifier("scheduledExecutorService") ScheduledExecutorService scheduledExecutorService) {
+        WorkerIdAssigner assigner = idProperties.lease().enabled() ? assignerProvider.getIfAvailable() : null;
+        if (assigner == null) {
+            assigner = new StaticWorkerIdAssigner(idProperties.workerId(), idProperties.datacenterId());
+        }
+        // 静态节点不会被其他实例接管，不限制有效期
+        Duration ttl = assigner instanceof StaticWorkerIdAssigner ? Duration.ZERO : idProperties.lease().ttl();
+        SnowflakeLeaseManager manager = new SnowflakeLeaseManager(assigner, scheduledExecutorService,
+                idProperties.lease().heartbeat(), ttl, idProperties.maxBackward());
+        log.trace("[Goya] |- component [framework] CoreIdAutoConfiguration |- bean [snowflakeLeaseManager] register.");
+        return manager;
+    }
+}
@@ -4,6 +4,7 @@ import com.ysmjjsy.goya.component.framework.core.constants.PropertyConst;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.boot.context.properties.bind.DefaultValue;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Locale;
 
@@ -50,6 +51,20 @@ public record I18nProperties(
          * <p>企业系统强烈建议开启，避免因缺文案导致接口异常。</p>
          */
         @DefaultValue("true")
-        Boolean useCodeAsDefaultMessage
+        Boolean useCodeAsDefaultMessage,
+
+        /*
+         * 文案刷新间隔。
+         *
+         * <p>同时作为 MessageSource 的文件检查周期与文案目录的重建周期，为 0 或负数时不自动刷新。</p>
+         */
+        @DefaultValue("PT60S")
+        Duration refreshInterval,
+
+        /*
+         * 每个 Locale 文案目录最多缓存的 key 数量（含缺失 key 的负缓存）。
+         */
+        @DefaultValue("8192")
+        Integer catalogMaxEntries
 ) {
 }
@@ -0,0 +1,89 @@
+package com.ysmjjsy.goya.component.framework.core.autoconfigure.properties;
+
+import com.ysmjjsy.goya.component.framework.core.constants.PropertyConst;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * <p>分布式 ID 配置项</p>
+ *
+ * @author goya
+ * @since 2026/2/5 10:40
+ */
+@ConfigurationProperties(PropertyConst.PROPERTY_ID)
+public record IdProperties(
+        /*
+         * 固定机器 ID（0-31），未配置节点分配器时使用
+         */
+        @DefaultValue("0")
+        long workerId,
+
+        /*
+         * 固定数据中心 ID（0-31），未配置节点分配器时使用
+         */
+        @DefaultValue("0")
+        long datacenterId,
+
+        /*
+         * 允许的时钟回拨时长，回拨在该范围内时沿用上次时间戳继续生成，超过则拒绝
+         */
+        @DefaultValue("PT1S")
+        Duration maxBackward,
+
+        /*
+         * 节点租约配置
+         */
+        @DefaultValue
+        Lease lease,
+
+        /*
+         * 号段模式配置
+         */
+        @DefaultValue
+        Segment segment
+) {
+
+    /**
+     * 节点租约配置。
+     */
+    public record Lease(
+            /*
+             * 是否启用节点租约（存在节点分配器时生效）
+             */
+            @DefaultValue("true")
+            boolean enabled,
+
+            /*
+             * 租约有效期
+             */
+            @DefaultValue("PT60S")
+            Duration ttl,
+
+            /*
+             * 心跳续期间隔，应明显小于租约有效期
+             */
+            @DefaultValue("PT20S")
+            Duration heartbeat
+    ) {
+    }
+
+    /**
+     * 号段模式配置。
+     */
+    public record Segment(
+            /*
+             * 每次领取的号段长度
+             */
+            @DefaultValue("1000")
+            int step,
+
+            /*
+             * 当前号段消耗比例达到该值时异步预取下一号段
+             */
+            @DefaultValue("0.2")
+            double preloadRatio
+    ) {
+    }
+}
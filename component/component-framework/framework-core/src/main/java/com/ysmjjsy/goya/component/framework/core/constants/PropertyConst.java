@@ -45,4 +45,6 @@ public interface PropertyConst {
     String PROPERTY_MASKER = PROPERTY_GOYA_FRAMEWORK + ".masker";
     String PROPERTY_SERVLET = PROPERTY_GOYA_FRAMEWORK + ".servlet";
     String PROPERTY_ERROR = PROPERTY_GOYA_FRAMEWORK + ".error";
+    String PROPERTY_ID = PROPERTY_GOYA_FRAMEWORK + ".id";
+    String PROPERTY_PERMISSION = PROPERTY_GOYA_FRAMEWORK + ".permission";
 }
@@ -0,0 +1,39 @@
+package com.ysmjjsy.goya.component.framework.core.context.propagation;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * <p>上下文传播参与者</p>
+ * <p>
+ * 每种线程级上下文（租户、Locale、MDC、安全上下文、数据权限范围等）各自实现并注册为 Bean，
+ * 由 {@link ContextPropagator} 统一在提交线程捕获、在执行线程恢复。
+ * <p>
+ * 实现约定：
+ * <ul>
+ *   <li>{@link #capture()} 在提交任务的线程调用，没有上下文时返回 null</li>
+ *   <li>{@link #restore(Object)} 在执行任务的线程调用；value 为 null 时必须清空当前线程的上下文，
+ *   避免池化线程残留上一个任务的数据</li>
+ *   <li>返回的 {@link ContextScope} 关闭时恢复调用 restore 之前的状态（原来为空则清空）</li>
+ * </ul>
+ *
+ * @param <T> 上下文类型
+ * @author goya
+ * @since 2026/2/8 16:00
+ */
+public interface ContextContributor<T> {
+
+    /**
+     * 捕获当前线程的上下文
+     *
+     * @return 上下文，没有时返回 null
+     */
+    @Nullable T capture();
+
+    /**
+     * 在当前线程恢复上下文
+     *
+     * @param value {@link #capture()} 的结果
+     * @return 作用域
+     */
+    ContextScope restore(@Nullable T value);
+}
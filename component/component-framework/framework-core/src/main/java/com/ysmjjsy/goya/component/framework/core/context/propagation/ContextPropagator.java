@@ -0,0 +1,125 @@
+package com.ysmjjsy.goya.component.framework.core.context.propagation;
+
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+import org.springframework.core.task.TaskDecorator;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+
+/**
+ * <p>跨线程上下文传播</p>
+ * <p>
+ * 汇总所有 {@link ContextContributor} 与 {@link ScopedValueContributor}，在提交任务时捕获快照，
+ * 在执行线程恢复并于任务结束后还原，池化线程上不会残留上一个任务的上下文；虚拟线程同样适用。
+ * <p>
+ * 作为 {@link TaskDecorator} Bean 注册后由 Spring Boot 应用到 applicationTaskExecutor（含 {@code @Async}）；
+ * 框架自建的执行器（Bus 通道、定时任务线程池等）显式通过 {@link #wrap(Executor)} 包装。
+ * {@code CompletableFuture} 需传入包装后的执行器，ForkJoinPool.commonPool 无法装饰。
+ * <p>
+ * 已装饰的任务不会被重复装饰，执行器被多层包装时只在最外层捕获一次。
+ *
+ * @author goya
+ * @since 2026/2/8 16:00
+ */
+public class ContextPropagator implements TaskDecorator {
+
+    private final List<ContextContributor<?>> contributors;
+    private final List<ScopedValueContributor<?>> scopedValues;
+
+    public ContextPropagator(List<ContextContributor<?>> contributors) {
+        this(contributors, List.of());
+    }
+
+    public ContextPropagator(List<ContextContributor<?>> contributors, List<ScopedValueContributor<?>> scopedValues) {
+        this.contributors = List.copyOf(contributors);
+        this.scopedValues = List.copyOf(scopedValues);
+    }
+
+    /**
+     * 捕获当前线程的上下文
+     *
+     * @return 快照
+     */
+    public ContextSnapshot capture() {
+        @Nullable Object[] values = new Object[contributors.size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = contributors.get(i).capture();
+        }
+        ScopedValue.Carrier carrier = null;
+        for (ScopedValueContributor<?> scopedValue : scopedValues) {
+            carrier = bind(carrier, scopedValue.key());
+        }
+        return new ContextSnapshot(contributors, values, carrier);
+    }
+
+    @Override
+    @NullMarked
+    public Runnable decorate(Runnable runnable) {
+        if (runnable instanceof ContextRunnable) {
+            return runnable;
+        }
+        return new ContextRunnable(capture(), runnable);
+    }
+
+    /**
+     * 装饰 Callable
+     *
+     * @param callable 任务
+     * @param <V>      返回值类型
+     * @return 装饰后的任务
+     */
+    public <V> Callable<V> wrap(Callable<V> callable) {
+        if (callable instanceof ContextCallable) {
+            return callable;
+        }
+        return new ContextCallable<>(capture(), callable);
+    }
+
+    /**
+     * 包装执行器，提交的每个任务都携带提交线程的上下文
+     *
+     * @param executor 执行器
+     * @return 包装后的执行器
+     */
+    public Executor wrap(Executor executor) {
+        if (executor instanceof ContextExecutor) {
+            return executor;
+        }
+        return new ContextExecutor(this, executor);
+    }
+
+    private static <T> ScopedValue.@Nullable Carrier bind(ScopedValue.@Nullable Carrier carrier, ScopedValue<T> key) {
+        if (!key.isBound()) {
+            return carrier;
+        }
+        T value = key.get();
+        return carrier == null ? ScopedValue.where(key, value) : carrier.where(key, value);
+    }
+
+    private record ContextRunnable(ContextSnapshot snapshot, Runnable delegate) implements Runnable {
+
+        @Override
+        public void run() {
+            snapshot.run(delegate);
+        }
+    }
+
+    private record ContextCallable<V>(ContextSnapshot snapshot, Callable<V> delegate) implements Callable<V> {
+
+        @Override
+        public V call() throws Exception {
+            return snapshot.call(delegate);
+        }
+    }
+
+    private record ContextExecutor(ContextPropagator propagator, Executor delegate) implements Executor {
+
+        @Override
+        @NullMarked
+        public void execute(Runnable command) {
+            delegate.execute(propagator.decorate(command));
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.ysmjjsy.goya.component.framework.core.context.propagation;
+
+/**
+ * <p>上下文作用域</p>
+ * <p>
+ * {@link ContextContributor#restore(Object)} 的返回值，关闭时把线程恢复到进入作用域之前的状态。
+ *
+ * @author goya
+ * @since 2026/2/8 16:00
+ */
+@FunctionalInterface
+public interface ContextScope extends AutoCloseable {
+
+    /**
+     * 空作用域
+     */
+    ContextScope NOOP = () -> {
+    };
+
+    /**
+     * 恢复进入作用域之前的上下文，不抛出受检异常
+     */
+    @Override
+    void close();
+}
@@ -0,0 +1,106 @@
+package com.ysmjjsy.goya.component.framework.core.context.propagation;
+
+import org.jspecify.annotations.Nullable;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+
+/**
+ * <p>上下文快照</p>
+ * <p>
+ * 由 {@link ContextPropagator#capture()} 在提交线程创建，不可变，可在任意线程多次恢复。
+ *
+ * @author goya
+ * @since 2026/2/8 16:00
+ */
+public final class ContextSnapshot {
+
+    private final List<ContextContributor<?>> contributors;
+    private final @Nullable Object[] values;
+    private final ScopedValue.@Nullable Carrier carrier;
+
+    ContextSnapshot(List<ContextContributor<?>> contributors, @Nullable Object[] values, ScopedValue.@Nullable Carrier carrier) {
+        this.contributors = contributors;
+        this.values = values;
+        this.carrier = carrier;
+    }
+
+    /**
+     * 在当前线程恢复快照中的 ThreadLocal 类上下文，关闭时按相反顺序还原
+     *
+     * @return 作用域
+     */
+    public ContextScope open() {
+        int size = contributors.size();
+        if (size == 0) {
+            return ContextScope.NOOP;
+        }
+        ContextScope[] scopes = new ContextScope[size];
+        int opened = 0;
+        try {
+            for (; opened < size; opened++) {
+                scopes[opened] = restore(contributors.get(opened), values[opened]);
+            }
+        } catch (RuntimeException e) {
+            close(scopes, opened);
+            throw e;
+        }
+        return () -> close(scopes, size);
+    }
+
+    /**
+     * 在快照上下文中执行任务，结束后恢复执行线程原有的上下文
+     *
+     * @param task 任务
+     */
+    public void run(Runnable task) {
+        try (ContextScope _ = open()) {
+            if (carrier != null) {
+                carrier.run(task);
+            } else {
+                task.run();
+            }
+        }
+    }
+
+    /**
+     * 在快照上下文中执行任务，结束后恢复执行线程原有的上下文
+     *
+     * @param task 任务
+     * @param <V>  返回值类型
+     * @return 任务结果
+     * @throws Exception 任务异常
+     */
+    public <V> V call(Callable<V> task) throws Exception {
+        try (ContextScope _ = open()) {
+            if (carrier != null) {
+                return carrier.call(task::call);
+            }
+            return task.call();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> ContextScope restore(ContextContributor<T> contributor, @Nullable Object value) {
+        return contributor.restore((T) value);
+    }
+
+    private static void close(ContextScope[] scopes, int count) {
+        RuntimeException failure = null;
+        for (int i = count - 1; i >= 0; i--) {
+            try {
+                scopes[i].close();
+            } catch (RuntimeException e) {
+                // 继续还原其他上下文，避免池化线程残留
+                if (failure == null) {
+                    failure = e;
+                } else {
+                    failure.addSuppressed(e);
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.ysmjjsy.goya.component.framework.core.context.propagation;
+
+/**
+ * <p>ScopedValue 传播参与者</p>
+ * <p>
+ * ScopedValue 只能在调用链内绑定，无法像 ThreadLocal 一样设置后再恢复。
+ * 注册为 Bean 后，{@link ContextPropagator} 在提交线程读取已绑定的值，
+ * 并在执行线程中以 {@link ScopedValue#where(ScopedValue, Object)} 重新绑定后运行任务。
+ *
+ * @param key ScopedValue
+ * @param <T> 值类型
+ * @author goya
+ * @since 2026/2/8 16:00
+ */
+public record ScopedValueContributor<T>(ScopedValue<T> key) {
+}
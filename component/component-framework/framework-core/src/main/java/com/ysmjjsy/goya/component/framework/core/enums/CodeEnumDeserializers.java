@@ -0,0 +1,78 @@
+package com.ysmjjsy.goya.component.framework.core.enums;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonValue;
+import com.ysmjjsy.goya.component.framework.common.enums.CodeEnumTable;
+import tools.jackson.databind.BeanDescription;
+import tools.jackson.databind.DeserializationConfig;
+import tools.jackson.databind.JavaType;
+import tools.jackson.databind.ValueDeserializer;
+import tools.jackson.databind.deser.Deserializers;
+
+import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.Executable;
+
+/**
+ * <p>CodeEnum 反序列化器查找</p>
+ * <p>
+ * 只接管未自定义 JSON 映射的 CodeEnum：枚举自身声明了 {@link JsonCreator}、{@link JsonValue}
+ * 或非默认形状的 {@link JsonFormat} 时返回 null，交给 Jackson 默认处理；非 CodeEnum 枚举同样返回 null，
+ * 保留 {@code @JsonProperty}、READ_ENUMS_USING_TO_STRING 等默认行为。
+ * 序列化由 {@link CodeEnumSerializers} 按同一判定输出 code，保证接管的枚举可以往返。
+ *
+ * @author goya
+ * @since 2026/2/10 14:00
+ */
+public class CodeEnumDeserializers extends Deserializers.Base {
+
+    private static final ClassValue<Boolean> SUPPORTED = new ClassValue<>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            return CodeEnumTable.isCodeEnum(type) && !hasCustomJsonMapping(type);
+        }
+    };
+
+    @Override
+    public ValueDeserializer<?> findEnumDeserializer(JavaType type, DeserializationConfig config, BeanDescription.Supplier beanDescRef) {
+        return isSupported(type.getRawClass()) ? CodeEnumJsonDeserializer.of(type.getRawClass()) : null;
+    }
+
+    @Override
+    public boolean hasDeserializerFor(DeserializationConfig config, Class<?> valueType) {
+        return isSupported(valueType);
+    }
+
+    /**
+     * 是否由 CodeEnum 序列化器与反序列化器接管
+     *
+     * @param type 类型
+     * @return 是 CodeEnum 且未自定义 JSON 映射时返回 true
+     */
+    static boolean isSupported(Class<?> type) {
+        return SUPPORTED.get(type);
+    }
+
+    private static boolean hasCustomJsonMapping(Class<?> type) {
+        JsonFormat format = type.getAnnotation(JsonFormat.class);
+        if (format != null && format.shape() != JsonFormat.Shape.ANY) {
+            return true;
+        }
+        for (Executable executable : type.getDeclaredConstructors()) {
+            if (executable.isAnnotationPresent(JsonCreator.class)) {
+                return true;
+            }
+        }
+        for (Executable executable : type.getDeclaredMethods()) {
+            if (executable.isAnnotationPresent(JsonCreator.class) || executable.isAnnotationPresent(JsonValue.class)) {
+                return true;
+            }
+        }
+        for (AccessibleObject field : type.getDeclaredFields()) {
+            if (field.isAnnotationPresent(JsonValue.class)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
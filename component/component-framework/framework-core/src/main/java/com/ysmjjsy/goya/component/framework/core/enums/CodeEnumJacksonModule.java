@@ -1,10 +1,11 @@
 package com.ysmjjsy.goya.component.framework.core.enums;
 
-import com.fasterxml.jackson.databind.Module;
-import com.fasterxml.jackson.databind.module.SimpleModule;
+import tools.jackson.databind.JacksonModule;
+import tools.jackson.databind.module.SimpleModule;
 
 /**
- * <p>CodeEnum Jackson 模块：注册通用反序列化器。</p>
+ * <p>CodeEnum Jackson 模块：注册 {@link CodeEnumSerializers} 与 {@link CodeEnumDeserializers}，
+ * 只接管未自定义 JSON 映射的 CodeEnum，序列化与反序列化均使用 code。</p>
  *
  * @author goya
  * @since 2026/1/24 15:45
@@ -17,12 +18,16 @@ public class CodeEnumJacksonModule {
     /**
      * 创建 Jackson Module。
      *
-     * @return Module
+     * @return JacksonModule
      */
-    public static Module create() {
-        SimpleModule module = new SimpleModule("Goya-CodeEnum-Module");
-        // 关键：对 Enum 类型统一注册反序列化器（内部会判断是否是 CodeEnum）
-        module.addDeserializer(Enum.class, new CodeEnumJsonDeserializer());
-        return module;
+    public static JacksonModule create() {
+        return new SimpleModule("Goya-CodeEnum-Module") {
+            @Override
+            public void setupModule(SetupContext context) {
+                super.setupModule(context);
+                context.addSerializers(new CodeEnumSerializers());
+                context.addDeserializers(new CodeEnumDeserializers());
+            }
+        };
     }
 }
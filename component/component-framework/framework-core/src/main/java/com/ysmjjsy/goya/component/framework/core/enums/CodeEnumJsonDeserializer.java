@@ -1,53 +1,49 @@
 package com.ysmjjsy.goya.component.framework.core.enums;
 
-import com.fasterxml.jackson.core.JsonParser;
-import com.fasterxml.jackson.databind.*;
-import com.fasterxml.jackson.databind.deser.ContextualDeserializer;
-import com.ysmjjsy.goya.component.framework.common.enums.CodeEnum;
-import com.ysmjjsy.goya.component.framework.common.enums.EnumKit;
-import com.ysmjjsy.goya.component.framework.common.error.CommonErrorCode;
-import com.ysmjjsy.goya.component.framework.common.exception.Exceptions;
-
-import java.io.Serializable;
+import com.ysmjjsy.goya.component.framework.common.enums.CodeEnumTable;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+import tools.jackson.databind.DeserializationContext;
+import tools.jackson.databind.ValueDeserializer;
 
 /**
- * <p></p>
+ * <p>CodeEnum 反序列化器</p>
+ * <p>
+ * 由 {@link CodeEnumDeserializers} 按目标枚举类型提供，每个枚举类型只创建一个实例（{@link ClassValue} 缓存），
+ * code 通过 {@link CodeEnumTable} 哈希查找；整数 token 直接按数值查找，不经过字符串。
  *
  * @author goya
  * @since 2026/1/24 15:44
  */
-public class CodeEnumJsonDeserializer extends JsonDeserializer<Enum<?>>
-        implements ContextualDeserializer {
+public class CodeEnumJsonDeserializer extends ValueDeserializer<Enum<?>> {
 
-    private Class<?> enumClass;
+    private static final ClassValue<CodeEnumJsonDeserializer> DESERIALIZERS = new ClassValue<>() {
+        @Override
+        protected CodeEnumJsonDeserializer computeValue(Class<?> type) {
+            return new CodeEnumJsonDeserializer(type);
+        }
+    };
 
-    /**
-     * 默认构造。
-     */
-    public CodeEnumJsonDeserializer() {
-    }
+    private final Class<?> enumClass;
+    private final CodeEnumTable<?> table;
 
     private CodeEnumJsonDeserializer(Class<?> enumClass) {
         this.enumClass = enumClass;
+        CodeEnumTable<?> codeTable = CodeEnumTable.ofNullable(enumClass);
+        if (codeTable == null) {
+            throw new IllegalArgumentException("不是 CodeEnum 枚举：" + enumClass);
+        }
+        this.table = codeTable;
     }
 
     /**
-     * 创建上下文反序列化器，感知目标字段类型。
+     * 获取指定 CodeEnum 类型的反序列化器
      *
-     * @param ctxt     context
-     * @param property property
+     * @param enumClass CodeEnum 类型
      * @return deserializer
-     * @throws JsonMappingException 映射异常
      */
-    @Override
-    public JsonDeserializer<?> createContextual(DeserializationContext ctxt, BeanProperty property)
-            throws JsonMappingException {
-        JavaType type = (property != null) ? property.getType() : ctxt.getContextualType();
-        if (type == null) {
-            return this;
-        }
-        Class<?> raw = type.getRawClass();
-        return new CodeEnumJsonDeserializer(raw);
+    public static CodeEnumJsonDeserializer of(Class<?> enumClass) {
+        return DESERIALIZERS.get(enumClass);
     }
 
     /**
@@ -58,36 +54,26 @@ public class CodeEnumJsonDeserializer extends JsonDeserializer<Enum<?>>
      * @return Enum
      */
     @Override
-    @SuppressWarnings({"unchecked", "rawtypes"})
     public Enum<?> deserialize(JsonParser p, DeserializationContext ctxt) {
-        if (enumClass == null) {
-            return null;
-        }
-
-        String text;
-        try {
-            text = p.getValueAsString();
-        } catch (Exception e) {
-            throw new IllegalArgumentException("枚举反序列化失败：无法读取 code", e);
-        }
-
-        if (text == null) {
-            return null;
-        }
-
-        Class target = enumClass;
-        if (!target.isEnum() || !CodeEnum.class.isAssignableFrom(target)) {
-            // 非 CodeEnum 枚举不处理
-            return null;
+        Enum<?> constant;
+        Object code;
+        if (p.currentToken() == JsonToken.VALUE_NUMBER_INT) {
+            // 整数 token 按数值查找，Integer/Long 与声明类型不一致时由查找表按文本兜底
+            code = p.getNumberType() == JsonParser.NumberType.INT ? p.getIntValue() : p.getNumberValue();
+            constant = (Enum<?>) table.get(code);
+        } else {
+            String text = p.getValueAsString();
+            if (text == null) {
+                return null;
+            }
+            code = text;
+            constant = (Enum<?>) table.getByText(text);
         }
 
-        // 统一按 String 读取，再由业务枚举自行定义 code 类型为 String/Integer 等
-        // 这里选择将 code 作为 String 进行匹配，业务如需 Integer，可将 code() 定义为 String 更稳。
-        try {
-            return (Enum<?>) EnumKit.findByCode(target, (Serializable) text)
-                    .orElseThrow(() -> new IllegalArgumentException("未找到枚举：" + target.getName() + ", code=" + text));
-        } catch (Throwable e) {
-            throw Exceptions.system(CommonErrorCode.SYSTEM_ERROR).cause(e).build();
+        if (constant == null) {
+            return (Enum<?>) ctxt.handleWeirdStringValue(enumClass, String.valueOf(code),
+                    "未找到枚举：" + enumClass.getName() + ", code=" + code);
         }
+        return constant;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,42 @@
+package com.ysmjjsy.goya.component.framework.core.enums;
+
+import com.ysmjjsy.goya.component.framework.common.enums.CodeEnum;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.databind.SerializationContext;
+import tools.jackson.databind.ValueSerializer;
+
+/**
+ * <p>CodeEnum 序列化器</p>
+ * <p>
+ * 输出枚举的 code，与 {@link CodeEnumJsonDeserializer} 对应：String 类型 code 输出字符串，
+ * Integer/Long 类型 code 输出数值。
+ *
+ * @author goya
+ * @since 2026/2/11 10:00
+ */
+public class CodeEnumJsonSerializer extends ValueSerializer<Object> {
+
+    static final CodeEnumJsonSerializer INSTANCE = new CodeEnumJsonSerializer();
+
+    private CodeEnumJsonSerializer() {
+    }
+
+    /**
+     * 序列化：输出枚举 code。
+     *
+     * @param value 枚举常量
+     * @param gen   generator
+     * @param ctxt  context
+     */
+    @Override
+    public void serialize(Object value, JsonGenerator gen, SerializationContext ctxt) {
+        Object code = ((CodeEnum<?>) value).getCode();
+        switch (code) {
+            case null -> gen.writeNull();
+            case String text -> gen.writeString(text);
+            case Integer number -> gen.writeNumber(number);
+            case Long number -> gen.writeNumber(number);
+            default -> ctxt.writeValue(gen, code);
+        }
+    }
+}
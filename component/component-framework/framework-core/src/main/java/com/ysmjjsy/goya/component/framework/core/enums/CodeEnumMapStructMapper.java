@@ -1,7 +1,7 @@
 package com.ysmjjsy.goya.component.framework.core.enums;
 
 import com.ysmjjsy.goya.component.framework.common.enums.CodeEnum;
-import com.ysmjjsy.goya.component.framework.common.enums.EnumKit;
+import com.ysmjjsy.goya.component.framework.common.enums.CodeEnumTable;
 import org.mapstruct.Named;
 import org.mapstruct.TargetType;
 
@@ -61,48 +61,11 @@ public class CodeEnumMapStructMapper {
         Objects.requireNonNull(enumType, "enumType 不能为空");
 
         // 仅支持实现 CodeEnum 的枚举
-        if (!enumType.isEnum() || !CodeEnum.class.isAssignableFrom(enumType)) {
+        if (!CodeEnumTable.isCodeEnum(enumType)) {
             throw new IllegalArgumentException("目标类型不是 CodeEnum 枚举：" + enumType.getName());
         }
 
-        // 推断 code 类型（取第一个常量的 code() 类型）
-        Serializable parsed = parseCodeByEnumType(enumType, String.valueOf(code));
-        return (E) EnumKit.requireByCode((Class) enumType, parsed);
-    }
-
-    /**
-     * 根据枚举 code 类型推断并解析输入字符串。
-     *
-     * <p>优先建议 code 类型为 String；若为 Integer/Long 则做数字解析。</p>
-     *
-     * @param enumType 枚举类型
-     * @param raw 输入值（字符串）
-     * @return 解析后的 code
-     */
-    @SuppressWarnings("rawtypes")
-    private Serializable parseCodeByEnumType(Class enumType, String raw) {
-        Object[] constants = enumType.getEnumConstants();
-        if (constants == null || constants.length == 0) {
-            // 空枚举理论上不应存在
-            return raw;
-        }
-        CodeEnum first = (CodeEnum) constants[0];
-        Object code = first.getCode();
-        if (code == null) {
-            return raw;
-        }
-        Class<?> codeType = code.getClass();
-
-        if (String.class.equals(codeType)) {
-            return raw;
-        }
-        if (Integer.class.equals(codeType)) {
-            return Integer.valueOf(raw);
-        }
-        if (Long.class.equals(codeType)) {
-            return Long.valueOf(raw);
-        }
-        // 其他类型：退化为字符串匹配（不保证一定能匹配）
-        return raw;
+        // 查找表同时按原始类型与文本索引，Integer/Long/String 形式的 code 均可直接命中
+        return (E) CodeEnumTable.of((Class) enumType).require(code);
     }
 }
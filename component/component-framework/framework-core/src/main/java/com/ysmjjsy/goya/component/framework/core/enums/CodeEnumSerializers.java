@@ -0,0 +1,34 @@
+package com.ysmjjsy.goya.component.framework.core.enums;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import tools.jackson.databind.BeanDescription;
+import tools.jackson.databind.JavaType;
+import tools.jackson.databind.SerializationConfig;
+import tools.jackson.databind.ValueSerializer;
+import tools.jackson.databind.ser.Serializers;
+
+/**
+ * <p>CodeEnum 序列化器查找</p>
+ * <p>
+ * 与 {@link CodeEnumDeserializers} 使用同一判定：只接管未自定义 JSON 映射的 CodeEnum，输出 code，
+ * 反序列化按 code 查找，保证往返一致；其余枚举返回 null，交给 Jackson 默认处理。
+ *
+ * @author goya
+ * @since 2026/2/11 10:00
+ */
+public class CodeEnumSerializers extends Serializers.Base {
+
+    @Override
+    public ValueSerializer<?> findSerializer(SerializationConfig config, JavaType type,
+                                             BeanDescription.Supplier beanDescRef, JsonFormat.Value formatOverrides) {
+        Class<?> rawClass = type.getRawClass();
+        if (!rawClass.isEnum() || !CodeEnumDeserializers.isSupported(rawClass)) {
+            return null;
+        }
+        // 属性上显式指定了非默认形状时，保留 Jackson 默认处理
+        if (formatOverrides != null && formatOverrides.getShape() != JsonFormat.Shape.ANY) {
+            return null;
+        }
+        return CodeEnumJsonSerializer.INSTANCE;
+    }
+}
@@ -1,11 +1,9 @@
 package com.ysmjjsy.goya.component.framework.core.enums;
 
-import com.ysmjjsy.goya.component.framework.common.enums.CodeEnum;
-import com.ysmjjsy.goya.component.framework.common.enums.EnumKit;
+import com.ysmjjsy.goya.component.framework.common.enums.CodeEnumTable;
 import jakarta.validation.ConstraintValidator;
 import jakarta.validation.ConstraintValidatorContext;
 
-import java.io.Serializable;
 import java.util.Objects;
 
 /**
@@ -26,15 +24,11 @@ public class EnumValueValidator implements ConstraintValidator<EnumValue, Object
 
     /** {@inheritDoc} */
     @Override
-    @SuppressWarnings({"unchecked", "rawtypes"})
     public boolean isValid(Object value, ConstraintValidatorContext context) {
         if (value == null) {
             return true;
         }
-        if (!enumClass.isEnum() || !CodeEnum.class.isAssignableFrom(enumClass)) {
-            return false;
-        }
-        String code = String.valueOf(value);
-        return EnumKit.findByCode((Class) enumClass, (Serializable) code).isPresent();
+        CodeEnumTable<?> table = CodeEnumTable.ofNullable(enumClass);
+        return table != null && table.get(value) != null;
     }
 }
\ No newline at end of file
@@ -1,6 +1,7 @@
 package com.ysmjjsy.goya.component.framework.core.enums.dict;
 
 import com.ysmjjsy.goya.component.framework.common.enums.CodeEnum;
+import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.collections4.CollectionUtils;
 import org.springframework.boot.autoconfigure.AutoConfigurationPackages;
 import org.springframework.context.ApplicationContext;
@@ -8,6 +9,7 @@ import org.springframework.context.annotation.ClassPathScanningCandidateComponen
 import org.springframework.core.type.filter.AssignableTypeFilter;
 
 import java.util.*;
+import java.util.concurrent.TimeUnit;
 
 /**
  * <p>CodeEnum 枚举 classpath 扫描器</p>
@@ -18,12 +20,15 @@ import java.util.*;
  *   <li>扫描这些包及子包下所有实现 {@link CodeEnum} 的类型，并筛选出 enum。</li>
  * </ul>
  *
+ * <p>classpath 上存在编译期索引（{@link CodeEnumIndex#INDEX_LOCATION}）时直接读取索引，
+ * 不再遍历 class 文件；索引缺失时回退到 classpath 扫描。</p>
+ *
  * @author goya
  * @since 2026/1/24 16:00
  */
+@Slf4j
 public class CodeEnumClasspathScanner {
 
-
     private final ApplicationContext applicationContext;
 
     /**
@@ -36,7 +41,7 @@ public class CodeEnumClasspathScanner {
     }
 
     /**
-     * 扫描并返回所有 CodeEnum 枚举类型。
+     * 扫描并返回所有 CodeEnum 枚举类型，优先读取编译期索引，缺少索引的包回退到 classpath 扫描。
      *
      * @return 枚举类型集合
      */
@@ -46,12 +51,34 @@ public class CodeEnumClasspathScanner {
             return Set.of();
         }
 
+        long start = System.nanoTime();
+        CodeEnumIndex.Resolution resolution = CodeEnumIndex.resolve(classLoader(), basePackages);
+        if (resolution.unindexed().isEmpty()) {
+            log.debug("[Goya] |- CodeEnum index resolved [{}] enums in [{}] ms.",
+                    resolution.enums().size(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+            return resolution.enums();
+        }
+
+        Set<Class<? extends Enum<?>>> result = new LinkedHashSet<>(resolution.enums());
+        result.addAll(scanClasspath(resolution.unindexed()));
+        log.debug("[Goya] |- CodeEnum index absent for packages {}, resolved [{}] enums with classpath scanning in [{}] ms.",
+                resolution.unindexed(), result.size(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        return Collections.unmodifiableSet(result);
+    }
+
+    /**
+     * 忽略索引，直接扫描 classpath，可用于对比两种方式的结果与耗时。
+     *
+     * @param basePackages 包范围
+     * @return 枚举类型集合
+     */
+    public Set<Class<? extends Enum<?>>> scanClasspath(List<String> basePackages) {
         ClassPathScanningCandidateComponentProvider scanner =
                 new ClassPathScanningCandidateComponentProvider(false, applicationContext.getEnvironment());
         scanner.addIncludeFilter(new AssignableTypeFilter(CodeEnum.class));
 
         Set<Class<? extends Enum<?>>> result = new LinkedHashSet<>();
-        ClassLoader cl = applicationContext.getClassLoader();
+        ClassLoader cl = classLoader();
 
         for (String pkg : basePackages) {
             for (var bd : scanner.findCandidateComponents(pkg)) {
@@ -70,6 +97,11 @@ public class CodeEnumClasspathScanner {
         return Collections.unmodifiableSet(result);
     }
 
+    private ClassLoader classLoader() {
+        ClassLoader cl = applicationContext.getClassLoader();
+        return cl != null ? cl : CodeEnumClasspathScanner.class.getClassLoader();
+    }
+
     /**
      * 安全加载类。
      *
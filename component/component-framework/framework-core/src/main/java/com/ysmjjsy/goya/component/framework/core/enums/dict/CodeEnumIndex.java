@@ -0,0 +1,167 @@
+package com.ysmjjsy.goya.component.framework.core.enums.dict;
+
+import com.ysmjjsy.goya.component.framework.common.enums.CodeEnum;
+import lombok.extern.slf4j.Slf4j;
+import org.jspecify.annotations.Nullable;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * <p>CodeEnum 编译期索引读取</p>
+ * <p>
+ * 索引由 framework-processor 中的 {@code CodeEnumIndexProcessor} 在编译期生成，
+ * 每个 jar（或 classes 目录）一份 {@value #INDEX_LOCATION}，每行一个枚举类的二进制名。
+ * <p>
+ * 索引按 classpath 根判断是否可用：某个包所在的全部根都带有索引时直接使用索引中的类名，
+ * 否则该包需回退到 classpath 扫描（例如业务模块未配置注解处理器）。
+ *
+ * @author goya
+ * @since 2026/2/6 10:40
+ */
+@Slf4j
+public final class CodeEnumIndex {
+
+    /**
+     * 索引文件位置，与 {@code CodeEnumIndexProcessor#INDEX_LOCATION} 一致
+     */
+    public static final String INDEX_LOCATION = "META-INF/goya/code-enums.index";
+
+    private CodeEnumIndex() {
+    }
+
+    /**
+     * 按索引解析指定包及子包下的 CodeEnum 枚举
+     *
+     * @param classLoader  类加载器
+     * @param basePackages 包范围
+     * @return 解析结果，包含已解析的枚举与需回退扫描的包
+     */
+    public static Resolution resolve(ClassLoader classLoader, Collection<String> basePackages) {
+        Map<String, List<String>> indexes = readIndexes(classLoader);
+        if (indexes.isEmpty()) {
+            return new Resolution(Set.of(), List.copyOf(basePackages));
+        }
+
+        Set<Class<? extends Enum<?>>> enums = new LinkedHashSet<>();
+        List<String> unindexed = new ArrayList<>();
+        for (String pkg : basePackages) {
+            List<String> roots = packageRoots(classLoader, pkg);
+            if (roots.isEmpty() || !indexes.keySet().containsAll(roots)) {
+                unindexed.add(pkg);
+                continue;
+            }
+            for (String root : roots) {
+                for (String className : indexes.get(root)) {
+                    if (inPackage(className, pkg)) {
+                        addIfCodeEnum(className, classLoader, enums);
+                    }
+                }
+            }
+        }
+        return new Resolution(Collections.unmodifiableSet(enums), List.copyOf(unindexed));
+    }
+
+    /**
+     * 读取 classpath 上的全部索引
+     *
+     * @return classpath 根 -> 索引中的类名
+     */
+    private static Map<String, List<String>> readIndexes(ClassLoader classLoader) {
+        Map<String, List<String>> indexes = new HashMap<>();
+        try {
+            Enumeration<URL> resources = classLoader.getResources(INDEX_LOCATION);
+            while (resources.hasMoreElements()) {
+                URL url = resources.nextElement();
+                String root = rootOf(url, INDEX_LOCATION);
+                if (root != null) {
+                    indexes.put(root, readClassNames(url));
+                }
+            }
+        } catch (IOException e) {
+            log.warn("[Goya] |- CodeEnum index [{}] can not be read, fallback to classpath scanning.", INDEX_LOCATION, e);
+            return Map.of();
+        }
+        return indexes;
+    }
+
+    private static List<String> readClassNames(URL url) throws IOException {
+        List<String> classNames = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(url.openStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String name = line.strip();
+                if (!name.isEmpty() && !name.startsWith("#")) {
+                    classNames.add(name);
+                }
+            }
+        }
+        return classNames;
+    }
+
+    /**
+     * 包所在的全部 classpath 根；jar 中缺少目录条目时返回空，由调用方回退扫描
+     */
+    private static List<String> packageRoots(ClassLoader classLoader, String pkg) {
+        String path = pkg.replace('.', '/') + "/";
+        List<String> roots = new ArrayList<>();
+        try {
+            Enumeration<URL> resources = classLoader.getResources(path);
+            while (resources.hasMoreElements()) {
+                String root = rootOf(resources.nextElement(), path);
+                if (root == null) {
+                    return List.of();
+                }
+                roots.add(root);
+            }
+        } catch (IOException _) {
+            return List.of();
+        }
+        return roots;
+    }
+
+    private static @Nullable String rootOf(URL url, String path) {
+        String external = url.toExternalForm();
+        if (!external.endsWith(path)) {
+            // 目录资源可能不带结尾的 "/"
+            String trimmed = path.endsWith("/") ? path.substring(0, path.length() - 1) : path;
+            if (!external.endsWith(trimmed)) {
+                return null;
+            }
+            return external.substring(0, external.length() - trimmed.length());
+        }
+        return external.substring(0, external.length() - path.length());
+    }
+
+    private static boolean inPackage(String className, String pkg) {
+        return className.startsWith(pkg) && className.length() > pkg.length() && className.charAt(pkg.length()) == '.';
+    }
+
+    private static void addIfCodeEnum(String className, ClassLoader classLoader, Set<Class<? extends Enum<?>>> target) {
+        Class<?> type;
+        try {
+            type = Class.forName(className, false, classLoader);
+        } catch (Throwable _) {
+            // 增量编译可能遗留已删除的类名
+            return;
+        }
+        if (type.isEnum() && CodeEnum.class.isAssignableFrom(type)) {
+            @SuppressWarnings("unchecked")
+            Class<? extends Enum<?>> enumType = (Class<? extends Enum<?>>) type;
+            target.add(enumType);
+        }
+    }
+
+    /**
+     * 索引解析结果
+     *
+     * @param enums      通过索引解析到的枚举
+     * @param unindexed  缺少索引、需回退扫描的包
+     */
+    public record Resolution(Set<Class<? extends Enum<?>>> enums, List<String> unindexed) {
+    }
+}
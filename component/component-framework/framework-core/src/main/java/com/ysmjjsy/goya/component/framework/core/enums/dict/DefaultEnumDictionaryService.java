@@ -4,6 +4,7 @@ import com.ysmjjsy.goya.component.framework.common.enums.CodeEnum;
 import com.ysmjjsy.goya.component.framework.common.enums.EnumOption;
 import com.ysmjjsy.goya.component.framework.core.i18n.I18nResolver;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.i18n.LocaleContextHolder;
 import org.springframework.util.StringUtils;
 
 import java.io.Serializable;
@@ -21,7 +22,7 @@ import java.util.concurrent.ConcurrentHashMap;
  * </ol>
  *
  * <h2>缓存</h2>
- * <p>按 (enumFullName, localeTag) 缓存 options 列表。</p>
+ * <p>按 Locale 分别缓存 options 列表，文案重新加载（{@link I18nResolver#revision()} 变化）后重建。</p>
  *
  * @author goya
  * @since 2026/1/24 16:02
@@ -33,9 +34,9 @@ public class DefaultEnumDictionaryService implements EnumDictionaryService {
     private final I18nResolver i18nResolver;
 
     /**
-     * key = enumFullName + "@" + localeTag
+     * key = Locale，value = (枚举全限定名 -> options)
      */
-    private final Map<String, List<EnumOption>> cache = new ConcurrentHashMap<>();
+    private final Map<Locale, LocaleOptions> cache = new ConcurrentHashMap<>();
 
     /** {@inheritDoc} */
     @Override
@@ -53,17 +54,22 @@ public class DefaultEnumDictionaryService implements EnumDictionaryService {
     @Override
     public List<EnumOption> options(String enumName) {
         Class<? extends Enum<?>> enumClass = registry.resolve(enumName);
-        return cache.computeIfAbsent(enumName, k -> buildOptions(enumClass));
+        Locale locale = LocaleContextHolder.getLocale();
+        long revision = i18nResolver.revision();
+        LocaleOptions localeOptions = cache.compute(locale,
+                (_, current) -> current != null && current.revision() == revision ? current : new LocaleOptions(revision));
+        return localeOptions.options().computeIfAbsent(enumClass.getName(), _ -> buildOptions(enumClass, locale));
     }
 
     /**
      * 构建 options。
      *
      * @param enumClass 枚举类型
+     * @param locale    Locale
      * @return options
      */
     @SuppressWarnings({"rawtypes"})
-    private List<EnumOption> buildOptions(Class<? extends Enum<?>> enumClass) {
+    private List<EnumOption> buildOptions(Class<? extends Enum<?>> enumClass, Locale locale) {
         if (!CodeEnum.class.isAssignableFrom(enumClass)) {
             return List.of();
         }
@@ -78,7 +84,7 @@ public class DefaultEnumDictionaryService implements EnumDictionaryService {
             CodeEnum ce = (CodeEnum) c;
 
             Serializable code = ce.getCode();
-            String label = resolveLabel(ce, c.name());
+            String label = resolveLabel(ce, c.name(), locale);
 
             list.add(EnumOption.of(code, label));
         }
@@ -90,12 +96,13 @@ public class DefaultEnumDictionaryService implements EnumDictionaryService {
      *
      * @param e CodeEnum
      * @param fallbackName name()
+     * @param locale Locale
      * @return label
      */
-    private String resolveLabel(CodeEnum<?> e, String fallbackName) {
+    private String resolveLabel(CodeEnum<?> e, String fallbackName, Locale locale) {
         String key = e.i18nKey();
         if (StringUtils.hasText(key)) {
-            String msg = i18nResolver.getI18nMessage(key);
+            String msg = i18nResolver.findMessage(key, null, locale);
             if (StringUtils.hasText(msg)) {
                 return msg;
             }
@@ -125,4 +132,17 @@ public class DefaultEnumDictionaryService implements EnumDictionaryService {
 
         return Collections.unmodifiableMap(out);
     }
+
+    /**
+     * 单个 Locale 的 options 缓存。
+     *
+     * @param revision 构建时的文案版本
+     * @param options  key = 枚举全限定名
+     */
+    private record LocaleOptions(long revision, Map<String, List<EnumOption>> options) {
+
+        private LocaleOptions(long revision) {
+            this(revision, new ConcurrentHashMap<>());
+        }
+    }
 }
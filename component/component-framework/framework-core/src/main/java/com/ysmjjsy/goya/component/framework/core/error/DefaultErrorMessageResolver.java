@@ -5,7 +5,6 @@ import com.ysmjjsy.goya.component.framework.common.exception.GoyaException;
 import com.ysmjjsy.goya.component.framework.core.i18n.I18nResolver;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.MessageSource;
-import org.springframework.context.NoSuchMessageException;
 import org.springframework.context.i18n.LocaleContextHolder;
 import org.springframework.util.StringUtils;
 
@@ -16,7 +15,8 @@ import java.util.Objects;
  * <p>Locale 策略默认使用 {@link LocaleContextHolder#getLocale()}。
  * 该能力来自 spring-context，不依赖 spring-web。</p>
  *
- * <p>若无法解析 messageKey，则回退到 {@link ErrorCode#defaultMessage()}。</p>
+ * <p>messageKey 通过 {@link I18nResolver#findMessage(String, Object[])} 按 args 格式化；
+ * 若无法解析 messageKey，则回退到 {@link ErrorCode#defaultMessage()}。缺失的 key 由文案目录负缓存，不再依赖异常。</p>
  *
  * @author goya
  * @since 2026/1/24 13:45
@@ -44,14 +44,11 @@ public class DefaultErrorMessageResolver implements ErrorMessageResolver {
     @Override
     public String resolve(ErrorCode code, Object[] args) {
         Objects.requireNonNull(code, "code 不能为空");
-        try {
-            String msg = i18nResolver.getI18nMessage(code.messageKey());
-            if (StringUtils.hasText(msg)) {
-                return msg;
-            }
-        } catch (NoSuchMessageException ignore) {
-            // 缺失 i18n 文案时回退 defaultMessage
+        String msg = i18nResolver.findMessage(code.messageKey(), args);
+        if (StringUtils.hasText(msg)) {
+            return msg;
         }
+        // 缺失 i18n 文案时回退 defaultMessage
         return code.defaultMessage();
     }
 }
@@ -2,11 +2,14 @@ package com.ysmjjsy.goya.component.framework.core.i18n;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.context.MessageSource;
+import org.jspecify.annotations.Nullable;
 import org.springframework.context.i18n.LocaleContextHolder;
 
+import java.util.Locale;
+
 /**
- * <p></p>
+ * <p>默认 i18n 解析器，基于 {@link MessageCatalog} 按 Locale 缓存文案</p>
+ * <p>缺失的 key 返回 key 本身，与 useCodeAsDefaultMessage 行为一致。</p>
  *
  * @author goya
  * @since 2026/1/8 23:04
@@ -15,10 +18,26 @@ import org.springframework.context.i18n.LocaleContextHolder;
 @RequiredArgsConstructor
 public class DefaultResolver implements I18nResolver {
 
-    private final MessageSource messageSource;
+    private final MessageCatalog catalog;
 
     @Override
     public String getI18nMessage(String key) {
-        return messageSource.getMessage(key, null, LocaleContextHolder.getLocale());
+        String message = catalog.find(key, null, LocaleContextHolder.getLocale());
+        return message != null ? message : key;
+    }
+
+    @Override
+    public @Nullable String findMessage(String key, Object @Nullable [] args, Locale locale) {
+        return catalog.find(key, args, locale);
+    }
+
+    @Override
+    public long revision() {
+        return catalog.revision();
+    }
+
+    @Override
+    public void reload() {
+        catalog.reload();
     }
 }
@@ -1,5 +1,10 @@
 package com.ysmjjsy.goya.component.framework.core.i18n;
 
+import org.jspecify.annotations.Nullable;
+import org.springframework.context.i18n.LocaleContextHolder;
+
+import java.util.Locale;
+
 /**
  * <p>I18nHandler</p>
  *
@@ -15,4 +20,40 @@ public interface I18nResolver {
      * @return i18n message
      */
     String getI18nMessage(String key);
+
+    /**
+     * 按指定 Locale 查找文案并格式化参数，缺失时返回 null 而不是抛出异常。
+     *
+     * @param key    i18n key
+     * @param args   参数，可为空
+     * @param locale Locale
+     * @return 文案；缺失时返回 null
+     */
+    @Nullable String findMessage(String key, Object @Nullable [] args, Locale locale);
+
+    /**
+     * 按当前上下文 Locale 查找文案并格式化参数。
+     *
+     * @param key  i18n key
+     * @param args 参数，可为空
+     * @return 文案；缺失时返回 null
+     */
+    default @Nullable String findMessage(String key, Object @Nullable [] args) {
+        return findMessage(key, args, LocaleContextHolder.getLocale());
+    }
+
+    /**
+     * 文案版本，文案重新加载后变化，供上层缓存判断是否失效。
+     *
+     * @return 版本号
+     */
+    default long revision() {
+        return 0L;
+    }
+
+    /**
+     * 重新加载文案。
+     */
+    default void reload() {
+    }
 }
@@ -0,0 +1,29 @@
+package com.ysmjjsy.goya.component.framework.core.i18n;
+
+import com.ysmjjsy.goya.component.framework.core.context.propagation.ContextContributor;
+import com.ysmjjsy.goya.component.framework.core.context.propagation.ContextScope;
+import org.jspecify.annotations.Nullable;
+import org.springframework.context.i18n.LocaleContext;
+import org.springframework.context.i18n.LocaleContextHolder;
+
+/**
+ * <p>LocaleContext 传播参与者</p>
+ * 确保异步任务中的 i18n 解析与发起请求的线程保持一致语言
+ *
+ * @author goya
+ * @since 2026/2/8 16:10
+ */
+public class LocaleContextContributor implements ContextContributor<LocaleContext> {
+
+    @Override
+    public @Nullable LocaleContext capture() {
+        return LocaleContextHolder.getLocaleContext();
+    }
+
+    @Override
+    public ContextScope restore(@Nullable LocaleContext value) {
+        LocaleContext previous = LocaleContextHolder.getLocaleContext();
+        LocaleContextHolder.setLocaleContext(value);
+        return () -> LocaleContextHolder.setLocaleContext(previous);
+    }
+}
@@ -1,19 +1,23 @@
 package com.ysmjjsy.goya.component.framework.core.i18n;
 
+import com.ysmjjsy.goya.component.framework.core.context.propagation.ContextPropagator;
 import org.jspecify.annotations.NullMarked;
-import org.springframework.context.i18n.LocaleContext;
-import org.springframework.context.i18n.LocaleContextHolder;
 import org.springframework.core.task.TaskDecorator;
 
+import java.util.List;
+
 /**
  * <p>Locale 上下文任务装饰器，用于在线程池异步执行时传播 LocaleContext</p>
- * 适用于 @Async、线程池、异步任务等场景，确保下游 i18n 解析保持一致语言
+ * 适用于 @Async、线程池、异步任务等场景，确保下游 i18n 解析保持一致语言。
+ * 只传播 Locale；需要同时传播租户、MDC、安全上下文时使用 {@link ContextPropagator}
  *
  * @author goya
  * @since 2026/1/24 15:31
  */
 public class LocaleContextTaskDecorator implements TaskDecorator {
 
+    private final ContextPropagator propagator = new ContextPropagator(List.of(new LocaleContextContributor()));
+
     /**
      * 装饰任务，传播当前线程的 LocaleContext 到异步线程。
      *
@@ -23,15 +27,6 @@ public class LocaleContextTaskDecorator implements TaskDecorator {
     @Override
     @NullMarked
     public Runnable decorate(Runnable runnable) {
-        LocaleContext context = LocaleContextHolder.getLocaleContext();
-        return () -> {
-            LocaleContext previous = LocaleContextHolder.getLocaleContext();
-            try {
-                LocaleContextHolder.setLocaleContext(context);
-                runnable.run();
-            } finally {
-                LocaleContextHolder.setLocaleContext(previous);
-            }
-        };
+        return propagator.decorate(runnable);
     }
 }
@@ -0,0 +1,159 @@
+package com.ysmjjsy.goya.component.framework.core.i18n;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.ArrayUtils;
+import org.jspecify.annotations.Nullable;
+import org.springframework.context.MessageSource;
+import org.springframework.context.support.ReloadableResourceBundleMessageSource;
+import org.springframework.context.support.ResourceBundleMessageSource;
+
+import java.text.MessageFormat;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * <p>按 Locale 预编译的文案目录</p>
+ * <p>
+ * 每个 Locale 一份目录，首次访问某个 key 时从 {@link MessageSource} 取出原始模板并缓存：
+ * <ul>
+ *   <li>命中：缓存原始文案与按 Locale 构建的 {@link MessageFormat}，带参数时克隆模板格式化，避免重复解析</li>
+ *   <li>缺失：缓存缺失标记（负缓存），后续不再访问 MessageSource，也不构造 NoSuchMessageException</li>
+ * </ul>
+ * 目录按刷新间隔整体失效，与 MessageSource 的热加载周期对齐；也可通过 {@link #reload()} 立即重建。
+ * <p>
+ * 原始模板通过 {@code getMessage(key, null, null, locale)} 读取：当 MessageSource 开启
+ * useCodeAsDefaultMessage 时缺失 key 会返回 key 本身，此时同样视为缺失。
+ *
+ * @author goya
+ * @since 2026/2/6 14:10
+ */
+@Slf4j
+public class MessageCatalog {
+
+    private static final Entry MISSING = new Entry(null, null);
+
+    private final MessageSource messageSource;
+    private final long refreshNanos;
+    private final int maxEntries;
+    private final Map<Locale, LocaleCatalog> catalogs = new ConcurrentHashMap<>();
+    private final AtomicLong revision = new AtomicLong();
+
+    /**
+     * 构造文案目录
+     *
+     * @param messageSource 原始文案来源
+     * @param refresh       目录刷新间隔，为 0 或负数时不自动刷新
+     * @param maxEntries    每个 Locale 最多缓存的 key 数量，超出后不再缓存新 key
+     */
+    public MessageCatalog(MessageSource messageSource, Duration refresh, int maxEntries) {
+        this.messageSource = Objects.requireNonNull(messageSource, "messageSource 不能为空");
+        this.refreshNanos = refresh.isNegative() ? 0 : refresh.toNanos();
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * 查找并格式化文案
+     *
+     * @param key    文案 key
+     * @param args   参数，可为空
+     * @param locale Locale
+     * @return 文案；缺失时返回 null
+     */
+    public @Nullable String find(String key, Object @Nullable [] args, Locale locale) {
+        Entry entry = catalog(locale).get(key);
+        if (entry.text() == null) {
+            return null;
+        }
+        if (ArrayUtils.isEmpty(args) || entry.format() == null) {
+            return entry.text();
+        }
+        // MessageFormat 非线程安全，克隆已解析的模板比重新解析更轻
+        return ((MessageFormat) entry.format().clone()).format(args);
+    }
+
+    /**
+     * 目录版本，每次重建后递增，供依赖文案的上层缓存判断是否失效
+     *
+     * @return 版本号
+     */
+    public long revision() {
+        return revision.get();
+    }
+
+    /**
+     * 清空全部目录；可重载的 MessageSource 同时清除其文件缓存
+     */
+    public void reload() {
+        if (messageSource instanceof ReloadableResourceBundleMessageSource reloadable) {
+            reloadable.clearCacheIncludingAncestors();
+        } else if (messageSource instanceof ResourceBundleMessageSource bundle) {
+            bundle.clearCacheIncludingAncestors();
+        }
+        catalogs.clear();
+        revision.incrementAndGet();
+        log.debug("[Goya] |- I18n message catalog reloaded.");
+    }
+
+    private LocaleCatalog catalog(Locale locale) {
+        LocaleCatalog catalog = catalogs.computeIfAbsent(locale, LocaleCatalog::new);
+        if (refreshNanos > 0 && System.nanoTime() - catalog.createdAt > refreshNanos) {
+            LocaleCatalog fresh = new LocaleCatalog(locale);
+            if (catalogs.replace(locale, catalog, fresh)) {
+                revision.incrementAndGet();
+            }
+            return catalogs.getOrDefault(locale, fresh);
+        }
+        return catalog;
+    }
+
+    private final class LocaleCatalog {
+
+        private final Locale locale;
+        private final long createdAt = System.nanoTime();
+        private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+        private LocaleCatalog(Locale locale) {
+            this.locale = locale;
+        }
+
+        private Entry get(String key) {
+            Entry entry = entries.get(key);
+            if (entry != null) {
+                return entry;
+            }
+            entry = compile(key);
+            if (entries.size() < maxEntries) {
+                entries.putIfAbsent(key, entry);
+            }
+            return entry;
+        }
+
+        private Entry compile(String key) {
+            String text = messageSource.getMessage(key, null, null, locale);
+            if (text == null || text.equals(key)) {
+                return MISSING;
+            }
+            MessageFormat format = null;
+            if (text.indexOf('{') >= 0) {
+                try {
+                    format = new MessageFormat(text, locale);
+                } catch (IllegalArgumentException _) {
+                    // 如 Bean Validation 的 {value} 占位符，不按 MessageFormat 处理
+                    log.debug("[Goya] |- I18n message [{}] for locale [{}] is not a MessageFormat pattern.", key, locale);
+                }
+            }
+            return new Entry(text, format);
+        }
+    }
+
+    /**
+     * @param text   原始文案，缺失时为 null
+     * @param format 预编译模板，不含占位符时为 null
+     */
+    private record Entry(@Nullable String text, @Nullable MessageFormat format) {
+    }
+}
@@ -0,0 +1,149 @@
+package com.ysmjjsy.goya.component.framework.core.id;
+
+import com.ysmjjsy.goya.component.framework.common.id.Snowflake;
+import com.ysmjjsy.goya.component.framework.common.id.WorkerIdAssigner;
+import com.ysmjjsy.goya.component.framework.common.id.WorkerLease;
+import com.ysmjjsy.goya.component.framework.common.utils.GoyaIdUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+
+import java.time.Duration;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>雪花算法节点租约管理</p>
+ * <p>
+ * 启动时通过 {@link WorkerIdAssigner} 获取集群唯一节点并设置为 {@link GoyaIdUtils} 的默认生成器，
+ * 之后按心跳间隔续期。续期失败说明租约已丢失（如长时间 GC、网络分区），此时重新申请节点并切换生成器，
+ * 新生成器的起始时间不早于原节点与新节点记录的最后时间戳。
+ * <p>
+ * 生成器的有效期为“最近一次续期成功（发起时刻）+ 租约有效期”，续期持续出错（如注册中心不可用）超过该时间后
+ * 生成器拒绝生成 ID，因为此时节点可能已被其他实例接管。其他实例记录的最后时间戳超出本机时钟较多（时钟偏差）时，
+ * 切换前等待本机时钟追上，避免生成器判定为时钟回拨。
+ *
+ * @author goya
+ * @since 2026/2/5 10:50
+ */
+@Slf4j
+public class SnowflakeLeaseManager implements InitializingBean, DisposableBean {
+
+    private final WorkerIdAssigner assigner;
+    private final ScheduledExecutorService scheduler;
+    private final Duration heartbeat;
+    private final long ttlMillis;
+    private final long maxBackwardMillis;
+
+    private volatile WorkerLease lease;
+    private volatile Snowflake snowflake;
+    private ScheduledFuture<?> heartbeatTask;
+
+    public SnowflakeLeaseManager(WorkerIdAssigner assigner, ScheduledExecutorService scheduler,
+                                 Duration heartbeat, Duration ttl, Duration maxBackward) {
+        this.assigner = assigner;
+        this.scheduler = scheduler;
+        this.heartbeat = heartbeat;
+        this.ttlMillis = ttl.toMillis();
+        this.maxBackwardMillis = maxBackward.toMillis();
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        switchLease(0L);
+        long period = heartbeat.toMillis();
+        if (period > 0) {
+            heartbeatTask = scheduler.scheduleWithFixedDelay(this::renew, period, period, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * 当前使用的雪花算法生成器
+     *
+     * @return {@link Snowflake}
+     */
+    public Snowflake getSnowflake() {
+        return snowflake;
+    }
+
+    /**
+     * 当前持有的节点租约
+     *
+     * @return {@link WorkerLease}
+     */
+    public WorkerLease getLease() {
+        return lease;
+    }
+
+    private void renew() {
+        Snowflake current = snowflake;
+        // 以发起时刻计算有效期，续期请求本身的耗时不计入
+        long renewAt = System.currentTimeMillis();
+        try {
+            if (assigner.renew(lease, current.lastTimestamp())) {
+                extend(current, renewAt);
+            } else {
+                log.error("[Goya] |- Snowflake node [{}] lease lost, reacquire.", lease.nodeId());
+                current.setValidUntil(renewAt);
+                // 原生成器仍可能有请求在途，其 ID 时间戳均早于 renewAt，新生成器从 renewAt 之后开始
+                switchLease(Math.max(current.lastTimestamp(), renewAt));
+            }
+        } catch (Exception e) {
+            log.error("[Goya] |- Snowflake node [{}] lease renew catch error, id generation stops after lease expires.", lease.nodeId(), e);
+        }
+    }
+
+    private synchronized void switchLease(long lastTimestamp) {
+        long acquireAt = System.currentTimeMillis();
+        WorkerLease acquired = assigner.acquire();
+        long startAfter = Math.max(acquired.lastTimestamp(), lastTimestamp);
+        awaitClock(acquired.nodeId(), startAfter);
+        Snowflake created = Snowflake.ofNode(acquired.nodeId(), maxBackwardMillis, startAfter);
+        extend(created, acquireAt);
+
+        this.lease = acquired;
+        this.snowflake = created;
+        GoyaIdUtils.setDefaultSnowflake(created);
+        log.info("[Goya] |- Snowflake node [{}] acquired, datacenter is [{}], worker is [{}].",
+                acquired.nodeId(), created.getDatacenterId(), created.getWorkerId());
+    }
+
+    /**
+     * 续期成功后延长生成器有效期，未开启心跳时不限制
+     */
+    private void extend(Snowflake target, long renewAt) {
+        target.setValidUntil(heartbeat.toMillis() > 0 && ttlMillis > 0 ? renewAt + ttlMillis : Long.MAX_VALUE);
+    }
+
+    /**
+     * 上一持有者记录的时间戳超出本机时钟超过允许回拨值时，等待本机时钟追上
+     */
+    private void awaitClock(int nodeId, long startAfter) {
+        long ahead = startAfter - System.currentTimeMillis();
+        if (ahead <= maxBackwardMillis) {
+            return;
+        }
+        log.warn("[Goya] |- Snowflake node [{}] last timestamp is [{}] ms ahead of local clock, waiting.", nodeId, ahead);
+        try {
+            while ((ahead = startAfter - System.currentTimeMillis()) > maxBackwardMillis) {
+                Thread.sleep(ahead - maxBackwardMillis);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for clock of snowflake node " + nodeId, e);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        if (heartbeatTask != null) {
+            heartbeatTask.cancel(false);
+        }
+        try {
+            assigner.release(lease, snowflake.lastTimestamp());
+        } catch (Exception e) {
+            log.warn("[Goya] |- Snowflake node [{}] lease release catch error.", lease.nodeId(), e);
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.ysmjjsy.goya.component.framework.core.id;
+
+import com.ysmjjsy.goya.component.framework.common.id.WorkerIdAssigner;
+import com.ysmjjsy.goya.component.framework.common.id.WorkerLease;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * <p>雪花算法节点租约并发测试</p>
+ * <p>
+ * 多线程持续生成 ID 的同时，心跳不断续期并周期性丢失租约，重新申请到的仍是同一节点，
+ * 覆盖生成器在租约边界切换时 ID 不重复。
+ *
+ * @author goya
+ * @since 2026/2/10 18:10
+ */
+class SnowflakeLeaseManagerTest {
+
+    private static final int THREADS = 8;
+    private static final int IDS_PER_THREAD = 50_000;
+    private static final int MIN_SWITCHES = 3;
+
+    private ScheduledExecutorService scheduler;
+    private ExecutorService workers;
+
+    @BeforeEach
+    void setUp() {
+        scheduler = Executors.newSingleThreadScheduledExecutor();
+        workers = Executors.newFixedThreadPool(THREADS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        scheduler.shutdownNow();
+        workers.shutdownNow();
+    }
+
+    @Test
+    void idsStayUniqueWhileLeaseIsRenewedAndReacquired() throws Exception {
+        FlakyAssigner assigner = new FlakyAssigner(3);
+        SnowflakeLeaseManager manager = new SnowflakeLeaseManager(assigner, scheduler,
+                Duration.ofMillis(5), Duration.ofMillis(50), Duration.ofMillis(100));
+        manager.afterPropertiesSet();
+
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+        CountDownLatch start = new CountDownLatch(1);
+        Future<?>[] futures = new Future<?>[THREADS];
+        for (int t = 0; t < THREADS; t++) {
+            futures[t] = workers.submit(() -> {
+                await(start);
+                int generated = 0;
+                // 至少生成指定数量，并持续到租约切换足够多次
+                while (generated < IDS_PER_THREAD || assigner.acquired.get() <= MIN_SWITCHES) {
+                    long id;
+                    try {
+                        id = manager.getSnowflake().nextId();
+                    } catch (RuntimeException _) {
+                        // 旧生成器已失效，重新获取当前生成器
+                        continue;
+                    }
+                    assertTrue(ids.add(id), "duplicate id generated: " + id);
+                    generated++;
+                }
+            });
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        manager.destroy();
+
+        assertTrue(assigner.acquired.get() > MIN_SWITCHES, "lease was not reacquired");
+        assertTrue(assigner.renewed.get() > 0, "lease was not renewed");
+        assertEquals(7, manager.getLease().nodeId());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 每隔若干次续期报告一次租约丢失，重新申请时返回同一节点与记录的最后时间戳
+     */
+    private static final class FlakyAssigner implements WorkerIdAssigner {
+
+        private final int loseEvery;
+        private final AtomicInteger renewCalls = new AtomicInteger();
+        private final AtomicInteger renewed = new AtomicInteger();
+        private final AtomicInteger acquired = new AtomicInteger();
+        private final AtomicLong lastTimestamp = new AtomicLong();
+
+        private FlakyAssigner(int loseEvery) {
+            this.loseEvery = loseEvery;
+        }
+
+        @Override
+        public WorkerLease acquire() {
+            return new WorkerLease(7, "owner-" + acquired.incrementAndGet(), lastTimestamp.get());
+        }
+
+        @Override
+        public boolean renew(WorkerLease lease, long lastTimestamp) {
+            this.lastTimestamp.accumulateAndGet(lastTimestamp, Math::max);
+            if (renewCalls.incrementAndGet() % loseEvery == 0) {
+                return false;
+            }
+            renewed.incrementAndGet();
+            return true;
+        }
+
+        @Override
+        public void release(WorkerLease lease, long lastTimestamp) {
+            this.lastTimestamp.accumulateAndGet(lastTimestamp, Math::max);
+        }
+    }
+}
@@ -52,6 +52,14 @@ public class CoreCryptoAutoConfiguration {
             log.trace("[Goya] |- component [framework] SMCryptoConfiguration |- bean [symmetricCryptoProcessor] register.");
             return sm4CryptoProcessor;
         }
+
+        @Bean
+        @ConditionalOnMissingBean
+        public StreamCryptoProcessor streamCryptoProcessor() {
+            Sm4GcmStreamCryptoProcessor sm4GcmStreamCryptoProcessor = new Sm4GcmStreamCryptoProcessor();
+            log.trace("[Goya] |- component [framework] SMCryptoConfiguration |- bean [streamCryptoProcessor] register.");
+            return sm4GcmStreamCryptoProcessor;
+        }
     }
 
     @Configuration(proxyBeanMethods = false)
@@ -78,5 +86,13 @@ public class CoreCryptoAutoConfiguration {
             log.trace("[Goya] |- component [framework] StandardCryptoConfiguration |- bean [symmetricCryptoProcessor] register.");
             return aesCryptoProcessor;
         }
+
+        @Bean
+        @ConditionalOnMissingBean
+        public StreamCryptoProcessor streamCryptoProcessor() {
+            AesGcmStreamCryptoProcessor aesGcmStreamCryptoProcessor = new AesGcmStreamCryptoProcessor();
+            log.trace("[Goya] |- component [framework] StandardCryptoConfiguration |- bean [streamCryptoProcessor] register.");
+            return aesGcmStreamCryptoProcessor;
+        }
     }
 }
@@ -0,0 +1,76 @@
+package com.ysmjjsy.goya.component.framework.crypto.processor;
+
+import org.bouncycastle.crypto.BlockCipher;
+import org.bouncycastle.crypto.io.CipherInputStream;
+import org.bouncycastle.crypto.io.CipherOutputStream;
+import org.bouncycastle.crypto.modes.GCMBlockCipher;
+import org.bouncycastle.crypto.modes.GCMModeCipher;
+import org.bouncycastle.crypto.params.AEADParameters;
+import org.bouncycastle.crypto.params.KeyParameter;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.security.SecureRandom;
+
+/**
+ * <p>基于 GCM 模式的流式认证加密处理器</p>
+ * <p>
+ * 使用 BouncyCastle 轻量级 API，解密时只缓冲认证标签长度的数据，明文可边读边交给下游。
+ *
+ * @author goya
+ * @since 2026/2/3 10:20
+ */
+public abstract class AbstractGcmStreamCryptoProcessor implements StreamCryptoProcessor {
+
+    private static final SecureRandom SECURE_RANDOM = new SecureRandom();
+
+    /**
+     * 创建底层分组密码引擎
+     *
+     * @return 分组密码
+     */
+    protected abstract BlockCipher createEngine();
+
+    /**
+     * 将字符串秘钥转换为原始秘钥字节
+     *
+     * @param key 字符串秘钥
+     * @return 秘钥字节
+     */
+    protected abstract byte[] toKeyBytes(String key);
+
+    @Override
+    public InputStream decrypt(InputStream in, String key, byte[] aad) throws IOException {
+        int version = in.read();
+        if (version == -1) {
+            return InputStream.nullInputStream();
+        }
+        if (version != VERSION) {
+            throw new IOException("Unsupported stream crypto version: " + version);
+        }
+
+        byte[] nonce = in.readNBytes(NONCE_LENGTH);
+        if (nonce.length != NONCE_LENGTH) {
+            throw new IOException("Stream crypto header is truncated");
+        }
+
+        return new CipherInputStream(in, createCipher(false, key, nonce, aad));
+    }
+
+    @Override
+    public OutputStream encrypt(OutputStream out, String key, byte[] aad) throws IOException {
+        byte[] nonce = new byte[NONCE_LENGTH];
+        SECURE_RANDOM.nextBytes(nonce);
+
+        out.write(VERSION);
+        out.write(nonce);
+        return new CipherOutputStream(out, createCipher(true, key, nonce, aad));
+    }
+
+    private GCMModeCipher createCipher(boolean forEncryption, String key, byte[] nonce, byte[] aad) {
+        GCMModeCipher cipher = GCMBlockCipher.newInstance(createEngine());
+        cipher.init(forEncryption, new AEADParameters(new KeyParameter(toKeyBytes(key)), TAG_LENGTH, nonce, aad));
+        return cipher;
+    }
+}
@@ -0,0 +1,24 @@
+package com.ysmjjsy.goya.component.framework.crypto.processor;
+
+import com.ysmjjsy.goya.component.framework.crypto.utils.GoyaCryptoUtils;
+import org.bouncycastle.crypto.BlockCipher;
+import org.bouncycastle.crypto.engines.AESEngine;
+
+/**
+ * <p>AES-GCM 流式加密处理器</p>
+ *
+ * @author goya
+ * @since 2026/2/3 10:31
+ */
+public class AesGcmStreamCryptoProcessor extends AbstractGcmStreamCryptoProcessor {
+
+    @Override
+    protected BlockCipher createEngine() {
+        return AESEngine.newInstance();
+    }
+
+    @Override
+    protected byte[] toKeyBytes(String key) {
+        return GoyaCryptoUtils.toAesKeyBytes(key);
+    }
+}
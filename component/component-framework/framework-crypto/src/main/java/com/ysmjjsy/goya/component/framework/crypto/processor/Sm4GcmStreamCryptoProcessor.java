@@ -0,0 +1,24 @@
+package com.ysmjjsy.goya.component.framework.crypto.processor;
+
+import org.bouncycastle.crypto.BlockCipher;
+import org.bouncycastle.crypto.engines.SM4Engine;
+import org.bouncycastle.util.encoders.Hex;
+
+/**
+ * <p>SM4-GCM 流式加密处理器</p>
+ *
+ * @author goya
+ * @since 2026/2/3 10:33
+ */
+public class Sm4GcmStreamCryptoProcessor extends AbstractGcmStreamCryptoProcessor {
+
+    @Override
+    protected BlockCipher createEngine() {
+        return new SM4Engine();
+    }
+
+    @Override
+    protected byte[] toKeyBytes(String key) {
+        return Hex.decode(key);
+    }
+}
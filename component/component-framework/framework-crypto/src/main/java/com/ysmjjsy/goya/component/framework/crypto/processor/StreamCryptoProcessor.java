@@ -0,0 +1,61 @@
+package com.ysmjjsy.goya.component.framework.crypto.processor;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * <p>流式认证加密（AEAD）处理器</p>
+ * <p>
+ * 与 {@link SymmetricCryptoProcessor} 的按字段加解密不同，该处理器直接包装请求/响应的字节流，
+ * 每条消息使用独立的随机 nonce，并通过认证标签保证完整性。
+ * <p>
+ * 密文格式：{@code [version(1)][nonce(12)][ciphertext][tag(16)]}
+ *
+ * @author goya
+ * @since 2026/2/3 10:12
+ */
+public interface StreamCryptoProcessor {
+
+    /**
+     * 密文格式版本
+     */
+    byte VERSION = 0x01;
+
+    /**
+     * nonce 长度（字节）
+     */
+    int NONCE_LENGTH = 12;
+
+    /**
+     * 认证标签长度（比特）
+     */
+    int TAG_LENGTH = 128;
+
+    /**
+     * 包装密文输入流，读取时即解密。
+     * <p>
+     * 认证标签在读到流末尾时才会校验，调用方必须将流读完（或调用 close 前读完），
+     * 校验失败时抛出 {@link IOException}。
+     *
+     * @param in  密文输入流
+     * @param key 对称算法秘钥，格式与 {@link SymmetricCryptoProcessor#createKey()} 一致
+     * @param aad 附加认证数据，可为空
+     * @return 明文输入流；密文为空时返回空流
+     * @throws IOException 读取密文头失败
+     */
+    InputStream decrypt(InputStream in, String key, byte[] aad) throws IOException;
+
+    /**
+     * 包装明文输出流，写入时即加密。
+     * <p>
+     * 关闭返回的流时写出认证标签，并同时关闭 {@code out}。
+     *
+     * @param out 密文输出流
+     * @param key 对称算法秘钥，格式与 {@link SymmetricCryptoProcessor#createKey()} 一致
+     * @param aad 附加认证数据，可为空
+     * @return 明文输出流
+     * @throws IOException 写出密文头失败
+     */
+    OutputStream encrypt(OutputStream out, String key, byte[] aad) throws IOException;
+}
@@ -202,7 +202,13 @@ public class GoyaCryptoUtils {
         }
     }
 
-    private static byte[] toAesKeyBytes(String key) {
+    /**
+     * 将 AES 字符串秘钥转换为秘钥字节，长度不合法时补齐或截断为 16 字节
+     *
+     * @param key AES 密钥（UTF-8）
+     * @return 秘钥字节
+     */
+    public static byte[] toAesKeyBytes(String key) {
         byte[] b = key.getBytes(StandardCharsets.UTF_8);
         if (b.length == 16 || b.length == 24 || b.length == 32) {
             return b;
@@ -5,6 +5,8 @@ import com.ysmjjsy.goya.component.framework.log.aop.LogAspect;
 import com.ysmjjsy.goya.component.framework.log.autoconfigure.properties.LogProperties;
 import com.ysmjjsy.goya.component.framework.log.filter.TraceMdcFilter;
 import com.ysmjjsy.goya.component.framework.log.mask.MethodArgMasker;
+import com.ysmjjsy.goya.component.framework.log.mdc.MdcContextContributor;
+import com.ysmjjsy.goya.component.framework.log.mdc.TraceContextContributor;
 import com.ysmjjsy.goya.component.framework.masker.core.Masker;
 import io.micrometer.tracing.Tracer;
 import jakarta.annotation.PostConstruct;
@@ -78,4 +80,28 @@ public class LogAutoConfiguration {
         log.trace("[Goya] |- component [framework] LogAutoConfiguration |- bean [traceMdcFilter] register.");
         return traceMdcFilter;
     }
+
+    /**
+     * MDC 跨线程传播。
+     *
+     * @return contributor
+     */
+    @Bean
+    public MdcContextContributor mdcContextContributor() {
+        MdcContextContributor contributor = new MdcContextContributor();
+        log.trace("[Goya] |- component [framework] LogAutoConfiguration |- bean [mdcContextContributor] register.");
+        return contributor;
+    }
+
+    /**
+     * 链路追踪上下文跨线程传播。
+     *
+     * @return contributor
+     */
+    @Bean
+    public TraceContextContributor traceContextContributor(@Autowired(required = false) Tracer tracer) {
+        TraceContextContributor contributor = new TraceContextContributor(tracer);
+        log.trace("[Goya] |- component [framework] LogAutoConfiguration |- bean [traceContextContributor] register.");
+        return contributor;
+    }
 }
@@ -0,0 +1,28 @@
+package com.ysmjjsy.goya.component.framework.log.mdc;
+
+import com.ysmjjsy.goya.component.framework.core.context.propagation.ContextContributor;
+import com.ysmjjsy.goya.component.framework.core.context.propagation.ContextScope;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.MDC;
+
+import java.util.Map;
+
+/**
+ * <p>MDC 传播参与者</p>
+ *
+ * @author goya
+ * @since 2026/2/8 16:15
+ */
+public class MdcContextContributor implements ContextContributor<Map<String, String>> {
+
+    @Override
+    public @Nullable Map<String, String> capture() {
+        return MDC.getCopyOfContextMap();
+    }
+
+    @Override
+    public ContextScope restore(@Nullable Map<String, String> value) {
+        MdcScope scope = MdcScope.set(value);
+        return scope::close;
+    }
+}
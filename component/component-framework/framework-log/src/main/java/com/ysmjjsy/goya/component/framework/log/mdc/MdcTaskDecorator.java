@@ -1,15 +1,21 @@
 package com.ysmjjsy.goya.component.framework.log.mdc;
 
+import com.ysmjjsy.goya.component.framework.core.context.propagation.ContextPropagator;
 import org.springframework.core.task.TaskDecorator;
 
+import java.util.List;
+
 /**
  * <p>MDC 任务装饰器：用于线程池异步执行时传播 MDC</p>
+ * 只传播 MDC；需要同时传播租户、Locale、安全上下文时使用 {@link ContextPropagator}
  *
  * @author goya
  * @since 2026/1/24 22:05
  */
 public class MdcTaskDecorator implements TaskDecorator {
 
+    private final ContextPropagator propagator = new ContextPropagator(List.of(new MdcContextContributor()));
+
     /**
      * 装饰任务以传播 MDC。
      *
@@ -18,11 +24,6 @@ public class MdcTaskDecorator implements TaskDecorator {
      */
     @Override
     public Runnable decorate(Runnable runnable) {
-        MdcSnapshot snapshot = MdcSnapshot.capture();
-        return () -> {
-            try (MdcScope ignored = MdcScope.set(snapshot.context())) {
-                runnable.run();
-            }
-        };
+        return propagator.decorate(runnable);
     }
 }
@@ -0,0 +1,38 @@
+package com.ysmjjsy.goya.component.framework.log.mdc;
+
+import com.ysmjjsy.goya.component.framework.core.context.propagation.ContextContributor;
+import com.ysmjjsy.goya.component.framework.core.context.propagation.ContextScope;
+import io.micrometer.tracing.CurrentTraceContext;
+import io.micrometer.tracing.TraceContext;
+import io.micrometer.tracing.Tracer;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * <p>链路追踪上下文传播参与者</p>
+ * 异步任务沿用提交线程的 Span 作为父级，日志中的 traceId 保持一致；未启用 Tracing 时为空实现
+ *
+ * @author goya
+ * @since 2026/2/8 16:15
+ */
+public class TraceContextContributor implements ContextContributor<TraceContext> {
+
+    private final @Nullable Tracer tracer;
+
+    public TraceContextContributor(@Nullable Tracer tracer) {
+        this.tracer = tracer;
+    }
+
+    @Override
+    public @Nullable TraceContext capture() {
+        return tracer == null ? null : tracer.currentTraceContext().context();
+    }
+
+    @Override
+    public ContextScope restore(@Nullable TraceContext value) {
+        if (tracer == null) {
+            return ContextScope.NOOP;
+        }
+        CurrentTraceContext.Scope scope = tracer.currentTraceContext().newScope(value);
+        return scope::close;
+    }
+}
@@ -6,6 +6,7 @@ import lombok.Data;
 import lombok.EqualsAndHashCode;
 
 import java.io.Serial;
+import java.util.Map;
 
 /**
  * <p>创建分片上传请求参数</p>
@@ -19,5 +20,8 @@ import java.io.Serial;
 public class InitiateMultipartUploadArguments extends ObjectArguments {
     @Serial
     private static final long serialVersionUID = -4245667610244991885L;
+
+    @Schema(name = "对象元数据")
+    private Map<String, String> metadata;
 }
 
@@ -1,7 +1,10 @@
 package com.ysmjjsy.goya.component.framework.oss.autoconfigure;
 
 import com.ysmjjsy.goya.component.framework.oss.autoconfigure.properties.OssProperties;
+import com.ysmjjsy.goya.component.framework.oss.core.repository.OssMultipartUploadRepository;
+import com.ysmjjsy.goya.component.framework.oss.core.repository.OssObjectRepository;
 import com.ysmjjsy.goya.component.framework.oss.proxy.OssPresignedUrlProxy;
+import com.ysmjjsy.goya.component.framework.oss.transfer.OssTransferManager;
 import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
@@ -36,4 +39,13 @@ public class ModuleOssAutoConfiguration {
         log.trace("[Goya] |- Bean [Oss Presigned Url Proxy] Configure.");
         return ossPresignedUrlProxy;
     }
+
+    @Bean
+    public OssTransferManager ossTransferManager(OssObjectRepository ossObjectRepository,
+                                                 OssMultipartUploadRepository ossMultipartUploadRepository,
+                                                 OssProperties ossProperties) {
+        OssTransferManager ossTransferManager = new OssTransferManager(ossObjectRepository, ossMultipartUploadRepository, ossProperties);
+        log.trace("[Goya] |- Bean [Oss Transfer Manager] Configure.");
+        return ossTransferManager;
+    }
 }
@@ -4,6 +4,10 @@ import com.ysmjjsy.goya.component.framework.oss.constants.OssConstants;
 import com.ysmjjsy.goya.component.framework.oss.enums.OssEnum;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.List;
 
 /**
  * <p>OSS 配置</p>
@@ -35,6 +39,96 @@ public record OssProperties(
         /*
          * 代理请求转发目的地址
          */
-        String destination
+        String destination,
+
+        /*
+         * 预签名地址代理配置
+         */
+        @DefaultValue
+        Proxy proxy,
+
+        /*
+         * 大对象分片传输配置
+         */
+        @DefaultValue
+        Transfer transfer
 ) {
+
+    /**
+     * 预签名地址代理配置
+     *
+     * @param connectTimeout 连接超时
+     * @param timeout        默认等待上游响应头的超时时间
+     * @param bufferSize     请求体与响应体转发缓冲区大小
+     * @param routes         按路径前缀覆盖超时时间，最长前缀优先
+     */
+    public record Proxy(
+            @DefaultValue("PT10S")
+            Duration connectTimeout,
+
+            @DefaultValue("PT60S")
+            Duration timeout,
+
+            @DefaultValue("64KB")
+            DataSize bufferSize,
+
+            @DefaultValue
+            List<Route> routes
+    ) {
+
+        /**
+         * 匹配请求路径的超时时间
+         *
+         * @param path 转发路径（不含代理前缀）
+         * @return 超时时间
+         */
+        public Duration timeout(String path) {
+            Route matched = null;
+            for (Route route : routes) {
+                if (path.startsWith(route.pathPrefix())
+                        && (matched == null || route.pathPrefix().length() > matched.pathPrefix().length())) {
+                    matched = route;
+                }
+            }
+            return matched != null ? matched.timeout() : timeout;
+        }
+    }
+
+    /**
+     * 大对象分片传输配置
+     *
+     * @param multipartThreshold 超过该大小的文件使用分片上传，否则单次上传
+     * @param partSize           分片大小，不小于 5MB；对象过大导致分片数超过 10000 时自动放大
+     * @param concurrency        单次传输同时进行的分片数，同时也是内存中缓冲的分片数上限
+     * @param checkpointDir      断点文件目录，为空时使用系统临时目录
+     * @param verifyChecksum     是否按分片校验 MD5 与 ETag
+     */
+    public record Transfer(
+            @DefaultValue("16MB")
+            DataSize multipartThreshold,
+
+            @DefaultValue("8MB")
+            DataSize partSize,
+
+            @DefaultValue("4")
+            Integer concurrency,
+
+            String checkpointDir,
+
+            @DefaultValue("true")
+            Boolean verifyChecksum
+    ) {
+    }
+
+    /**
+     * 代理路由超时配置
+     *
+     * @param pathPrefix 转发路径前缀，如 /bucket-a
+     * @param timeout    等待上游响应头的超时时间
+     */
+    public record Route(
+            String pathPrefix,
+            Duration timeout
+    ) {
+    }
 }
@@ -8,6 +8,7 @@ import org.apache.commons.pool2.impl.DefaultPooledObject;
 
 /**
  * <p>对象存储 Client 对象池对象工厂抽象定义</p>
+ * <p>共享模式下同样由该工厂创建唯一实例，销毁时关闭实现了 {@link AutoCloseable} 的 Client</p>
  *
  * @author goya
  * @since 2025/11/1 16:05
@@ -16,13 +17,35 @@ import org.apache.commons.pool2.impl.DefaultPooledObject;
 public abstract class AbstractOssClientPooledObjectFactory<T> extends BasePooledObjectFactory<T> {
 
     private final AbstractOssProperties ossProperties;
+    private final OssClientMetrics metrics;
 
     protected AbstractOssClientPooledObjectFactory(AbstractOssProperties ossProperties) {
+        this(ossProperties, OssClientMetrics.noop());
+    }
+
+    protected AbstractOssClientPooledObjectFactory(AbstractOssProperties ossProperties, OssClientMetrics metrics) {
         this.ossProperties = ossProperties;
+        this.metrics = metrics;
+    }
+
+    /**
+     * 是否为共享单例模式
+     *
+     * @return 共享模式返回 true
+     */
+    public boolean isShared() {
+        return !Boolean.TRUE.equals(ossProperties.getPooled());
     }
 
     @Override
     public PooledObject<T> wrap(T obj) {
         return new DefaultPooledObject<>(obj);
     }
+
+    @Override
+    public void destroyObject(PooledObject<T> p) throws Exception {
+        if (p.getObject() instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
 }
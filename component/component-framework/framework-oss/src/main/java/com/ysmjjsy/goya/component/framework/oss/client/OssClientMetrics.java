@@ -0,0 +1,115 @@
+package com.ysmjjsy.goya.component.framework.oss.client;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.jspecify.annotations.Nullable;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * <p>对象存储 Client 指标</p>
+ * <p>
+ * 各厂商 Client 通过 SDK 自身的扩展点（S3 MetricPublisher、OkHttp Interceptor 等）上报：
+ * <ul>
+ *   <li>{@value #REQUESTS}：请求耗时，按 client / operation / outcome 区分</li>
+ *   <li>{@value #CONNECTIONS}：连接数，按 client / state（leased、idle、pending、max）区分</li>
+ * </ul>
+ * 未启用或不存在 MeterRegistry 时为空实现。
+ *
+ * @author goya
+ * @since 2026/2/7 14:30
+ */
+public class OssClientMetrics {
+
+    public static final String REQUESTS = "goya.oss.client.requests";
+    public static final String CONNECTIONS = "goya.oss.client.connections";
+
+    private static final OssClientMetrics NOOP = new OssClientMetrics(null, "none");
+
+    private final @Nullable MeterRegistry registry;
+    private final String client;
+
+    private OssClientMetrics(@Nullable MeterRegistry registry, String client) {
+        this.registry = registry;
+        this.client = client;
+    }
+
+    /**
+     * 创建指标
+     *
+     * @param registry MeterRegistry，可为空
+     * @param enabled  是否启用
+     * @param client   客户端标识，如 s3、minio、aliyun
+     * @return 指标
+     */
+    public static OssClientMetrics of(@Nullable MeterRegistry registry, @Nullable Boolean enabled, String client) {
+        if (registry == null || !Boolean.TRUE.equals(enabled)) {
+            return NOOP;
+        }
+        return new OssClientMetrics(registry, client);
+    }
+
+    public static OssClientMetrics noop() {
+        return NOOP;
+    }
+
+    public boolean isEnabled() {
+        return registry != null;
+    }
+
+    /**
+     * 记录一次请求
+     *
+     * @param operation 操作名，如 PutObject 或 HTTP 方法
+     * @param outcome   结果，如 SUCCESS、CLIENT_ERROR、SERVER_ERROR、IO_ERROR
+     * @param duration  耗时
+     */
+    public void recordRequest(String operation, String outcome, Duration duration) {
+        if (registry == null) {
+            return;
+        }
+        Timer.builder(REQUESTS)
+                .description("OSS client request latency")
+                .tag("client", client)
+                .tag("operation", operation)
+                .tag("outcome", outcome)
+                .register(registry)
+                .record(duration);
+    }
+
+    /**
+     * 注册连接数指标
+     *
+     * @param state 连接状态，如 leased、idle
+     * @param value 取值函数
+     */
+    public void gaugeConnections(String state, Supplier<Number> value) {
+        if (registry == null) {
+            return;
+        }
+        Gauge.builder(CONNECTIONS, value)
+                .description("OSS client HTTP connections")
+                .tag("client", client)
+                .tag("state", state)
+                .strongReference(true)
+                .register(registry);
+    }
+
+    /**
+     * 根据 HTTP 状态码归类结果
+     *
+     * @param status HTTP 状态码
+     * @return 结果
+     */
+    public static String outcome(int status) {
+        if (status >= 500) {
+            return "SERVER_ERROR";
+        }
+        if (status >= 400) {
+            return "CLIENT_ERROR";
+        }
+        return "SUCCESS";
+    }
+}
@@ -30,6 +30,10 @@ public interface OssConstants {
      * 分片上传中，允许的最大分片数量为 1000
      */
     int MAX_MULTIPART_COUNT = 10000;
+    /**
+     * 分片上传时记录分片大小的用户元数据，下载时据此逐分片校验 ETag
+     */
+    String METADATA_PART_SIZE = "goya-part-size";
 
     String PROPERTY_PREFIX_OSS = PropertyConst.PROPERTY_GOYA + ".oss";
     String PROPERTY_PREFIX_OSS_TYPE = PROPERTY_PREFIX_OSS + ".type";
@@ -19,11 +19,11 @@ import io.swagger.v3.oas.annotations.parameters.RequestBody;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.servlet.http.HttpServletRequest;
-import org.springframework.http.ResponseEntity;
+import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.PostMapping;
-import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
 import org.springframework.web.bind.annotation.RestController;
 
 /**
@@ -77,13 +77,12 @@ public class OssMultipartUploadController implements IController {
         return response(entity);
     }
 
-    @Operation(summary = "预下载代理地址", description = "预下载代理地址，避免前端直接访问OSS，同时导致微服务寻址错误",
-            requestBody = @RequestBody(content = @Content(mediaType = "application/json")),
+    @Operation(summary = "预签名代理地址", description = "预签名上传/下载代理地址，避免前端直接访问OSS，同时导致微服务寻址错误。请求体与响应体流式转发，支持 Range 断点续传",
             responses = {
-                    @ApiResponse(description = "操作结果", content = @Content(mediaType = "application/json")),
+                    @ApiResponse(description = "上游对象存储响应", content = @Content(mediaType = "application/octet-stream")),
             })
-    @PutMapping(value = OssConstants.OSS_PRESIGNED_OBJECT_PROXY_REQUEST_MAPPING)
-    public ResponseEntity<String> presignedUrlProxy(HttpServletRequest request) {
-        return ossPresignedUrlProxy.delegate(request);
+    @RequestMapping(value = OssConstants.OSS_PRESIGNED_OBJECT_PROXY_REQUEST_MAPPING, method = {RequestMethod.PUT, RequestMethod.GET, RequestMethod.HEAD})
+    public void presignedUrlProxy(HttpServletRequest request, HttpServletResponse response) {
+        ossPresignedUrlProxy.delegate(request, response);
     }
 }
\ No newline at end of file
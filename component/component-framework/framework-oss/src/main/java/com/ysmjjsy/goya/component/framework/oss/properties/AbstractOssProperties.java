@@ -5,6 +5,7 @@ import lombok.Data;
 
 import java.io.Serial;
 import java.io.Serializable;
+import java.time.Duration;
 
 /**
  * <p>对象存储通用属性提取抽象类</p>
@@ -34,7 +35,62 @@ public abstract class AbstractOssProperties implements Serializable {
     private String secretKey;
 
     /**
-     * 自定义 OSS 对象池参数配置
+     * 是否使用对象池模式。默认 false：SDK Client 线程安全，全局共享一个实例及其连接池
+     */
+    private Boolean pooled = false;
+
+    /**
+     * 自定义 OSS 对象池参数配置，仅在 pooled 为 true 时生效
      */
     private Pool pool = new Pool();
+
+    /**
+     * HTTP 传输层配置
+     */
+    private Http http = new Http();
+
+    /**
+     * 是否输出连接与请求耗时指标（需存在 MeterRegistry）
+     */
+    private Boolean metricsEnabled = true;
+
+    /**
+     * <p>HTTP 传输层配置</p>
+     */
+    @Data
+    public static class Http implements Serializable {
+
+        @Serial
+        private static final long serialVersionUID = 3920188745014325637L;
+
+        /**
+         * 最大连接数
+         */
+        private Integer maxConnections = 64;
+
+        /**
+         * 建立连接超时
+         */
+        private Duration connectTimeout = Duration.ofSeconds(10);
+
+        /**
+         * 读写超时
+         */
+        private Duration socketTimeout = Duration.ofSeconds(60);
+
+        /**
+         * 空闲连接保活时间，超过后关闭
+         */
+        private Duration maxIdleTime = Duration.ofSeconds(60);
+
+        /**
+         * 连接最长存活时间，为 0 时不限制
+         */
+        private Duration timeToLive = Duration.ZERO;
+
+        /**
+         * 是否开启 TCP keep-alive
+         */
+        private Boolean tcpKeepAlive = true;
+    }
 }
@@ -1,95 +1,194 @@
 package com.ysmjjsy.goya.component.framework.oss.proxy;
 
+import com.ysmjjsy.goya.component.framework.common.constants.SymbolConst;
 import com.ysmjjsy.goya.component.framework.oss.autoconfigure.properties.OssProperties;
+import com.ysmjjsy.goya.component.framework.oss.constants.OssConstants;
 import jakarta.servlet.http.HttpServletRequest;
-import org.springframework.http.*;
-import org.springframework.http.client.SimpleClientHttpRequestFactory;
-import org.springframework.util.StreamUtils;
-import org.springframework.web.client.RestTemplate;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.http.HttpHeaders;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.net.URI;
-import java.net.URISyntaxException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
 import java.util.Collections;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
 import java.util.function.Function;
 
 /**
  * <p>OSS 与签名代理</p>
+ * <p>
+ * 基于 JDK {@link HttpClient} 转发，连接在请求间复用；请求体与响应体均按固定大小缓冲区流式转发，
+ * 不在内存中保留完整对象。Range、ETag、条件请求与内容相关的请求头/响应头原样透传，
+ * 上游状态码（如 206、304、412）直接返回给调用方。
+ * <p>
+ * 超时时间按转发路径匹配 {@link OssProperties.Proxy#routes()}，仅约束等待上游响应头的时间，
+ * 响应体传输时长不受限制。
  *
  * @author goya
  * @since 2025/11/3 09:37
  */
-public class OssPresignedUrlProxy {
+public class OssPresignedUrlProxy implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(OssPresignedUrlProxy.class);
+
+    /**
+     * 逐跳头及 HttpClient 不允许设置的请求头，不透传
+     */
+    private static final Set<String> EXCLUDED_REQUEST_HEADERS = Set.of(
+            "connection", "keep-alive", "proxy-authenticate", "proxy-authorization", "te", "trailer",
+            "transfer-encoding", "upgrade", "host", "content-length", "expect",
+            // TODO: 如果传递 OAuth2 Token 会导致转发上传失败。猜测是因为 Minio Server 也是采用 OAuth2 认证，体系不一致导致。
+            // 目前先临时将外部传入的 Token 取消，等摸清楚 Minio 认证体系集成方式后再行完善。
+            "authorization"
+    );
+
+    /**
+     * 逐跳头，不回写；Content-Length 单独处理
+     */
+    private static final Set<String> EXCLUDED_RESPONSE_HEADERS = Set.of(
+            "connection", "keep-alive", "proxy-authenticate", "proxy-authorization", "te", "trailer",
+            "transfer-encoding", "upgrade", "content-length", ":status"
+    );
 
     private final Function<HttpServletRequest, String> function;
-    private final RestTemplate restTemplate;
+    private final OssProperties.Proxy proxyProperties;
+    private final HttpClient httpClient;
+    private final int bufferSize;
 
     public OssPresignedUrlProxy(OssProperties ossProperties) {
         this.function = new OssProxyAddressFunction(ossProperties);
-        this.restTemplate = new RestTemplate(new SimpleClientHttpRequestFactory());
+        this.proxyProperties = ossProperties.proxy();
+        this.bufferSize = (int) proxyProperties.bufferSize().toBytes();
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(proxyProperties.connectTimeout())
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .build();
     }
 
-    public ResponseEntity<String> delegate(HttpServletRequest request) {
+    /**
+     * 转发请求并将上游响应流式写回
+     *
+     * @param request  请求 {@link HttpServletRequest}
+     * @param response 响应 {@link HttpServletResponse}
+     */
+    public void delegate(HttpServletRequest request, HttpServletResponse response) {
+        String target = function.apply(request);
         try {
-            String target = function.apply(request);
-            RequestEntity<byte[]> requestEntity = createRequestEntity(request, target);
-            return restTemplate.exchange(requestEntity, String.class);
+            HttpResponse<InputStream> upstream = httpClient.send(createRequest(request, target), HttpResponse.BodyHandlers.ofInputStream());
+            writeResponse(upstream, response);
+        } catch (HttpTimeoutException e) {
+            log.warn("[Goya] |- Oss proxy request [{}] timeout.", target);
+            sendError(response, HttpServletResponse.SC_GATEWAY_TIMEOUT, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            sendError(response, HttpServletResponse.SC_BAD_GATEWAY, e);
         } catch (Exception e) {
-            return new ResponseEntity<>("Delegate ERROR", HttpStatus.INTERNAL_SERVER_ERROR);
+            log.error("[Goya] |- Oss proxy request [{}] failed.", target, e);
+            sendError(response, HttpServletResponse.SC_BAD_GATEWAY, e);
         }
     }
 
+    @Override
+    public void destroy() {
+        httpClient.close();
+    }
+
     /**
-     * 创建请求
+     * 创建请求，请求体按需从 Servlet 输入流读取
      *
      * @param request 请求 {@link HttpServletRequest}
      * @param url     请求地址
      * @return 具体请求
-     * @throws URISyntaxException uri语法错误
-     * @throws IOException        io错误
      */
-    private RequestEntity<byte[]> createRequestEntity(HttpServletRequest request, String url) throws URISyntaxException, IOException {
-        String method = request.getMethod();
-        HttpMethod httpMethod = method != null ? HttpMethod.valueOf(method) : null;
-        HttpHeaders headers = readRequestHeader(request);
-        byte[] body = readRequestBody(request);
-        return new RequestEntity<>(body, headers, httpMethod, new URI(url));
+    private HttpRequest createRequest(HttpServletRequest request, String url) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(url))
+                .timeout(timeout(request));
+
+        List<String> headerNames = Collections.list(request.getHeaderNames());
+        for (String headerName : headerNames) {
+            if (EXCLUDED_REQUEST_HEADERS.contains(headerName.toLowerCase(Locale.ROOT))) {
+                continue;
+            }
+            for (String headerValue : Collections.list(request.getHeaders(headerName))) {
+                builder.header(headerName, headerValue);
+            }
+        }
+
+        return builder.method(request.getMethod(), bodyPublisher(request)).build();
     }
 
-    /**
-     * 解析请求体
-     *
-     * @param request 请求 {@link HttpServletRequest}
-     * @return request body
-     * @throws IOException io错误
-     */
-    private byte[] readRequestBody(HttpServletRequest request) throws IOException {
-        InputStream inputStream = request.getInputStream();
-        return StreamUtils.copyToByteArray(inputStream);
+    private HttpRequest.BodyPublisher bodyPublisher(HttpServletRequest request) {
+        long contentLength = request.getContentLengthLong();
+        if (contentLength == 0) {
+            return HttpRequest.BodyPublishers.noBody();
+        }
+        HttpRequest.BodyPublisher stream = HttpRequest.BodyPublishers.ofInputStream(() -> {
+            try {
+                return request.getInputStream();
+            } catch (IOException e) {
+                throw new IllegalStateException("Can not read proxy request body.", e);
+            }
+        });
+        // 已知长度时保留 Content-Length，对象存储的预签名上传通常要求不能使用分块传输
+        if (contentLength > 0) {
+            return HttpRequest.BodyPublishers.fromPublisher(stream, contentLength);
+        }
+        String transferEncoding = request.getHeader(HttpHeaders.TRANSFER_ENCODING);
+        return transferEncoding != null ? stream : HttpRequest.BodyPublishers.noBody();
     }
 
-    /**
-     * 解析请求 Headers
-     *
-     * @param request 请求 {@link HttpServletRequest}
-     * @return 请求头
-     */
-    private HttpHeaders readRequestHeader(HttpServletRequest request) {
-        HttpHeaders headers = new HttpHeaders();
-        List<String> headerNames = Collections.list(request.getHeaderNames());
-        for (String headerName : headerNames) {
-            List<String> headerValues = Collections.list(request.getHeaders(headerName));
-            for (String headerValue : headerValues) {
-                headers.add(headerName, headerValue);
+    private Duration timeout(HttpServletRequest request) {
+        String path = request.getRequestURI().replace(OssConstants.PRESIGNED_OBJECT_URL_PROXY, SymbolConst.BLANK);
+        return proxyProperties.timeout(path);
+    }
+
+    private void writeResponse(HttpResponse<InputStream> upstream, HttpServletResponse response) throws IOException {
+        response.setStatus(upstream.statusCode());
+        for (Map.Entry<String, List<String>> header : upstream.headers().map().entrySet()) {
+            if (EXCLUDED_RESPONSE_HEADERS.contains(header.getKey().toLowerCase(Locale.ROOT))) {
+                continue;
+            }
+            for (String value : header.getValue()) {
+                response.addHeader(header.getKey(), value);
             }
         }
+        upstream.headers().firstValueAsLong(HttpHeaders.CONTENT_LENGTH).ifPresent(response::setContentLengthLong);
 
-        // TODO: 如果传递 OAuth2 Token 会导致转发上传失败。猜测是因为 Minio Server 也是采用 OAuth2 认证，体系不一致导致。
-        // 目前先临时将外部传入的 Token 取消，等摸清楚 Minio 认证体系集成方式后再行完善。
-        headers.remove(HttpHeaders.AUTHORIZATION);
+        try (InputStream in = upstream.body()) {
+            OutputStream out = response.getOutputStream();
+            byte[] buffer = new byte[bufferSize];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                out.write(buffer, 0, read);
+            }
+            out.flush();
+        }
+    }
 
-        return headers;
+    private void sendError(HttpServletResponse response, int status, Exception e) {
+        if (response.isCommitted()) {
+            // 响应已开始写出，只能中断连接，由客户端按 Range 续传
+            log.debug("[Goya] |- Oss proxy response already committed, abort.", e);
+            return;
+        }
+        try {
+            response.resetBuffer();
+            response.sendError(status, "Delegate ERROR");
+        } catch (IOException ex) {
+            log.debug("[Goya] |- Oss proxy can not send error response.", ex);
+        }
     }
 }
@@ -0,0 +1,178 @@
+package com.ysmjjsy.goya.component.framework.oss.transfer;
+
+import com.ysmjjsy.goya.component.framework.oss.domain.multipart.PartSummaryDomain;
+import org.jspecify.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * <p>分片上传断点</p>
+ * <p>
+ * 记录上传ID与已完成分片的 ETag，以 properties 格式落盘；每完成一个分片写一次，
+ * 先写临时文件再替换，进程中断时不会留下残缺的断点文件。
+ *
+ * @author goya
+ * @since 2026/2/8 10:25
+ */
+final class OssTransferCheckpoint {
+
+    private static final String BUCKET_NAME = "bucketName";
+    private static final String OBJECT_NAME = "objectName";
+    private static final String UPLOAD_ID = "uploadId";
+    private static final String FILE_SIZE = "fileSize";
+    private static final String LAST_MODIFIED = "lastModified";
+    private static final String PART_SIZE = "partSize";
+    private static final String PART_PREFIX = "part.";
+
+    private final Path path;
+    private final String bucketName;
+    private final String objectName;
+    private final String uploadId;
+    private final long fileSize;
+    private final long lastModified;
+    private final long partSize;
+    private final Map<Integer, String> etags = new ConcurrentSkipListMap<>();
+
+    OssTransferCheckpoint(Path path, String bucketName, String objectName, String uploadId, long fileSize, long lastModified, long partSize) {
+        this.path = path;
+        this.bucketName = bucketName;
+        this.objectName = objectName;
+        this.uploadId = uploadId;
+        this.fileSize = fileSize;
+        this.lastModified = lastModified;
+        this.partSize = partSize;
+    }
+
+    /**
+     * 读取断点，文件不存在或内容不完整时返回 null
+     *
+     * @param path 断点文件
+     * @return 断点
+     */
+    static @Nullable OssTransferCheckpoint load(Path path) {
+        if (!Files.isRegularFile(path)) {
+            return null;
+        }
+        Properties properties = new Properties();
+        try (InputStream in = Files.newInputStream(path)) {
+            properties.load(in);
+            OssTransferCheckpoint checkpoint = new OssTransferCheckpoint(path,
+                    properties.getProperty(BUCKET_NAME),
+                    properties.getProperty(OBJECT_NAME),
+                    properties.getProperty(UPLOAD_ID),
+                    Long.parseLong(properties.getProperty(FILE_SIZE)),
+                    Long.parseLong(properties.getProperty(LAST_MODIFIED)),
+                    Long.parseLong(properties.getProperty(PART_SIZE)));
+            for (String name : properties.stringPropertyNames()) {
+                if (name.startsWith(PART_PREFIX)) {
+                    checkpoint.etags.put(Integer.parseInt(name.substring(PART_PREFIX.length())), properties.getProperty(name));
+                }
+            }
+            return checkpoint.uploadId != null ? checkpoint : null;
+        } catch (IOException | RuntimeException _) {
+            return null;
+        }
+    }
+
+    /**
+     * 是否为同一文件、同一目标、同一分片大小的断点
+     */
+    boolean matches(String bucketName, String objectName, long fileSize, long lastModified, long partSize) {
+        return bucketName.equals(this.bucketName)
+                && objectName.equals(this.objectName)
+                && fileSize == this.fileSize
+                && lastModified == this.lastModified
+                && partSize == this.partSize;
+    }
+
+    String getBucketName() {
+        return bucketName;
+    }
+
+    String getObjectName() {
+        return objectName;
+    }
+
+    String getUploadId() {
+        return uploadId;
+    }
+
+    boolean isCompleted(int partNumber) {
+        return etags.containsKey(partNumber);
+    }
+
+    void complete(int partNumber, String etag) {
+        etags.put(partNumber, etag);
+    }
+
+    /**
+     * 只保留服务端确认存在且 ETag 一致的分片
+     *
+     * @param uploaded 服务端已有分片，分片编号 -> ETag
+     */
+    void retain(Map<Integer, String> uploaded) {
+        etags.entrySet().removeIf(entry -> !entry.getValue().equals(uploaded.get(entry.getKey())));
+    }
+
+    /**
+     * 已完成分片的总大小
+     */
+    long completedBytes() {
+        long total = 0;
+        for (Integer partNumber : etags.keySet()) {
+            total += Math.min(partSize, fileSize - (partNumber - 1) * partSize);
+        }
+        return total;
+    }
+
+    /**
+     * 按分片编号排序的分片列表，用于合并分片
+     */
+    List<PartSummaryDomain> parts() {
+        List<PartSummaryDomain> parts = new ArrayList<>(etags.size());
+        etags.forEach((partNumber, etag) -> {
+            PartSummaryDomain part = new PartSummaryDomain();
+            part.setPartNumber(partNumber);
+            part.setEtag(etag);
+            parts.add(part);
+        });
+        return parts;
+    }
+
+    synchronized void save() throws IOException {
+        Properties properties = new Properties();
+        properties.setProperty(BUCKET_NAME, bucketName);
+        properties.setProperty(OBJECT_NAME, objectName);
+        properties.setProperty(UPLOAD_ID, uploadId);
+        properties.setProperty(FILE_SIZE, String.valueOf(fileSize));
+        properties.setProperty(LAST_MODIFIED, String.valueOf(lastModified));
+        properties.setProperty(PART_SIZE, String.valueOf(partSize));
+        etags.forEach((partNumber, etag) -> properties.setProperty(PART_PREFIX + partNumber, etag));
+
+        Files.createDirectories(path.getParent());
+        Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+        try (OutputStream out = Files.newOutputStream(temp)) {
+            properties.store(out, null);
+        }
+        try {
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException _) {
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    void delete() throws IOException {
+        Files.deleteIfExists(path);
+    }
+}
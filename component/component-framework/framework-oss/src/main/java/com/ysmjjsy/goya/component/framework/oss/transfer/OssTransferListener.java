@@ -0,0 +1,36 @@
+package com.ysmjjsy.goya.component.framework.oss.transfer;
+
+/**
+ * <p>分片传输进度回调</p>
+ * <p>
+ * 回调在传输线程中执行，多个分片并行时会被并发调用，实现需保证线程安全且不做耗时操作。
+ *
+ * @author goya
+ * @since 2026/2/8 10:20
+ */
+public interface OssTransferListener {
+
+    /**
+     * 空实现
+     */
+    OssTransferListener NONE = new OssTransferListener() {
+    };
+
+    /**
+     * 传输进度变化
+     *
+     * @param transferredBytes 已传输字节数，断点续传时包含此前已完成的分片
+     * @param totalBytes       总字节数
+     */
+    default void onProgress(long transferredBytes, long totalBytes) {
+    }
+
+    /**
+     * 单个分片完成
+     *
+     * @param partNumber 分片编号，从 1 开始
+     * @param partSize   分片大小
+     */
+    default void onPartCompleted(int partNumber, long partSize) {
+    }
+}
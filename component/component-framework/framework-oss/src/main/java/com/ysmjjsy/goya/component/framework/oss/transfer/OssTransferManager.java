@@ -0,0 +1,587 @@
+package com.ysmjjsy.goya.component.framework.oss.transfer;
+
+import com.ysmjjsy.goya.component.framework.common.utils.GoyaByteUtils;
+import com.ysmjjsy.goya.component.framework.common.utils.GoyaHashUtils;
+import com.ysmjjsy.goya.component.framework.oss.arguments.multipart.AbortMultipartUploadArguments;
+import com.ysmjjsy.goya.component.framework.oss.arguments.multipart.InitiateMultipartUploadArguments;
+import com.ysmjjsy.goya.component.framework.oss.arguments.multipart.ListPartsArguments;
+import com.ysmjjsy.goya.component.framework.oss.arguments.multipart.UploadPartArguments;
+import com.ysmjjsy.goya.component.framework.oss.arguments.object.GetObjectArguments;
+import com.ysmjjsy.goya.component.framework.oss.arguments.object.PutObjectArguments;
+import com.ysmjjsy.goya.component.framework.oss.autoconfigure.properties.OssProperties;
+import com.ysmjjsy.goya.component.framework.oss.constants.OssConstants;
+import com.ysmjjsy.goya.component.framework.oss.core.repository.OssMultipartUploadRepository;
+import com.ysmjjsy.goya.component.framework.oss.core.repository.OssObjectRepository;
+import com.ysmjjsy.goya.component.framework.oss.domain.base.ObjectWriteDomain;
+import com.ysmjjsy.goya.component.framework.oss.domain.multipart.ListPartsDomain;
+import com.ysmjjsy.goya.component.framework.oss.domain.multipart.PartSummaryDomain;
+import com.ysmjjsy.goya.component.framework.oss.domain.multipart.UploadPartDomain;
+import com.ysmjjsy.goya.component.framework.oss.domain.object.GetObjectDomain;
+import com.ysmjjsy.goya.component.framework.oss.domain.object.ObjectMetadataDomain;
+import com.ysmjjsy.goya.component.framework.oss.exception.OssException;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.jspecify.annotations.Nullable;
+import org.springframework.beans.factory.DisposableBean;
+
+import java.io.ByteArrayInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * <p>对象存储分片传输管理</p>
+ * <p>
+ * 基于 {@link OssObjectRepository} 与 {@link OssMultipartUploadRepository}，与具体厂商实现无关：
+ * <ul>
+ *   <li>上传：小于阈值的文件单次上传；否则按分片并行上传，同时进行的分片数不超过 concurrency，
+ *   每完成一个分片写一次断点。失败后保留断点与上传ID，以相同参数再次调用即从断点继续，
+ *   放弃时调用 {@link #abortUpload(String, String, Path)}</li>
+ *   <li>下载：按分片并行发起 Range 请求，写入临时文件对应位置，所有分片均携带 If-Match，
+ *   对象在下载过程中被覆盖时失败而不是拼出混合内容；完成后按 ETag 校验再替换目标文件</li>
+ * </ul>
+ * 每个传输在内存中最多缓冲 concurrency 个分片。
+ *
+ * @author goya
+ * @since 2026/2/8 10:30
+ */
+@Slf4j
+public class OssTransferManager implements DisposableBean {
+
+    private static final Pattern MD5_ETAG = Pattern.compile("[0-9a-fA-F]{32}");
+    private static final Pattern MULTIPART_ETAG = Pattern.compile("([0-9a-fA-F]{32})-(\\d+)");
+
+    private final OssObjectRepository ossObjectRepository;
+    private final OssMultipartUploadRepository ossMultipartUploadRepository;
+    private final long multipartThreshold;
+    private final long partSize;
+    private final int concurrency;
+    private final Path checkpointDir;
+    private final boolean verifyChecksum;
+    private final ExecutorService executor;
+
+    public OssTransferManager(OssObjectRepository ossObjectRepository, OssMultipartUploadRepository ossMultipartUploadRepository, OssProperties ossProperties) {
+        OssProperties.Transfer transfer = ossProperties.transfer();
+        this.ossObjectRepository = ossObjectRepository;
+        this.ossMultipartUploadRepository = ossMultipartUploadRepository;
+        this.multipartThreshold = transfer.multipartThreshold().toBytes();
+        this.partSize = Math.max(transfer.partSize().toBytes(), OssConstants.MIN_MULTIPART_SIZE);
+        this.concurrency = Math.max(transfer.concurrency(), 1);
+        this.checkpointDir = StringUtils.isNotBlank(transfer.checkpointDir())
+                ? Paths.get(transfer.checkpointDir())
+                : Paths.get(System.getProperty("java.io.tmpdir"), "goya-oss-transfer");
+        this.verifyChecksum = Boolean.TRUE.equals(transfer.verifyChecksum());
+        // 分片任务大部分时间阻塞在网络 IO 上，并发度由每个传输的窗口控制
+        this.executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("goya-oss-transfer-", 0).factory());
+    }
+
+    // ==================== 上传 ====================
+
+    public ObjectWriteDomain upload(String bucketName, String objectName, Path file) {
+        return upload(bucketName, objectName, file, OssTransferListener.NONE);
+    }
+
+    /**
+     * 上传文件，大文件分片并行上传并支持断点续传
+     *
+     * @param bucketName 存储桶名称
+     * @param objectName 对象名称
+     * @param file       本地文件
+     * @param listener   进度回调
+     * @return 上传结果
+     */
+    public ObjectWriteDomain upload(String bucketName, String objectName, Path file, OssTransferListener listener) {
+        long size;
+        long lastModified;
+        try {
+            size = Files.size(file);
+            lastModified = Files.getLastModifiedTime(file).toMillis();
+        } catch (IOException e) {
+            throw new OssException(e);
+        }
+
+        if (size < multipartThreshold) {
+            return putObject(bucketName, objectName, file, size, listener);
+        }
+        return uploadMultipart(bucketName, objectName, file, size, lastModified, listener);
+    }
+
+    /**
+     * 放弃文件的断点上传，取消服务端分片上传并删除断点
+     *
+     * @param bucketName 存储桶名称
+     * @param objectName 对象名称
+     * @param file       本地文件
+     */
+    public void abortUpload(String bucketName, String objectName, Path file) {
+        OssTransferCheckpoint checkpoint = OssTransferCheckpoint.load(checkpointPath(bucketName, objectName, file));
+        if (checkpoint == null) {
+            return;
+        }
+        AbortMultipartUploadArguments arguments = new AbortMultipartUploadArguments();
+        arguments.setBucketName(bucketName);
+        arguments.setObjectName(objectName);
+        arguments.setUploadId(checkpoint.getUploadId());
+        try {
+            ossMultipartUploadRepository.abortMultipartUpload(arguments);
+        } catch (Exception e) {
+            log.warn("[Goya] |- Oss transfer abort upload [{}] failed.", checkpoint.getUploadId(), e);
+        }
+        deleteQuietly(checkpoint);
+    }
+
+    private ObjectWriteDomain putObject(String bucketName, String objectName, Path file, long size, OssTransferListener listener) {
+        try (InputStream in = Files.newInputStream(file)) {
+            PutObjectArguments arguments = new PutObjectArguments();
+            arguments.setBucketName(bucketName);
+            arguments.setObjectName(objectName);
+            arguments.setInputStream(in);
+            arguments.setObjectSize(size);
+            ObjectWriteDomain domain = ossObjectRepository.putObject(arguments);
+            listener.onProgress(size, size);
+            return domain;
+        } catch (IOException e) {
+            throw new OssException(e);
+        }
+    }
+
+    private ObjectWriteDomain uploadMultipart(String bucketName, String objectName, Path file, long size, long lastModified, OssTransferListener listener) {
+        long actualPartSize = partSize(size);
+        int partCount = partCount(size, actualPartSize);
+        OssTransferCheckpoint checkpoint = resume(bucketName, objectName, file, size, lastModified, actualPartSize);
+        if (checkpoint == null) {
+            String uploadId = initiateMultipartUpload(bucketName, objectName, actualPartSize);
+            checkpoint = new OssTransferCheckpoint(checkpointPath(bucketName, objectName, file),
+                    bucketName, objectName, uploadId, size, lastModified, actualPartSize);
+            saveCheckpoint(checkpoint);
+        }
+
+        AtomicLong transferred = new AtomicLong(checkpoint.completedBytes());
+        listener.onProgress(transferred.get(), size);
+
+        OssTransferCheckpoint current = checkpoint;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            runParts(partCount, partNumber -> {
+                if (current.isCompleted(partNumber)) {
+                    return;
+                }
+                long offset = (partNumber - 1) * actualPartSize;
+                int length = (int) Math.min(actualPartSize, size - offset);
+                String etag = uploadPart(current, channel, partNumber, offset, length);
+                current.complete(partNumber, etag);
+                saveCheckpoint(current);
+                listener.onPartCompleted(partNumber, length);
+                listener.onProgress(transferred.addAndGet(length), size);
+            });
+        } catch (IOException e) {
+            throw new OssException(e);
+        }
+
+        ObjectWriteDomain domain = ossMultipartUploadRepository.completeMultipartUpload(bucketName, objectName, current.getUploadId(), current.parts());
+        deleteQuietly(current);
+        log.debug("[Goya] |- Oss transfer upload [{}/{}] completed with [{}] parts.", bucketName, objectName, partCount);
+        return domain;
+    }
+
+    /**
+     * 创建分片上传，并在用户元数据中记录分片大小，供下载时确定分片边界
+     */
+    private String initiateMultipartUpload(String bucketName, String objectName, long actualPartSize) {
+        InitiateMultipartUploadArguments arguments = new InitiateMultipartUploadArguments();
+        arguments.setBucketName(bucketName);
+        arguments.setObjectName(objectName);
+        arguments.setMetadata(Map.of(OssConstants.METADATA_PART_SIZE, String.valueOf(actualPartSize)));
+        return ossMultipartUploadRepository.initiateMultipartUpload(arguments).getUploadId();
+    }
+
+    private String uploadPart(OssTransferCheckpoint checkpoint, FileChannel channel, int partNumber, long offset, int length) throws IOException {
+        byte[] data = new byte[length];
+        ByteBuffer buffer = ByteBuffer.wrap(data);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, offset + buffer.position()) < 0) {
+                throw new EOFException("File changed during upload.");
+            }
+        }
+        byte[] md5 = GoyaHashUtils.md5(data);
+
+        UploadPartArguments arguments = new UploadPartArguments();
+        arguments.setBucketName(checkpoint.getBucketName());
+        arguments.setObjectName(checkpoint.getObjectName());
+        arguments.setUploadId(checkpoint.getUploadId());
+        arguments.setPartNumber(partNumber);
+        arguments.setPartSize((long) length);
+        arguments.setInputStream(new ByteArrayInputStream(data));
+        arguments.setMd5Digest(Base64.getEncoder().encodeToString(md5));
+        UploadPartDomain domain = ossMultipartUploadRepository.uploadPart(arguments);
+
+        String etag = normalizeEtag(domain.getEtag());
+        if (verifyChecksum && MD5_ETAG.matcher(etag).matches()
+                && !etag.equalsIgnoreCase(GoyaByteUtils.toHexString(md5))) {
+            throw new OssException("分片 [" + partNumber + "] 校验失败");
+        }
+        return etag;
+    }
+
+    /**
+     * 读取并校验断点：文件或分片大小变化、上传ID已失效时丢弃断点重新上传
+     */
+    private @Nullable OssTransferCheckpoint resume(String bucketName, String objectName, Path file, long size, long lastModified, long actualPartSize) {
+        OssTransferCheckpoint checkpoint = OssTransferCheckpoint.load(checkpointPath(bucketName, objectName, file));
+        if (checkpoint == null) {
+            return null;
+        }
+        if (!checkpoint.matches(bucketName, objectName, size, lastModified, actualPartSize)) {
+            log.debug("[Goya] |- Oss transfer checkpoint of [{}/{}] is stale, restart upload.", bucketName, objectName);
+            deleteQuietly(checkpoint);
+            return null;
+        }
+        try {
+            checkpoint.retain(listUploadedParts(checkpoint));
+        } catch (Exception e) {
+            log.debug("[Goya] |- Oss transfer upload [{}] is no longer available, restart upload.", checkpoint.getUploadId(), e);
+            deleteQuietly(checkpoint);
+            return null;
+        }
+        log.debug("[Goya] |- Oss transfer resume upload [{}/{}] from [{}] bytes.", bucketName, objectName, checkpoint.completedBytes());
+        return checkpoint;
+    }
+
+    private Map<Integer, String> listUploadedParts(OssTransferCheckpoint checkpoint) {
+        Map<Integer, String> uploaded = new HashMap<>();
+        Integer marker = null;
+        ListPartsDomain domain;
+        do {
+            ListPartsArguments arguments = new ListPartsArguments();
+            arguments.setBucketName(checkpoint.getBucketName());
+            arguments.setObjectName(checkpoint.getObjectName());
+            arguments.setUploadId(checkpoint.getUploadId());
+            arguments.setPartNumberMarker(marker);
+            domain = ossMultipartUploadRepository.listParts(arguments);
+            if (domain.getParts() != null) {
+                for (PartSummaryDomain part : domain.getParts()) {
+                    uploaded.put(part.getPartNumber(), normalizeEtag(part.getEtag()));
+                }
+            }
+            marker = domain.getNextPartNumberMarker();
+        } while (Boolean.TRUE.equals(domain.getIsTruncated()) && marker != null);
+        return uploaded;
+    }
+
+    // ==================== 下载 ====================
+
+    public ObjectMetadataDomain download(String bucketName, String objectName, Path target) {
+        return download(bucketName, objectName, target, OssTransferListener.NONE);
+    }
+
+    /**
+     * 分片并行下载对象到本地文件
+     *
+     * @param bucketName 存储桶名称
+     * @param objectName 对象名称
+     * @param target     目标文件，下载并校验完成后才会被替换
+     * @param listener   进度回调
+     * @return 对象元数据
+     */
+    public ObjectMetadataDomain download(String bucketName, String objectName, Path target, OssTransferListener listener) {
+        ObjectMetadataDomain metadata = ossObjectRepository.getObjectMetadata(bucketName, objectName);
+        if (metadata == null) {
+            throw new OssException("无法获取对象 [" + objectName + "] 的元数据");
+        }
+        long size = metadata.getContentLength();
+        String etag = metadata.getEtag();
+        long actualPartSize = partSize(size);
+        int partCount = size == 0 ? 0 : partCount(size, actualPartSize);
+        byte[][] digests = new byte[partCount][];
+        AtomicLong transferred = new AtomicLong();
+
+        Path temp = target.resolveSibling(target.getFileName() + ".downloading");
+        try {
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                runParts(partCount, partNumber -> {
+                    long offset = (partNumber - 1) * actualPartSize;
+                    int length = (int) Math.min(actualPartSize, size - offset);
+                    digests[partNumber - 1] = downloadPart(bucketName, objectName, etag, channel, offset, length);
+                    listener.onPartCompleted(partNumber, length);
+                    listener.onProgress(transferred.addAndGet(length), size);
+                });
+                channel.force(false);
+            }
+            if (verifyChecksum) {
+                verifyDownload(temp, etag, digests, actualPartSize, uploadedPartSize(metadata));
+            }
+            move(temp, target);
+        } catch (IOException e) {
+            deleteQuietly(temp);
+            throw new OssException(e);
+        } catch (RuntimeException e) {
+            deleteQuietly(temp);
+            throw e;
+        }
+        log.debug("[Goya] |- Oss transfer download [{}/{}] completed with [{}] parts.", bucketName, objectName, partCount);
+        return metadata;
+    }
+
+    private byte[] downloadPart(String bucketName, String objectName, @Nullable String etag, FileChannel channel, long offset, int length) throws IOException {
+        GetObjectArguments arguments = new GetObjectArguments();
+        arguments.setBucketName(bucketName);
+        arguments.setObjectName(objectName);
+        arguments.setOffset(offset);
+        arguments.setLength((long) length);
+        if (StringUtils.isNotBlank(etag)) {
+            arguments.setMatchEtag(List.of(etag));
+        }
+        GetObjectDomain domain = ossObjectRepository.getObject(arguments);
+        if (domain == null || domain.getObjectContent() == null) {
+            throw new OssException("无法读取对象 [" + objectName + "] 的内容");
+        }
+
+        byte[] data;
+        try (InputStream in = domain.getObjectContent()) {
+            data = in.readNBytes(length);
+            if (data.length != length || in.read() != -1) {
+                throw new OssException("分片 [" + offset + "] 长度与请求范围不一致");
+            }
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(data);
+        while (buffer.hasRemaining()) {
+            channel.write(buffer, offset + buffer.position());
+        }
+        return GoyaHashUtils.md5(data);
+    }
+
+    /**
+     * 按 ETag 校验下载结果：
+     * <ul>
+     *   <li>单次上传的对象，ETag 为整个对象的 MD5</li>
+     *   <li>分片上传的对象，ETag 为各分片 MD5 拼接后的 MD5 加分片数，只有元数据中记录了上传分片大小
+     *   （本管理器上传的对象）时才能确定分片边界并校验；分片大小与本次下载一致时直接使用下载时的摘要，否则按上传分片重读文件</li>
+     * </ul>
+     * 其他格式（如服务端加密后的 ETag）或分片边界未知时无法校验，直接跳过。
+     */
+    private void verifyDownload(Path file, @Nullable String etag, byte[][] digests, long downloadPartSize, long uploadedPartSize) throws IOException {
+        String normalized = normalizeEtag(etag);
+        Matcher multipart = MULTIPART_ETAG.matcher(normalized);
+        if (multipart.matches()) {
+            if (uploadedPartSize <= 0) {
+                log.debug("[Goya] |- Oss transfer skip verify, part size of etag [{}] unknown.", normalized);
+                return;
+            }
+            byte[][] partDigests = uploadedPartSize == downloadPartSize ? digests : partDigests(file, uploadedPartSize);
+            if (Integer.parseInt(multipart.group(2)) != partDigests.length) {
+                throw new OssException("下载内容与 ETag [" + normalized + "] 分片数不一致");
+            }
+            MessageDigest md = md5();
+            for (byte[] digest : partDigests) {
+                md.update(digest);
+            }
+            if (!multipart.group(1).equalsIgnoreCase(GoyaByteUtils.toHexString(md.digest()))) {
+                throw new OssException("下载内容与 ETag [" + normalized + "] 不一致");
+            }
+            return;
+        }
+        if (!MD5_ETAG.matcher(normalized).matches()) {
+            return;
+        }
+        byte[] actual;
+        if (digests.length == 1) {
+            actual = digests[0];
+        } else {
+            // 单次上传的大对象只能整体计算
+            MessageDigest md = md5();
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                ByteBuffer buffer = ByteBuffer.allocate(64 * 1024);
+                while (channel.read(buffer) != -1) {
+                    buffer.flip();
+                    md.update(buffer);
+                    buffer.clear();
+                }
+            }
+            actual = md.digest();
+        }
+        if (!normalized.equalsIgnoreCase(GoyaByteUtils.toHexString(actual))) {
+            throw new OssException("下载内容与 ETag [" + normalized + "] 不一致");
+        }
+    }
+
+    /**
+     * 按上传分片大小重新计算各分片 MD5
+     */
+    private static byte[][] partDigests(Path file, long uploadedPartSize) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            byte[][] digests = new byte[size == 0 ? 0 : partCount(size, uploadedPartSize)][];
+            ByteBuffer buffer = ByteBuffer.allocate(64 * 1024);
+            for (int i = 0; i < digests.length; i++) {
+                MessageDigest md = md5();
+                long position = i * uploadedPartSize;
+                long end = Math.min(position + uploadedPartSize, size);
+                while (position < end) {
+                    buffer.clear().limit((int) Math.min(buffer.capacity(), end - position));
+                    int read = channel.read(buffer, position);
+                    if (read < 0) {
+                        throw new EOFException("File changed during verify.");
+                    }
+                    buffer.flip();
+                    md.update(buffer);
+                    position += read;
+                }
+                digests[i] = md.digest();
+            }
+            return digests;
+        }
+    }
+
+    /**
+     * 上传时记录在用户元数据中的分片大小，未记录或不合法时返回 0
+     */
+    private static long uploadedPartSize(ObjectMetadataDomain metadata) {
+        String value = metadata.getUserMetadata() == null ? null : metadata.getUserMetadata().get(OssConstants.METADATA_PART_SIZE);
+        try {
+            return StringUtils.isNotBlank(value) ? Math.max(Long.parseLong(value.trim()), 0) : 0;
+        } catch (NumberFormatException _) {
+            return 0;
+        }
+    }
+
+    // ==================== 公共 ====================
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    @FunctionalInterface
+    private interface PartTask {
+        void run(int partNumber) throws IOException;
+    }
+
+    /**
+     * 并行执行分片任务，同时运行的任务数不超过 concurrency；任一分片失败后不再提交新分片，
+     * 等待已提交的分片结束后抛出首个异常
+     */
+    private void runParts(int partCount, PartTask task) {
+        Semaphore window = new Semaphore(concurrency);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        List<Future<?>> futures = new ArrayList<>();
+        try {
+            for (int partNumber = 1; partNumber <= partCount && failure.get() == null; partNumber++) {
+                window.acquire();
+                int current = partNumber;
+                futures.add(executor.submit(() -> {
+                    try {
+                        if (failure.get() == null) {
+                            task.run(current);
+                        }
+                    } catch (Throwable e) {
+                        failure.compareAndSet(null, e);
+                    } finally {
+                        window.release();
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            futures.forEach(future -> future.cancel(true));
+            Thread.currentThread().interrupt();
+            throw new OssException(e);
+        } catch (ExecutionException e) {
+            failure.compareAndSet(null, e.getCause());
+        }
+
+        Throwable e = failure.get();
+        if (e instanceof OssException ossException) {
+            throw ossException;
+        }
+        if (e != null) {
+            throw new OssException(e);
+        }
+    }
+
+    /**
+     * 分片大小，保证分片数不超过 {@link OssConstants#MAX_MULTIPART_COUNT}
+     */
+    private long partSize(long size) {
+        long minPartSize = (size + OssConstants.MAX_MULTIPART_COUNT - 1) / OssConstants.MAX_MULTIPART_COUNT;
+        return Math.max(partSize, minPartSize);
+    }
+
+    private static int partCount(long size, long partSize) {
+        return (int) ((size + partSize - 1) / partSize);
+    }
+
+    private Path checkpointPath(String bucketName, String objectName, Path file) {
+        String key = bucketName + "/" + objectName + "|" + file.toAbsolutePath().normalize();
+        return checkpointDir.resolve(GoyaHashUtils.sha256Hex(key) + ".checkpoint");
+    }
+
+    private void saveCheckpoint(OssTransferCheckpoint checkpoint) {
+        try {
+            checkpoint.save();
+        } catch (IOException e) {
+            // 断点写入失败不影响本次上传，只是无法续传
+            log.warn("[Goya] |- Oss transfer can not save checkpoint of upload [{}].", checkpoint.getUploadId(), e);
+        }
+    }
+
+    private static void deleteQuietly(OssTransferCheckpoint checkpoint) {
+        try {
+            checkpoint.delete();
+        } catch (IOException e) {
+            log.debug("[Goya] |- Oss transfer can not delete checkpoint.", e);
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.debug("[Goya] |- Oss transfer can not delete temp file [{}].", file, e);
+        }
+    }
+
+    private static void move(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException _) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static String normalizeEtag(@Nullable String etag) {
+        return etag == null ? "" : StringUtils.strip(etag, "\"");
+    }
+
+    private static MessageDigest md5() {
+        try {
+            return MessageDigest.getInstance(GoyaHashUtils.MD5);
+        } catch (NoSuchAlgorithmException e) {
+            throw new OssException(e);
+        }
+    }
+}
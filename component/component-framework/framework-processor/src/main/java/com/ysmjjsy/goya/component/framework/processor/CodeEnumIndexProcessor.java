@@ -0,0 +1,136 @@
+package com.ysmjjsy.goya.component.framework.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.TypeMirror;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * <p>CodeEnum 编译期索引生成器</p>
+ * <p>
+ * 收集当前编译单元中所有实现 {@code CodeEnum} 的枚举，在最后一轮写入 {@value #INDEX_LOCATION}，
+ * 每行一个类的二进制名；模块中没有 CodeEnum 枚举时同样输出空索引，表示该模块无需扫描。
+ * 运行期通过 {@code ClassLoader#getResources} 合并各 jar 的索引，替代启动时的 classpath 扫描。
+ * <p>
+ * 增量编译时会合并输出目录中已有的索引，已删除的类由运行期加载时忽略。
+ *
+ * @author goya
+ * @since 2026/2/6 10:10
+ */
+public class CodeEnumIndexProcessor extends AbstractProcessor {
+
+    /**
+     * 索引文件位置，需与运行期读取方保持一致
+     */
+    public static final String INDEX_LOCATION = "META-INF/goya/code-enums.index";
+
+    private static final String CODE_ENUM = "com.ysmjjsy.goya.component.framework.common.enums.CodeEnum";
+
+    private final Set<String> enums = new TreeSet<>();
+
+    /**
+     * 当前模块可见 CodeEnum 时即输出索引（可能为空），以标记该模块无需运行期扫描
+     */
+    private boolean codeEnumVisible;
+
+    @Override
+    public Set<String> getSupportedAnnotationTypes() {
+        return Set.of("*");
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (roundEnv.processingOver()) {
+            writeIndex();
+            return false;
+        }
+
+        TypeElement codeEnum = processingEnv.getElementUtils().getTypeElement(CODE_ENUM);
+        if (codeEnum == null) {
+            // 当前模块未依赖 CodeEnum，无需处理
+            return false;
+        }
+        codeEnumVisible = true;
+        TypeMirror codeEnumType = processingEnv.getTypeUtils().erasure(codeEnum.asType());
+        for (Element element : roundEnv.getRootElements()) {
+            collect(element, codeEnumType);
+        }
+        return false;
+    }
+
+    /**
+     * 递归收集枚举（含嵌套类型中声明的枚举）
+     */
+    private void collect(Element element, TypeMirror codeEnumType) {
+        if (!(element instanceof TypeElement type)) {
+            return;
+        }
+        if (type.getKind() == ElementKind.ENUM
+                && processingEnv.getTypeUtils().isAssignable(type.asType(), codeEnumType)) {
+            enums.add(processingEnv.getElementUtils().getBinaryName(type).toString());
+        }
+        for (Element enclosed : type.getEnclosedElements()) {
+            collect(enclosed, codeEnumType);
+        }
+    }
+
+    private void writeIndex() {
+        if (!codeEnumVisible) {
+            return;
+        }
+
+        Set<String> merged = new TreeSet<>(enums);
+        readExisting(merged);
+
+        try {
+            FileObject file = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", INDEX_LOCATION);
+            try (Writer writer = file.openWriter()) {
+                for (String name : merged) {
+                    writer.write(name);
+                    writer.write('\n');
+                }
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "Unable to write CodeEnum index " + INDEX_LOCATION + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * 增量编译时保留上次生成的条目
+     */
+    private void readExisting(Set<String> target) {
+        try {
+            FileObject existing = processingEnv.getFiler().getResource(StandardLocation.CLASS_OUTPUT, "", INDEX_LOCATION);
+            try (Reader reader = existing.openReader(true);
+                 BufferedReader buffered = new BufferedReader(reader)) {
+                String line;
+                while ((line = buffered.readLine()) != null) {
+                    String name = line.strip();
+                    if (!name.isEmpty() && !name.startsWith("#")) {
+                        target.add(name);
+                    }
+                }
+            }
+        } catch (IOException | IllegalArgumentException _) {
+            // 首次编译时索引不存在
+        }
+    }
+}
@@ -28,4 +28,17 @@ public interface AuthorizationService {
      * @return 鉴权决策结果（包含解释信息）
      */
     DecisionExplain authorizeWithExplain(AuthorizeRequest request);
+
+    /**
+     * 试运行鉴权并返回可解释的决策结果。
+     *
+     * <p>直接读取策略仓储，不使用策略缓存，不计入策略命中统计，也不输出决策日志，
+     * 用于排查请求被拒绝的原因、查看收窄查询的行级范围。</p>
+     *
+     * @param request 鉴权请求
+     * @return 鉴权决策结果（包含解释信息）
+     */
+    default DecisionExplain explain(AuthorizeRequest request) {
+        return authorizeWithExplain(request);
+    }
 }
@@ -1,6 +1,7 @@
 package com.ysmjjsy.goya.component.framework.security.autoconfigure;
 
 import com.ysmjjsy.goya.component.framework.security.api.AuthorizationService;
+import com.ysmjjsy.goya.component.framework.security.autoconfigure.properties.PermissionProperties;
 import com.ysmjjsy.goya.component.framework.security.context.ContextSubjectResolver;
 import com.ysmjjsy.goya.component.framework.security.context.ResourceResolver;
 import com.ysmjjsy.goya.component.framework.security.context.SubjectResolver;
@@ -11,17 +12,26 @@ import com.ysmjjsy.goya.component.framework.security.decision.PolicyEngine;
 import com.ysmjjsy.goya.component.framework.security.dsl.RangeDslParser;
 import com.ysmjjsy.goya.component.framework.security.dsl.RangeFilterBuilder;
 import com.ysmjjsy.goya.component.framework.security.event.DefaultPermissionChangePublisher;
+import com.ysmjjsy.goya.component.framework.security.event.PermissionChangeBroadcaster;
 import com.ysmjjsy.goya.component.framework.security.event.PermissionChangeSubscriberDispatcher;
+import com.ysmjjsy.goya.component.framework.security.service.DecisionLogRecorder;
 import com.ysmjjsy.goya.component.framework.security.service.DefaultAuthorizationService;
+import com.ysmjjsy.goya.component.framework.security.service.PolicyCache;
+import com.ysmjjsy.goya.component.framework.security.service.PolicyHitCounter;
 import com.ysmjjsy.goya.component.framework.security.spi.PermissionChangePublisher;
 import com.ysmjjsy.goya.component.framework.security.spi.PermissionChangeSubscriber;
 import com.ysmjjsy.goya.component.framework.security.spi.PolicyRepository;
 import com.ysmjjsy.goya.component.framework.bus.event.BusEventPublisher;
+import com.ysmjjsy.goya.component.framework.bus.message.BusMessageProducer;
+import com.ysmjjsy.goya.component.framework.bus.runtime.BindingResolver;
+import com.ysmjjsy.goya.component.framework.core.constants.PropertyConst;
 import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 
 /**
@@ -32,6 +42,7 @@ import org.springframework.context.annotation.Bean;
  */
 @Slf4j
 @AutoConfiguration
+@EnableConfigurationProperties(PermissionProperties.class)
 public class FrameworkSecurityAutoConfiguration {
 
     @PostConstruct
@@ -81,13 +92,60 @@ public class FrameworkSecurityAutoConfiguration {
         return defaultPolicyEngine;
     }
 
+    /**
+     * 生效策略缓存，同时订阅权限变更按租户失效。
+     *
+     * @param properties 权限配置
+     * @return PolicyCache
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(prefix = PropertyConst.PROPERTY_PERMISSION + ".policy-cache", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public PolicyCache policyCache(PermissionProperties properties) {
+        PolicyCache policyCache = new PolicyCache(properties.policyCache());
+        log.trace("[Goya] |- component [framework] FrameworkSecurityAutoConfiguration |- bean [policyCache] register.");
+        return policyCache;
+    }
+
+    /**
+     * 鉴权决策日志，默认关闭，需显式开启。
+     *
+     * @param properties 权限配置
+     * @return DecisionLogRecorder
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(prefix = PropertyConst.PROPERTY_PERMISSION + ".decision-log", name = "enabled", havingValue = "true")
+    public DecisionLogRecorder decisionLogRecorder(PermissionProperties properties) {
+        DecisionLogRecorder decisionLogRecorder = new DecisionLogRecorder(properties.decisionLog());
+        log.trace("[Goya] |- component [framework] FrameworkSecurityAutoConfiguration |- bean [decisionLogRecorder] register.");
+        return decisionLogRecorder;
+    }
+
+    /**
+     * 策略命中计数器，默认关闭，需显式开启。
+     *
+     * @return PolicyHitCounter
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(prefix = PropertyConst.PROPERTY_PERMISSION, name = "policy-hit-counter", havingValue = "true")
+    public PolicyHitCounter policyHitCounter() {
+        PolicyHitCounter policyHitCounter = new PolicyHitCounter();
+        log.trace("[Goya] |- component [framework] FrameworkSecurityAutoConfiguration |- bean [policyHitCounter] register.");
+        return policyHitCounter;
+    }
+
     /**
      * 鉴权服务。
      *
-     * @param subjectResolver  主体解析器
-     * @param resourceResolver 资源解析器
-     * @param policyRepository 策略仓储
-     * @param policyEngine     策略引擎
+     * @param subjectResolver             主体解析器
+     * @param resourceResolver            资源解析器
+     * @param policyRepository            策略仓储
+     * @param policyEngine                策略引擎
+     * @param policyCacheProvider         策略缓存（可选）
+     * @param decisionLogRecorderProvider 决策日志（可选）
+     * @param policyHitCounterProvider    策略命中计数器（可选）
      * @return AuthorizationService
      */
     @Bean
@@ -95,8 +153,13 @@ public class FrameworkSecurityAutoConfiguration {
     public AuthorizationService defaultAuthorizationService(SubjectResolver subjectResolver,
                                                             ResourceResolver resourceResolver,
                                                             PolicyRepository policyRepository,
-                                                            PolicyEngine policyEngine) {
-        DefaultAuthorizationService defaultAuthorizationService = new DefaultAuthorizationService(subjectResolver, resourceResolver, policyRepository, policyEngine);
+                                                            PolicyEngine policyEngine,
+                                                            ObjectProvider<PolicyCache> policyCacheProvider,
+                                                            ObjectProvider<DecisionLogRecorder> decisionLogRecorderProvider,
+                                                            ObjectProvider<PolicyHitCounter> policyHitCounterProvider) {
+        DefaultAuthorizationService defaultAuthorizationService = new DefaultAuthorizationService(subjectResolver, resourceResolver,
+                policyRepository, policyEngine, policyCacheProvider.getIfAvailable(),
+                decisionLogRecorderProvider.getIfAvailable(), policyHitCounterProvider.getIfAvailable());
         log.trace("[Goya] |- component [framework] FrameworkSecurityAutoConfiguration |- bean [defaultAuthorizationService] register.");
         return defaultAuthorizationService;
     }
@@ -119,13 +182,34 @@ public class FrameworkSecurityAutoConfiguration {
      * 权限变更订阅分发器。
      *
      * @param subscribersProvider 订阅器提供器
+     * @param properties          权限配置
      * @return PermissionChangeSubscriberDispatcher
      */
     @Bean
     @ConditionalOnMissingBean
-    public PermissionChangeSubscriberDispatcher permissionChangeSubscriberDispatcher(ObjectProvider<PermissionChangeSubscriber> subscribersProvider) {
-        PermissionChangeSubscriberDispatcher dispatcher = new PermissionChangeSubscriberDispatcher(subscribersProvider);
+    public PermissionChangeSubscriberDispatcher permissionChangeSubscriberDispatcher(ObjectProvider<PermissionChangeSubscriber> subscribersProvider,
+                                                                                     PermissionProperties properties) {
+        PermissionChangeSubscriberDispatcher dispatcher = new PermissionChangeSubscriberDispatcher(subscribersProvider,
+                properties.dispatchLanes());
         log.trace("[Goya] |- component [framework] FrameworkSecurityAutoConfiguration |- bean [permissionChangeSubscriberDispatcher] register.");
         return dispatcher;
     }
+
+    /**
+     * 权限变更跨节点广播。
+     *
+     * @param producerProvider        消息发送器
+     * @param bindingResolverProvider binding 解析器
+     * @param dispatcher              订阅分发器
+     * @return PermissionChangeBroadcaster
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public PermissionChangeBroadcaster permissionChangeBroadcaster(ObjectProvider<BusMessageProducer> producerProvider,
+                                                                   ObjectProvider<BindingResolver> bindingResolverProvider,
+                                                                   PermissionChangeSubscriberDispatcher dispatcher) {
+        PermissionChangeBroadcaster broadcaster = new PermissionChangeBroadcaster(producerProvider, bindingResolverProvider, dispatcher);
+        log.trace("[Goya] |- component [framework] FrameworkSecurityAutoConfiguration |- bean [permissionChangeBroadcaster] register.");
+        return broadcaster;
+    }
 }
@@ -0,0 +1,91 @@
+package com.ysmjjsy.goya.component.framework.security.autoconfigure.properties;
+
+import com.ysmjjsy.goya.component.framework.core.constants.PropertyConst;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * <p>权限变更传播与策略缓存配置</p>
+ *
+ * @author goya
+ * @since 2026/2/8 20:10
+ */
+@ConfigurationProperties(prefix = PropertyConst.PROPERTY_PERMISSION)
+public record PermissionProperties(
+        /*
+          变更分发通道数，同一主体的变更固定落在同一通道内按序处理。
+         */
+        @DefaultValue("4")
+        int dispatchLanes,
+
+        /*
+          策略缓存配置。
+         */
+        @DefaultValue
+        PolicyCache policyCache,
+
+        /*
+          鉴权决策日志配置。
+         */
+        @DefaultValue
+        DecisionLog decisionLog,
+
+        /*
+          是否统计各策略的命中次数，用于发现长期未命中的策略。
+          开启后鉴权改用带解释的评估，默认关闭。
+         */
+        @DefaultValue("false")
+        boolean policyHitCounter
+) {
+
+    public record PolicyCache(
+            /*
+              是否缓存生效策略查询结果。
+             */
+            @DefaultValue("true")
+            boolean enabled,
+
+            /*
+              最大缓存条目数。
+             */
+            @DefaultValue("10000")
+            int maximumSize,
+
+            /*
+              写入后过期时间，兜底未送达的变更事件。
+             */
+            @DefaultValue("PT10M")
+            Duration ttl
+    ) {
+    }
+
+    public record DecisionLog(
+            /*
+              是否输出鉴权决策日志。
+              开启后鉴权改用带解释的评估，默认关闭。
+             */
+            @DefaultValue("false")
+            boolean enabled,
+
+            /*
+              允许决策的采样率，0 ~ 1。
+             */
+            @DefaultValue("0.01")
+            double allowSampleRate,
+
+            /*
+              拒绝决策的采样率，0 ~ 1，排查访问投诉主要依赖拒绝日志。
+             */
+            @DefaultValue("1.0")
+            double denySampleRate,
+
+            /*
+              每秒最多输出的决策日志条数，超出部分丢弃。
+             */
+            @DefaultValue("50")
+            int maxPerSecond
+    ) {
+    }
+}
@@ -4,11 +4,14 @@ import com.ysmjjsy.goya.component.framework.security.spi.PermissionChangePublish
 import com.ysmjjsy.goya.component.framework.bus.event.BusEventPublisher;
 
 import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * <p>默认权限变更发布器。</p>
  *
- * <p>基于 framework-bus 事件发布。</p>
+ * <p>基于 framework-bus 事件发布，事务提交后才发出。</p>
+ * <p>未指定版本的事件按“毫秒时间戳 × 1000 + 序号”分配版本，本节点内严格递增，仅用于排查；
+ * 分发器不据此丢弃事件。</p>
  *
  * @author goya
  * @since 2026/1/31
@@ -16,6 +19,7 @@ import java.time.LocalDateTime;
 public class DefaultPermissionChangePublisher implements PermissionChangePublisher {
 
     private final BusEventPublisher busEventPublisher;
+    private final AtomicLong clock = new AtomicLong();
 
     public DefaultPermissionChangePublisher(BusEventPublisher busEventPublisher) {
         this.busEventPublisher = busEventPublisher;
@@ -29,6 +33,10 @@ public class DefaultPermissionChangePublisher implements PermissionChangePublish
         if (event.getChangedAt() == null) {
             event.setChangedAt(LocalDateTime.now());
         }
+        if (event.getVersion() == null) {
+            long now = System.currentTimeMillis() * 1000;
+            event.setVersion(clock.updateAndGet(last -> Math.max(last + 1, now)));
+        }
         busEventPublisher.publishAfterCommit(event);
     }
 }
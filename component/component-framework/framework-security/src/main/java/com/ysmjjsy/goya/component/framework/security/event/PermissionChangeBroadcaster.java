@@ -0,0 +1,75 @@
+package com.ysmjjsy.goya.component.framework.security.event;
+
+import com.ysmjjsy.goya.component.framework.bus.message.BusMessageListener;
+import com.ysmjjsy.goya.component.framework.bus.message.BusMessageProducer;
+import com.ysmjjsy.goya.component.framework.bus.message.MessageEnvelope;
+import com.ysmjjsy.goya.component.framework.bus.runtime.BindingResolver;
+import com.ysmjjsy.goya.component.framework.core.json.GoyaJson;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.event.EventListener;
+
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * <p>权限变更跨节点广播</p>
+ *
+ * <p>本节点发布的变更在提交后经 bus binding {@value #BINDING} 发给其他节点，其他节点收到后直接交给
+ * {@link PermissionChangeSubscriberDispatcher}，不再转为本地事件，避免再次广播。</p>
+ * <p>未在 framework.bus.bindings 中配置 {@value #BINDING} 时不广播，变更只在本节点生效。</p>
+ *
+ * @author goya
+ * @since 2026/2/8 20:30
+ */
+@Slf4j
+public class PermissionChangeBroadcaster {
+
+    public static final String BINDING = "permissionChange";
+
+    private static final String HDR_ORIGIN = "permission.origin";
+
+    private final ObjectProvider<BusMessageProducer> producerProvider;
+    private final ObjectProvider<BindingResolver> bindingResolverProvider;
+    private final PermissionChangeSubscriberDispatcher dispatcher;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    public PermissionChangeBroadcaster(ObjectProvider<BusMessageProducer> producerProvider,
+                                       ObjectProvider<BindingResolver> bindingResolverProvider,
+                                       PermissionChangeSubscriberDispatcher dispatcher) {
+        this.producerProvider = producerProvider;
+        this.bindingResolverProvider = bindingResolverProvider;
+        this.dispatcher = dispatcher;
+    }
+
+    @EventListener
+    public void onLocalChange(PermissionChangeEvent event) {
+        BusMessageProducer producer = producerProvider.getIfAvailable();
+        BindingResolver bindingResolver = bindingResolverProvider.getIfAvailable();
+        if (event == null || producer == null || bindingResolver == null || !bindingResolver.all().containsKey(BINDING)) {
+            return;
+        }
+        Map<String, Object> headers = new LinkedHashMap<>();
+        headers.put(HDR_ORIGIN, nodeId);
+        MessageEnvelope<PermissionChangeEvent> envelope = new MessageEnvelope<>(null, PermissionChangeEvent.class.getName(),
+                Instant.now(), PermissionChangeSubscriberDispatcher.orderingKey(event), headers, event);
+        try {
+            producer.send(BINDING, envelope);
+        } catch (RuntimeException ex) {
+            log.warn("[Goya] |- component [framework] |- permission change broadcast failed, other nodes rely on cache ttl: {}", ex.getMessage(), ex);
+        }
+    }
+
+    @BusMessageListener(binding = BINDING)
+    public void onRemoteChange(MessageEnvelope<?> envelope) {
+        if (envelope == null || envelope.payload() == null || nodeId.equals(envelope.headers().get(HDR_ORIGIN))) {
+            return;
+        }
+        PermissionChangeEvent event = envelope.payload() instanceof PermissionChangeEvent value
+                ? value
+                : GoyaJson.convertValue(envelope.payload(), PermissionChangeEvent.class);
+        dispatcher.dispatch(event);
+    }
+}
@@ -1,5 +1,6 @@
 package com.ysmjjsy.goya.component.framework.security.event;
 
+import com.ysmjjsy.goya.component.framework.security.domain.SubjectType;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Data;
 
@@ -31,6 +32,18 @@ public class PermissionChangeEvent implements Serializable {
     @Schema(description = "授权策略")
     private String policyId;
 
+    /**
+     * 主体类型
+     */
+    @Schema(description = "主体类型")
+    private SubjectType subjectType;
+
+    /**
+     * 主体ID
+     */
+    @Schema(description = "主体ID")
+    private String subjectId;
+
     /**
      * 资源编码
      */
@@ -49,6 +62,12 @@ public class PermissionChangeEvent implements Serializable {
     @Schema(description = "变更时间")
     private LocalDateTime changedAt;
 
+    /**
+     * 变更版本，发布节点内单调递增，仅用于排查与订阅器参考，跨节点不可比较
+     */
+    @Schema(description = "变更版本")
+    private Long version;
+
     /**
      * 参数信息
      */
@@ -2,31 +2,78 @@ package com.ysmjjsy.goya.component.framework.security.event;
 
 import com.ysmjjsy.goya.component.framework.security.spi.PermissionChangeSubscriber;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.ObjectProvider;
-import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.context.event.EventListener;
+import org.springframework.util.StringUtils;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 /**
  * <p>权限变更事件分发器。</p>
  *
- * <p>接收 PermissionChangeEvent，并分发给 PermissionChangeSubscriber。</p>
+ * <p>接收 PermissionChangeEvent，并异步分发给 PermissionChangeSubscriber：</p>
+ * <ul>
+ *   <li>事件按租户 + 主体（无主体时按策略、资源）计算顺序键，同一顺序键固定进入同一通道，通道内串行处理，保证按发生顺序送达</li>
+ *   <li>不按事件版本丢弃：版本由各节点本地时钟生成，跨节点不可比较，失效类事件重复处理无害而漏处理会留下过期缓存</li>
+ *   <li>订阅器在通道线程中执行，不占用提交事务的业务线程，单个订阅器异常不影响其他订阅器</li>
+ * </ul>
+ * <p>发布器已在事务提交后发出事件，这里使用普通监听器即可；跨节点事件由 {@link PermissionChangeBroadcaster} 直接调用 {@link #dispatch}。</p>
  *
  * @author goya
  * @since 2026/2/01
  */
 @Slf4j
-public class PermissionChangeSubscriberDispatcher {
+public class PermissionChangeSubscriberDispatcher implements DisposableBean {
 
     private final ObjectProvider<PermissionChangeSubscriber> subscribersProvider;
+    private final ExecutorService[] lanes;
 
-    public PermissionChangeSubscriberDispatcher(ObjectProvider<PermissionChangeSubscriber> subscribersProvider) {
+    public PermissionChangeSubscriberDispatcher(ObjectProvider<PermissionChangeSubscriber> subscribersProvider,
+                                                int dispatchLanes) {
         this.subscribersProvider = subscribersProvider;
+        this.lanes = new ExecutorService[Math.max(1, dispatchLanes)];
+        for (int i = 0; i < lanes.length; i++) {
+            lanes[i] = Executors.newSingleThreadExecutor(Thread.ofVirtual()
+                    .name("goya-permission-change-" + i)
+                    .factory());
+        }
     }
 
-    @TransactionalEventListener
+    @EventListener
     public void onApplicationEvent(PermissionChangeEvent event) {
+        dispatch(event);
+    }
+
+    /**
+     * 将变更事件放入所属通道，立即返回。
+     *
+     * @param event 权限变更事件
+     */
+    public void dispatch(PermissionChangeEvent event) {
         if (event == null) {
             return;
         }
+        String key = orderingKey(event);
+        lanes[Math.floorMod(key.hashCode(), lanes.length)].execute(() -> deliver(event));
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        for (ExecutorService lane : lanes) {
+            lane.shutdown();
+        }
+        for (ExecutorService lane : lanes) {
+            lane.awaitTermination(5, TimeUnit.SECONDS);
+        }
+    }
+
+    /**
+     * 在通道线程中执行，同一顺序键不会并发进入
+     */
+    private void deliver(PermissionChangeEvent event) {
         for (PermissionChangeSubscriber subscriber : subscribersProvider) {
             if (subscriber == null) {
                 continue;
@@ -38,4 +85,25 @@ public class PermissionChangeSubscriberDispatcher {
             }
         }
     }
+
+    /**
+     * 顺序键：租户 + 主体，无主体时依次退化为策略、资源
+     *
+     * @param event 权限变更事件
+     * @return 顺序键
+     */
+    static String orderingKey(PermissionChangeEvent event) {
+        String tenant = StringUtils.hasText(event.getTenantCode()) ? event.getTenantCode() : "";
+        if (StringUtils.hasText(event.getSubjectId())) {
+            String type = event.getSubjectType() != null ? event.getSubjectType().getCode() : "";
+            return tenant + ":subject:" + type + ":" + event.getSubjectId();
+        }
+        if (StringUtils.hasText(event.getPolicyId())) {
+            return tenant + ":policy:" + event.getPolicyId();
+        }
+        if (StringUtils.hasText(event.getResourceCode())) {
+            return tenant + ":resource:" + event.getResourceCode();
+        }
+        return tenant + ":*";
+    }
 }
@@ -0,0 +1,114 @@
+package com.ysmjjsy.goya.component.framework.security.service;
+
+import com.ysmjjsy.goya.component.framework.core.json.GoyaJson;
+import com.ysmjjsy.goya.component.framework.security.autoconfigure.properties.PermissionProperties;
+import com.ysmjjsy.goya.component.framework.security.decision.DecisionContext;
+import com.ysmjjsy.goya.component.framework.security.decision.DecisionExplain;
+import com.ysmjjsy.goya.component.framework.security.decision.DecisionType;
+import com.ysmjjsy.goya.component.framework.security.event.AuditEvent;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * <p>鉴权决策日志</p>
+ *
+ * <p>按决策结果分别采样，再经每秒条数上限限流后，以 {@link AuditEvent} JSON 的形式输出到本类的日志记录器，
+ * attributes 中携带允许/拒绝策略ID、行级范围与评估耗时（微秒）。可通过日志配置将本类单独输出到审计文件。</p>
+ *
+ * @author goya
+ * @since 2026/2/9 10:10
+ */
+@Slf4j
+public class DecisionLogRecorder {
+
+    private static final long COUNT_MASK = 0xFFFFFFFFL;
+
+    private final PermissionProperties.DecisionLog config;
+    /**
+     * 限流状态：高 32 位为窗口所在秒，低 32 位为窗口内已放行条数，窗口与计数一起原子切换
+     */
+    private final AtomicLong window = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+
+    public DecisionLogRecorder(PermissionProperties.DecisionLog config) {
+        this.config = config;
+    }
+
+    /**
+     * 采样并记录一次决策
+     *
+     * @param context      决策上下文
+     * @param decision     决策结果
+     * @param elapsedNanos 评估耗时（纳秒）
+     */
+    public void record(DecisionContext context, DecisionExplain decision, long elapsedNanos) {
+        if (!config.enabled() || !log.isInfoEnabled() || !sampled(decision.getDecisionType()) || !acquire()) {
+            return;
+        }
+        AuditEvent event = new AuditEvent();
+        event.setTenantCode(context.getTenantCode());
+        if (context.getSubject() != null) {
+            event.setSubjectId(context.getSubject().getSubjectId());
+            event.setSubjectType(context.getSubject().getSubjectType());
+        }
+        if (context.getResource() != null) {
+            event.setResourceCode(context.getResource().getResourceCode());
+            event.setResourceType(context.getResource().getResourceType());
+        }
+        event.setAction(context.getAction());
+        event.setDecisionType(decision.getDecisionType());
+        event.setOccurredAt(LocalDateTime.now());
+        event.setTraceId(decision.getTraceId());
+
+        Map<String, Object> attributes = new LinkedHashMap<>();
+        attributes.put("reason", decision.getReason());
+        attributes.put("allowPolicyIds", decision.getAllowPolicyIds());
+        attributes.put("denyPolicyIds", decision.getDenyPolicyIds());
+        attributes.put("appliedRanges", decision.getAppliedRanges());
+        attributes.put("elapsedMicros", elapsedNanos / 1000);
+        event.setAttributes(attributes);
+
+        log.info("[Goya] |- component [framework] |- authorization decision {}", GoyaJson.toJson(event));
+    }
+
+    private boolean sampled(DecisionType decisionType) {
+        double rate = decisionType == DecisionType.ALLOW ? config.allowSampleRate() : config.denySampleRate();
+        if (rate >= 1.0) {
+            return true;
+        }
+        return rate > 0 && ThreadLocalRandom.current().nextDouble() < rate;
+    }
+
+    /**
+     * 每秒固定窗口限流，窗口切换时报告上一窗口丢弃的条数
+     */
+    private boolean acquire() {
+        long second = System.currentTimeMillis() / 1000;
+        while (true) {
+            long state = window.get();
+            // 进入新窗口时计数清零，与窗口一起切换；时钟读取较早的线程计入当前窗口，不回退窗口
+            boolean rolled = state >>> 32 < second;
+            long base = rolled ? second << 32 : state;
+            boolean permitted = (base & COUNT_MASK) < config.maxPerSecond();
+            long next = permitted ? base + 1 : base;
+            if (next != state && !window.compareAndSet(state, next)) {
+                continue;
+            }
+            if (rolled) {
+                long lost = dropped.getAndSet(0);
+                if (lost > 0) {
+                    log.warn("[Goya] |- component [framework] |- [{}] authorization decision logs dropped by rate limit.", lost);
+                }
+            }
+            if (!permitted) {
+                dropped.incrementAndGet();
+            }
+            return permitted;
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.ysmjjsy.goya.component.framework.security.service;
 
+import com.ysmjjsy.goya.component.framework.common.constants.DefaultConst;
 import com.ysmjjsy.goya.component.framework.security.api.AuthorizationService;
 import com.ysmjjsy.goya.component.framework.security.api.AuthorizeRequest;
 import com.ysmjjsy.goya.component.framework.security.context.ResourceResolver;
@@ -10,8 +11,9 @@ import com.ysmjjsy.goya.component.framework.security.domain.PolicyQuery;
 import com.ysmjjsy.goya.component.framework.security.domain.Resource;
 import com.ysmjjsy.goya.component.framework.security.domain.Subject;
 import com.ysmjjsy.goya.component.framework.security.spi.PolicyRepository;
-import lombok.RequiredArgsConstructor;
 import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.MDC;
 
 import java.util.Collections;
 import java.util.List;
@@ -19,16 +21,53 @@ import java.util.List;
 /**
  * <p>默认鉴权服务实现，提供核心流程编排。</p>
  *
+ * <p>配置了决策日志或策略命中统计时，{@link #authorize} 改用带解释的评估以获得命中策略，
+ * 评估完成后记录命中次数，并按采样输出决策日志；两者默认关闭，未配置时 {@link #authorize} 直接评估。
+ * {@link #explain} 为试运行，不产生上述副作用。</p>
+ *
  * @author goya
  * @since 2026/1/31 10:20
  */
-@RequiredArgsConstructor
 public class DefaultAuthorizationService implements AuthorizationService {
 
     private final SubjectResolver subjectResolver;
     private final ResourceResolver resourceResolver;
     private final PolicyRepository policyRepository;
     private final PolicyEngine policyEngine;
+    private final @Nullable PolicyCache policyCache;
+    private final @Nullable DecisionLogRecorder decisionLogRecorder;
+    private final @Nullable PolicyHitCounter policyHitCounter;
+
+    public DefaultAuthorizationService(SubjectResolver subjectResolver,
+                                       ResourceResolver resourceResolver,
+                                       PolicyRepository policyRepository,
+                                       PolicyEngine policyEngine) {
+        this(subjectResolver, resourceResolver, policyRepository, policyEngine, null);
+    }
+
+    public DefaultAuthorizationService(SubjectResolver subjectResolver,
+                                       ResourceResolver resourceResolver,
+                                       PolicyRepository policyRepository,
+                                       PolicyEngine policyEngine,
+                                       @Nullable PolicyCache policyCache) {
+        this(subjectResolver, resourceResolver, policyRepository, policyEngine, policyCache, null, null);
+    }
+
+    public DefaultAuthorizationService(SubjectResolver subjectResolver,
+                                       ResourceResolver resourceResolver,
+                                       PolicyRepository policyRepository,
+                                       PolicyEngine policyEngine,
+                                       @Nullable PolicyCache policyCache,
+                                       @Nullable DecisionLogRecorder decisionLogRecorder,
+                                       @Nullable PolicyHitCounter policyHitCounter) {
+        this.subjectResolver = subjectResolver;
+        this.resourceResolver = resourceResolver;
+        this.policyRepository = policyRepository;
+        this.policyEngine = policyEngine;
+        this.policyCache = policyCache;
+        this.decisionLogRecorder = decisionLogRecorder;
+        this.policyHitCounter = policyHitCounter;
+    }
 
     @Override
     public Decision authorize(@NonNull AuthorizeRequest request) {
@@ -44,29 +83,78 @@ public class DefaultAuthorizationService implements AuthorizationService {
             return Decision.deny("操作为空");
         }
 
-        DecisionContext context = buildDecisionContext(request, subject, resource);
-        return policyEngine.evaluate(context);
+        DecisionContext context = buildDecisionContext(request, subject, resource, false);
+        if (decisionLogRecorder == null && policyHitCounter == null) {
+            return policyEngine.evaluate(context);
+        }
+        return evaluateAndObserve(context);
     }
 
     @Override
     public DecisionExplain authorizeWithExplain(AuthorizeRequest request) {
+        return explain(request, false);
+    }
+
+    @Override
+    public DecisionExplain explain(AuthorizeRequest request) {
+        return explain(request, true);
+    }
+
+    /**
+     * 带解释的鉴权
+     *
+     * @param request 鉴权请求
+     * @param dryRun  是否试运行，试运行绕过策略缓存且不记录命中与日志
+     * @return 鉴权决策结果（包含解释信息）
+     */
+    private DecisionExplain explain(AuthorizeRequest request, boolean dryRun) {
         if (request == null) {
             return DecisionExplain.denyExplain("请求为空");
         }
         Subject subject = subjectResolver.resolve(request.getSubjectContext());
         if (subject == null) {
-            return DecisionExplain.denyExplain("主体解析失败");
+            return withTraceId(DecisionExplain.denyExplain("主体解析失败"));
         }
         Resource resource = resourceResolver.resolve(request.getResourceContext());
         if (resource == null) {
-            return DecisionExplain.denyExplain("资源解析失败");
+            return withTraceId(DecisionExplain.denyExplain("资源解析失败"));
         }
         if (request.getAction() == null) {
-            return DecisionExplain.denyExplain("操作为空");
+            return withTraceId(DecisionExplain.denyExplain("操作为空"));
         }
 
-        DecisionContext context = buildDecisionContext(request, subject, resource);
-        return policyEngine.evaluateWithExplain(context);
+        DecisionContext context = buildDecisionContext(request, subject, resource, dryRun);
+        if (dryRun) {
+            return withTraceId(policyEngine.evaluateWithExplain(context));
+        }
+        return evaluateAndObserve(context);
+    }
+
+    /**
+     * 评估并记录命中策略与决策日志
+     *
+     * @param context 决策上下文
+     * @return 鉴权决策结果（包含解释信息）
+     */
+    private DecisionExplain evaluateAndObserve(DecisionContext context) {
+        long start = System.nanoTime();
+        DecisionExplain decision = withTraceId(policyEngine.evaluateWithExplain(context));
+        long elapsed = System.nanoTime() - start;
+        if (policyHitCounter != null) {
+            policyHitCounter.record(decision.getAllowPolicyIds());
+            policyHitCounter.record(decision.getDenyPolicyIds());
+        }
+        if (decisionLogRecorder != null) {
+            decisionLogRecorder.record(context, decision, elapsed);
+        }
+        return decision;
+    }
+
+    private DecisionExplain withTraceId(DecisionExplain decision) {
+        if (decision.getTraceId() == null) {
+            decision.setTraceId(MDC.get(DefaultConst.X_TRACE_ID));
+        }
+        return decision;
     }
 
     /**
@@ -75,9 +163,10 @@ public class DefaultAuthorizationService implements AuthorizationService {
      * @param request  鉴权请求
      * @param subject  主体
      * @param resource 资源
+     * @param dryRun   是否试运行
      * @return 决策上下文
      */
-    private DecisionContext buildDecisionContext(AuthorizeRequest request, Subject subject, Resource resource) {
+    private DecisionContext buildDecisionContext(AuthorizeRequest request, Subject subject, Resource resource, boolean dryRun) {
         DecisionContext context = new DecisionContext();
         context.setTenantCode(request.getTenantCode());
         context.setSubject(subject);
@@ -85,7 +174,7 @@ public class DefaultAuthorizationService implements AuthorizationService {
         context.setAction(request.getAction());
         context.setEnvironment(request.getEnvironment());
         context.setRequestTime(request.getRequestTime());
-        context.setPolicies(loadPolicies(request, subject, resource));
+        context.setPolicies(loadPolicies(request, subject, resource, dryRun));
         return context;
     }
 
@@ -95,9 +184,10 @@ public class DefaultAuthorizationService implements AuthorizationService {
      * @param request  鉴权请求
      * @param subject  主体
      * @param resource 资源
+     * @param dryRun   是否试运行，试运行直接读取仓储
      * @return 授权策略信息
      */
-    private List<Policy> loadPolicies(AuthorizeRequest request, Subject subject, Resource resource) {
+    private List<Policy> loadPolicies(AuthorizeRequest request, Subject subject, Resource resource, boolean dryRun) {
         PolicyQuery query = new PolicyQuery();
         query.setTenantCode(request.getTenantCode());
         query.setSubject(subject);
@@ -105,7 +195,9 @@ public class DefaultAuthorizationService implements AuthorizationService {
         query.setAction(request.getAction());
         query.setRequestTime(request.getRequestTime());
         query.setEnvironment(request.getEnvironment());
-        List<Policy> policies = policyRepository.findEffectivePolicies(query);
+        List<Policy> policies = policyCache != null && !dryRun
+                ? policyCache.get(query, policyRepository::findEffectivePolicies)
+                : policyRepository.findEffectivePolicies(query);
         return policies == null ? Collections.emptyList() : policies;
     }
 }
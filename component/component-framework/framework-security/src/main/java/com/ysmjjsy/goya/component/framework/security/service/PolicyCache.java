@@ -0,0 +1,132 @@
+package com.ysmjjsy.goya.component.framework.security.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ysmjjsy.goya.component.framework.security.autoconfigure.properties.PermissionProperties;
+import com.ysmjjsy.goya.component.framework.security.domain.Policy;
+import com.ysmjjsy.goya.component.framework.security.domain.PolicyQuery;
+import com.ysmjjsy.goya.component.framework.security.domain.Resource;
+import com.ysmjjsy.goya.component.framework.security.domain.Subject;
+import com.ysmjjsy.goya.component.framework.security.event.PermissionChangeEvent;
+import com.ysmjjsy.goya.component.framework.security.spi.PermissionChangeSubscriber;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.util.StringUtils;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * <p>生效策略缓存</p>
+ *
+ * <p>按 租户 + 主体（含角色、团队、组织）+ 资源 + 动作 缓存 {@link com.ysmjjsy.goya.component.framework.security.spi.PolicyRepository}
+ * 的查询结果。请求时间不参与缓存键，过期策略由策略引擎按请求时间再次过滤；仓储结果依赖环境参数时应关闭缓存。</p>
+ * <p>作为 {@link PermissionChangeSubscriber} 接收本节点与其他节点的权限变更，按租户失效。</p>
+ * <p>缓存项记录加载开始时的失效代数（全量代数 + 所属租户代数，无租户的缓存项使用任意变更都会推进的代数），
+ * 读取时代数不一致即视为未命中；失效期间仍在加载的结果即使在失效之后写入，也不会再被读到，
+ * 不依赖“检查代数”与“写入缓存”之间的原子性。</p>
+ *
+ * @author goya
+ * @since 2026/2/8 20:40
+ */
+@Slf4j
+public class PolicyCache implements PermissionChangeSubscriber {
+
+    private final Cache<Key, Entry> policies;
+    /**
+     * 全量失效代数
+     */
+    private final AtomicLong clearGeneration = new AtomicLong();
+    /**
+     * 任意失效都会推进的代数，用于无租户的缓存项
+     */
+    private final AtomicLong anyGeneration = new AtomicLong();
+    private final Map<String, AtomicLong> tenantGenerations = new ConcurrentHashMap<>();
+
+    public PolicyCache(PermissionProperties.PolicyCache config) {
+        this.policies = Caffeine.newBuilder()
+                .maximumSize(config.maximumSize())
+                .expireAfterWrite(config.ttl())
+                .build();
+    }
+
+    /**
+     * 获取生效策略，未命中时加载并缓存
+     *
+     * @param query  查询条件
+     * @param loader 加载函数
+     * @return 生效策略
+     */
+    public List<Policy> get(PolicyQuery query, Function<PolicyQuery, List<Policy>> loader) {
+        Key key = Key.of(query);
+        // 代数必须在加载之前读取
+        long clear = clearGeneration.get();
+        long tenant = tenantGeneration(key.tenantCode()).get();
+        Entry cached = policies.getIfPresent(key);
+        if (cached != null && cached.clearGeneration() == clear && cached.tenantGeneration() == tenant) {
+            return cached.policies();
+        }
+        List<Policy> loaded = loader.apply(query);
+        List<Policy> value = loaded == null ? Collections.emptyList() : Collections.unmodifiableList(new ArrayList<>(loaded));
+        policies.put(key, new Entry(clear, tenant, value));
+        return value;
+    }
+
+    @Override
+    public void onChange(PermissionChangeEvent event) {
+        // 先推进代数再清理，清理只用于释放空间，正确性由读取时的代数校验保证
+        String tenantCode = event.getTenantCode();
+        anyGeneration.incrementAndGet();
+        if (!StringUtils.hasText(tenantCode)) {
+            clearGeneration.incrementAndGet();
+            policies.invalidateAll();
+            log.debug("[Goya] |- component [framework] |- policy cache cleared.");
+            return;
+        }
+        tenantGeneration(tenantCode).incrementAndGet();
+        policies.asMap().keySet().removeIf(key -> key.tenantCode() == null || tenantCode.equals(key.tenantCode()));
+        log.debug("[Goya] |- component [framework] |- policy cache of tenant [{}] invalidated.", tenantCode);
+    }
+
+    private AtomicLong tenantGeneration(String tenantCode) {
+        return tenantCode == null ? anyGeneration : tenantGenerations.computeIfAbsent(tenantCode, _ -> new AtomicLong());
+    }
+
+    private record Entry(long clearGeneration, long tenantGeneration, List<Policy> policies) {
+    }
+
+    private record Key(String tenantCode,
+                       String subjectType,
+                       String subjectId,
+                       Set<String> roleIds,
+                       Set<String> teamIds,
+                       Set<String> orgIds,
+                       String resourceType,
+                       String resourceCode,
+                       String parentCode,
+                       Set<String> parentCodes,
+                       String actionCode) {
+
+        private static Key of(PolicyQuery query) {
+            Subject subject = query.getSubject();
+            Resource resource = query.getResource();
+            return new Key(
+                    StringUtils.hasText(query.getTenantCode()) ? query.getTenantCode() : null,
+                    subject.getSubjectType() == null ? null : subject.getSubjectType().getCode(),
+                    subject.getSubjectId(),
+                    copy(subject.getRoleIds()),
+                    copy(subject.getTeamIds()),
+                    copy(subject.getOrgIds()),
+                    resource.getResourceType() == null ? null : resource.getResourceType().getCode(),
+                    resource.getResourceCode(),
+                    resource.getParentCode(),
+                    copy(resource.getParentCodes()),
+                    query.getAction() == null ? null : query.getAction().getCode());
+        }
+
+        private static Set<String> copy(Collection<String> values) {
+            return values == null || values.isEmpty() ? Collections.emptySet() : new HashSet<>(values);
+        }
+    }
+}
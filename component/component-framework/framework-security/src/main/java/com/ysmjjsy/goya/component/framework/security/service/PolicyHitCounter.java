@@ -0,0 +1,115 @@
+package com.ysmjjsy.goya.component.framework.security.service;
+
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <p>策略命中计数器</p>
+ *
+ * <p>记录每条策略参与鉴权决策（通过引擎过滤，计入允许或拒绝）的次数与最近命中时间，
+ * 结合策略仓储中的全部策略ID即可找出长期未命中、可以清理的策略。</p>
+ * <p>计数只保存在本节点内存中，自节点启动起累计，重启后清零；集群环境需汇总各节点结果后再判断。</p>
+ *
+ * @author goya
+ * @since 2026/2/9 10:20
+ */
+public class PolicyHitCounter {
+
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+    private final Instant since = Instant.now();
+
+    /**
+     * 记录一次决策中命中的策略
+     *
+     * @param policyIds 命中的策略ID
+     */
+    public void record(Collection<String> policyIds) {
+        if (policyIds == null || policyIds.isEmpty()) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        for (String policyId : policyIds) {
+            if (policyId == null) {
+                continue;
+            }
+            Counter counter = counters.computeIfAbsent(policyId, _ -> new Counter());
+            counter.hits.increment();
+            counter.lastHitAt = now;
+        }
+    }
+
+    /**
+     * 查询单条策略的命中次数
+     *
+     * @param policyId 策略ID
+     * @return 命中次数
+     */
+    public long hits(String policyId) {
+        Counter counter = counters.get(policyId);
+        return counter == null ? 0L : counter.hits.sum();
+    }
+
+    /**
+     * 全部已命中策略的统计快照
+     *
+     * @return 策略ID -> 命中统计
+     */
+    public Map<String, PolicyHit> snapshot() {
+        Map<String, PolicyHit> result = new HashMap<>(counters.size());
+        counters.forEach((policyId, counter) ->
+                result.put(policyId, new PolicyHit(policyId, counter.hits.sum(), Instant.ofEpochMilli(counter.lastHitAt))));
+        return result;
+    }
+
+    /**
+     * 找出统计期间内从未命中的策略
+     *
+     * @param policyIds 待检查的策略ID（通常为仓储中的全部策略）
+     * @return 未命中的策略ID
+     */
+    public Set<String> findUnused(Collection<String> policyIds) {
+        if (policyIds == null || policyIds.isEmpty()) {
+            return Collections.emptySet();
+        }
+        Set<String> unused = new LinkedHashSet<>();
+        for (String policyId : policyIds) {
+            if (policyId != null && !counters.containsKey(policyId)) {
+                unused.add(policyId);
+            }
+        }
+        return unused;
+    }
+
+    /**
+     * 统计起始时间
+     *
+     * @return 节点启动后计数器创建的时间
+     */
+    public Instant since() {
+        return since;
+    }
+
+    /**
+     * 清空统计
+     */
+    public void reset() {
+        counters.clear();
+    }
+
+    /**
+     * 策略命中统计
+     *
+     * @param policyId  策略ID
+     * @param hits      命中次数
+     * @param lastHitAt 最近命中时间
+     */
+    public record PolicyHit(String policyId, long hits, Instant lastHitAt) {
+    }
+
+    private static final class Counter {
+        private final LongAdder hits = new LongAdder();
+        private volatile long lastHitAt;
+    }
+}
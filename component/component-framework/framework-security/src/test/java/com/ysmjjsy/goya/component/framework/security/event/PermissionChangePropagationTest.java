@@ -0,0 +1,245 @@
+package com.ysmjjsy.goya.component.framework.security.event;
+
+import com.ysmjjsy.goya.component.framework.bus.message.BusMessageProducer;
+import com.ysmjjsy.goya.component.framework.bus.message.MessageEnvelope;
+import com.ysmjjsy.goya.component.framework.bus.runtime.BindingResolver;
+import com.ysmjjsy.goya.component.framework.security.autoconfigure.properties.PermissionProperties;
+import com.ysmjjsy.goya.component.framework.security.domain.*;
+import com.ysmjjsy.goya.component.framework.security.service.PolicyCache;
+import com.ysmjjsy.goya.component.framework.security.spi.PermissionChangeSubscriber;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BooleanSupplier;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * <p>权限变更传播测试</p>
+ * <p>
+ * 两个节点各自持有 {@link PolicyCache}、{@link PermissionChangeSubscriberDispatcher} 与 {@link PermissionChangeBroadcaster}，
+ * 节点间的 bus 替换为直接投递到各节点的 {@link PermissionChangeBroadcaster#onRemoteChange}。
+ * 覆盖：角色策略变更后本节点与其他节点的缓存都读到新策略；失效期间仍在加载的旧结果之后不会被读到；
+ * 并发加载与失效交错时，最后一次失效之后不会残留旧策略。
+ *
+ * @author goya
+ * @since 2026/2/11 14:00
+ */
+class PermissionChangePropagationTest {
+
+    private static final String TENANT = "tenant-a";
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+    private static final int READERS = 8;
+    private static final int CHANGES = 20_000;
+
+    private final List<Node> nodes = new CopyOnWriteArrayList<>();
+    private final ExecutorService loaders = Executors.newSingleThreadExecutor();
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        loaders.shutdownNow();
+        for (Node node : nodes) {
+            node.dispatcher().destroy();
+        }
+    }
+
+    @Test
+    void roleChangeReachesPolicyCachesOnAllNodes() throws InterruptedException {
+        Node local = node();
+        Node remote = node();
+        AtomicReference<List<Policy>> repository = new AtomicReference<>(List.of(policy("p1", PolicyEffect.ALLOW)));
+        AtomicInteger loads = new AtomicInteger();
+        Function<PolicyQuery, List<Policy>> loader = _ -> {
+            loads.incrementAndGet();
+            return repository.get();
+        };
+
+        assertEquals("p1", local.cache().get(query(), loader).getFirst().getPolicyId());
+        assertEquals("p1", remote.cache().get(query(), loader).getFirst().getPolicyId());
+        remote.cache().get(query(), loader);
+        assertEquals(2, loads.get(), "unchanged policies were not served from cache");
+
+        repository.set(List.of(policy("p2", PolicyEffect.DENY)));
+        publish(local, roleChanged());
+
+        awaitUntil(() -> "p2".equals(local.cache().get(query(), loader).getFirst().getPolicyId()), "local node");
+        awaitUntil(() -> "p2".equals(remote.cache().get(query(), loader).getFirst().getPolicyId()), "remote node");
+    }
+
+    @Test
+    void loadInFlightDuringInvalidationIsNotServedAfterwards() throws Exception {
+        Node node = node();
+        List<Policy> stale = List.of(policy("p1", PolicyEffect.ALLOW));
+        List<Policy> fresh = List.of(policy("p2", PolicyEffect.DENY));
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        // 加载已读到旧策略，写入缓存之前发生失效
+        Future<List<Policy>> inFlight = loaders.submit(() -> node.cache().get(query(), _ -> {
+            loading.countDown();
+            await(release);
+            return stale;
+        }));
+        assertTrue(loading.await(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS));
+        node.cache().onChange(roleChanged());
+        release.countDown();
+        assertEquals("p1", inFlight.get(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS).getFirst().getPolicyId());
+
+        assertEquals("p2", node.cache().get(query(), _ -> fresh).getFirst().getPolicyId());
+    }
+
+    @Test
+    void concurrentLoadsNeverKeepStalePoliciesAfterInvalidation() throws Exception {
+        Node node = node();
+        AtomicInteger version = new AtomicInteger();
+        Function<PolicyQuery, List<Policy>> loader = _ -> List.of(policy("p" + version.get(), PolicyEffect.ALLOW));
+        ExecutorService readers = Executors.newFixedThreadPool(READERS);
+        AtomicBoolean running = new AtomicBoolean(true);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < READERS; i++) {
+                futures.add(readers.submit(() -> {
+                    while (running.get()) {
+                        node.cache().get(query(), loader);
+                    }
+                }));
+            }
+            // 先更新存储再失效，与策略写入后发布变更事件的顺序一致
+            for (int i = 0; i < CHANGES; i++) {
+                version.incrementAndGet();
+                node.cache().onChange(i % 2 == 0 ? roleChanged() : new PermissionChangeEvent());
+            }
+            running.set(false);
+            for (Future<?> future : futures) {
+                future.get(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+            }
+        } finally {
+            readers.shutdownNow();
+        }
+
+        assertEquals("p" + version.get(), node.cache().get(query(), loader).getFirst().getPolicyId(),
+                "stale policies were kept after the last invalidation");
+    }
+
+    /**
+     * 模拟 Spring 把本地事件同时交给分发器与广播器
+     */
+    private static void publish(Node node, PermissionChangeEvent event) {
+        node.dispatcher().onApplicationEvent(event);
+        node.broadcaster().onLocalChange(event);
+    }
+
+    private Node node() {
+        PolicyCache cache = new PolicyCache(new PermissionProperties.PolicyCache(true, 100, Duration.ofMinutes(10)));
+
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        beanFactory.registerSingleton("policyCache", cache);
+        beanFactory.registerSingleton("busMessageProducer", producer());
+        beanFactory.registerSingleton("bindingResolver", bindingResolver());
+
+        PermissionChangeSubscriberDispatcher dispatcher =
+                new PermissionChangeSubscriberDispatcher(beanFactory.getBeanProvider(PermissionChangeSubscriber.class), 4);
+        PermissionChangeBroadcaster broadcaster = new PermissionChangeBroadcaster(
+                beanFactory.getBeanProvider(BusMessageProducer.class),
+                beanFactory.getBeanProvider(BindingResolver.class),
+                dispatcher);
+        Node node = new Node(cache, dispatcher, broadcaster);
+        nodes.add(node);
+        return node;
+    }
+
+    /**
+     * 投递给所有节点（包括发送节点，由来源标记过滤）
+     */
+    private BusMessageProducer producer() {
+        return (BusMessageProducer) Proxy.newProxyInstance(BusMessageProducer.class.getClassLoader(),
+                new Class<?>[]{BusMessageProducer.class}, (_, method, args) -> {
+                    if (!"send".equals(method.getName())) {
+                        throw new UnsupportedOperationException(method.getName());
+                    }
+                    for (Node node : nodes) {
+                        node.broadcaster().onRemoteChange((MessageEnvelope<?>) args[1]);
+                    }
+                    return null;
+                });
+    }
+
+    private static BindingResolver bindingResolver() {
+        return (BindingResolver) Proxy.newProxyInstance(BindingResolver.class.getClassLoader(),
+                new Class<?>[]{BindingResolver.class}, (_, method, _) -> switch (method.getName()) {
+                    case "all" -> Collections.singletonMap(PermissionChangeBroadcaster.BINDING, null);
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+    }
+
+    private static PermissionChangeEvent roleChanged() {
+        PermissionChangeEvent event = new PermissionChangeEvent();
+        event.setTenantCode(TENANT);
+        event.setSubjectType(SubjectType.ROLE);
+        event.setSubjectId("admin");
+        return event;
+    }
+
+    private static PolicyQuery query() {
+        Subject subject = new Subject();
+        subject.setSubjectType(SubjectType.USER);
+        subject.setSubjectId("alice");
+        subject.setRoleIds(List.of("admin"));
+        Resource resource = new Resource();
+        resource.setResourceType(ResourceType.API);
+        resource.setResourceCode("order:list");
+        Action action = new Action();
+        action.setCode("read");
+        PolicyQuery query = new PolicyQuery();
+        query.setTenantCode(TENANT);
+        query.setSubject(subject);
+        query.setResource(resource);
+        query.setAction(action);
+        return query;
+    }
+
+    private static Policy policy(String policyId, PolicyEffect effect) {
+        Policy policy = new Policy();
+        policy.setPolicyId(policyId);
+        policy.setTenantCode(TENANT);
+        policy.setSubjectType(SubjectType.ROLE);
+        policy.setSubjectId("admin");
+        policy.setResourceType(ResourceType.API);
+        policy.setResourceCode("order:list");
+        policy.setPolicyEffect(effect);
+        policy.setNeverExpire(true);
+        return policy;
+    }
+
+    private static void awaitUntil(BooleanSupplier condition, String description) throws InterruptedException {
+        long deadline = System.nanoTime() + TIMEOUT.toNanos();
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                fail("permission change did not reach " + description + " within " + TIMEOUT);
+            }
+            Thread.sleep(10);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record Node(PolicyCache cache, PermissionChangeSubscriberDispatcher dispatcher,
+                        PermissionChangeBroadcaster broadcaster) {
+    }
+}
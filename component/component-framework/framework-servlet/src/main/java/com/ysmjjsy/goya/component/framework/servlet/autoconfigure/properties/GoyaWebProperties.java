@@ -41,7 +41,15 @@ public record GoyaWebProperties(
               加密过期时间
              */
             @DefaultValue("PT5M")
-            Duration expire
+            Duration expire,
+
+            @Schema(description = "是否在访问时异步滑动续期，默认关闭，会话在创建后固定时间过期")
+            @DefaultValue("false")
+            Boolean sliding,
+
+            @Schema(description = "滑动续期去重记录的最大会话数")
+            @DefaultValue("100000")
+            long slidingTrackSize
     ) {
 
     }
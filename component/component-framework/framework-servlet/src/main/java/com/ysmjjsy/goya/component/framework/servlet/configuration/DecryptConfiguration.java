@@ -1,6 +1,7 @@
 package com.ysmjjsy.goya.component.framework.servlet.configuration;
 
 import com.ysmjjsy.goya.component.framework.crypto.processor.AsymmetricCryptoProcessor;
+import com.ysmjjsy.goya.component.framework.crypto.processor.StreamCryptoProcessor;
 import com.ysmjjsy.goya.component.framework.crypto.processor.SymmetricCryptoProcessor;
 import com.ysmjjsy.goya.component.framework.servlet.autoconfigure.properties.GoyaWebProperties;
 import com.ysmjjsy.goya.component.framework.servlet.crypto.*;
@@ -11,6 +12,8 @@ import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.util.concurrent.ScheduledExecutorService;
+
 /**
  * <p></p>
  *
@@ -28,11 +31,13 @@ public class DecryptConfiguration {
     }
 
     @Bean
-    public CryptoCacheManager cryptoCacheManager(GoyaWebProperties properties, AsymmetricCryptoProcessor asymmetricCryptoProcessor, SymmetricCryptoProcessor symmetricCryptoProcessor) {
+    public CryptoCacheManager cryptoCacheManager(GoyaWebProperties properties, AsymmetricCryptoProcessor asymmetricCryptoProcessor, SymmetricCryptoProcessor symmetricCryptoProcessor, StreamCryptoProcessor streamCryptoProcessor, ScheduledExecutorService scheduledExecutorService) {
         CryptoCacheManager cryptoCacheManager = new CryptoCacheManager(
                 properties.crypto(),
                 asymmetricCryptoProcessor,
-                symmetricCryptoProcessor
+                symmetricCryptoProcessor,
+                streamCryptoProcessor,
+                scheduledExecutorService
         );
         log.trace("[Goya] |- component [framework] DecryptConfiguration |- bean [cryptoCacheManager] register.");
         return cryptoCacheManager;
@@ -72,4 +77,12 @@ public class DecryptConfiguration {
         log.trace("[Goya] |- component [framework] DecryptConfiguration |- bean [decryptRequestParamResolver] register.");
         return decryptRequestParamResolver;
     }
+
+    @Bean
+    @ConditionalOnMissingBean
+    public CryptoSessionController cryptoSessionController(CryptoCacheManager cryptoCacheManager) {
+        CryptoSessionController cryptoSessionController = new CryptoSessionController(cryptoCacheManager);
+        log.trace("[Goya] |- component [framework] DecryptConfiguration |- bean [cryptoSessionController] register.");
+        return cryptoSessionController;
+    }
 }
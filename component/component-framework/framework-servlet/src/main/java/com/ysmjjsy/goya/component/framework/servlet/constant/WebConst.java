@@ -52,6 +52,11 @@ public interface WebConst {
      */
     String HEADER_INNER = "H-Inner";
 
+    /**
+     * HEADER_CRYPTO_MODE
+     */
+    String HEADER_CRYPTO_MODE = "H-Crypto-Mode";
+
 
     /**
      * 默认树形结构根节点
@@ -1,14 +1,16 @@
 package com.ysmjjsy.goya.component.framework.servlet.converter;
 
 import com.ysmjjsy.goya.component.framework.common.enums.CodeEnum;
-import com.ysmjjsy.goya.component.framework.common.enums.EnumKit;
+import com.ysmjjsy.goya.component.framework.common.enums.CodeEnumTable;
 import lombok.extern.slf4j.Slf4j;
 import org.jspecify.annotations.NullMarked;
 import org.springframework.core.convert.converter.Converter;
 import org.springframework.core.convert.converter.ConverterFactory;
 
-import java.io.Serializable;
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
 
 /**
  * 字符串到枚举转换器工厂
@@ -33,88 +35,92 @@ import java.util.Arrays;
  *
  * @author goya
  * @see CodeEnum
- * @see EnumKit
+ * @see CodeEnumTable
  * @since 2025/12/20
  */
 @Slf4j
 public class StringToEnumConverterFactory implements ConverterFactory<String, Enum<?>> {
 
+    /**
+     * 每个枚举类型一个转换器，查找表在首次使用时构建
+     */
+    private static final ClassValue<StringToEnumConverter<?>> CONVERTERS = new ClassValue<>() {
+        @Override
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        protected StringToEnumConverter<?> computeValue(Class<?> type) {
+            return new StringToEnumConverter(type);
+        }
+    };
+
     @Override
-    @SuppressWarnings({"unchecked", "rawtypes"})
+    @SuppressWarnings("unchecked")
     @NullMarked
     public <T extends Enum<?>> Converter<String, T> getConverter(Class<T> targetType) {
-        return new StringToEnumConverter(targetType);
+        return (Converter<String, T>) CONVERTERS.get(targetType);
     }
 
     /**
      * 字符串到枚举转换器
+     * <p>依次按 code 文本、名称、忽略大小写的名称匹配，均为哈希查找</p>
      */
-    private record StringToEnumConverter<T extends Enum<T> & CodeEnum<C>, C extends Serializable>(Class<T> enumType)
-            implements Converter<String, T> {
+    private static final class StringToEnumConverter<T extends Enum<T>> implements Converter<String, T> {
+
+        private final Class<T> enumType;
+        private final CodeEnumTable<?> table;
+        private final Map<String, T> byName;
+        private final Map<String, T> byLowerCaseName;
+
+        private StringToEnumConverter(Class<T> enumType) {
+            this.enumType = enumType;
+            this.table = CodeEnumTable.ofNullable(enumType);
+            T[] constants = enumType.getEnumConstants();
+            Map<String, T> names = HashMap.newHashMap(constants.length);
+            Map<String, T> lowerCaseNames = HashMap.newHashMap(constants.length);
+            for (T constant : constants) {
+                names.put(constant.name(), constant);
+                lowerCaseNames.putIfAbsent(constant.name().toLowerCase(Locale.ROOT), constant);
+            }
+            this.byName = Map.copyOf(names);
+            this.byLowerCaseName = Map.copyOf(lowerCaseNames);
+        }
 
         @Override
+        @SuppressWarnings("unchecked")
         public T convert(String source) {
-            if (source == null || source.trim().isEmpty()) {
+            if (source == null || source.isBlank()) {
                 return null;
             }
 
             String trimmed = source.trim();
 
-            // 1. 如果枚举实现了 IEnum 接口，使用 code 进行转换
-            if (CodeEnum.class.isAssignableFrom(enumType)) {
-                try {
-                    // 尝试通过 code 解析
-                    return EnumKit.findByCode(enumType, parseCode(trimmed)).orElse(null);
-                } catch (IllegalArgumentException e) {
-                    log.debug("[Goya] |- 通过 code 解析枚举失败: {} -> {}, 尝试通过 name 解析",
-                            trimmed, enumType.getSimpleName(), e);
+            // 1. 如果枚举实现了 CodeEnum 接口，使用 code 进行转换
+            if (table != null) {
+                T constant = (T) table.getByText(trimmed);
+                if (constant != null) {
+                    return constant;
                 }
             }
 
             // 2. 尝试通过枚举名称解析（兼容性）
-            try {
-                return Enum.valueOf(enumType, trimmed);
-            } catch (IllegalArgumentException e) {
-                // 3. 尝试忽略大小写匹配
-                T[] constants = enumType.getEnumConstants();
-                for (T constant : constants) {
-                    if (constant.name().equalsIgnoreCase(trimmed)) {
-                        return constant;
-                    }
-                }
-
-                // 4. 如果都失败，抛出异常
-                log.warn("[Goya] |- 枚举转换失败: {} -> {}, 支持的枚举值: {}",
-                        trimmed, enumType.getSimpleName(),
-                        Arrays.toString(enumType.getEnumConstants()), e);
-                throw new IllegalArgumentException(
-                        String.format("无法将 '%s' 转换为枚举 %s，支持的枚举值: %s",
-                                trimmed, enumType.getSimpleName(),
-                                Arrays.toString(enumType.getEnumConstants()))
-                );
+            T constant = byName.get(trimmed);
+            if (constant != null) {
+                return constant;
             }
-        }
 
-        /**
-         * 解析 code（支持字符串和数字）
-         */
-        @SuppressWarnings("unchecked")
-        private C parseCode(String source) {
-            // 尝试解析为数字
-            try {
-                if (source.matches("^-?\\d+$")) {
-                    // 整数
-                    if (source.length() <= 9) {
-                        return (C) Integer.valueOf(source);
-                    } else {
-                        return (C) Long.valueOf(source);
-                    }
-                }
-            } catch (NumberFormatException e) {
-                // 忽略，继续作为字符串处理
+            // 3. 尝试忽略大小写匹配
+            constant = byLowerCaseName.get(trimmed.toLowerCase(Locale.ROOT));
+            if (constant != null) {
+                return constant;
             }
-            // 作为字符串返回
-            return (C) source;
+
+            // 4. 如果都失败，抛出异常
+            log.warn("[Goya] |- 枚举转换失败: {} -> {}, 支持的枚举值: {}",
+                    trimmed, enumType.getSimpleName(), Arrays.toString(enumType.getEnumConstants()));
+            throw new IllegalArgumentException(
+                    String.format("无法将 '%s' 转换为枚举 %s，支持的枚举值: %s",
+                            trimmed, enumType.getSimpleName(),
+                            Arrays.toString(enumType.getEnumConstants()))
+            );
         }
     }
-}
\ No newline at end of file
+}
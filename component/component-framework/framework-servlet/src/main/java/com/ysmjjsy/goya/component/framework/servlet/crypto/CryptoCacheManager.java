@@ -1,17 +1,30 @@
 package com.ysmjjsy.goya.component.framework.servlet.crypto;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.ysmjjsy.goya.component.framework.cache.support.CacheSupport;
 import com.ysmjjsy.goya.component.framework.common.exception.GoyaException;
 import com.ysmjjsy.goya.component.framework.common.utils.GoyaIdUtils;
 import com.ysmjjsy.goya.component.framework.crypto.processor.AsymmetricCryptoProcessor;
 import com.ysmjjsy.goya.component.framework.crypto.processor.AsymmetricSecretKey;
+import com.ysmjjsy.goya.component.framework.crypto.processor.StreamCryptoProcessor;
 import com.ysmjjsy.goya.component.framework.crypto.processor.SymmetricCryptoProcessor;
 import com.ysmjjsy.goya.component.framework.servlet.autoconfigure.properties.GoyaWebProperties;
+import com.ysmjjsy.goya.component.framework.servlet.enums.CryptoModeEnum;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.ObjectUtils;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.Strings;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 
 import static com.ysmjjsy.goya.component.framework.servlet.constant.WebConst.CACHE_WEB_PREFIX;
 
@@ -25,24 +38,46 @@ import static com.ysmjjsy.goya.component.framework.servlet.constant.WebConst.CAC
 public class CryptoCacheManager extends CacheSupport<String, CryptoKey> {
 
     public static final String CACHE_CRYPTO_PREFIX = CACHE_WEB_PREFIX + "crypto:";
+    private static final String REQUEST_ATTRIBUTE = CryptoCacheManager.class.getName() + ".CRYPTO_KEY";
     private final AsymmetricCryptoProcessor asymmetricCryptoProcessor;
     private final SymmetricCryptoProcessor symmetricCryptoProcessor;
+    private final StreamCryptoProcessor streamCryptoProcessor;
+    private final Executor slideExecutor;
+    private final Cache<String, Boolean> recentlySlid;
 
-    public CryptoCacheManager(GoyaWebProperties.Crypto crypto, AsymmetricCryptoProcessor asymmetricCryptoProcessor, SymmetricCryptoProcessor symmetricCryptoProcessor) {
+    public CryptoCacheManager(GoyaWebProperties.Crypto crypto, AsymmetricCryptoProcessor asymmetricCryptoProcessor, SymmetricCryptoProcessor symmetricCryptoProcessor, StreamCryptoProcessor streamCryptoProcessor, Executor slideExecutor) {
         super(CACHE_CRYPTO_PREFIX, crypto.expire());
         this.asymmetricCryptoProcessor = asymmetricCryptoProcessor;
         this.symmetricCryptoProcessor = symmetricCryptoProcessor;
+        this.streamCryptoProcessor = streamCryptoProcessor;
+        this.slideExecutor = Boolean.TRUE.equals(crypto.sliding()) ? slideExecutor : null;
+        this.recentlySlid = Caffeine.newBuilder()
+                .maximumSize(crypto.slidingTrackSize())
+                .expireAfterWrite(crypto.expire().dividedBy(2))
+                .build();
     }
 
     public String encrypt(String identity, String content) {
+        return encrypt(resolve(identity), content);
+    }
+
+    /**
+     * 使用已解析的会话秘钥加密，避免同一请求内重复访问缓存
+     *
+     * @param cryptoKey 会话秘钥，可以为空
+     * @param content   明文
+     * @return 密文；会话不存在或加密失败时返回原文
+     */
+    public String encrypt(CryptoKey cryptoKey, String content) {
+        if (ObjectUtils.isEmpty(cryptoKey)) {
+            log.warn("[HZ-ZHG] |- Session has expired, need recreate, Skip encrypt content [{}].", content);
+            return content;
+        }
+
         try {
-            CryptoKey secretKey = getCryptoKey(identity);
-            String result = symmetricCryptoProcessor.encrypt(content, secretKey.symmetricKey());
+            String result = symmetricCryptoProcessor.encrypt(content, cryptoKey.symmetricKey());
             log.debug("[HZ-ZHG] |- Encrypt content from [{}] to [{}].", content, result);
             return result;
-        } catch (GoyaException _) {
-            log.warn("[HZ-ZHG] |- Session has expired, need recreate, Skip encrypt content [{}].", content);
-            return content;
         } catch (Exception _) {
             log.warn("[HZ-ZHG] |- Symmetric can not Encrypt content [{}], Skip!", content);
             return content;
@@ -50,21 +85,142 @@ public class CryptoCacheManager extends CacheSupport<String, CryptoKey> {
     }
 
     public String decrypt(String identity, String content) {
-        try {
-            CryptoKey secretKey = getCryptoKey(identity);
+        return decrypt(resolve(identity), content);
+    }
 
-            String result = symmetricCryptoProcessor.decrypt(content, secretKey.symmetricKey());
-            log.debug("[HZ-ZHG] |- Decrypt content from [{}] to [{}].", content, result);
-            return result;
-        } catch (GoyaException _) {
+    /**
+     * 使用已解析的会话秘钥解密，避免同一请求内重复访问缓存
+     *
+     * @param cryptoKey 会话秘钥，可以为空
+     * @param content   密文
+     * @return 明文；会话不存在或解密失败时返回原文
+     */
+    public String decrypt(CryptoKey cryptoKey, String content) {
+        if (ObjectUtils.isEmpty(cryptoKey)) {
             log.warn("[HZ-ZHG] |- Session has expired, need recreate, Skip decrypt content [{}].", content);
             return content;
+        }
+
+        try {
+            String result = symmetricCryptoProcessor.decrypt(content, cryptoKey.symmetricKey());
+            log.debug("[HZ-ZHG] |- Decrypt content from [{}] to [{}].", content, result);
+            return result;
         } catch (Exception _) {
             log.warn("[HZ-ZHG] |- Symmetric can not Decrypt content [{}], Skip!", content);
             return content;
         }
     }
 
+    /**
+     * 解析会话秘钥。
+     * <p>
+     * 同一请求内只访问一次缓存，结果（包括未命中）绑定到 request scope，
+     * 请求体解密、参数解密与响应体加密共享同一个 {@link CryptoKey}。
+     * 命中后会异步续期，不阻塞请求线程。
+     *
+     * @param identity Session ID
+     * @return {@link CryptoKey}，会话不存在或已过期时返回 null
+     */
+    public CryptoKey resolve(String identity) {
+        if (StringUtils.isBlank(identity)) {
+            return null;
+        }
+
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (ObjectUtils.isNotEmpty(attributes)
+                && attributes.getAttribute(REQUEST_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST) instanceof ResolvedCryptoKey(String boundIdentity, CryptoKey bound)
+                && Strings.CS.equals(boundIdentity, identity)) {
+            return bound;
+        }
+
+        CryptoKey cryptoKey = this.get(identity);
+        bind(attributes, identity, cryptoKey);
+        if (ObjectUtils.isNotEmpty(cryptoKey)) {
+            slide(identity, cryptoKey);
+        }
+        return cryptoKey;
+    }
+
+    private void bind(RequestAttributes attributes, String identity, CryptoKey cryptoKey) {
+        if (ObjectUtils.isNotEmpty(attributes)) {
+            attributes.setAttribute(REQUEST_ATTRIBUTE, new ResolvedCryptoKey(identity, cryptoKey), RequestAttributes.SCOPE_REQUEST);
+        }
+    }
+
+    /**
+     * 异步滑动续期。同一会话在半个有效期内只续期一次，续期失败不影响当前请求。
+     * <p>只延长已存在缓存项的过期时间，不改写缓存值，不会覆盖并发写入，也不会恢复已删除的会话</p>
+     *
+     * @param identity  Session ID
+     * @param cryptoKey 当前会话秘钥
+     */
+    private void slide(String identity, CryptoKey cryptoKey) {
+        if (ObjectUtils.isEmpty(slideExecutor) || ObjectUtils.isNotEmpty(recentlySlid.asMap().putIfAbsent(identity, Boolean.TRUE))) {
+            return;
+        }
+
+        Duration ttl = ttlOf(cryptoKey);
+        try {
+            slideExecutor.execute(() -> {
+                try {
+                    if (this.expire(identity, ttl)) {
+                        log.trace("[Goya] |- Crypto session [{}] ttl slide.", identity);
+                    }
+                } catch (Exception e) {
+                    recentlySlid.invalidate(identity);
+                    log.warn("[Goya] |- Crypto session [{}] ttl slide failed.", identity, e);
+                }
+            });
+        } catch (RejectedExecutionException _) {
+            recentlySlid.invalidate(identity);
+            log.debug("[Goya] |- Crypto session [{}] ttl slide rejected, skip.", cryptoKey.identity());
+        }
+    }
+
+    /**
+     * request scope 内绑定的解析结果，cryptoKey 为空表示缓存未命中
+     *
+     * @param identity  Session ID
+     * @param cryptoKey 会话秘钥
+     */
+    private record ResolvedCryptoKey(String identity, CryptoKey cryptoKey) {
+    }
+
+    /**
+     * 包装请求体密文流，边读边解密。认证标签在流读完时校验。
+     *
+     * @param cryptoKey 会话秘钥
+     * @param in        密文输入流
+     * @return 明文输入流
+     * @throws IOException 密文头不合法
+     */
+    public InputStream decrypt(CryptoKey cryptoKey, InputStream in) throws IOException {
+        return streamCryptoProcessor.decrypt(in, cryptoKey.symmetricKey(), toAad(cryptoKey));
+    }
+
+    /**
+     * 包装响应体输出流，边写边加密。关闭返回的流时写出认证标签。
+     *
+     * @param cryptoKey 会话秘钥
+     * @param out       密文输出流
+     * @return 明文输出流
+     * @throws IOException 写出密文头失败
+     */
+    public OutputStream encrypt(CryptoKey cryptoKey, OutputStream out) throws IOException {
+        return streamCryptoProcessor.encrypt(out, cryptoKey.symmetricKey(), toAad(cryptoKey));
+    }
+
+    /**
+     * 会话创建时的有效期，旧数据没有记录时使用默认过期时间
+     */
+    private Duration ttlOf(CryptoKey cryptoKey) {
+        return ObjectUtils.isNotEmpty(cryptoKey.ttl()) ? cryptoKey.ttl() : expire;
+    }
+
+    private byte[] toAad(CryptoKey cryptoKey) {
+        return StringUtils.isNotBlank(cryptoKey.identity()) ? cryptoKey.identity().getBytes(StandardCharsets.UTF_8) : null;
+    }
+
     /**
      * 根据identity创建SecretKey {@link CryptoKey}
      *
@@ -73,6 +229,22 @@ public class CryptoCacheManager extends CacheSupport<String, CryptoKey> {
      * @return {@link CryptoKey}
      */
     public CryptoKey createCryptoKey(String identity, Duration accessTokenValiditySeconds) {
+        return createCryptoKey(identity, getExpire(accessTokenValiditySeconds), CryptoModeEnum.FIELD);
+    }
+
+    /**
+     * 根据identity创建SecretKey {@link CryptoKey}，使用配置的过期时间
+     * <p>传输加密模式只在新建会话时生效，identity 对应的会话仍有效时原样返回，不能借此修改其他客户端的会话</p>
+     *
+     * @param identity SessionId，可以为空。
+     * @param mode     传输加密模式，为空时按字段加密
+     * @return {@link CryptoKey}
+     */
+    public CryptoKey createCryptoKey(String identity, CryptoModeEnum mode) {
+        return createCryptoKey(identity, expire, mode);
+    }
+
+    private CryptoKey createCryptoKey(String identity, Duration expire, CryptoModeEnum mode) {
         // 前端如果设置sessionId，则由后端生成
         if (StringUtils.isBlank(identity)) {
             identity = GoyaIdUtils.fastUUID();
@@ -84,10 +256,9 @@ public class CryptoCacheManager extends CacheSupport<String, CryptoKey> {
             }
         }
 
-        // 根据Token的有效时间设置
-        Duration expire = getExpire(accessTokenValiditySeconds);
-        CryptoKey cryptoKey = hasKey(identity);
+        CryptoKey cryptoKey = hasKey(identity).withMode(mode).withTtl(expire);
         this.put(identity, cryptoKey, expire);
+        bind(RequestContextHolder.getRequestAttributes(), identity, cryptoKey);
         return cryptoKey;
     }
 
@@ -100,23 +271,20 @@ public class CryptoCacheManager extends CacheSupport<String, CryptoKey> {
         return generateKey;
     }
 
-    private boolean isSessionValid(String identity) {
-        return this.exists(identity);
-    }
-
     private CryptoKey getCryptoKey(String identity) throws GoyaException {
-        if (isSessionValid(identity)) {
-            CryptoKey cryptoKey = this.get(identity);
-            if (ObjectUtils.isNotEmpty(cryptoKey)) {
-                log.trace("[HZ-ZHG] |- Decrypt Or Encrypt content use param identity [{}], cached identity is [{}].", identity, cryptoKey.identity());
-                return cryptoKey;
-            }
+        CryptoKey cryptoKey = resolve(identity);
+        if (ObjectUtils.isNotEmpty(cryptoKey)) {
+            log.trace("[HZ-ZHG] |- Decrypt Or Encrypt content use param identity [{}], cached identity is [{}].", identity, cryptoKey.identity());
+            return cryptoKey;
         }
 
         throw new GoyaException("CryptoKey key is expired!");
     }
 
     private Duration getExpire(Duration accessTokenValiditySeconds) {
+        if (ObjectUtils.isNotEmpty(accessTokenValiditySeconds) && accessTokenValiditySeconds.isNegative()) {
+            throw new GoyaException("CryptoKey expire must be positive!");
+        }
         if (ObjectUtils.isEmpty(accessTokenValiditySeconds) || accessTokenValiditySeconds.isZero()) {
             return Duration.ofHours(2L);
         } else {
@@ -1,8 +1,10 @@
 package com.ysmjjsy.goya.component.framework.servlet.crypto;
 
+import com.ysmjjsy.goya.component.framework.servlet.enums.CryptoModeEnum;
 import io.swagger.v3.oas.annotations.media.Schema;
 
 import java.sql.Timestamp;
+import java.time.Duration;
 
 /**
  * <p>秘钥缓存存储实体</p>
@@ -33,11 +35,20 @@ public record CryptoKey(
         @Schema(description = "服务器端非对称加密算法私钥")
         String privateKey,
 
+        @Schema(description = "传输加密模式")
+        CryptoModeEnum mode,
+
         @Schema(description = "创建时间戳")
-        Timestamp createdAt
+        Timestamp createdAt,
+
+        @Schema(description = "会话有效期，为空时使用默认过期时间")
+        Duration ttl
 ) {
 
     public CryptoKey {
+        if (mode == null) {
+            mode = CryptoModeEnum.FIELD;
+        }
         createdAt = new Timestamp(System.currentTimeMillis());
     }
 
@@ -55,7 +66,9 @@ public record CryptoKey(
                 null,
                 publicKey,
                 privateKey,
-                new Timestamp(System.currentTimeMillis())
+                CryptoModeEnum.FIELD,
+                new Timestamp(System.currentTimeMillis()),
+                null
         );
     }
 
@@ -74,7 +87,9 @@ public record CryptoKey(
                 symmetricKey,
                 publicKey,
                 privateKey,
-                new Timestamp(System.currentTimeMillis())
+                CryptoModeEnum.FIELD,
+                new Timestamp(System.currentTimeMillis()),
+                null
         );
     }
 
@@ -95,7 +110,47 @@ public record CryptoKey(
                 symmetricKey,
                 publicKey,
                 privateKey,
-                new Timestamp(System.currentTimeMillis())
+                CryptoModeEnum.FIELD,
+                new Timestamp(System.currentTimeMillis()),
+                null
+        );
+    }
+
+    /**
+     * 切换传输加密模式
+     *
+     * @param mode 传输加密模式
+     * @return 秘钥缓存
+     */
+    public CryptoKey withMode(CryptoModeEnum mode) {
+        return new CryptoKey(
+                identity,
+                state,
+                symmetricKey,
+                publicKey,
+                privateKey,
+                mode,
+                createdAt,
+                ttl
+        );
+    }
+
+    /**
+     * 设置会话有效期，续期与切换模式时沿用该有效期
+     *
+     * @param ttl 会话有效期
+     * @return 秘钥缓存
+     */
+    public CryptoKey withTtl(Duration ttl) {
+        return new CryptoKey(
+                identity,
+                state,
+                symmetricKey,
+                publicKey,
+                privateKey,
+                mode,
+                createdAt,
+                ttl
         );
     }
 }
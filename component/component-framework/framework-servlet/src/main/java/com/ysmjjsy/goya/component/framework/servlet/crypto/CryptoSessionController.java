@@ -0,0 +1,100 @@
+package com.ysmjjsy.goya.component.framework.servlet.crypto;
+
+import com.ysmjjsy.goya.component.framework.common.constants.DefaultConst;
+import com.ysmjjsy.goya.component.framework.common.exception.GoyaException;
+import com.ysmjjsy.goya.component.framework.core.api.ApiRes;
+import com.ysmjjsy.goya.component.framework.servlet.enums.CryptoModeEnum;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.RequiredArgsConstructor;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * <p>接口加密会话接口</p>
+ *
+ * <p>接口：</p>
+ * <ul>
+ *   <li>POST /goya/crypto/session：创建或获取加密会话，返回后端非对称公钥，新建会话时可指定传输加密模式（field / stream）</li>
+ *   <li>POST /goya/crypto/exchange：交换对称秘钥</li>
+ * </ul>
+ *
+ * <p>会话有效期使用配置的过期时间；传输加密模式只能在创建会话时指定，已有会话的模式不可修改，
+ * 防止知道 identity 的第三方降级其他客户端的会话。</p>
+ *
+ * @author goya
+ * @since 2026/2/10 16:00
+ */
+@RequestMapping(DefaultConst.DEFAULT_PROJECT_NAME + "/crypto")
+@RestController
+@RequiredArgsConstructor
+public class CryptoSessionController {
+
+    private final CryptoCacheManager cryptoCacheManager;
+
+    /**
+     * 创建加密会话，identity 对应的会话仍有效时直接返回，忽略 mode。
+     *
+     * @param identity 会话标识，为空时由后端生成
+     * @param mode     传输加密模式编码，为空时按字段加密
+     * @return ApiResponse
+     */
+    @PostMapping("/session")
+    public ApiRes<CryptoSession> session(@RequestParam(required = false) String identity,
+                                         @RequestParam(required = false) String mode) {
+        CryptoModeEnum cryptoMode = StringUtils.isNotBlank(mode) ? toMode(mode) : CryptoModeEnum.FIELD;
+        CryptoKey cryptoKey = cryptoCacheManager.createCryptoKey(identity, cryptoMode);
+        return ApiRes.ok(new CryptoSession(cryptoKey.identity(), cryptoKey.state(), cryptoKey.publicKey(), cryptoKey.mode()));
+    }
+
+    /**
+     * 交换对称秘钥。
+     *
+     * @param identity     会话标识
+     * @param confidential 后端公钥加密后的前端公钥
+     * @return ApiResponse
+     */
+    @PostMapping("/exchange")
+    public ApiRes<CryptoExchange> exchange(@RequestParam String identity,
+                                           @RequestParam String confidential) {
+        String key = cryptoCacheManager.exchange(identity, confidential);
+        CryptoKey cryptoKey = cryptoCacheManager.resolve(identity);
+        return ApiRes.ok(new CryptoExchange(key, cryptoKey.mode()));
+    }
+
+    private CryptoModeEnum toMode(String code) {
+        CryptoModeEnum mode = CryptoModeEnum.getByCode(code);
+        if (mode == null) {
+            throw new GoyaException("Unsupported crypto mode: " + code);
+        }
+        return mode;
+    }
+
+    /**
+     * 加密会话
+     *
+     * @param identity  会话标识
+     * @param state     会话 State
+     * @param publicKey 后端非对称加密算法公钥
+     * @param mode      传输加密模式
+     */
+    public record CryptoSession(
+            @Schema(description = "会话标识") String identity,
+            @Schema(description = "会话 State") String state,
+            @Schema(description = "后端非对称加密算法公钥") String publicKey,
+            @Schema(description = "传输加密模式") CryptoModeEnum mode) {
+    }
+
+    /**
+     * 秘钥交换结果
+     *
+     * @param key  前端公钥加密后的对称秘钥
+     * @param mode 会话的传输加密模式
+     */
+    public record CryptoExchange(
+            @Schema(description = "前端公钥加密后的对称秘钥") String key,
+            @Schema(description = "传输加密模式") CryptoModeEnum mode) {
+    }
+}
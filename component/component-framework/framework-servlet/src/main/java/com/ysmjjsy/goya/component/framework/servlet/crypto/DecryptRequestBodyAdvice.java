@@ -4,6 +4,7 @@ import com.ysmjjsy.goya.component.framework.common.exception.GoyaException;
 import com.ysmjjsy.goya.component.framework.common.utils.GoyaByteUtils;
 import com.ysmjjsy.goya.component.framework.common.utils.GoyaIoUtils;
 import com.ysmjjsy.goya.component.framework.core.json.GoyaJson;
+import com.ysmjjsy.goya.component.framework.servlet.enums.CryptoModeEnum;
 import com.ysmjjsy.goya.component.framework.servlet.utils.WebUtils;
 import org.apache.commons.lang3.ObjectUtils;
 import org.apache.commons.lang3.StringUtils;
@@ -16,6 +17,7 @@ import org.springframework.core.MethodParameter;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpInputMessage;
 import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.servlet.mvc.method.annotation.RequestBodyAdvice;
 import tools.jackson.databind.JsonNode;
@@ -26,6 +28,7 @@ import tools.jackson.databind.node.ObjectNode;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.lang.reflect.Type;
 
 /**
@@ -70,12 +73,18 @@ public class DecryptRequestBodyAdvice implements RequestBodyAdvice {
             String methodName = methodParameter.getMethod().getName();
             String className = methodParameter.getDeclaringClass().getName();
 
+            CryptoKey cryptoKey = cryptoCacheManager.resolve(requestId);
+            if (ObjectUtils.isNotEmpty(cryptoKey) && cryptoKey.mode() == CryptoModeEnum.STREAM) {
+                log.debug("[Goya] |- Stream decrypt request body for rest method [{}] in [{}].", methodName, className);
+                return new StreamDecryptHttpInputMessage(httpInputMessage, cryptoCacheManager.decrypt(cryptoKey, httpInputMessage.getBody()));
+            }
+
             String content = GoyaIoUtils.read(httpInputMessage.getBody());
 
             if (StringUtils.isNotBlank(content)) {
-                String data = cryptoCacheManager.decrypt(requestId, content);
+                String data = cryptoCacheManager.decrypt(cryptoKey, content);
                 if (Strings.CS.equals(data, content)) {
-                    data = decrypt(requestId, content);
+                    data = decrypt(cryptoKey, content);
                 }
                 log.debug("[Goya] |- Decrypt request body for rest method [{}] in [{}] finished.", methodName, className);
                 return new DecryptHttpInputMessage(httpInputMessage, GoyaByteUtils.toUtf8Bytes(data));
@@ -88,17 +97,17 @@ public class DecryptRequestBodyAdvice implements RequestBodyAdvice {
         }
     }
 
-    private String decrypt(String sessionKey, String content) throws GoyaException {
+    private String decrypt(CryptoKey cryptoKey, String content) throws GoyaException {
         JsonNode jsonNode = GoyaJson.toJsonNode(content);
         if (ObjectUtils.isNotEmpty(jsonNode)) {
-            decrypt(sessionKey, jsonNode);
+            decrypt(cryptoKey, jsonNode);
             return GoyaJson.toJson(jsonNode);
         }
 
         return content;
     }
 
-    private void decrypt(String sessionKey, JsonNode node) throws GoyaException {
+    private void decrypt(CryptoKey cryptoKey, JsonNode node) throws GoyaException {
         if (node == null || node.isMissingNode() || node.isNull()) {
             return;
         }
@@ -116,11 +125,11 @@ public class DecryptRequestBodyAdvice implements RequestBodyAdvice {
 
                     if (child.getNodeType() == JsonNodeType.STRING) {
                         String decrypted =
-                                cryptoCacheManager.decrypt(sessionKey, child.stringValue());
+                                cryptoCacheManager.decrypt(cryptoKey, child.stringValue());
 
                         objectNode.put(fieldName, decrypted);
                     } else {
-                        decrypt(sessionKey, child);
+                        decrypt(cryptoKey, child);
                     }
                 }
             }
@@ -129,7 +138,7 @@ public class DecryptRequestBodyAdvice implements RequestBodyAdvice {
 
                 for (int i = 0; i < arrayNode.size(); i++) {
                     JsonNode element = arrayNode.get(i);
-                    decrypt(sessionKey, element);
+                    decrypt(cryptoKey, element);
                 }
             }
             default -> {
@@ -140,6 +149,14 @@ public class DecryptRequestBodyAdvice implements RequestBodyAdvice {
     @Override
     @NullMarked
     public Object afterBodyRead(Object body, HttpInputMessage inputMessage, MethodParameter parameter, Type targetType, Class<? extends HttpMessageConverter<?>> converterType) {
+        if (inputMessage instanceof StreamDecryptHttpInputMessage streamDecryptHttpInputMessage) {
+            try {
+                streamDecryptHttpInputMessage.verify();
+            } catch (IOException e) {
+                log.warn("[Goya] |- Stream decrypt request body verify failed for rest method [{}].", parameter.getMethod().getName());
+                throw new HttpMessageNotReadableException("Request body authentication failed", e, inputMessage);
+            }
+        }
         return body;
     }
 
@@ -170,4 +187,42 @@ public class DecryptRequestBodyAdvice implements RequestBodyAdvice {
             return this.httpInputMessage.getHeaders();
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * 流式解密的请求体
+     * <p>
+     * 消息转换器读取完根对象后不一定会读到流末尾，而 GCM 认证标签只在流末尾校验，
+     * 因此在 {@link #afterBodyRead} 中需要调用 {@link #verify()} 读完剩余数据。
+     */
+    public static class StreamDecryptHttpInputMessage implements HttpInputMessage {
+
+        private final HttpInputMessage httpInputMessage;
+        private final InputStream body;
+
+        public StreamDecryptHttpInputMessage(HttpInputMessage httpInputMessage, InputStream body) {
+            this.httpInputMessage = httpInputMessage;
+            this.body = body;
+        }
+
+        @Override
+        @NullMarked
+        public InputStream getBody() {
+            return this.body;
+        }
+
+        @Override
+        @NullMarked
+        public HttpHeaders getHeaders() {
+            return this.httpInputMessage.getHeaders();
+        }
+
+        /**
+         * 读完剩余密文，触发认证标签校验
+         *
+         * @throws IOException 认证失败或读取失败
+         */
+        public void verify() throws IOException {
+            this.body.transferTo(OutputStream.nullOutputStream());
+        }
+    }
+}
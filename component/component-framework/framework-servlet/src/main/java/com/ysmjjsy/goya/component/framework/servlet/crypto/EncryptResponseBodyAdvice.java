@@ -2,6 +2,8 @@ package com.ysmjjsy.goya.component.framework.servlet.crypto;
 
 import com.ysmjjsy.goya.component.framework.common.exception.GoyaException;
 import com.ysmjjsy.goya.component.framework.core.json.GoyaJson;
+import com.ysmjjsy.goya.component.framework.servlet.constant.WebConst;
+import com.ysmjjsy.goya.component.framework.servlet.enums.CryptoModeEnum;
 import com.ysmjjsy.goya.component.framework.servlet.utils.WebUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -11,11 +13,16 @@ import org.jspecify.annotations.NonNull;
 import org.springframework.core.MethodParameter;
 import org.springframework.http.MediaType;
 import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotWritableException;
 import org.springframework.http.server.ServerHttpRequest;
 import org.springframework.http.server.ServerHttpResponse;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.util.StreamUtils;
 import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
 
+import java.io.IOException;
+import java.io.OutputStream;
+
 /**
  * <p>响应体加密Advice</p>
  *
@@ -53,9 +60,16 @@ public class EncryptResponseBodyAdvice implements ResponseBodyAdvice<Object> {
             String methodName = methodParameter.getMethod().getName();
             String className = methodParameter.getDeclaringClass().getName();
 
+            CryptoKey cryptoKey = cryptoProcessor.resolve(requestId);
+            if (ObjectUtils.isNotEmpty(cryptoKey) && cryptoKey.mode() == CryptoModeEnum.STREAM) {
+                writeStreamEncrypted(body, cryptoKey, response);
+                log.debug("[Goya] |- Stream encrypt response body for rest method [{}] in [{}] finished.", methodName, className);
+                return null;
+            }
+
             try {
                 String bodyString = GoyaJson.getJsonMapper().writeValueAsString(body);
-                String result = cryptoProcessor.encrypt(requestId, bodyString);
+                String result = cryptoProcessor.encrypt(cryptoKey, bodyString);
                 if (StringUtils.isNotBlank(result)) {
                     log.debug("[Goya] |- Encrypt response body for rest method [{}] in [{}] finished.", methodName, className);
                     return result;
@@ -71,4 +85,25 @@ public class EncryptResponseBodyAdvice implements ResponseBodyAdvice<Object> {
             return body;
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * 直接将响应体序列化进加密输出流，返回 null 后消息转换器不再重复写出
+     *
+     * @param body      响应体
+     * @param cryptoKey 会话秘钥
+     * @param response  {@link ServerHttpResponse}
+     */
+    private void writeStreamEncrypted(Object body, CryptoKey cryptoKey, ServerHttpResponse response) {
+        response.getHeaders().setContentType(MediaType.APPLICATION_OCTET_STREAM);
+        response.getHeaders().set(WebConst.HEADER_CRYPTO_MODE, CryptoModeEnum.STREAM.getCode());
+        try {
+            OutputStream out = cryptoProcessor.encrypt(cryptoKey, StreamUtils.nonClosing(response.getBody()));
+            GoyaJson.getJsonMapper().writeValue(StreamUtils.nonClosing(out), body);
+            // 关闭加密流才会写出认证标签，底层响应流由容器负责关闭
+            out.close();
+            response.flush();
+        } catch (IOException e) {
+            throw new HttpMessageNotWritableException("Could not write stream encrypted response body", e);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.ysmjjsy.goya.component.framework.servlet.enums;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+import com.ysmjjsy.goya.component.framework.common.enums.CodeEnum;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * <p>接口传输加密模式</p>
+ *
+ * @author goya
+ * @since 2026/2/3 11:02
+ */
+@Getter
+@AllArgsConstructor
+@Schema(description = "接口传输加密模式")
+public enum CryptoModeEnum implements CodeEnum<String> {
+
+    /**
+     * 按字段加密，兼容原有前端实现
+     */
+    @Schema(description = "按字段加密")
+    FIELD("field", "按字段加密"),
+
+    /**
+     * 整体报文流式认证加密（AES-GCM / SM4-GCM）
+     */
+    @Schema(description = "报文流式认证加密")
+    STREAM("stream", "报文流式认证加密"),
+
+    ;
+
+    @JsonValue
+    private final String code;
+    private final String label;
+
+    private static final Map<String, CryptoModeEnum> INDEX_MAP = new HashMap<>();
+
+    static {
+        for (CryptoModeEnum anEnum : CryptoModeEnum.values()) {
+            INDEX_MAP.put(anEnum.getCode(), anEnum);
+        }
+    }
+
+    @JsonCreator
+    public static CryptoModeEnum getByCode(String code) {
+        return INDEX_MAP.get(code);
+    }
+}
@@ -1,7 +1,7 @@
 package com.ysmjjsy.goya.component.framework.servlet.interceptor;
 
 import com.ysmjjsy.goya.component.framework.common.constants.SymbolConst;
-import com.ysmjjsy.goya.component.framework.common.utils.GoyaMD5Utils;
+import com.ysmjjsy.goya.component.framework.common.utils.GoyaHashUtils;
 import com.ysmjjsy.goya.component.framework.servlet.utils.WebUtils;
 import jakarta.servlet.http.HttpServletRequest;
 import org.apache.commons.lang3.StringUtils;
@@ -27,7 +27,7 @@ public abstract class AbstractHandlerInterceptor implements HandlerInterceptor {
         String method = request.getMethod();
 
         if (StringUtils.isNotBlank(requestId)) {
-            String key = GoyaMD5Utils.md5(requestId + SymbolConst.COLON + url + SymbolConst.COLON + method);
+            String key = GoyaHashUtils.md5Hex(requestId + SymbolConst.COLON + url + SymbolConst.COLON + method);
             log.debug("[Goya] |- IdempotentInterceptor key is [{}].", key);
             return key;
         } else {
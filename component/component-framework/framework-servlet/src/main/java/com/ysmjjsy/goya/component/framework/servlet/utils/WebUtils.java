@@ -6,6 +6,7 @@ import com.ysmjjsy.goya.component.framework.common.constants.SymbolConst;
 import com.ysmjjsy.goya.component.framework.common.error.CommonErrorCode;
 import com.ysmjjsy.goya.component.framework.common.exception.Exceptions;
 import com.ysmjjsy.goya.component.framework.common.utils.GoyaConvertUtils;
+import com.ysmjjsy.goya.component.framework.common.utils.GoyaHashUtils;
 import com.ysmjjsy.goya.component.framework.common.utils.GoyaNetUtils;
 import com.ysmjjsy.goya.component.framework.common.utils.GoyaStringUtils;
 import com.ysmjjsy.goya.component.framework.core.api.ApiRes;
@@ -40,8 +41,6 @@ import java.net.URLDecoder;
 import java.net.URLEncoder;
 import java.net.UnknownHostException;
 import java.nio.charset.StandardCharsets;
-import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
 import java.util.*;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -1050,15 +1049,7 @@ public class WebUtils {
         // 组合User-Agent和IP地址
         String deviceInfo = (userAgent != null ? userAgent : "") + "|" + (ipAddress != null ? ipAddress : "");
 
-        try {
-            MessageDigest digest = MessageDigest.getInstance("SHA-256");
-            byte[] hash = digest.digest(deviceInfo.getBytes(StandardCharsets.UTF_8));
-            return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
-        } catch (NoSuchAlgorithmException e) {
-            log.error("[Goya] |- security [authentication] Failed to generate device ID", e);
-            // 降级方案：使用简单的Base64编码
-            return Base64.getUrlEncoder().withoutPadding().encodeToString(deviceInfo.getBytes(StandardCharsets.UTF_8));
-        }
+        return GoyaHashUtils.sha256Base64Url(deviceInfo);
     }
 
     /**
@@ -1,19 +1,23 @@
 package com.ysmjjsy.goya.component.mybatisplus.configuration;
 
+import com.baomidou.mybatisplus.autoconfigure.ConfigurationCustomizer;
 import com.baomidou.mybatisplus.core.handlers.MetaObjectHandler;
-import com.baomidou.mybatisplus.core.incrementer.DefaultIdentifierGenerator;
 import com.baomidou.mybatisplus.core.incrementer.IdentifierGenerator;
 import com.baomidou.mybatisplus.extension.plugins.MybatisPlusInterceptor;
 import com.baomidou.mybatisplus.extension.plugins.inner.*;
-import com.ysmjjsy.goya.component.framework.common.utils.GoyaNetUtils;
+import com.ysmjjsy.goya.component.framework.core.id.SnowflakeLeaseManager;
 import com.ysmjjsy.goya.component.framework.servlet.web.GlobalExceptionHandler;
 import com.ysmjjsy.goya.component.mybatisplus.audit.AuditorProvider;
 import com.ysmjjsy.goya.component.mybatisplus.audit.GoyaMetaObjectHandler;
 import com.ysmjjsy.goya.component.mybatisplus.audit.defaults.DefaultAuditorProvider;
 import com.ysmjjsy.goya.component.mybatisplus.configuration.properties.GoyaMybatisPlusProperties;
+import com.ysmjjsy.goya.component.mybatisplus.constants.MybatisPlusConst;
+import com.ysmjjsy.goya.component.mybatisplus.context.AccessContextContributor;
 import com.ysmjjsy.goya.component.mybatisplus.context.AccessContextResolver;
+import com.ysmjjsy.goya.component.mybatisplus.context.TenantContextContributor;
 import com.ysmjjsy.goya.component.mybatisplus.context.filter.AccessContextFilter;
 import com.ysmjjsy.goya.component.mybatisplus.context.web.WebAccessContextResolver;
+import com.ysmjjsy.goya.component.mybatisplus.enums.CodeEnumTypeHandler;
 import com.ysmjjsy.goya.component.mybatisplus.exception.MybatisExceptionHandler;
 import com.ysmjjsy.goya.component.mybatisplus.permission.handler.PermissionChangeInnerInterceptor;
 import jakarta.annotation.PostConstruct;
@@ -22,6 +26,7 @@ import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 
@@ -129,12 +134,14 @@ public class GoyaMybatisPlusAutoConfiguration {
     }
 
     /**
-     * 使用网卡信息绑定雪花生成器
-     * 防止集群雪花ID重复
+     * 使用节点租约管理的雪花生成器
+     * 防止集群雪花ID重复，租约切换后自动使用新节点
      */
     @Bean
-    public IdentifierGenerator idGenerator() {
-        return new DefaultIdentifierGenerator(GoyaNetUtils.getLocalhost());
+    public IdentifierGenerator idGenerator(SnowflakeLeaseManager snowflakeLeaseManager) {
+        IdentifierGenerator identifierGenerator = entity -> snowflakeLeaseManager.getSnowflake().nextId();
+        log.trace("[Goya] |- component [mybatis-plus] GoyaMybatisPlusAutoConfiguration |- bean [idGenerator] register.");
+        return identifierGenerator;
     }
 
     /**
@@ -166,6 +173,30 @@ public class GoyaMybatisPlusAutoConfiguration {
         return filter;
     }
 
+    /**
+     * 访问上下文跨线程传播。
+     *
+     * @return AccessContextContributor
+     */
+    @Bean
+    public AccessContextContributor accessContextContributor() {
+        AccessContextContributor contributor = new AccessContextContributor();
+        log.trace("[Goya] |- component [mybatis-plus] GoyaMybatisPlusAutoConfiguration |- bean [accessContextContributor] register.");
+        return contributor;
+    }
+
+    /**
+     * 租户上下文跨线程传播。
+     *
+     * @return TenantContextContributor
+     */
+    @Bean
+    public TenantContextContributor tenantContextContributor() {
+        TenantContextContributor contributor = new TenantContextContributor();
+        log.trace("[Goya] |- component [mybatis-plus] GoyaMybatisPlusAutoConfiguration |- bean [tenantContextContributor] register.");
+        return contributor;
+    }
+
     /**
      * BlockAttack 拦截器。
      *
@@ -201,6 +232,22 @@ public class GoyaMybatisPlusAutoConfiguration {
         return optimisticLockerInnerInterceptor;
     }
 
+    /**
+     * 默认枚举处理器：CodeEnum 按 code 读写，其他枚举按名称读写。
+     * <p>
+     * 需显式开启 goya.mybatis-plus.code-enum-type-handler=true；未开启时可在字段上声明
+     * {@code @TableField(typeHandler = CodeEnumTypeHandler.class)} 单独启用。
+     *
+     * @return ConfigurationCustomizer
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = MybatisPlusConst.PROPERTY_MYBATIS_PLUS, name = "code-enum-type-handler", havingValue = "true")
+    public ConfigurationCustomizer codeEnumTypeHandlerCustomizer() {
+        ConfigurationCustomizer customizer = configuration -> configuration.setDefaultEnumTypeHandler(CodeEnumTypeHandler.class);
+        log.trace("[Goya] |- component [mybatis-plus] GoyaMybatisPlusAutoConfiguration |- bean [codeEnumTypeHandlerCustomizer] register.");
+        return customizer;
+    }
+
     /**
      * 异常处理器
      */
@@ -0,0 +1,68 @@
+package com.ysmjjsy.goya.component.mybatisplus.configuration;
+
+import com.ysmjjsy.goya.component.framework.common.id.SegmentAllocator;
+import com.ysmjjsy.goya.component.framework.common.id.SegmentIdService;
+import com.ysmjjsy.goya.component.framework.core.autoconfigure.properties.IdProperties;
+import com.ysmjjsy.goya.component.mybatisplus.id.MybatisSegmentAllocator;
+import com.ysmjjsy.goya.component.mybatisplus.id.mapper.IdSegmentMapper;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.mybatis.spring.annotation.MapperScan;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.concurrent.ScheduledExecutorService;
+
+/**
+ * <p>号段模式 ID 自动配置</p>
+ * <p>号段表结构见 db_init.sql 中的 id_segment</p>
+ *
+ * @author goya
+ * @since 2026/2/5 11:55
+ */
+@Slf4j
+@AutoConfiguration
+@MapperScan("com.ysmjjsy.goya.component.mybatisplus.id.mapper")
+public class MybatisPlusIdAutoConfiguration {
+
+    @PostConstruct
+    public void init() {
+        log.debug("[Goya] |- component [mybatis-plus] MybatisPlusIdAutoConfiguration auto configure.");
+    }
+
+    /**
+     * 数据库号段分配器。
+     *
+     * @param idSegmentMapper    号段表 Mapper
+     * @param transactionManager 事务管理器
+     * @param idProperties       分布式 ID 配置
+     * @return SegmentAllocator
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public SegmentAllocator mybatisSegmentAllocator(IdSegmentMapper idSegmentMapper, PlatformTransactionManager transactionManager, IdProperties idProperties) {
+        MybatisSegmentAllocator allocator = new MybatisSegmentAllocator(idSegmentMapper, transactionManager, idProperties.segment().step());
+        log.trace("[Goya] |- component [mybatis-plus] MybatisPlusIdAutoConfiguration |- bean [mybatisSegmentAllocator] register.");
+        return allocator;
+    }
+
+    /**
+     * 号段模式 ID 服务（双缓冲，异步预取）。
+     *
+     * @param segmentAllocator         号段分配器
+     * @param idProperties             分布式 ID 配置
+     * @param scheduledExecutorService 预取执行器
+     * @return SegmentIdService
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public SegmentIdService segmentIdService(SegmentAllocator segmentAllocator, IdProperties idProperties,
+                                             @Qualifier("scheduledExecutorService") ScheduledExecutorService scheduledExecutorService) {
+        SegmentIdService service = new SegmentIdService(segmentAllocator, scheduledExecutorService, idProperties.segment().preloadRatio());
+        log.trace("[Goya] |- component [mybatis-plus] MybatisPlusIdAutoConfiguration |- bean [segmentIdService] register.");
+        return service;
+    }
+}
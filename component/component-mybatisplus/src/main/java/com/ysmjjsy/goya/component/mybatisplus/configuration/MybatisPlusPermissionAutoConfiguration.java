@@ -49,14 +49,15 @@ public class MybatisPlusPermissionAutoConfiguration {
     }
 
     /**
-     * 默认资源解析器。
+     * 默认资源解析器，同时订阅权限变更失效资源缓存。
      *
-     * @return ResourceResolver
+     * @return DataResourceResolver
      */
     @Bean
-    @ConditionalOnMissingBean
-    public ResourceResolver dataResourceResolver(DataResourceMapper mapper, ResourceConverter resourceConverter) {
-        DataResourceResolver dataResourceResolver = new DataResourceResolver(mapper, resourceConverter);
+    @ConditionalOnMissingBean(ResourceResolver.class)
+    public DataResourceResolver dataResourceResolver(DataResourceMapper mapper, ResourceConverter resourceConverter,
+                                                     GoyaMybatisPlusProperties properties) {
+        DataResourceResolver dataResourceResolver = new DataResourceResolver(mapper, resourceConverter, properties.permission());
         log.trace("[Goya] |- component [mybatis-plus] MybatisPlusPermissionAutoConfiguration |- bean [dataResourceResolver] register.");
         return dataResourceResolver;
     }
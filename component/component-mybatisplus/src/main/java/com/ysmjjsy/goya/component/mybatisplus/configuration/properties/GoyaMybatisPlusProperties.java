@@ -5,6 +5,8 @@ import com.ysmjjsy.goya.component.mybatisplus.tenant.TenantMode;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.boot.context.properties.bind.DefaultValue;
 
+import java.time.Duration;
+
 /**
  * <p>配置文件</p>
  * 注意：本模块只使用配置文件控制“开关与默认策略”，
@@ -32,7 +34,14 @@ public record GoyaMybatisPlusProperties(
 
         /* 安全相关配置。 */
         @DefaultValue
-        Safety safety
+        Safety safety,
+
+        /*
+          是否将 CodeEnum 设为 MyBatis 默认枚举处理器（按 code 读写）。
+          默认关闭：已有按名称存储的列不受影响；单个字段可通过 @TableField(typeHandler = CodeEnumTypeHandler.class) 启用。
+         */
+        @DefaultValue("false")
+        boolean codeEnumTypeHandler
 ) {
 
     /**
@@ -91,7 +100,19 @@ public record GoyaMybatisPlusProperties(
               是否将权限应用到写操作（默认 false，不建议开启）。
              */
             @DefaultValue("false")
-            boolean applyToWrite
+            boolean applyToWrite,
+
+            /*
+              数据资源本地缓存的最大条目数（含未配置资源的表）。
+             */
+            @DefaultValue("10000")
+            int resourceCacheSize,
+
+            /*
+              数据资源本地缓存的写入后过期时间，权限变更事件会提前失效。
+             */
+            @DefaultValue("PT10M")
+            Duration resourceCacheTtl
     ) {
     }
 
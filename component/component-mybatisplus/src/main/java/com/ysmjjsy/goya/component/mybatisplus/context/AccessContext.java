@@ -34,6 +34,15 @@ public class AccessContext {
         return value == null ? AccessContextValue.empty() : value;
     }
 
+    /**
+     * 获取原始访问上下文，未设置时返回 null，供跨线程传播使用。
+     *
+     * @return 上下文值
+     */
+    AccessContextValue peek() {
+        return CONTEXT.get();
+    }
+
     /**
      * 清理访问上下文。
      */
@@ -0,0 +1,34 @@
+package com.ysmjjsy.goya.component.mybatisplus.context;
+
+import com.ysmjjsy.goya.component.framework.core.context.propagation.ContextContributor;
+import com.ysmjjsy.goya.component.framework.core.context.propagation.ContextScope;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * <p>访问上下文（数据权限范围）传播参与者</p>
+ *
+ * @author goya
+ * @since 2026/2/8 16:40
+ */
+public class AccessContextContributor implements ContextContributor<AccessContextValue> {
+
+    @Override
+    public @Nullable AccessContextValue capture() {
+        return AccessContext.peek();
+    }
+
+    @Override
+    public ContextScope restore(@Nullable AccessContextValue value) {
+        AccessContextValue previous = AccessContext.peek();
+        set(value);
+        return () -> set(previous);
+    }
+
+    private static void set(@Nullable AccessContextValue value) {
+        if (value == null) {
+            AccessContext.clear();
+        } else {
+            AccessContext.set(value);
+        }
+    }
+}
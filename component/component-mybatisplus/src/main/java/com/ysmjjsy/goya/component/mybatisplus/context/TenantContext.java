@@ -41,6 +41,15 @@ public class TenantContext {
         return get().tenantId();
     }
 
+    /**
+     * 获取原始租户上下文，未设置时返回 null，供跨线程传播使用。
+     *
+     * @return 上下文值
+     */
+    TenantContextValue peek() {
+        return CONTEXT.get();
+    }
+
     /**
      * 清理租户上下文。
      */
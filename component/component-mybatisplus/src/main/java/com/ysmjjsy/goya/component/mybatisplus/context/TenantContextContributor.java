@@ -0,0 +1,34 @@
+package com.ysmjjsy.goya.component.mybatisplus.context;
+
+import com.ysmjjsy.goya.component.framework.core.context.propagation.ContextContributor;
+import com.ysmjjsy.goya.component.framework.core.context.propagation.ContextScope;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * <p>租户上下文传播参与者</p>
+ *
+ * @author goya
+ * @since 2026/2/8 16:40
+ */
+public class TenantContextContributor implements ContextContributor<TenantContextValue> {
+
+    @Override
+    public @Nullable TenantContextValue capture() {
+        return TenantContext.peek();
+    }
+
+    @Override
+    public ContextScope restore(@Nullable TenantContextValue value) {
+        TenantContextValue previous = TenantContext.peek();
+        set(value);
+        return () -> set(previous);
+    }
+
+    private static void set(@Nullable TenantContextValue value) {
+        if (value == null) {
+            TenantContext.clear();
+        } else {
+            TenantContext.set(value);
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.ysmjjsy.goya.component.mybatisplus.enums;
+
+import com.ysmjjsy.goya.component.framework.common.enums.CodeEnum;
+import com.ysmjjsy.goya.component.framework.common.enums.CodeEnumTable;
+import org.apache.ibatis.type.BaseTypeHandler;
+import org.apache.ibatis.type.JdbcType;
+
+import java.sql.CallableStatement;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Objects;
+
+/**
+ * <p>CodeEnum 类型处理器</p>
+ * <p>
+ * CodeEnum 枚举以 code 读写（通过 {@link CodeEnumTable} 哈希查找，数据库返回的 Integer/Long/String 均可命中）；
+ * 其他枚举与 MyBatis 默认的 EnumTypeHandler 一致按名称读写。
+ * <p>
+ * 可在字段上通过 {@code @TableField(typeHandler = CodeEnumTypeHandler.class)} 单独使用，
+ * 或开启 goya.mybatis-plus.code-enum-type-handler 作为默认枚举处理器。
+ *
+ * @param <E> 枚举类型
+ * @author goya
+ * @since 2026/2/7 10:20
+ */
+public class CodeEnumTypeHandler<E extends Enum<E>> extends BaseTypeHandler<E> {
+
+    private final Class<E> type;
+    private final CodeEnumTable<?> table;
+
+    public CodeEnumTypeHandler(Class<E> type) {
+        this.type = Objects.requireNonNull(type, "Type argument cannot be null");
+        this.table = CodeEnumTable.ofNullable(type);
+    }
+
+    @Override
+    public void setNonNullParameter(PreparedStatement ps, int i, E parameter, JdbcType jdbcType) throws SQLException {
+        if (table == null) {
+            if (jdbcType == null) {
+                ps.setString(i, parameter.name());
+            } else {
+                ps.setObject(i, parameter.name(), jdbcType.TYPE_CODE);
+            }
+            return;
+        }
+        Object code = ((CodeEnum<?>) parameter).getCode();
+        if (jdbcType == null) {
+            ps.setObject(i, code);
+        } else {
+            ps.setObject(i, code, jdbcType.TYPE_CODE);
+        }
+    }
+
+    @Override
+    public E getNullableResult(ResultSet rs, String columnName) throws SQLException {
+        return toEnum(rs.getObject(columnName));
+    }
+
+    @Override
+    public E getNullableResult(ResultSet rs, int columnIndex) throws SQLException {
+        return toEnum(rs.getObject(columnIndex));
+    }
+
+    @Override
+    public E getNullableResult(CallableStatement cs, int columnIndex) throws SQLException {
+        return toEnum(cs.getObject(columnIndex));
+    }
+
+    @SuppressWarnings("unchecked")
+    private E toEnum(Object value) {
+        if (value == null) {
+            return null;
+        }
+        if (table == null) {
+            return Enum.valueOf(type, value.toString());
+        }
+        return (E) table.require(value);
+    }
+}
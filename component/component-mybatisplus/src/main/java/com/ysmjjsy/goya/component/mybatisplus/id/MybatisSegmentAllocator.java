@@ -0,0 +1,80 @@
+package com.ysmjjsy.goya.component.mybatisplus.id;
+
+import com.baomidou.dynamic.datasource.toolkit.DynamicDataSourceContextHolder;
+import com.ysmjjsy.goya.component.framework.common.error.CommonErrorCode;
+import com.ysmjjsy.goya.component.framework.common.exception.Exceptions;
+import com.ysmjjsy.goya.component.framework.common.id.Segment;
+import com.ysmjjsy.goya.component.framework.common.id.SegmentAllocator;
+import com.ysmjjsy.goya.component.mybatisplus.id.mapper.IdSegmentMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * <p>基于数据库的号段分配器（Leaf segment）</p>
+ * <p>
+ * 在独立事务中执行 {@code UPDATE max_id = max_id + step} 后读取新值，行锁保证多实例领取的号段互不重叠。
+ * 号段表固定在主数据源，业务标识首次使用时自动初始化。
+ *
+ * @author goya
+ * @since 2026/2/5 11:45
+ */
+@Slf4j
+public class MybatisSegmentAllocator implements SegmentAllocator {
+
+    private final IdSegmentMapper idSegmentMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final int defaultStep;
+
+    public MybatisSegmentAllocator(IdSegmentMapper idSegmentMapper, PlatformTransactionManager transactionManager, int defaultStep) {
+        this.idSegmentMapper = idSegmentMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        // 与调用方事务隔离，领取的号段立即提交，调用方回滚也不会导致号段被重复领取
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.defaultStep = defaultStep;
+    }
+
+    @Override
+    public Segment allocate(String bizTag) {
+        // 空 key 路由到主数据源
+        DynamicDataSourceContextHolder.push(StringUtils.EMPTY);
+        try {
+            Segment segment = transactionTemplate.execute(_ -> increaseAndGet(bizTag));
+            if (segment == null) {
+                initialize(bizTag);
+                segment = transactionTemplate.execute(_ -> increaseAndGet(bizTag));
+            }
+            if (segment == null) {
+                throw Exceptions.system(CommonErrorCode.SYSTEM_ERROR).userMessage("Allocate id segment [" + bizTag + "] failed").build();
+            }
+            return segment;
+        } finally {
+            DynamicDataSourceContextHolder.poll();
+        }
+    }
+
+    /**
+     * 推进号段并读取新值，业务标识不存在时返回 null
+     */
+    private Segment increaseAndGet(String bizTag) {
+        if (idSegmentMapper.increase(bizTag) == 0) {
+            return null;
+        }
+        return idSegmentMapper.select(bizTag);
+    }
+
+    /**
+     * 单独事务初始化，部分数据库在唯一键冲突后会中止当前事务
+     */
+    private void initialize(String bizTag) {
+        try {
+            transactionTemplate.executeWithoutResult(_ -> idSegmentMapper.insert(bizTag, defaultStep));
+            log.debug("[Goya] |- Id segment [{}] initialized with step [{}].", bizTag, defaultStep);
+        } catch (DuplicateKeyException _) {
+            // 其他实例已初始化
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.ysmjjsy.goya.component.mybatisplus.id.mapper;
+
+import com.baomidou.mybatisplus.annotation.InterceptorIgnore;
+import com.ysmjjsy.goya.component.framework.common.id.Segment;
+import org.apache.ibatis.annotations.Arg;
+import org.apache.ibatis.annotations.ConstructorArgs;
+import org.apache.ibatis.annotations.Insert;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.annotations.Select;
+import org.apache.ibatis.annotations.Update;
+
+/**
+ * <p>号段表 Mapper。</p>
+ * <p>号段表为全局表，不参与租户与数据权限拦截。</p>
+ *
+ * @author goya
+ * @since 2026/2/5 11:40
+ */
+@Mapper
+@InterceptorIgnore(tenantLine = "true", dataPermission = "true")
+public interface IdSegmentMapper {
+
+    /**
+     * 号段推进一个步长。
+     *
+     * @param bizTag 业务标识
+     * @return 影响行数
+     */
+    @Update("UPDATE id_segment SET max_id = max_id + step, updated_at = CURRENT_TIMESTAMP WHERE biz_tag = #{bizTag}")
+    int increase(@Param("bizTag") String bizTag);
+
+    /**
+     * 查询当前号段。
+     *
+     * @param bizTag 业务标识
+     * @return 号段
+     */
+    @Select("SELECT max_id, step FROM id_segment WHERE biz_tag = #{bizTag}")
+    @ConstructorArgs({
+            @Arg(column = "max_id", javaType = long.class),
+            @Arg(column = "step", javaType = int.class)
+    })
+    Segment select(@Param("bizTag") String bizTag);
+
+    /**
+     * 初始化业务号段。
+     *
+     * @param bizTag 业务标识
+     * @param step   步长
+     * @return 影响行数
+     */
+    @Insert("INSERT INTO id_segment (biz_tag, max_id, step, updated_at) VALUES (#{bizTag}, 0, #{step}, CURRENT_TIMESTAMP)")
+    int insert(@Param("bizTag") String bizTag, @Param("step") int step);
+}
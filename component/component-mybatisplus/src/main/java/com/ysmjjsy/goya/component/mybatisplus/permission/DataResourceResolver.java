@@ -1,34 +1,53 @@
 package com.ysmjjsy.goya.component.mybatisplus.permission;
 
 import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.baomidou.mybatisplus.core.toolkit.Wrappers;
 import com.ysmjjsy.goya.component.framework.security.context.ResourceContext;
 import com.ysmjjsy.goya.component.framework.security.context.ResourceResolver;
 import com.ysmjjsy.goya.component.framework.security.domain.Resource;
+import com.ysmjjsy.goya.component.framework.security.event.PermissionChangeEvent;
+import com.ysmjjsy.goya.component.framework.security.spi.PermissionChangeSubscriber;
+import com.ysmjjsy.goya.component.mybatisplus.configuration.properties.GoyaMybatisPlusProperties;
 import com.ysmjjsy.goya.component.mybatisplus.context.TenantContext;
 import com.ysmjjsy.goya.component.mybatisplus.permission.converter.ResourceConverter;
 import com.ysmjjsy.goya.component.mybatisplus.permission.entity.DataResourceEntity;
 import com.ysmjjsy.goya.component.mybatisplus.permission.mapper.DataResourceMapper;
-import lombok.RequiredArgsConstructor;
 import org.jspecify.annotations.NonNull;
 import org.springframework.util.StringUtils;
 
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 /**
  * <p>基于 data_resource 表的资源解析器。</p>
  *
+ * <p>每条查询都会按表名解析资源，这里按 租户 + 资源编码 本地缓存查询结果，未配置资源的表同样缓存，避免每次访问数据库；
+ * 作为 {@link PermissionChangeSubscriber} 在资源变更时失效对应条目，无法确定资源时失效整个租户。</p>
+ *
  * @author goya
  * @since 2026/1/31 11:30
  */
-@RequiredArgsConstructor
-public class DataResourceResolver implements ResourceResolver {
+public class DataResourceResolver implements ResourceResolver, PermissionChangeSubscriber {
 
     private final DataResourceMapper resourceMapper;
     private final ResourceConverter resourceConverter;
+    private final Cache<ResourceKey, Optional<DataResourceEntity>> entities;
+
+    public DataResourceResolver(DataResourceMapper resourceMapper,
+                                ResourceConverter resourceConverter,
+                                GoyaMybatisPlusProperties.Permission options) {
+        this.resourceMapper = resourceMapper;
+        this.resourceConverter = resourceConverter;
+        this.entities = Caffeine.newBuilder()
+                .maximumSize(options.resourceCacheSize())
+                .expireAfterWrite(options.resourceCacheTtl())
+                .build();
+    }
 
     /**
      * 解析资源信息。
@@ -41,13 +60,37 @@ public class DataResourceResolver implements ResourceResolver {
         if (!StringUtils.hasText(context.getResourceCode())) {
             return null;
         }
-        DataResourceEntity entity = loadEntity(context.getResourceCode(), resolveTenantCode(context.getAttributes()));
+        ResourceKey key = new ResourceKey(resolveTenantCode(context.getAttributes()), context.getResourceCode());
+        // 加载本身也会经过数据权限拦截器再次解析资源，不能在 Cache#get 的计算函数中查询
+        Optional<DataResourceEntity> cached = entities.getIfPresent(key);
+        if (cached == null) {
+            cached = Optional.ofNullable(loadEntity(key.resourceCode(), key.tenantCode()));
+            entities.put(key, cached);
+        }
+        DataResourceEntity entity = cached.orElse(null);
         if (entity == null) {
             return null;
         }
         return resourceConverter.toTarget(entity);
     }
 
+    /**
+     * 资源变更时失效缓存。
+     *
+     * @param event 权限变更事件
+     */
+    @Override
+    public void onChange(PermissionChangeEvent event) {
+        String tenantCode = StringUtils.hasText(event.getTenantCode()) ? event.getTenantCode() : null;
+        String resourceCode = event.getResourceCode();
+        if (tenantCode == null) {
+            entities.invalidateAll();
+            return;
+        }
+        entities.asMap().keySet().removeIf(key -> !StringUtils.hasText(key.tenantCode())
+                || tenantCode.equals(key.tenantCode()) && (!StringUtils.hasText(resourceCode) || resourceCode.equals(key.resourceCode())));
+    }
+
     /**
      * 解析资源的子级列表。
      *
@@ -90,4 +133,7 @@ public class DataResourceResolver implements ResourceResolver {
         }
         return TenantContext.get().tenantId();
     }
+
+    private record ResourceKey(String tenantCode, String resourceCode) {
+    }
 }
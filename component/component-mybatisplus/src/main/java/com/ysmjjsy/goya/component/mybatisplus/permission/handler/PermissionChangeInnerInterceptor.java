@@ -73,6 +73,8 @@ public class PermissionChangeInnerInterceptor implements InnerInterceptor {
             event.setTenantCode(policyEntity.getTenantCode());
             event.setPolicyId(policyEntity.getId());
             event.setResourceCode(policyEntity.getResourceCode());
+            event.setSubjectType(policyEntity.getSubjectType());
+            event.setSubjectId(policyEntity.getSubjectId());
         } else if (resourceChange && entity instanceof DataResourceEntity resourceEntity) {
             event.setTenantCode(resourceEntity.getTenantCode());
             event.setResourceCode(resourceEntity.getResourceCode());
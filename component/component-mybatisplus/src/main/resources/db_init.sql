@@ -71,6 +71,13 @@ CREATE TABLE IF NOT EXISTS data_resource_policy (
     KEY idx_action (action)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
 
+CREATE TABLE IF NOT EXISTS id_segment (
+    biz_tag VARCHAR(128) PRIMARY KEY,
+    max_id BIGINT NOT NULL DEFAULT 0,
+    step INT NOT NULL,
+    updated_at DATETIME NULL
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+
 -- PostgreSQL 13+ DDL
 
 CREATE TABLE IF NOT EXISTS tenant_profile (
@@ -146,6 +153,13 @@ CREATE INDEX IF NOT EXISTS idx_tenant_subject ON data_resource_policy(tenant_cod
 CREATE INDEX IF NOT EXISTS idx_tenant_resource_policy ON data_resource_policy(tenant_code, resource_code);
 CREATE INDEX IF NOT EXISTS idx_action ON data_resource_policy(action);
 
+CREATE TABLE IF NOT EXISTS id_segment (
+    biz_tag VARCHAR(128) PRIMARY KEY,
+    max_id BIGINT NOT NULL DEFAULT 0,
+    step INT NOT NULL,
+    updated_at TIMESTAMP NULL
+);
+
 -- SQLite 3.x DDL
 
 CREATE TABLE IF NOT EXISTS tenant_profile (
@@ -220,3 +234,10 @@ CREATE TABLE IF NOT EXISTS data_resource_policy (
 CREATE INDEX IF NOT EXISTS idx_tenant_subject ON data_resource_policy(tenant_code, subject_type, subject_id);
 CREATE INDEX IF NOT EXISTS idx_tenant_resource_policy ON data_resource_policy(tenant_code, resource_code);
 CREATE INDEX IF NOT EXISTS idx_action ON data_resource_policy(action);
+
+CREATE TABLE IF NOT EXISTS id_segment (
+    biz_tag TEXT PRIMARY KEY,
+    max_id INTEGER NOT NULL DEFAULT 0,
+    step INTEGER NOT NULL,
+    updated_at DATETIME NULL
+);
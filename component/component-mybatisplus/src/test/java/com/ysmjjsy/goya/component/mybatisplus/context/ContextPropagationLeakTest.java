@@ -0,0 +1,130 @@
+package com.ysmjjsy.goya.component.mybatisplus.context;
+
+import com.ysmjjsy.goya.component.framework.core.context.propagation.ContextPropagator;
+import com.ysmjjsy.goya.component.framework.log.mdc.MdcContextContributor;
+import com.ysmjjsy.goya.component.mybatisplus.tenant.TenantMode;
+import com.ysmjjsy.goya.component.security.core.context.SecurityContextContributor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * <p>跨线程上下文传播泄漏测试</p>
+ * <p>
+ * 单线程池保证所有任务复用同一个池化线程：装饰后的任务能看到提交线程的 MDC、租户与安全上下文，
+ * 任务结束后（包括异常结束）再在同一线程上检查，三者均已清空。
+ *
+ * @author goya
+ * @since 2026/2/11 11:00
+ */
+class ContextPropagationLeakTest {
+
+    private ContextPropagator propagator;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        propagator = new ContextPropagator(List.of(
+                new MdcContextContributor(),
+                new TenantContextContributor(),
+                new SecurityContextContributor()));
+        executor = Executors.newSingleThreadExecutor();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+        clearSubmitter();
+    }
+
+    @Test
+    void contextIsVisibleInTaskAndClearedAfterEachTaskOnReusedThread() throws Exception {
+        AtomicReference<Thread> worker = new AtomicReference<>();
+        for (int i = 0; i < 5; i++) {
+            String traceId = "trace-" + i;
+            String tenantId = "tenant-" + i;
+            Authentication authentication = new TestingAuthenticationToken("user-" + i, null, "ROLE_USER");
+            MDC.put("traceId", traceId);
+            TenantContext.set(new TenantContextValue(tenantId, TenantMode.CORE_SHARED, null, true));
+            SecurityContextHolder.getContext().setAuthentication(authentication);
+
+            executor.submit(propagator.decorate(() -> {
+                assertTrue(worker.compareAndSet(null, Thread.currentThread()) || worker.get() == Thread.currentThread(),
+                        "task did not run on the reused pool thread");
+                assertEquals(traceId, MDC.get("traceId"));
+                assertEquals(tenantId, TenantContext.getTenantId());
+                assertSame(authentication, SecurityContextHolder.getContext().getAuthentication());
+            })).get(5, TimeUnit.SECONDS);
+
+            assertWorkerIsClean();
+            clearSubmitter();
+        }
+    }
+
+    @Test
+    void contextIsClearedAfterFailedTask() throws Exception {
+        MDC.put("traceId", "trace-failed");
+        TenantContext.set(new TenantContextValue("tenant-failed", TenantMode.CORE_SHARED, null, true));
+        SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken("user", null, "ROLE_USER"));
+
+        Future<?> future = executor.submit(propagator.decorate(() -> {
+            throw new IllegalStateException("task failed");
+        }));
+
+        assertThrows(ExecutionException.class, () -> future.get(5, TimeUnit.SECONDS));
+        assertWorkerIsClean();
+    }
+
+    @Test
+    void taskWithoutContextDoesNotSeeLeftoverOfWorkerThread() throws Exception {
+        // 未经装饰的任务在池化线程上残留上下文
+        executor.submit(() -> {
+            MDC.put("traceId", "leftover");
+            TenantContext.set(new TenantContextValue("leftover", TenantMode.CORE_SHARED, null, true));
+            SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken("leftover", null, "ROLE_USER"));
+        }).get(5, TimeUnit.SECONDS);
+
+        AtomicReference<String> seen = new AtomicReference<>();
+        executor.submit(propagator.decorate(() -> seen.set(currentState()))).get(5, TimeUnit.SECONDS);
+
+        assertEquals(state(null, null, null), seen.get());
+    }
+
+    private void assertWorkerIsClean() throws Exception {
+        // 在同一个池化线程上执行未装饰的检查任务
+        String state = executor.submit(ContextPropagationLeakTest::currentState).get(5, TimeUnit.SECONDS);
+        assertEquals(state(null, null, null), state);
+    }
+
+    private static String currentState() {
+        Map<String, String> mdc = MDC.getCopyOfContextMap();
+        return state(mdc == null || mdc.isEmpty() ? null : mdc.toString(),
+                TenantContext.peek(),
+                SecurityContextHolder.getContext().getAuthentication());
+    }
+
+    private static String state(Object mdc, Object tenant, Object authentication) {
+        return "mdc=" + mdc + ", tenant=" + tenant + ", authentication=" + authentication;
+    }
+
+    private static void clearSubmitter() {
+        MDC.clear();
+        TenantContext.clear();
+        SecurityContextHolder.clearContext();
+    }
+}
@@ -1,6 +1,7 @@
 package com.ysmjjsy.goya.component.oss.aliyun.converter.arguments;
 
 import com.aliyun.oss.model.InitiateMultipartUploadRequest;
+import com.aliyun.oss.model.ObjectMetadata;
 import com.ysmjjsy.goya.component.framework.oss.arguments.multipart.InitiateMultipartUploadArguments;
 import com.ysmjjsy.goya.component.oss.aliyun.definition.arguments.ArgumentsToBucketConverter;
 
@@ -14,6 +15,12 @@ public class ArgumentsToInitiateMultipartUploadRequestConverter extends Argument
 
     @Override
     public InitiateMultipartUploadRequest getInstance(InitiateMultipartUploadArguments arguments) {
-        return new InitiateMultipartUploadRequest(arguments.getBucketName(), arguments.getObjectName());
+        InitiateMultipartUploadRequest request = new InitiateMultipartUploadRequest(arguments.getBucketName(), arguments.getObjectName());
+        if (arguments.getMetadata() != null && !arguments.getMetadata().isEmpty()) {
+            ObjectMetadata metadata = new ObjectMetadata();
+            metadata.setUserMetadata(arguments.getMetadata());
+            request.setObjectMetadata(metadata);
+        }
+        return request;
     }
 }
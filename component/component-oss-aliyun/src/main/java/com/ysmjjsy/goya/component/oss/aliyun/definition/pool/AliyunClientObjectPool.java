@@ -13,6 +13,6 @@ import com.ysmjjsy.goya.component.framework.oss.client.AbstractOssClientPooledOb
 public class AliyunClientObjectPool extends AbstractObjectPool<OSS> {
 
     public AliyunClientObjectPool(AbstractOssClientPooledObjectFactory<OSS> factory) {
-        super(factory, factory.getOssProperties().getPool());
+        super(factory, factory.getOssProperties().getPool(), factory.isShared());
     }
 }
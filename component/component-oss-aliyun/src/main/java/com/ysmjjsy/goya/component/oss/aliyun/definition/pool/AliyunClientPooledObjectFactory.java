@@ -6,12 +6,14 @@ import com.aliyun.oss.OSSClientBuilder;
 import com.aliyun.oss.common.auth.CredentialsProviderFactory;
 import com.aliyun.oss.common.auth.STSAssumeRoleSessionCredentialsProvider;
 import com.ysmjjsy.goya.component.framework.oss.client.AbstractOssClientPooledObjectFactory;
+import com.ysmjjsy.goya.component.framework.oss.properties.AbstractOssProperties;
 import com.ysmjjsy.goya.component.oss.aliyun.configuration.properties.AliyunProperties;
 import org.apache.commons.lang3.ObjectUtils;
 import org.apache.commons.pool2.PooledObject;
 
 /**
  * <p>Aliyun OSS 基础 Client 池化工厂 </p>
+ * <p>按 {@link AbstractOssProperties.Http} 设置 SDK 内置 HTTP 连接池的最大连接数、超时与空闲回收</p>
  *
  * @author goya
  * @since 2023/7/23 11:48
@@ -36,7 +38,15 @@ public class AliyunClientPooledObjectFactory extends AbstractOssClientPooledObje
                         aliyunProperties.getSecretKey(),
                         aliyunProperties.getRole());
 
+        AbstractOssProperties.Http http = aliyunProperties.getHttp();
         ClientBuilderConfiguration configuration = new ClientBuilderConfiguration();
+        configuration.setMaxConnections(http.getMaxConnections());
+        configuration.setConnectionTimeout((int) http.getConnectTimeout().toMillis());
+        configuration.setSocketTimeout((int) http.getSocketTimeout().toMillis());
+        configuration.setIdleConnectionTime(http.getMaxIdleTime().toMillis());
+        if (!http.getTimeToLive().isZero()) {
+            configuration.setConnectionTTL(http.getTimeToLive().toMillis());
+        }
 
         return new OSSClientBuilder().build(aliyunProperties.getEndpoint(), credentialsProvider, configuration);
     }
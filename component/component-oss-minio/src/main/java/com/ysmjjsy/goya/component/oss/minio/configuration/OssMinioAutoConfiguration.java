@@ -1,11 +1,14 @@
 package com.ysmjjsy.goya.component.oss.minio.configuration;
 
 import com.ysmjjsy.goya.component.framework.oss.annotation.ConditionalOnOssStrategy;
+import com.ysmjjsy.goya.component.framework.oss.client.OssClientMetrics;
 import com.ysmjjsy.goya.component.framework.oss.enums.OssEnum;
 import com.ysmjjsy.goya.component.oss.minio.configuration.properties.MinioProperties;
 import com.ysmjjsy.goya.component.oss.minio.definition.pool.*;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
@@ -35,8 +38,17 @@ public class OssMinioAutoConfiguration {
 
     @Bean
     @ConditionalOnMissingBean
-    public MinioClientObjectPool minioClientPool(MinioProperties minioProperties) {
-        MinioClientPooledObjectFactory factory = new MinioClientPooledObjectFactory(minioProperties);
+    public MinioHttpTransport minioHttpTransport(MinioProperties minioProperties, ObjectProvider<MeterRegistry> meterRegistry) {
+        OssClientMetrics metrics = OssClientMetrics.of(meterRegistry.getIfAvailable(), minioProperties.getMetricsEnabled(), "minio");
+        MinioHttpTransport transport = new MinioHttpTransport(minioProperties, metrics);
+        log.trace("[Goya] |- Bean [Minio Http Transport] Configure.");
+        return transport;
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    public MinioClientObjectPool minioClientPool(MinioProperties minioProperties, MinioHttpTransport minioHttpTransport) {
+        MinioClientPooledObjectFactory factory = new MinioClientPooledObjectFactory(minioProperties, minioHttpTransport);
         MinioClientObjectPool pool = new MinioClientObjectPool(factory);
         log.trace("[Goya] |- Bean [Minio Client Pool] Configure.");
         return pool;
@@ -44,8 +56,8 @@ public class OssMinioAutoConfiguration {
 
     @Bean
     @ConditionalOnMissingBean
-    public MinioAsyncClientObjectPool minioAsyncClientPool(MinioProperties minioProperties) {
-        MinioAsyncClientPooledObjectFactory factory = new MinioAsyncClientPooledObjectFactory(minioProperties);
+    public MinioAsyncClientObjectPool minioAsyncClientPool(MinioProperties minioProperties, MinioHttpTransport minioHttpTransport) {
+        MinioAsyncClientPooledObjectFactory factory = new MinioAsyncClientPooledObjectFactory(minioProperties, minioHttpTransport);
         MinioAsyncClientObjectPool pool = new MinioAsyncClientObjectPool(factory);
         log.trace("[Goya] |- Bean [Minio Async Client Pool] Configure.");
         return pool;
@@ -53,8 +65,8 @@ public class OssMinioAutoConfiguration {
 
     @Bean
     @ConditionalOnMissingBean
-    public MinioAdminClientObjectPool minioAdminClientPool(MinioProperties minioProperties) {
-        MinioAdminClientPooledObjectFactory factory = new MinioAdminClientPooledObjectFactory(minioProperties);
+    public MinioAdminClientObjectPool minioAdminClientPool(MinioProperties minioProperties, MinioHttpTransport minioHttpTransport) {
+        MinioAdminClientPooledObjectFactory factory = new MinioAdminClientPooledObjectFactory(minioProperties, minioHttpTransport);
         MinioAdminClientObjectPool pool = new MinioAdminClientObjectPool(factory);
         log.trace("[Goya] |- Bean [Minio Admin Client Pool] Configure.");
         return pool;
@@ -48,7 +48,7 @@ public abstract class ObjectConditionalReadRequest<B extends ObjectConditionalRe
         }
 
         if (ObjectUtils.isNotEmpty(getOffset()) && getOffset() >= 0) {
-            builder.length(getOffset());
+            builder.offset(getOffset());
         }
 
         if (StringUtils.isNotBlank(getMatchETag())) {
@@ -56,7 +56,7 @@ public abstract class ObjectConditionalReadRequest<B extends ObjectConditionalRe
         }
 
         if (StringUtils.isNotBlank(getNotMatchETag())) {
-            builder.matchETag(getNotMatchETag());
+            builder.notMatchETag(getNotMatchETag());
         }
 
         if (StringUtils.isNotBlank(getModifiedSince())) {
@@ -13,6 +13,6 @@ import io.minio.admin.MinioAdminClient;
 public class MinioAdminClientObjectPool extends AbstractObjectPool<MinioAdminClient> {
 
     public MinioAdminClientObjectPool(AbstractOssClientPooledObjectFactory<MinioAdminClient> factory) {
-        super(factory, factory.getOssProperties().getPool());
+        super(factory, factory.getOssProperties().getPool(), factory.isShared());
     }
 }
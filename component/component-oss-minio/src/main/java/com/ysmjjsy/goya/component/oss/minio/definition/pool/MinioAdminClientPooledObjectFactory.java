@@ -17,10 +17,12 @@ public class MinioAdminClientPooledObjectFactory extends AbstractOssClientPooled
     private static final Logger log = LoggerFactory.getLogger(MinioAdminClientPooledObjectFactory.class);
 
     private final MinioProperties minioProperties;
+    private final MinioHttpTransport httpTransport;
 
-    public MinioAdminClientPooledObjectFactory(MinioProperties minioProperties) {
+    public MinioAdminClientPooledObjectFactory(MinioProperties minioProperties, MinioHttpTransport httpTransport) {
         super(minioProperties);
         this.minioProperties = minioProperties;
+        this.httpTransport = httpTransport;
     }
 
     @Override
@@ -29,6 +31,7 @@ public class MinioAdminClientPooledObjectFactory extends AbstractOssClientPooled
         return MinioAdminClient.builder()
                 .endpoint(minioProperties.getEndpoint())
                 .credentials(minioProperties.getAccessKey(), minioProperties.getSecretKey())
+                .httpClient(httpTransport.getHttpClient())
                 .build();
     }
 }
@@ -13,6 +13,6 @@ import com.ysmjjsy.goya.component.framework.oss.client.AbstractOssClientPooledOb
 public class MinioAsyncClientObjectPool extends AbstractObjectPool<MinioAsyncClient> {
 
     public MinioAsyncClientObjectPool(AbstractOssClientPooledObjectFactory<MinioAsyncClient> factory) {
-        super(factory, factory.getOssProperties().getPool());
+        super(factory, factory.getOssProperties().getPool(), factory.isShared());
     }
 }
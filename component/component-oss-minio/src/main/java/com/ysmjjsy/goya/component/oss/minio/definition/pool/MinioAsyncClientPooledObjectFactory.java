@@ -12,10 +12,12 @@ import com.ysmjjsy.goya.component.oss.minio.configuration.properties.MinioProper
 public class MinioAsyncClientPooledObjectFactory extends AbstractOssClientPooledObjectFactory<MinioAsyncClient> {
 
     private final MinioProperties minioProperties;
+    private final MinioHttpTransport httpTransport;
 
-    public MinioAsyncClientPooledObjectFactory(MinioProperties minioProperties) {
+    public MinioAsyncClientPooledObjectFactory(MinioProperties minioProperties, MinioHttpTransport httpTransport) {
         super(minioProperties);
         this.minioProperties = minioProperties;
+        this.httpTransport = httpTransport;
     }
 
     @Override
@@ -23,6 +25,7 @@ public class MinioAsyncClientPooledObjectFactory extends AbstractOssClientPooled
         io.minio.MinioAsyncClient minioAsyncClient = io.minio.MinioAsyncClient.builder()
                 .endpoint(minioProperties.getEndpoint())
                 .credentials(minioProperties.getAccessKey(), minioProperties.getSecretKey())
+                .httpClient(httpTransport.getHttpClient())
                 .build();
         return new MinioAsyncClient(minioAsyncClient);
     }
@@ -13,6 +13,6 @@ import io.minio.MinioClient;
 public class MinioClientObjectPool extends AbstractObjectPool<MinioClient> {
 
     public MinioClientObjectPool(AbstractOssClientPooledObjectFactory<MinioClient> factory) {
-        super(factory, factory.getOssProperties().getPool());
+        super(factory, factory.getOssProperties().getPool(), factory.isShared());
     }
 }
\ No newline at end of file
@@ -13,10 +13,12 @@ import io.minio.MinioClient;
 public class MinioClientPooledObjectFactory extends AbstractOssClientPooledObjectFactory<MinioClient> {
 
     private final MinioProperties minioProperties;
+    private final MinioHttpTransport httpTransport;
 
-    public MinioClientPooledObjectFactory(MinioProperties minioProperties) {
+    public MinioClientPooledObjectFactory(MinioProperties minioProperties, MinioHttpTransport httpTransport) {
         super(minioProperties);
         this.minioProperties = minioProperties;
+        this.httpTransport = httpTransport;
     }
 
     @Override
@@ -24,6 +26,7 @@ public class MinioClientPooledObjectFactory extends AbstractOssClientPooledObjec
         return MinioClient.builder()
                 .endpoint(minioProperties.getEndpoint())
                 .credentials(minioProperties.getAccessKey(), minioProperties.getSecretKey())
+                .httpClient(httpTransport.getHttpClient())
                 .build();
     }
 }
@@ -0,0 +1,79 @@
+package com.ysmjjsy.goya.component.oss.minio.definition.pool;
+
+import com.ysmjjsy.goya.component.framework.oss.client.OssClientMetrics;
+import com.ysmjjsy.goya.component.framework.oss.properties.AbstractOssProperties;
+import com.ysmjjsy.goya.component.oss.minio.configuration.properties.MinioProperties;
+import io.minio.http.HttpUtils;
+import lombok.Getter;
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+import org.springframework.beans.factory.DisposableBean;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>Minio HTTP 传输层</p>
+ * <p>
+ * 同步、异步与 Admin Client 共用一个 {@link OkHttpClient}，即共用同一个连接池与调度器，
+ * 按 {@link AbstractOssProperties.Http} 设置最大连接数、空闲保活与超时。
+ * OkHttp 不支持连接最长存活时间，timeToLive 配置不生效。
+ * <p>
+ * 指标中的请求耗时为收到响应头的时间，不含响应体读取。
+ *
+ * @author goya
+ * @since 2026/2/7 14:30
+ */
+@Getter
+public class MinioHttpTransport implements DisposableBean {
+
+    private final OkHttpClient httpClient;
+
+    public MinioHttpTransport(MinioProperties minioProperties, OssClientMetrics metrics) {
+        AbstractOssProperties.Http http = minioProperties.getHttp();
+
+        Dispatcher dispatcher = new Dispatcher();
+        dispatcher.setMaxRequests(http.getMaxConnections());
+        dispatcher.setMaxRequestsPerHost(http.getMaxConnections());
+        ConnectionPool connectionPool = new ConnectionPool(http.getMaxConnections(), http.getMaxIdleTime().toMillis(), TimeUnit.MILLISECONDS);
+
+        OkHttpClient.Builder builder = HttpUtils.newDefaultHttpClient(
+                        http.getConnectTimeout().toMillis(),
+                        http.getSocketTimeout().toMillis(),
+                        http.getSocketTimeout().toMillis())
+                .newBuilder()
+                .dispatcher(dispatcher)
+                .connectionPool(connectionPool);
+
+        if (metrics.isEnabled()) {
+            builder.addInterceptor(chain -> {
+                Request request = chain.request();
+                long start = System.nanoTime();
+                try {
+                    Response response = chain.proceed(request);
+                    metrics.recordRequest(request.method(), OssClientMetrics.outcome(response.code()), Duration.ofNanos(System.nanoTime() - start));
+                    return response;
+                } catch (IOException e) {
+                    metrics.recordRequest(request.method(), "IO_ERROR", Duration.ofNanos(System.nanoTime() - start));
+                    throw e;
+                }
+            });
+            metrics.gaugeConnections("total", connectionPool::connectionCount);
+            metrics.gaugeConnections("idle", connectionPool::idleConnectionCount);
+            metrics.gaugeConnections("pending", dispatcher::queuedCallsCount);
+            metrics.gaugeConnections("max", http::getMaxConnections);
+        }
+
+        this.httpClient = builder.build();
+    }
+
+    @Override
+    public void destroy() {
+        httpClient.dispatcher().executorService().shutdown();
+        httpClient.connectionPool().evictAll();
+    }
+}
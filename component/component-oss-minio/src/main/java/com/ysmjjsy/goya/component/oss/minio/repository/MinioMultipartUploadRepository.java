@@ -11,10 +11,13 @@ import io.minio.messages.ListMultipartUploadsResult;
 import io.minio.messages.ListPartsResult;
 import io.minio.messages.Part;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.collections4.MapUtils;
 import org.springframework.core.convert.converter.Converter;
 import org.springframework.stereotype.Service;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * <p>Minio Java OSS API 分片上传操作实现</p>
@@ -41,7 +44,7 @@ public class MinioMultipartUploadRepository implements OssMultipartUploadReposit
                 arguments.getBucketName(),
                 arguments.getRegion(),
                 arguments.getObjectName(),
-                arguments.getExtraHeaders(),
+                withUserMetadata(arguments.getExtraHeaders(), arguments.getMetadata()),
                 arguments.getExtraQueryParams());
 
         return toDomain.convert(response.result());
@@ -154,4 +157,16 @@ public class MinioMultipartUploadRepository implements OssMultipartUploadReposit
 
         return toDomain.convert(response.result());
     }
+
+    /**
+     * 低层 createMultipartUpload 只接受请求头，用户元数据按 x-amz-meta- 前缀放入请求头
+     */
+    private static Map<String, String> withUserMetadata(Map<String, String> extraHeaders, Map<String, String> metadata) {
+        if (MapUtils.isEmpty(metadata)) {
+            return extraHeaders;
+        }
+        Map<String, String> headers = MapUtils.isEmpty(extraHeaders) ? new HashMap<>() : new HashMap<>(extraHeaders);
+        metadata.forEach((key, value) -> headers.put("x-amz-meta-" + key, value));
+        return headers;
+    }
 }
@@ -1,12 +1,15 @@
 package com.ysmjjsy.goya.component.oss.s3.configuration;
 
 import com.ysmjjsy.goya.component.framework.oss.annotation.ConditionalOnOssStrategy;
+import com.ysmjjsy.goya.component.framework.oss.client.OssClientMetrics;
 import com.ysmjjsy.goya.component.framework.oss.enums.OssEnum;
 import com.ysmjjsy.goya.component.oss.s3.configuration.properties.S3Properties;
 import com.ysmjjsy.goya.component.oss.s3.definition.pool.S3ClientObjectPool;
 import com.ysmjjsy.goya.component.oss.s3.definition.pool.S3ClientPooledObjectFactory;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
@@ -36,8 +39,9 @@ public class OssS3AutoConfiguration {
 
     @Bean
     @ConditionalOnMissingBean
-    public S3ClientObjectPool s3ClientObjectPool(S3Properties s3Properties) {
-        S3ClientPooledObjectFactory factory = new S3ClientPooledObjectFactory(s3Properties);
+    public S3ClientObjectPool s3ClientObjectPool(S3Properties s3Properties, ObjectProvider<MeterRegistry> meterRegistry) {
+        OssClientMetrics metrics = OssClientMetrics.of(meterRegistry.getIfAvailable(), s3Properties.getMetricsEnabled(), "s3");
+        S3ClientPooledObjectFactory factory = new S3ClientPooledObjectFactory(s3Properties, metrics);
         S3ClientObjectPool pool = new S3ClientObjectPool(factory);
         log.trace("[Goya] |- Bean [S3 Client Pool] Configure.");
         return pool;
@@ -14,9 +14,12 @@ public class ArgumentsToInitiateMultipartUploadRequestConverter extends Argument
 
     @Override
     public CreateMultipartUploadRequest getInstance(InitiateMultipartUploadArguments arguments) {
-        return CreateMultipartUploadRequest.builder()
+        CreateMultipartUploadRequest.Builder builder = CreateMultipartUploadRequest.builder()
                 .bucket(arguments.getBucketName())
-                .key(arguments.getObjectName())
-                .build();
+                .key(arguments.getObjectName());
+        if (arguments.getMetadata() != null && !arguments.getMetadata().isEmpty()) {
+            builder.metadata(arguments.getMetadata());
+        }
+        return builder.build();
     }
 }
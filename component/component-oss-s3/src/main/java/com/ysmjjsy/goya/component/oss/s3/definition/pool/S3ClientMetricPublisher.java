@@ -0,0 +1,90 @@
+package com.ysmjjsy.goya.component.oss.s3.definition.pool;
+
+import com.ysmjjsy.goya.component.framework.oss.client.OssClientMetrics;
+import software.amazon.awssdk.core.metrics.CoreMetric;
+import software.amazon.awssdk.http.HttpMetric;
+import software.amazon.awssdk.metrics.MetricCollection;
+import software.amazon.awssdk.metrics.MetricPublisher;
+import software.amazon.awssdk.metrics.SdkMetric;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * <p>Amazon S3 Client 指标上报</p>
+ * <p>
+ * 每次 API 调用结束时由 SDK 回调：记录调用耗时，并以最近一次调用时 HTTP 连接池的快照
+ * 更新已借出、可用、等待获取与最大连接数。
+ *
+ * @author goya
+ * @since 2026/2/7 14:30
+ */
+public class S3ClientMetricPublisher implements MetricPublisher {
+
+    private final OssClientMetrics metrics;
+    private final AtomicInteger leased = new AtomicInteger();
+    private final AtomicInteger available = new AtomicInteger();
+    private final AtomicInteger pending = new AtomicInteger();
+    private final AtomicInteger max = new AtomicInteger();
+
+    public S3ClientMetricPublisher(OssClientMetrics metrics) {
+        this.metrics = metrics;
+        metrics.gaugeConnections("leased", leased::get);
+        metrics.gaugeConnections("idle", available::get);
+        metrics.gaugeConnections("pending", pending::get);
+        metrics.gaugeConnections("max", max::get);
+    }
+
+    @Override
+    public void publish(MetricCollection metricCollection) {
+        String operation = first(metricCollection, CoreMetric.OPERATION_NAME);
+        Duration duration = first(metricCollection, CoreMetric.API_CALL_DURATION);
+        Boolean successful = first(metricCollection, CoreMetric.API_CALL_SUCCESSFUL);
+        if (operation != null && duration != null) {
+            metrics.recordRequest(operation, outcome(metricCollection, successful), duration);
+        }
+        update(metricCollection, HttpMetric.LEASED_CONCURRENCY, leased);
+        update(metricCollection, HttpMetric.AVAILABLE_CONCURRENCY, available);
+        update(metricCollection, HttpMetric.PENDING_CONCURRENCY_ACQUIRES, pending);
+        update(metricCollection, HttpMetric.MAX_CONCURRENCY, max);
+    }
+
+    @Override
+    public void close() {
+        // 指标由 MeterRegistry 管理，无需释放
+    }
+
+    private String outcome(MetricCollection collection, Boolean successful) {
+        if (Boolean.TRUE.equals(successful)) {
+            return "SUCCESS";
+        }
+        Integer status = first(collection, HttpMetric.HTTP_STATUS_CODE);
+        return status != null ? OssClientMetrics.outcome(status) : "IO_ERROR";
+    }
+
+    private void update(MetricCollection collection, SdkMetric<Integer> metric, AtomicInteger target) {
+        Integer value = first(collection, metric);
+        if (value != null) {
+            target.set(value);
+        }
+    }
+
+    /**
+     * 深度优先查找指标，连接池指标位于 ApiCallAttempt/HttpClient 子集合中；取最后一次尝试的值
+     */
+    private static <T> T first(MetricCollection collection, SdkMetric<T> metric) {
+        List<T> values = collection.metricValues(metric);
+        if (!values.isEmpty()) {
+            return values.getLast();
+        }
+        T found = null;
+        for (MetricCollection child : collection.children()) {
+            T value = first(child, metric);
+            if (value != null) {
+                found = value;
+            }
+        }
+        return found;
+    }
+}
@@ -13,6 +13,6 @@ import software.amazon.awssdk.services.s3.S3Client;
 public class S3ClientObjectPool extends AbstractObjectPool<S3Client> {
 
     public S3ClientObjectPool(AbstractOssClientPooledObjectFactory<S3Client> factory) {
-        super(factory, factory.getOssProperties().getPool());
+        super(factory, factory.getOssProperties().getPool(), factory.isShared());
     }
 }
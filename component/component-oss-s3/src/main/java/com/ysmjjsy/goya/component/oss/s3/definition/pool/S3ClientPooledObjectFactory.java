@@ -1,15 +1,23 @@
 package com.ysmjjsy.goya.component.oss.s3.definition.pool;
 
 import com.ysmjjsy.goya.component.framework.oss.client.AbstractOssClientPooledObjectFactory;
+import com.ysmjjsy.goya.component.framework.oss.client.OssClientMetrics;
+import com.ysmjjsy.goya.component.framework.oss.properties.AbstractOssProperties;
 import com.ysmjjsy.goya.component.oss.s3.configuration.properties.S3Properties;
+import org.jspecify.annotations.Nullable;
 import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
 import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.http.apache.ApacheHttpClient;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3ClientBuilder;
 
 import java.net.URI;
 
 /**
  * <p>Amazon S3 Client 池化工厂 </p>
+ * <p>
+ * 使用 Apache HTTP 传输层，按 {@link AbstractOssProperties.Http} 设置最大连接数、超时与保活；
+ * HTTP Client 由 S3Client 持有，随 S3Client 关闭。
  *
  * @author goya
  * @since 2023/7/14 16:34
@@ -17,10 +25,16 @@ import java.net.URI;
 public class S3ClientPooledObjectFactory extends AbstractOssClientPooledObjectFactory<S3Client> {
 
     private final S3Properties s3Properties;
+    private final @Nullable S3ClientMetricPublisher metricPublisher;
 
     public S3ClientPooledObjectFactory(S3Properties s3Properties) {
-        super(s3Properties);
+        this(s3Properties, OssClientMetrics.noop());
+    }
+
+    public S3ClientPooledObjectFactory(S3Properties s3Properties, OssClientMetrics metrics) {
+        super(s3Properties, metrics);
         this.s3Properties = s3Properties;
+        this.metricPublisher = metrics.isEnabled() ? new S3ClientMetricPublisher(metrics) : null;
     }
 
     @Override
@@ -29,9 +43,24 @@ public class S3ClientPooledObjectFactory extends AbstractOssClientPooledObjectFa
         StaticCredentialsProvider staticCredentialsProvider = StaticCredentialsProvider.create(
                 AwsBasicCredentials.create(s3Properties.getAccessKey(), s3Properties.getSecretKey()));
 
-        return S3Client.builder()
+        AbstractOssProperties.Http http = s3Properties.getHttp();
+        ApacheHttpClient.Builder httpClientBuilder = ApacheHttpClient.builder()
+                .maxConnections(http.getMaxConnections())
+                .connectionTimeout(http.getConnectTimeout())
+                .socketTimeout(http.getSocketTimeout())
+                .connectionMaxIdleTime(http.getMaxIdleTime())
+                .tcpKeepAlive(http.getTcpKeepAlive());
+        if (!http.getTimeToLive().isZero()) {
+            httpClientBuilder.connectionTimeToLive(http.getTimeToLive());
+        }
+
+        S3ClientBuilder builder = S3Client.builder()
                 .credentialsProvider(staticCredentialsProvider)
                 .endpointOverride(URI.create(s3Properties.getEndpoint()))
-                .build();
+                .httpClientBuilder(httpClientBuilder);
+        if (metricPublisher != null) {
+            builder.overrideConfiguration(c -> c.addMetricPublisher(metricPublisher));
+        }
+        return builder.build();
     }
 }
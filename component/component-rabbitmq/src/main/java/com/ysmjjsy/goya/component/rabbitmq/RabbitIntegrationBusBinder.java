@@ -1,25 +1,49 @@
 package com.ysmjjsy.goya.component.rabbitmq;
 
+import com.rabbitmq.client.Channel;
 import com.ysmjjsy.goya.component.framework.bus.binder.BusBinder;
 import com.ysmjjsy.goya.component.framework.bus.binder.BusBinding;
 import com.ysmjjsy.goya.component.framework.bus.message.DefaultBusMessageProducer;
 import com.ysmjjsy.goya.component.framework.bus.runtime.BusChannels;
+import com.ysmjjsy.goya.component.rabbitmq.autoconfigure.properties.RabbitBusProperties;
+import com.ysmjjsy.goya.component.rabbitmq.constants.RabbitConst;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.AmqpRejectAndDontRequeueException;
+import org.springframework.amqp.core.*;
+import org.springframework.amqp.rabbit.batch.SimpleBatchingStrategy;
 import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.amqp.rabbit.core.BatchingRabbitTemplate;
+import org.springframework.amqp.rabbit.core.RabbitAdmin;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.amqp.rabbit.listener.SimpleMessageListenerContainer;
+import org.springframework.amqp.support.AmqpHeaders;
 import org.springframework.beans.factory.BeanFactory;
 import org.springframework.beans.factory.DisposableBean;
 import org.springframework.expression.common.LiteralExpression;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.integration.IntegrationMessageHeaderAccessor;
+import org.springframework.integration.acks.AcknowledgmentCallback;
 import org.springframework.integration.amqp.inbound.AmqpInboundChannelAdapter;
 import org.springframework.integration.amqp.outbound.AmqpOutboundEndpoint;
+import org.springframework.integration.channel.DirectChannel;
 import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
 import org.springframework.messaging.SubscribableChannel;
 import org.springframework.messaging.support.ErrorMessage;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.util.StringUtils;
 
+import java.io.IOException;
+import java.time.Duration;
 import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 /**
  * <p>RabbitMQ Binder：把 Bus 的 Integration 骨架“接线”到 RabbitMQ</p>
@@ -28,11 +52,15 @@ import java.util.concurrent.CopyOnWriteArrayList;
  * 重要原则：
  * <ul>
  *   <li>尽量复用官方配置与官方组件：RabbitTemplate / ConnectionFactory（来源于 spring.rabbitmq.* 自动装配）</li>
- *   <li>本类只做接线，不在这里发明重试/DLQ/并发/ACK 等策略（交给 Spring AMQP / Broker 官方能力）</li>
+ *   <li>按 binding 的策略（交换机、确认、批量、并发、ACK、重试与死信）来自 {@link RabbitBusProperties}，未配置时使用默认值</li>
  * </ul>
  * <p>
- * Outbound：SubscribableChannel -> AmqpOutboundEndpoint
- * Inbound：AmqpInboundChannelAdapter -> SubscribableChannel
+ * Outbound：SubscribableChannel -> AmqpOutboundEndpoint（每个 binding 独立的 RabbitTemplate，
+ * 关联确认与 returns 异步回调，nack / 超时 / 无法路由发布到 bus error 通道）
+ * Inbound：AmqpInboundChannelAdapter -> 重试投递 -> SubscribableChannel
+ * （inbound 通道为异步通道，消息携带 AcknowledgmentCallback，监听线程等待业务处理完成后再 ack，
+ * 处理失败则重试，重试耗尽后拒绝且不重回队列，由死信交换机转入死信队列；
+ * 等待超时不重试，业务处理可能仍在进行，重新投递会导致重复处理）
  * <p>
  * 同时：把 inbound 端（监听容器层面）发生的异常发布到 Bus 全局 error 通道，便于统一观测/告警。
  *
@@ -43,12 +71,19 @@ import java.util.concurrent.CopyOnWriteArrayList;
 @RequiredArgsConstructor
 public final class RabbitIntegrationBusBinder implements BusBinder, DisposableBean {
 
+    private static final SpelExpressionParser PARSER = new SpelExpressionParser();
+
     private final RabbitTemplate rabbitTemplate;
     private final ConnectionFactory connectionFactory;
     private final BusChannels channels;
     private final BeanFactory beanFactory;
+    private final RabbitBusProperties properties;
 
     private final CopyOnWriteArrayList<AmqpInboundChannelAdapter> inboundAdapters = new CopyOnWriteArrayList<>();
+    private final CopyOnWriteArrayList<BatchingRabbitTemplate> batchingTemplates = new CopyOnWriteArrayList<>();
+
+    private volatile RabbitAdmin admin;
+    private volatile ThreadPoolTaskScheduler batchScheduler;
 
     @Override
     public String name() {
@@ -57,10 +92,36 @@ public final class RabbitIntegrationBusBinder implements BusBinder, DisposableBe
 
     @Override
     public void bindOutbound(BusBinding binding, SubscribableChannel outboundChannel) {
-        AmqpOutboundEndpoint endpoint = new AmqpOutboundEndpoint(rabbitTemplate);
-        endpoint.setExchangeName("");
-        endpoint.setRoutingKeyExpression(new LiteralExpression(binding.destination()));
+        RabbitBusProperties.Binding config = properties.binding(binding.name());
+        RabbitBusProperties.Producer producer = config.producer();
+        String routingKey = routingKey(binding, config);
+
+        if (config.declare() && StringUtils.hasText(config.exchange())) {
+            admin().declareExchange(exchange(config));
+        }
+
+        AmqpOutboundEndpoint endpoint = new AmqpOutboundEndpoint(outboundTemplate(binding, producer));
+        endpoint.setExchangeName(config.exchange());
+        endpoint.setRoutingKeyExpression(new LiteralExpression(routingKey));
         endpoint.setBeanFactory(beanFactory);
+
+        if (producer.confirms()) {
+            if (connectionFactory.isPublisherConfirms()) {
+                endpoint.setConfirmCorrelationExpression(PARSER.parseExpression("#this"));
+                endpoint.setConfirmAckChannel(confirmAckChannel(binding));
+                endpoint.setConfirmNackChannel(confirmNackChannel(binding));
+                endpoint.setConfirmTimeout(producer.confirmTimeout().toMillis());
+            } else {
+                log.warn("RabbitMQ outbound 未启用确认: binding='{}'，请设置 spring.rabbitmq.publisher-confirm-type=correlated", binding.name());
+            }
+        }
+        if (producer.mandatory()) {
+            if (connectionFactory.isPublisherReturns()) {
+                endpoint.setReturnChannel(returnChannel(binding));
+            } else {
+                log.warn("RabbitMQ outbound 未启用 returns: binding='{}'，请设置 spring.rabbitmq.publisher-returns=true", binding.name());
+            }
+        }
         endpoint.afterPropertiesSet();
 
         outboundChannel.subscribe((Message<?> msg) -> {
@@ -72,37 +133,287 @@ public final class RabbitIntegrationBusBinder implements BusBinder, DisposableBe
             }
         });
 
-        log.info("RabbitMQ outbound 已绑定: binding='{}', destination='{}'", binding.name(), binding.destination());
+        log.info("RabbitMQ outbound 已绑定: binding='{}', exchange='{}', routingKey='{}', confirms={}, batching={}",
+                binding.name(), config.exchange(), routingKey, producer.confirms(), producer.batching());
     }
 
     @Override
     public void bindInbound(BusBinding binding, SubscribableChannel inboundChannel) {
+        RabbitBusProperties.Binding config = properties.binding(binding.name());
+        RabbitBusProperties.Consumer consumer = config.consumer();
+        String queueName = StringUtils.hasText(config.queue()) ? config.queue() : binding.destination();
+
+        if (config.declare()) {
+            declareInbound(binding, config, queueName);
+        }
+
         SimpleMessageListenerContainer container = new SimpleMessageListenerContainer(connectionFactory);
-        container.setQueueNames(binding.destination());
+        container.setQueueNames(queueName);
+        container.setConcurrentConsumers(consumer.concurrency());
+        container.setMaxConcurrentConsumers(Math.max(consumer.concurrency(), consumer.maxConcurrency()));
+        container.setPrefetchCount(consumer.prefetch());
+        container.setAcknowledgeMode(consumer.ackMode());
+        // 失败消息不重回队列，交给死信交换机
+        container.setDefaultRequeueRejected(false);
 
         // 容器层异常发布到 bus error 通道（不吞异常，不替代官方策略）
-        container.setErrorHandler(t -> {
-            try {
-                HashMap<String, Object> headers = new HashMap<>();
-                headers.put("stage", "rabbit-inbound-container");
-                headers.put("binder", "rabbit");
-                headers.put(DefaultBusMessageProducer.HDR_BINDING, binding.name());
-                headers.put("destination", binding.destination());
-                channels.error().send(new ErrorMessage(t, headers));
-            } catch (Exception ex) {
-                log.warn("发布到 bus error 通道失败（忽略），原始异常: {}", t.toString(), ex);
-            }
-        });
+        container.setErrorHandler(t -> publishError(t, binding, "rabbit-inbound-container", Map.of()));
+
+        DirectChannel retrying = new DirectChannel();
+        retrying.subscribe(msg -> deliver(msg, binding, consumer, inboundChannel));
 
         AmqpInboundChannelAdapter adapter = new AmqpInboundChannelAdapter(container);
-        adapter.setOutputChannel(inboundChannel);
+        adapter.setOutputChannel(retrying);
         adapter.setBeanFactory(beanFactory);
 
         adapter.afterPropertiesSet();
         adapter.start();
         inboundAdapters.add(adapter);
 
-        log.info("RabbitMQ inbound 已绑定: binding='{}', destination='{}'", binding.name(), binding.destination());
+        log.info("RabbitMQ inbound 已绑定: binding='{}', queue='{}', concurrency={}-{}, prefetch={}, ackMode={}",
+                binding.name(), queueName, consumer.concurrency(), consumer.maxConcurrency(), consumer.prefetch(), consumer.ackMode());
+    }
+
+    /**
+     * 重试投递到 bus inbound 通道，业务处理完成后 MANUAL 模式下由此处完成 ack / nack
+     */
+    private void deliver(Message<?> msg, BusBinding binding, RabbitBusProperties.Consumer consumer, SubscribableChannel inboundChannel) {
+        long interval = consumer.initialInterval().toMillis();
+        int maxAttempts = Math.max(1, consumer.maxAttempts());
+        Exception last = null;
+
+        for (int attempt = 1; attempt <= maxAttempts; attempt++) {
+            try {
+                dispatch(msg, consumer, inboundChannel);
+                ack(msg, consumer);
+                return;
+            } catch (AckFailedException ex) {
+                // 已投递成功，仅 ack 失败：不重复投递，连接恢复后由 broker 重新投递
+                log.warn("RabbitMQ inbound ack 失败（忽略）: binding='{}'", binding.name(), ex.getCause());
+                return;
+            } catch (HandleTimeoutException ex) {
+                timeout(msg, binding, consumer, ex);
+                return;
+            } catch (Exception ex) {
+                last = ex;
+                if (attempt == maxAttempts) {
+                    break;
+                }
+                log.debug("RabbitMQ inbound 投递失败，{}ms 后重试: binding='{}', attempt={}", interval, binding.name(), attempt);
+                try {
+                    Thread.sleep(interval);
+                } catch (InterruptedException _) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+                interval = Math.min((long) (interval * consumer.multiplier()), consumer.maxInterval().toMillis());
+            }
+        }
+
+        publishError(last, binding, "rabbit-inbound-retry-exhausted", Map.of("data", msg));
+        if (consumer.ackMode().isManual()) {
+            reject(msg);
+            return;
+        }
+        throw new AmqpRejectAndDontRequeueException("RabbitMQ inbound 重试耗尽: binding='" + binding.name() + "'", last);
+    }
+
+    /**
+     * 等待业务处理超时：业务处理仍在 worker 线程上进行，不再重新投递，只结算一次。
+     * <p>
+     * MANUAL 模式下监听线程不再等待，由业务处理结束时的回调 ack / nack；
+     * AUTO 模式下容器在监听线程返回时确认，只能直接拒绝转入死信队列。
+     */
+    private void timeout(Message<?> msg, BusBinding binding, RabbitBusProperties.Consumer consumer, HandleTimeoutException ex) {
+        publishError(ex, binding, "rabbit-inbound-handle-timeout", Map.of("data", msg));
+        if (consumer.ackMode().isManual()) {
+            log.warn("RabbitMQ inbound 等待业务处理超时，处理结束后再确认: binding='{}'", binding.name());
+            ex.callback.result.whenComplete((status, _) -> {
+                if (status == AcknowledgmentCallback.Status.ACCEPT) {
+                    try {
+                        ack(msg, consumer);
+                    } catch (AckFailedException failed) {
+                        log.warn("RabbitMQ inbound ack 失败（忽略）: binding='{}'", binding.name(), failed.getCause());
+                    }
+                } else {
+                    publishError(new IllegalStateException("RabbitMQ inbound 业务处理失败: status=" + status),
+                            binding, "rabbit-inbound-handle-failed", Map.of("data", msg));
+                    reject(msg);
+                }
+            });
+            return;
+        }
+        throw new AmqpRejectAndDontRequeueException("RabbitMQ inbound 等待业务处理超时: binding='" + binding.name() + "'", ex);
+    }
+
+    /**
+     * 投递到 bus inbound 通道并等待业务处理结束；NONE 模式下 broker 已视为确认，不等待
+     */
+    private void dispatch(Message<?> msg, RabbitBusProperties.Consumer consumer, SubscribableChannel inboundChannel) {
+        if (consumer.ackMode() == AcknowledgeMode.NONE) {
+            inboundChannel.send(msg);
+            return;
+        }
+        CompletionCallback callback = new CompletionCallback();
+        inboundChannel.send(MessageBuilder.fromMessage(msg)
+                .setHeader(IntegrationMessageHeaderAccessor.ACKNOWLEDGMENT_CALLBACK, callback)
+                .build());
+        AcknowledgmentCallback.Status status = callback.await(consumer.handleTimeout());
+        if (status != AcknowledgmentCallback.Status.ACCEPT) {
+            throw new IllegalStateException("RabbitMQ inbound 业务处理失败: status=" + status);
+        }
+    }
+
+    private void ack(Message<?> msg, RabbitBusProperties.Consumer consumer) {
+        if (!consumer.ackMode().isManual()) {
+            return;
+        }
+        Channel channel = msg.getHeaders().get(AmqpHeaders.CHANNEL, Channel.class);
+        Long deliveryTag = msg.getHeaders().get(AmqpHeaders.DELIVERY_TAG, Long.class);
+        if (channel != null && deliveryTag != null) {
+            try {
+                channel.basicAck(deliveryTag, false);
+            } catch (IOException ex) {
+                throw new AckFailedException(ex);
+            }
+        }
+    }
+
+    private void reject(Message<?> msg) {
+        Channel channel = msg.getHeaders().get(AmqpHeaders.CHANNEL, Channel.class);
+        Long deliveryTag = msg.getHeaders().get(AmqpHeaders.DELIVERY_TAG, Long.class);
+        if (channel == null || deliveryTag == null) {
+            return;
+        }
+        try {
+            channel.basicNack(deliveryTag, false, false);
+        } catch (IOException ex) {
+            log.warn("RabbitMQ inbound nack 失败（忽略），消息将在连接恢复后重新投递", ex);
+        }
+    }
+
+    /**
+     * 队列、死信交换机与死信队列、交换机绑定关系
+     */
+    private void declareInbound(BusBinding binding, RabbitBusProperties.Binding config, String queueName) {
+        RabbitAdmin rabbitAdmin = admin();
+        QueueBuilder builder = QueueBuilder.durable(queueName);
+
+        if (config.consumer().deadLetter()) {
+            String dlx = queueName + RabbitConst.DLX_SUFFIX;
+            String dlq = queueName + RabbitConst.DLQ_SUFFIX;
+            DirectExchange deadLetterExchange = new DirectExchange(dlx);
+            Queue deadLetterQueue = QueueBuilder.durable(dlq).build();
+            rabbitAdmin.declareExchange(deadLetterExchange);
+            rabbitAdmin.declareQueue(deadLetterQueue);
+            rabbitAdmin.declareBinding(BindingBuilder.bind(deadLetterQueue).to(deadLetterExchange).with(dlq));
+            builder.deadLetterExchange(dlx).deadLetterRoutingKey(dlq);
+        }
+
+        Queue queue = builder.build();
+        rabbitAdmin.declareQueue(queue);
+
+        if (StringUtils.hasText(config.exchange())) {
+            Exchange exchange = exchange(config);
+            rabbitAdmin.declareExchange(exchange);
+            rabbitAdmin.declareBinding(BindingBuilder.bind(queue).to(exchange).with(routingKey(binding, config)).noargs());
+        }
+    }
+
+    private RabbitTemplate outboundTemplate(BusBinding binding, RabbitBusProperties.Producer producer) {
+        RabbitTemplate template;
+        if (producer.batching()) {
+            SimpleBatchingStrategy strategy = new SimpleBatchingStrategy(
+                    producer.batchSize(), (int) producer.batchBuffer().toBytes(), producer.batchTimeout().toMillis());
+            BatchingRabbitTemplate batching = new BatchingRabbitTemplate(connectionFactory, strategy, batchScheduler());
+            batchingTemplates.add(batching);
+            template = batching;
+        } else {
+            // 独立模板：确认与 returns 回调在模板上只能注册一次
+            template = new RabbitTemplate(connectionFactory);
+        }
+        template.setMessageConverter(rabbitTemplate.getMessageConverter());
+        template.setMandatory(producer.mandatory());
+        template.setBeanName(binding.name() + ".rabbitTemplate");
+        return template;
+    }
+
+    private MessageChannel confirmAckChannel(BusBinding binding) {
+        DirectChannel channel = new DirectChannel();
+        channel.subscribe(_ -> log.trace("RabbitMQ outbound 已确认: binding='{}'", binding.name()));
+        return channel;
+    }
+
+    private MessageChannel confirmNackChannel(BusBinding binding) {
+        DirectChannel channel = new DirectChannel();
+        channel.subscribe(msg -> {
+            Object cause = msg.getHeaders().get(AmqpHeaders.PUBLISH_CONFIRM_NACK_CAUSE);
+            publishError(new IllegalStateException("RabbitMQ 发布未确认: " + cause), binding, "rabbit-outbound-nack", Map.of("data", msg));
+        });
+        return channel;
+    }
+
+    private MessageChannel returnChannel(BusBinding binding) {
+        DirectChannel channel = new DirectChannel();
+        channel.subscribe(msg -> {
+            Throwable ex = msg instanceof ErrorMessage em ? em.getPayload() : new IllegalStateException("RabbitMQ 消息无法路由");
+            publishError(ex, binding, "rabbit-outbound-returned", Map.of("data", msg));
+        });
+        return channel;
+    }
+
+    private void publishError(Throwable t, BusBinding binding, String stage, Map<String, Object> extra) {
+        try {
+            HashMap<String, Object> headers = new HashMap<>(extra);
+            headers.put("stage", stage);
+            headers.put("binder", "rabbit");
+            headers.put(DefaultBusMessageProducer.HDR_BINDING, binding.name());
+            headers.put("destination", binding.destination());
+            channels.error().send(new ErrorMessage(t, headers));
+        } catch (Exception ex) {
+            log.warn("发布到 bus error 通道失败（忽略），原始异常: {}", t.toString(), ex);
+        }
+    }
+
+    private static String routingKey(BusBinding binding, RabbitBusProperties.Binding config) {
+        return StringUtils.hasText(config.routingKey()) ? config.routingKey() : binding.destination();
+    }
+
+    private static Exchange exchange(RabbitBusProperties.Binding config) {
+        return new ExchangeBuilder(config.exchange(), config.exchangeType()).durable(true).build();
+    }
+
+    private RabbitAdmin admin() {
+        RabbitAdmin current = admin;
+        if (current == null) {
+            synchronized (this) {
+                current = admin;
+                if (current == null) {
+                    current = new RabbitAdmin(connectionFactory);
+                    // 已存在且参数不同的队列（如未配置死信）不阻断启动
+                    current.setIgnoreDeclarationExceptions(true);
+                    admin = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    private ThreadPoolTaskScheduler batchScheduler() {
+        ThreadPoolTaskScheduler current = batchScheduler;
+        if (current == null) {
+            synchronized (this) {
+                current = batchScheduler;
+                if (current == null) {
+                    current = new ThreadPoolTaskScheduler();
+                    current.setPoolSize(1);
+                    current.setThreadNamePrefix("goya-rabbit-batch-");
+                    current.initialize();
+                    batchScheduler = current;
+                }
+            }
+        }
+        return current;
     }
 
     @Override
@@ -115,5 +426,72 @@ public final class RabbitIntegrationBusBinder implements BusBinder, DisposableBe
             }
         }
         inboundAdapters.clear();
+
+        // 发送缓冲中的批次后再关闭调度器
+        for (BatchingRabbitTemplate template : batchingTemplates) {
+            try {
+                template.flush();
+            } catch (Exception ex) {
+                log.warn("RabbitMQ batching template flush 失败（忽略）", ex);
+            }
+        }
+        batchingTemplates.clear();
+        if (batchScheduler != null) {
+            batchScheduler.shutdown();
+        }
+    }
+
+    /**
+     * 由 bus 分发器在业务处理结束后回调，监听线程据此等待处理结果
+     */
+    private static final class CompletionCallback implements AcknowledgmentCallback {
+
+        private final CompletableFuture<Status> result = new CompletableFuture<>();
+
+        @Override
+        public void acknowledge(Status status) {
+            result.complete(status);
+        }
+
+        @Override
+        public boolean isAcknowledged() {
+            return result.isDone();
+        }
+
+        private Status await(Duration timeout) {
+            try {
+                return result.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("RabbitMQ inbound 等待业务处理被中断", ex);
+            } catch (TimeoutException _) {
+                throw new HandleTimeoutException(this, timeout);
+            } catch (ExecutionException ex) {
+                throw new IllegalStateException("RabbitMQ inbound 业务处理失败", ex.getCause());
+            }
+        }
+    }
+
+    /**
+     * 区分等待超时与投递失败，避免超时后在业务处理仍在进行时重复投递
+     */
+    private static final class HandleTimeoutException extends IllegalStateException {
+
+        private final transient CompletionCallback callback;
+
+        private HandleTimeoutException(CompletionCallback callback, Duration timeout) {
+            super("RabbitMQ inbound 等待业务处理超时: " + timeout);
+            this.callback = callback;
+        }
+    }
+
+    /**
+     * 区分 ack 失败与投递失败，避免 ack 失败触发重复投递
+     */
+    private static final class AckFailedException extends RuntimeException {
+
+        private AckFailedException(IOException cause) {
+            super(cause);
+        }
     }
-}
\ No newline at end of file
+}
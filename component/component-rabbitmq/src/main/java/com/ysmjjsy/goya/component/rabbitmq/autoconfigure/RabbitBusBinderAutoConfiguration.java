@@ -3,6 +3,7 @@ package com.ysmjjsy.goya.component.rabbitmq.autoconfigure;
 import com.ysmjjsy.goya.component.framework.bus.binder.BusBinder;
 import com.ysmjjsy.goya.component.framework.bus.runtime.BusChannels;
 import com.ysmjjsy.goya.component.rabbitmq.RabbitIntegrationBusBinder;
+import com.ysmjjsy.goya.component.rabbitmq.autoconfigure.properties.RabbitBusProperties;
 import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.amqp.rabbit.connection.ConnectionFactory;
@@ -10,6 +11,7 @@ import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.beans.factory.BeanFactory;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 
 /**
@@ -21,6 +23,7 @@ import org.springframework.context.annotation.Bean;
 @Slf4j
 @AutoConfiguration
 @ConditionalOnClass(name = "org.springframework.integration.amqp.outbound.AmqpOutboundEndpoint")
+@EnableConfigurationProperties(RabbitBusProperties.class)
 public class RabbitBusBinderAutoConfiguration {
 
     @PostConstruct
@@ -32,8 +35,9 @@ public class RabbitBusBinderAutoConfiguration {
     public BusBinder rabbitIntegrationBusBinder(RabbitTemplate rabbitTemplate,
                                                 ConnectionFactory connectionFactory,
                                                 BusChannels channels,
-                                                BeanFactory beanFactory) {
-        RabbitIntegrationBusBinder rabbitIntegrationBusBinder = new RabbitIntegrationBusBinder(rabbitTemplate, connectionFactory, channels, beanFactory);
+                                                BeanFactory beanFactory,
+                                                RabbitBusProperties properties) {
+        RabbitIntegrationBusBinder rabbitIntegrationBusBinder = new RabbitIntegrationBusBinder(rabbitTemplate, connectionFactory, channels, beanFactory, properties);
         log.trace("[Goya] |- component [rabbitmq] RabbitBusBinderAutoConfiguration |- bean [rabbitIntegrationBusBinder] register.");
         return rabbitIntegrationBusBinder;
     }
@@ -0,0 +1,212 @@
+package com.ysmjjsy.goya.component.rabbitmq.autoconfigure.properties;
+
+import com.ysmjjsy.goya.component.rabbitmq.constants.RabbitConst;
+import io.swagger.v3.oas.annotations.media.Schema;
+import org.springframework.amqp.core.AcknowledgeMode;
+import org.springframework.amqp.core.ExchangeTypes;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * <p>RabbitMQ Bus Binder 配置</p>
+ * <p>按 binding 名配置，binding 中未配置的字段逐项沿用 {@link #defaults()}。</p>
+ *
+ * @param defaults 默认 binding 配置
+ * @param bindings binding 名 -> 覆盖配置
+ * @author goya
+ * @see RabbitConst
+ * @since 2026/2/6 16:00
+ */
+@Schema(description = "RabbitMQ Bus Binder 配置")
+@ConfigurationProperties(prefix = RabbitConst.PROPERTY_RABBIT_BUS)
+public record RabbitBusProperties(
+        @DefaultValue Binding defaults,
+        @DefaultValue Map<String, BindingOverride> bindings
+) {
+
+    /**
+     * 获取 binding 配置，按字段合并 binding 配置与默认配置
+     *
+     * @param bindingName binding 名
+     * @return 配置
+     */
+    public Binding binding(String bindingName) {
+        BindingOverride override = bindings.get(bindingName);
+        return override == null ? defaults : override.merge(defaults);
+    }
+
+    /**
+     * 单个 binding 配置
+     *
+     * @param exchange     交换机，为空时使用默认交换机（routingKey 即队列名）
+     * @param exchangeType 交换机类型：direct/topic/fanout/headers
+     * @param routingKey   路由键，为空时使用 destination
+     * @param queue        inbound 队列名，为空时使用 destination
+     * @param declare      是否声明交换机、队列与绑定关系
+     * @param producer     生产者配置
+     * @param consumer     消费者配置
+     */
+    @Schema(description = "RabbitMQ binding 配置")
+    public record Binding(
+            @DefaultValue("") String exchange,
+            @DefaultValue(ExchangeTypes.DIRECT) String exchangeType,
+            @DefaultValue("") String routingKey,
+            @DefaultValue("") String queue,
+            @DefaultValue("true") boolean declare,
+            @DefaultValue Producer producer,
+            @DefaultValue Consumer consumer
+    ) {
+    }
+
+    /**
+     * 生产者配置
+     *
+     * <p>confirms / returns 需要连接工厂同时开启
+     * {@code spring.rabbitmq.publisher-confirm-type=correlated} 与 {@code spring.rabbitmq.publisher-returns=true}。</p>
+     *
+     * @param confirms       是否启用关联确认，nack 与超时未确认的消息发布到 bus error 通道
+     * @param confirmTimeout 确认超时时间
+     * @param mandatory      是否启用 mandatory，无法路由的消息发布到 bus error 通道
+     * @param batching       是否批量发送
+     * @param batchSize      每批最多消息数
+     * @param batchBuffer    每批最大字节数
+     * @param batchTimeout   批次最长等待时间
+     */
+    @Schema(description = "RabbitMQ 生产者配置")
+    public record Producer(
+            @DefaultValue("true") boolean confirms,
+            @DefaultValue("PT10S") Duration confirmTimeout,
+            @DefaultValue("true") boolean mandatory,
+            @DefaultValue("false") boolean batching,
+            @DefaultValue("100") int batchSize,
+            @DefaultValue("64KB") DataSize batchBuffer,
+            @DefaultValue("PT0.05S") Duration batchTimeout
+    ) {
+    }
+
+    /**
+     * 消费者配置
+     *
+     * @param concurrency     初始消费者数
+     * @param maxConcurrency  最大消费者数
+     * @param prefetch        每个消费者的 prefetch
+     * @param ackMode         确认模式；MANUAL 时由 binder 在业务处理完成后 ack，重试耗尽后 nack 进入死信
+     * @param maxAttempts     最大投递次数（含首次）
+     * @param initialInterval 首次重试间隔
+     * @param multiplier      重试间隔倍数
+     * @param maxInterval     最大重试间隔
+     * @param deadLetter      是否为队列配置死信交换机与死信队列
+     * @param handleTimeout   监听线程等待业务处理完成的最长时间；超时不重试，MANUAL 时在处理结束后再 ack / nack，AUTO 时直接转入死信
+     */
+    @Schema(description = "RabbitMQ 消费者配置")
+    public record Consumer(
+            @DefaultValue("1") int concurrency,
+            @DefaultValue("1") int maxConcurrency,
+            @DefaultValue("250") int prefetch,
+            @DefaultValue("MANUAL") AcknowledgeMode ackMode,
+            @DefaultValue("3") int maxAttempts,
+            @DefaultValue("PT1S") Duration initialInterval,
+            @DefaultValue("2.0") double multiplier,
+            @DefaultValue("PT10S") Duration maxInterval,
+            @DefaultValue("true") boolean deadLetter,
+            @DefaultValue("PT1M") Duration handleTimeout
+    ) {
+    }
+
+    /**
+     * 单个 binding 的覆盖配置，未配置的字段为 null，沿用默认配置
+     *
+     * @param exchange     交换机
+     * @param exchangeType 交换机类型
+     * @param routingKey   路由键
+     * @param queue        inbound 队列名
+     * @param declare      是否声明交换机、队列与绑定关系
+     * @param producer     生产者配置
+     * @param consumer     消费者配置
+     */
+    @Schema(description = "RabbitMQ binding 覆盖配置")
+    public record BindingOverride(
+            String exchange,
+            String exchangeType,
+            String routingKey,
+            String queue,
+            Boolean declare,
+            ProducerOverride producer,
+            ConsumerOverride consumer
+    ) {
+
+        Binding merge(Binding defaults) {
+            return new Binding(
+                    Objects.requireNonNullElse(exchange, defaults.exchange()),
+                    Objects.requireNonNullElse(exchangeType, defaults.exchangeType()),
+                    Objects.requireNonNullElse(routingKey, defaults.routingKey()),
+                    Objects.requireNonNullElse(queue, defaults.queue()),
+                    Objects.requireNonNullElse(declare, defaults.declare()),
+                    producer == null ? defaults.producer() : producer.merge(defaults.producer()),
+                    consumer == null ? defaults.consumer() : consumer.merge(defaults.consumer()));
+        }
+    }
+
+    /**
+     * 生产者覆盖配置，字段含义同 {@link Producer}
+     */
+    @Schema(description = "RabbitMQ 生产者覆盖配置")
+    public record ProducerOverride(
+            Boolean confirms,
+            Duration confirmTimeout,
+            Boolean mandatory,
+            Boolean batching,
+            Integer batchSize,
+            DataSize batchBuffer,
+            Duration batchTimeout
+    ) {
+
+        Producer merge(Producer defaults) {
+            return new Producer(
+                    Objects.requireNonNullElse(confirms, defaults.confirms()),
+                    Objects.requireNonNullElse(confirmTimeout, defaults.confirmTimeout()),
+                    Objects.requireNonNullElse(mandatory, defaults.mandatory()),
+                    Objects.requireNonNullElse(batching, defaults.batching()),
+                    Objects.requireNonNullElse(batchSize, defaults.batchSize()),
+                    Objects.requireNonNullElse(batchBuffer, defaults.batchBuffer()),
+                    Objects.requireNonNullElse(batchTimeout, defaults.batchTimeout()));
+        }
+    }
+
+    /**
+     * 消费者覆盖配置，字段含义同 {@link Consumer}
+     */
+    @Schema(description = "RabbitMQ 消费者覆盖配置")
+    public record ConsumerOverride(
+            Integer concurrency,
+            Integer maxConcurrency,
+            Integer prefetch,
+            AcknowledgeMode ackMode,
+            Integer maxAttempts,
+            Duration initialInterval,
+            Double multiplier,
+            Duration maxInterval,
+            Boolean deadLetter,
+            Duration handleTimeout
+    ) {
+
+        Consumer merge(Consumer defaults) {
+            return new Consumer(
+                    Objects.requireNonNullElse(concurrency, defaults.concurrency()),
+                    Objects.requireNonNullElse(maxConcurrency, defaults.maxConcurrency()),
+                    Objects.requireNonNullElse(prefetch, defaults.prefetch()),
+                    Objects.requireNonNullElse(ackMode, defaults.ackMode()),
+                    Objects.requireNonNullElse(maxAttempts, defaults.maxAttempts()),
+                    Objects.requireNonNullElse(initialInterval, defaults.initialInterval()),
+                    Objects.requireNonNullElse(multiplier, defaults.multiplier()),
+                    Objects.requireNonNullElse(maxInterval, defaults.maxInterval()),
+                    Objects.requireNonNullElse(deadLetter, defaults.deadLetter()),
+                    Objects.requireNonNullElse(handleTimeout, defaults.handleTimeout()));
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.ysmjjsy.goya.component.rabbitmq.constants;
+
+import com.ysmjjsy.goya.component.framework.core.constants.PropertyConst;
+
+/**
+ * <p>RabbitMQ 组件常量</p>
+ *
+ * @author goya
+ * @since 2026/2/6 16:00
+ */
+public interface RabbitConst {
+
+    String PROPERTY_RABBIT_BUS = PropertyConst.PROPERTY_BUS + ".rabbit";
+
+    /**
+     * 死信交换机后缀
+     */
+    String DLX_SUFFIX = ".dlx";
+
+    /**
+     * 死信队列后缀
+     */
+    String DLQ_SUFFIX = ".dlq";
+}
@@ -7,6 +7,9 @@ import com.ysmjjsy.goya.component.cache.redis.support.*;
 import com.ysmjjsy.goya.component.cache.redis.support.impl.*;
 import com.ysmjjsy.goya.component.framework.cache.api.CacheService;
 import com.ysmjjsy.goya.component.framework.cache.key.CacheKeySerializer;
+import com.ysmjjsy.goya.component.framework.common.id.WorkerIdAssigner;
+import com.ysmjjsy.goya.component.framework.core.autoconfigure.properties.IdProperties;
+import com.ysmjjsy.goya.component.framework.core.constants.PropertyConst;
 import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
 import org.redisson.api.RedissonClient;
@@ -16,6 +19,7 @@ import org.redisson.spring.cache.RedissonSpringCacheManager;
 import org.redisson.spring.starter.RedissonAutoConfigurationCustomizer;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.cache.CacheManager;
 import org.springframework.context.annotation.Bean;
@@ -179,4 +183,21 @@ public class GoyaRedisAutoConfiguration {
         log.trace("[Goya] |- component [redis] GoyaRedisAutoConfiguration |- bean [redisAtomicService] register.");
         return redissonAtomicService;
     }
+
+    /**
+     * 雪花算法节点租约（基于 Redis）。
+     *
+     * @param redisson     RedissonClient
+     * @param keys         key 支持
+     * @param idProperties 分布式 ID 配置
+     * @return WorkerIdAssigner
+     */
+    @Bean
+    @ConditionalOnMissingBean(WorkerIdAssigner.class)
+    @ConditionalOnProperty(prefix = PropertyConst.PROPERTY_ID + ".lease", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public WorkerIdAssigner redisWorkerIdAssigner(RedissonClient redisson, RedisKeySupport keys, IdProperties idProperties) {
+        RedissonWorkerIdAssigner redissonWorkerIdAssigner = new RedissonWorkerIdAssigner(redisson, keys, idProperties.lease().ttl());
+        log.trace("[Goya] |- component [redis] GoyaRedisAutoConfiguration |- bean [redisWorkerIdAssigner] register.");
+        return redissonWorkerIdAssigner;
+    }
 }
@@ -253,6 +253,16 @@ public class RedissonCacheService implements CacheService {
         return bucket.setIfAbsent(value, expire);
     }
 
+    @Override
+    public <K> boolean expire(String cacheName, K key, Duration ttl) {
+        if (ttl == null || ttl.isZero() || ttl.isNegative()) {
+            return false;
+        }
+        String redisKey = buildRedisKey(cacheName, key);
+        // PEXPIRE 对不存在的 key 返回 0，不会重建已删除的 key
+        return bucket(redisKey, null).expire(ttl);
+    }
+
     @Override
     public <K> long incrByWithTtlOnCreate(String cacheName, K key, long delta, Duration ttlOnCreate) {
         String buildRedisKey = buildRedisKey(cacheName, key);
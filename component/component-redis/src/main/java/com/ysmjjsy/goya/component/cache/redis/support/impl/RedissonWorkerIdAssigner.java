@@ -0,0 +1,147 @@
+package com.ysmjjsy.goya.component.cache.redis.support.impl;
+
+import com.ysmjjsy.goya.component.cache.redis.key.RedisKeySupport;
+import com.ysmjjsy.goya.component.framework.common.error.CommonErrorCode;
+import com.ysmjjsy.goya.component.framework.common.exception.Exceptions;
+import com.ysmjjsy.goya.component.framework.common.id.Snowflake;
+import com.ysmjjsy.goya.component.framework.common.id.WorkerIdAssigner;
+import com.ysmjjsy.goya.component.framework.common.id.WorkerLease;
+import com.ysmjjsy.goya.component.framework.common.utils.GoyaIdUtils;
+import org.redisson.api.RScript;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * <p>基于 Redis 的雪花算法节点租约</p>
+ * <p>
+ * 每个节点编号对应一个带 TTL 的租约 key（{@code SET NX PX}），持有者定期续期；
+ * 同时记录节点最后使用的时间戳，节点被其他实例复用时从该时间戳之后开始生成，避免 ID 回退重复。
+ * 对象名：{@code worker:lease:{nodeId}} / {@code worker:last:{nodeId}}（nodeId 作为 hash tag）
+ *
+ * @author goya
+ * @since 2026/2/5 11:20
+ */
+public class RedissonWorkerIdAssigner implements WorkerIdAssigner {
+
+    /**
+     * Redis 命名空间：worker。
+     */
+    private static final String NS = "worker";
+
+    /**
+     * 抢占租约，成功返回节点最后时间戳，失败返回 -1
+     */
+    private static final String ACQUIRE_SCRIPT =
+            "if redis.call('SET', KEYS[1], ARGV[1], 'NX', 'PX', ARGV[2]) then " +
+                    "return tonumber(redis.call('GET', KEYS[2]) or '0'); " +
+                    "end; " +
+                    "return -1;";
+
+    /**
+     * 续期租约并记录最后时间戳，租约不属于当前实例时返回 0
+     */
+    private static final String RENEW_SCRIPT =
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then " +
+                    "redis.call('PEXPIRE', KEYS[1], ARGV[2]); " +
+                    "redis.call('SET', KEYS[2], ARGV[3]); " +
+                    "return 1; " +
+                    "end; " +
+                    "return 0;";
+
+    /**
+     * 释放租约并记录最后时间戳
+     */
+    private static final String RELEASE_SCRIPT =
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then " +
+                    "redis.call('SET', KEYS[2], ARGV[2]); " +
+                    "redis.call('DEL', KEYS[1]); " +
+                    "return 1; " +
+                    "end; " +
+                    "return 0;";
+
+    private final RedissonClient redisson;
+    private final RedisKeySupport keys;
+    private final Duration ttl;
+    private final String owner;
+
+    public RedissonWorkerIdAssigner(RedissonClient redisson, RedisKeySupport keys, Duration ttl) {
+        this.redisson = Objects.requireNonNull(redisson, "redisson 不能为空");
+        this.keys = Objects.requireNonNull(keys, "keys 不能为空");
+        this.ttl = Objects.requireNonNull(ttl, "ttl 不能为空");
+        this.owner = ProcessHandle.current().pid() + "-" + GoyaIdUtils.fastSimpleUUID();
+    }
+
+    @Override
+    public WorkerLease acquire() {
+        // 随机起点，降低多个实例同时启动时的冲突
+        int start = ThreadLocalRandom.current().nextInt(Snowflake.MAX_NODES);
+        for (int i = 0; i < Snowflake.MAX_NODES; i++) {
+            int nodeId = (start + i) % Snowflake.MAX_NODES;
+            Long lastTimestamp = script().eval(
+                    RScript.Mode.READ_WRITE,
+                    ACQUIRE_SCRIPT,
+                    RScript.ReturnType.LONG,
+                    List.of(leaseKey(nodeId), lastKey(nodeId)),
+                    owner,
+                    String.valueOf(ttl.toMillis())
+            );
+            if (lastTimestamp != null && lastTimestamp >= 0) {
+                return new WorkerLease(nodeId, owner, lastTimestamp);
+            }
+        }
+        throw Exceptions.system(CommonErrorCode.SYSTEM_ERROR)
+                .userMessage("No free snowflake node, all " + Snowflake.MAX_NODES + " nodes are leased")
+                .build();
+    }
+
+    @Override
+    public boolean renew(WorkerLease lease, long lastTimestamp) {
+        Long renewed = script().eval(
+                RScript.Mode.READ_WRITE,
+                RENEW_SCRIPT,
+                RScript.ReturnType.LONG,
+                List.of(leaseKey(lease.nodeId()), lastKey(lease.nodeId())),
+                lease.owner(),
+                String.valueOf(ttl.toMillis()),
+                String.valueOf(lastTimestamp)
+        );
+        return renewed != null && renewed == 1L;
+    }
+
+    @Override
+    public void release(WorkerLease lease, long lastTimestamp) {
+        script().eval(
+                RScript.Mode.READ_WRITE,
+                RELEASE_SCRIPT,
+                RScript.ReturnType.LONG,
+                List.of(leaseKey(lease.nodeId()), lastKey(lease.nodeId())),
+                lease.owner(),
+                String.valueOf(lastTimestamp)
+        );
+    }
+
+    /**
+     * 租约 key 与时间戳 key 均以原始字符串读写，使用 StringCodec 避免 JSON 编码
+     *
+     * @return RScript
+     */
+    private RScript script() {
+        return redisson.getScript(StringCodec.INSTANCE);
+    }
+
+    /**
+     * 同一节点的两个 key 使用相同的 hash tag，保证集群模式下脚本落在同一 slot
+     */
+    private String leaseKey(int nodeId) {
+        return keys.name(NS, "lease:{" + nodeId + "}");
+    }
+
+    private String lastKey(int nodeId) {
+        return keys.name(NS, "last:{" + nodeId + "}");
+    }
+}
@@ -1,5 +1,7 @@
 package com.ysmjjsy.goya.component.security.authentication.audit;
 
+import com.ysmjjsy.goya.component.security.authentication.device.DeviceLoginEvent;
+import com.ysmjjsy.goya.component.security.authentication.device.NewDeviceLoginEvent;
 import com.ysmjjsy.goya.component.security.authentication.errortimes.LoginFailureCacheManger;
 import com.ysmjjsy.goya.component.security.core.domain.SecurityUser;
 import com.ysmjjsy.goya.component.security.core.manager.SecurityUserManager;
@@ -9,6 +11,7 @@ import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.event.EventListener;
+import org.springframework.security.authentication.LockedException;
 import org.springframework.security.authentication.event.AbstractAuthenticationFailureEvent;
 import org.springframework.security.authentication.event.AuthenticationSuccessEvent;
 import org.springframework.security.core.Authentication;
@@ -62,7 +65,7 @@ public class SecurityAuthenticationAuditListener {
                 }
             }
 
-            loginFailureCacheManger.clear(userId);
+            loginFailureCacheManger.recordSuccess(username, ipAddress);
             // 记录登录成功审计日志
             securityUserManager.recordLoginSuccess(userId, username, tenantId, ipAddress, userAgent, requestUri);
         } catch (Exception e) {
@@ -70,6 +73,18 @@ public class SecurityAuthenticationAuditListener {
         }
     }
 
+    /**
+     * 监听新设备登录事件，记录提醒日志
+     *
+     * @param event 新设备登录事件
+     */
+    @EventListener
+    public void onNewDeviceLogin(NewDeviceLoginEvent event) {
+        DeviceLoginEvent login = event.login();
+        log.warn("[Goya] |- security [authentication] New device login | user: {} | device: {} [{}] | ip: {}",
+                login.userId(), login.deviceName(), login.deviceType(), login.ipAddress());
+    }
+
     /**
      * 监听认证失败事件
      *
@@ -91,20 +106,9 @@ public class SecurityAuthenticationAuditListener {
             String requestUri = request.getRequestURI();
             String errorMessage = event.getException().getMessage();
 
-            String userId = null;
-
-            if (authentication.getPrincipal() instanceof SecurityUser securityUser) {
-                // 如果是SecurityUser，可以提取更多信息
-                try {
-                    userId = securityUser.getUserId();
-                } catch (Exception _) {
-                    // 忽略反射异常
-                }
-            }
-
-
-            if (loginFailureCacheManger.checkErrorTimes(userId)) {
-                securityUserManager.lockedUser(userId);
+            // 锁定期间的尝试不再计数，避免锁定等级被持续推高
+            if (!(event.getException() instanceof LockedException)) {
+                loginFailureCacheManger.recordFailure(username, ipAddress);
             }
             // 记录登录失败审计日志
             securityUserManager.recordLoginFailure(username, ipAddress, userAgent, requestUri, errorMessage);
@@ -2,6 +2,8 @@ package com.ysmjjsy.goya.component.security.authentication.configuration;
 
 import com.ysmjjsy.goya.component.security.authentication.audit.SecurityAuthenticationAuditListener;
 import com.ysmjjsy.goya.component.security.authentication.captcha.DynamicLoginCaptchaStrategy;
+import com.ysmjjsy.goya.component.security.authentication.controller.LoginLockController;
+import com.ysmjjsy.goya.component.security.authentication.device.DeviceLoginRecorder;
 import com.ysmjjsy.goya.component.security.authentication.configuration.properties.SecurityAuthenticationProperties;
 import com.ysmjjsy.goya.component.security.authentication.errortimes.LoginFailureCacheManger;
 import com.ysmjjsy.goya.component.security.authentication.filter.CaptchaValidationFilter;
@@ -9,11 +11,14 @@ import com.ysmjjsy.goya.component.security.authentication.filter.DeviceManagemen
 import com.ysmjjsy.goya.component.security.authentication.handler.SecurityAuthenticationFailureHandler;
 import com.ysmjjsy.goya.component.security.authentication.password.PasswordPolicyValidator;
 import com.ysmjjsy.goya.component.captcha.api.CaptchaService;
+import com.ysmjjsy.goya.component.security.core.constants.SecurityConst;
 import com.ysmjjsy.goya.component.security.core.manager.SecurityUserManager;
 import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Bean;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -65,6 +70,15 @@ public class SecurityAuthenticationAutoConfiguration {
         return listener;
     }
 
+    @Bean
+    @ConditionalOnProperty(prefix = SecurityConst.PROPERTY_PLATFORM_SECURITY_AUTHENTICATION + ".login-failure", name = "admin-endpoint-enabled", havingValue = "true")
+    public LoginLockController loginLockController(SecurityUserManager securityUserManager,
+                                                   SecurityAuthenticationProperties securityAuthenticationProperties) {
+        LoginLockController controller = new LoginLockController(securityUserManager, securityAuthenticationProperties.loginFailure().adminAuthority());
+        log.trace("[Goya] |- security [authentication] SecurityAuthenticationAutoConfiguration |- bean [loginLockController] register.");
+        return controller;
+    }
+
     @Bean
     public DynamicLoginCaptchaStrategy dynamicLoginCaptchaStrategy(SecurityAuthenticationProperties securityAuthenticationProperties) {
         DynamicLoginCaptchaStrategy strategy = new DynamicLoginCaptchaStrategy(securityAuthenticationProperties.captcha());
@@ -81,8 +95,17 @@ public class SecurityAuthenticationAutoConfiguration {
     }
 
     @Bean
-    public DeviceManagementFilter deviceManagementFilter(SecurityUserManager securityUserManager) {
-        DeviceManagementFilter filter = new DeviceManagementFilter(securityUserManager);
+    public DeviceLoginRecorder deviceLoginRecorder(SecurityUserManager securityUserManager,
+                                                   ApplicationEventPublisher applicationEventPublisher,
+                                                   SecurityAuthenticationProperties securityAuthenticationProperties) {
+        DeviceLoginRecorder recorder = new DeviceLoginRecorder(securityUserManager, applicationEventPublisher, securityAuthenticationProperties.device());
+        log.trace("[Goya] |- security [authentication] SecurityAuthenticationAutoConfiguration |- bean [deviceLoginRecorder] register.");
+        return recorder;
+    }
+
+    @Bean
+    public DeviceManagementFilter deviceManagementFilter(DeviceLoginRecorder deviceLoginRecorder) {
+        DeviceManagementFilter filter = new DeviceManagementFilter(deviceLoginRecorder);
         log.trace("[Goya] |- security [authentication] DeviceManagementFilter auto configure.");
         return filter;
     }
@@ -2,6 +2,7 @@ package com.ysmjjsy.goya.component.security.authentication.configuration.propert
 
 import com.ysmjjsy.goya.component.security.core.constants.SecurityConst;
 import com.ysmjjsy.goya.component.security.core.enums.CertificateEnum;
+import com.ysmjjsy.goya.component.security.core.enums.SavedRequestStoreEnum;
 import io.swagger.v3.oas.annotations.media.Schema;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.boot.context.properties.bind.DefaultValue;
@@ -47,7 +48,23 @@ public record SecurityAuthenticationProperties(
 
         @Schema(description = "密码安全策略")
         @DefaultValue
-        PasswordPolicy passwordPolicy
+        PasswordPolicy passwordPolicy,
+
+        @Schema(description = "授权请求缓存配置")
+        @DefaultValue
+        SavedRequestConfig savedRequest,
+
+        @Schema(description = "登录设备管理配置")
+        @DefaultValue
+        DeviceConfig device,
+
+        @Schema(description = "租户Issuer缓存配置")
+        @DefaultValue
+        TenantIssuerConfig tenantIssuer,
+
+        @Schema(description = "授权服务器存储缓存配置")
+        @DefaultValue
+        AuthorizationStoreConfig authorizationStore
 ) {
 
     @Schema(description = "登录了失败配置")
@@ -57,13 +74,37 @@ public record SecurityAuthenticationProperties(
             @DefaultValue("true")
             boolean enabled,
 
-            @Schema(description = "允许允许最大失败次数")
+            @Schema(description = "允许允许最大失败次数（用户名 + IP）")
             @DefaultValue("5")
             Integer maxTimes,
 
+            @Schema(description = "同一用户名跨 IP 允许的最大失败次数，防止更换 IP 的分布式猜测")
+            @DefaultValue("20")
+            Integer userMaxTimes,
+
             @Schema(description = "记录失败次数的缓存过期时间")
             @DefaultValue("PT2H")
-            Duration expire
+            Duration expire,
+
+            @Schema(description = "首次锁定时长，之后每次锁定翻倍")
+            @DefaultValue("PT5M")
+            Duration lockDuration,
+
+            @Schema(description = "最大锁定时长")
+            @DefaultValue("PT24H")
+            Duration maxLockDuration,
+
+            @Schema(description = "锁定等级保留时长，超过该时长未再次锁定则等级清零")
+            @DefaultValue("P7D")
+            Duration lockLevelExpire,
+
+            @Schema(description = "是否开放登录锁定管理接口，默认关闭")
+            @DefaultValue("false")
+            boolean adminEndpointEnabled,
+
+            @Schema(description = "访问登录锁定管理接口所需的权限")
+            @DefaultValue("ROLE_ADMIN")
+            String adminAuthority
     ) {
 
     }
@@ -186,6 +227,22 @@ public record SecurityAuthenticationProperties(
             @DefaultValue("5")
             Integer historyCount,
 
+            @Schema(description = "历史密码并行比对的最大并发数")
+            @DefaultValue("4")
+            Integer historyParallelism,
+
+            @Schema(description = "历史密码比对的总耗时上限，超时按校验不通过处理")
+            @DefaultValue("PT2S")
+            Duration historyTimeout,
+
+            @Schema(description = "是否拒绝常见或已泄露的密码")
+            @DefaultValue("true")
+            Boolean rejectCommon,
+
+            @Schema(description = "常见密码字典位置（每行一个，支持 .gz 压缩）")
+            @DefaultValue("classpath:META-INF/goya/security/common-passwords.txt.gz")
+            String commonPasswordsLocation,
+
             @Schema(description = "密码过期天数（0表示永不过期）")
             @DefaultValue("90")
             Integer expirationDays,
@@ -221,4 +278,121 @@ public record SecurityAuthenticationProperties(
     ) {
 
     }
+
+    @Schema(description = "授权请求缓存配置")
+    public record SavedRequestConfig(
+            @Schema(description = "存储方式：COOKIE 加密 Cookie，CACHE 缓存 + 签名引用")
+            @DefaultValue("COOKIE")
+            SavedRequestStoreEnum store,
+
+            @Schema(description = "有效期")
+            @DefaultValue("PT5M")
+            Duration ttl,
+
+            @Schema(description = "Cookie 名称")
+            @DefaultValue("GOYA_SAVED_REQUEST")
+            String cookieName,
+
+            @Schema(description = "Cookie 是否仅 HTTPS 传输")
+            @DefaultValue("true")
+            Boolean cookieSecure,
+
+            @Schema(description = "Cookie SameSite 属性")
+            @DefaultValue("Lax")
+            String cookieSameSite,
+
+            @Schema(description = "COOKIE 模式下 Cookie 值的最大长度，超出时改存缓存")
+            @DefaultValue("3800")
+            Integer maxCookieSize,
+
+            @Schema(description = "密钥标识")
+            @DefaultValue("default")
+            String keyId,
+
+            @Schema(description = "加密与签名密钥（Base64，至少 32 字节），必须配置，集群内各实例一致")
+            String secret,
+
+            @Schema(description = "轮换前的密钥标识，轮换期间仍用于解封旧 Cookie 与校验旧引用")
+            String previousKeyId,
+
+            @Schema(description = "轮换前的密钥（Base64），旧数据全部过期（超过 ttl）后可移除")
+            String previousSecret
+    ) {
+
+    }
+
+    @Schema(description = "登录设备管理配置")
+    public record DeviceConfig(
+            @Schema(description = "是否记录登录设备")
+            @DefaultValue("true")
+            Boolean enabled,
+
+            @Schema(description = "待处理登录事件队列容量，队列满时丢弃并告警，不阻塞登录")
+            @DefaultValue("10000")
+            Integer queueCapacity,
+
+            @Schema(description = "处理间隔，期间同一设备的最后登录时间合并为一次写入")
+            @DefaultValue("PT5S")
+            Duration flushInterval,
+
+            @Schema(description = "每个用户已知设备缓存的最大用户数")
+            @DefaultValue("10000")
+            Integer cacheSize,
+
+            @Schema(description = "已知设备缓存的访问过期时间")
+            @DefaultValue("PT30M")
+            Duration cacheTtl
+    ) {
+
+    }
+
+    @Schema(description = "租户Issuer缓存配置")
+    public record TenantIssuerConfig(
+            @Schema(description = "缓存的最大租户数")
+            @DefaultValue("10000")
+            Integer cacheSize,
+
+            @Schema(description = "写入后过期时间，租户变更事件会提前失效")
+            @DefaultValue("PT30M")
+            Duration cacheTtl
+    ) {
+
+    }
+
+    @Schema(description = "授权服务器存储缓存配置")
+    public record AuthorizationStoreConfig(
+            @Schema(description = "本地缓存的最大客户端数")
+            @DefaultValue("1000")
+            Integer clientCacheSize,
+
+            @Schema(description = "客户端本地缓存写入后过期时间，本节点保存时立即失效，其他节点的修改在此时间后可见")
+            @DefaultValue("PT5M")
+            Duration clientCacheTtl,
+
+            @Schema(description = "本地缓存的最大授权数")
+            @DefaultValue("10000")
+            Integer authorizationCacheSize,
+
+            @Schema(description = "授权本地缓存写入后过期时间，其他节点的吊销在此时间后可见，不宜过长")
+            @DefaultValue("PT1M")
+            Duration authorizationCacheTtl,
+
+            @Schema(description = "是否延迟写入授权状态更新；多实例部署时仅在令牌请求会路由到签发节点时开启")
+            @DefaultValue("false")
+            Boolean writeBehind,
+
+            @Schema(description = "延迟写入的刷新间隔")
+            @DefaultValue("PT1S")
+            Duration flushInterval,
+
+            @Schema(description = "待写入授权的最大数量，超过时改为同步写入")
+            @DefaultValue("10000")
+            Integer pendingCapacity,
+
+            @Schema(description = "是否使用 JDBC 存储授权同意，开启前需执行 sql/oauth2_user_consent.sql 建表；关闭时存入缓存")
+            @DefaultValue("false")
+            Boolean jdbcConsent
+    ) {
+
+    }
 }
@@ -27,6 +27,8 @@ public interface SecurityAuthenticationConst {
     String CACHE_SECURITY_AUTHENTICATION_TOKEN_BLACK_LIST_PREFIX = CACHE_SECURITY_AUTHENTICATION_PREFIX + "blacklist:";
     String CACHE_SECURITY_AUTHENTICATION_LOGIN_PREFIX = CACHE_SECURITY_AUTHENTICATION_PREFIX + "login:";
     String CACHE_SECURITY_AUTHENTICATION_LOGIN_FAILURE_PREFIX = CACHE_SECURITY_AUTHENTICATION_LOGIN_PREFIX + "failure:";
+    String CACHE_SECURITY_AUTHENTICATION_LOGIN_LOCK_PREFIX = CACHE_SECURITY_AUTHENTICATION_LOGIN_PREFIX + "lock:";
+    String CACHE_SECURITY_AUTHENTICATION_LOGIN_LOCK_LEVEL_PREFIX = CACHE_SECURITY_AUTHENTICATION_LOGIN_PREFIX + "lock-level:";
 
     String PARAM_USERNAME = "username";
     String PARAM_PASSWORD = "password";
@@ -0,0 +1,76 @@
+package com.ysmjjsy.goya.component.security.authentication.controller;
+
+import com.ysmjjsy.goya.component.framework.common.constants.DefaultConst;
+import com.ysmjjsy.goya.component.framework.core.api.ApiRes;
+import com.ysmjjsy.goya.component.security.core.domain.LoginLockState;
+import com.ysmjjsy.goya.component.security.core.manager.SecurityUserManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * <p>登录锁定管理接口</p>
+ *
+ * <p>接口：</p>
+ * <ul>
+ *   <li>GET /goya/security/login-lock?username=&ip=：查询用户名（+ IP）的锁定状态</li>
+ *   <li>DELETE /goya/security/login-lock?username=&ip=：解除锁定，ip 为空时只解除用户级锁定</li>
+ * </ul>
+ * <p>默认不注册，需开启 login-failure.admin-endpoint-enabled；调用方还必须已认证并具备 login-failure.admin-authority 权限，
+ * 因此应将该路径纳入需要认证的安全过滤链。</p>
+ *
+ * @author goya
+ * @since 2026/2/5 14:40
+ */
+@RequestMapping(DefaultConst.DEFAULT_PROJECT_NAME + "/security/login-lock")
+@RestController
+@RequiredArgsConstructor
+public class LoginLockController {
+
+    private final SecurityUserManager securityUserManager;
+    private final String adminAuthority;
+
+    /**
+     * 查询锁定状态
+     *
+     * @param username 用户名
+     * @param ip       IP 地址
+     * @return ApiResponse
+     */
+    @GetMapping
+    public ApiRes<LoginLockState> state(@RequestParam String username,
+                                        @RequestParam(required = false) String ip) {
+        assertAdmin();
+        return ApiRes.ok(securityUserManager.getLoginLockState(username, ip));
+    }
+
+    /**
+     * 解除锁定
+     *
+     * @param username 用户名
+     * @param ip       IP 地址
+     * @return ApiResponse
+     */
+    @DeleteMapping
+    public ApiRes<Void> unlock(@RequestParam String username,
+                               @RequestParam(required = false) String ip) {
+        assertAdmin();
+        securityUserManager.unlockLogin(username, ip);
+        return ApiRes.ok();
+    }
+
+    private void assertAdmin() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        boolean granted = authentication != null
+                && authentication.isAuthenticated()
+                && authentication.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .anyMatch(adminAuthority::equals);
+        if (!granted) {
+            throw new AccessDeniedException("无权管理登录锁定");
+        }
+    }
+}
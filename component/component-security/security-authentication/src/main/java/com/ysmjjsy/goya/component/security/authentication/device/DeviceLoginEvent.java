@@ -0,0 +1,30 @@
+package com.ysmjjsy.goya.component.security.authentication.device;
+
+import com.ysmjjsy.goya.component.web.utils.UserAgent;
+
+import java.time.LocalDateTime;
+
+/**
+ * <p>登录设备事件</p>
+ * <p>在请求线程上从请求中提取，交由 {@link DeviceLoginRecorder} 异步处理</p>
+ *
+ * @param userId     用户ID
+ * @param deviceId   设备ID（设备指纹）
+ * @param deviceName 设备名称
+ * @param deviceType 设备类型
+ * @param ipAddress  IP 地址
+ * @param userAgent  User-Agent
+ * @param loginTime  登录时间
+ * @author goya
+ * @since 2026/2/6 17:20
+ */
+public record DeviceLoginEvent(
+        String userId,
+        String deviceId,
+        String deviceName,
+        String deviceType,
+        String ipAddress,
+        UserAgent userAgent,
+        LocalDateTime loginTime
+) {
+}
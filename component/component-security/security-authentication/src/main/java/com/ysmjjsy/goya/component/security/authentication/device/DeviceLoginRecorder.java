@@ -0,0 +1,193 @@
+package com.ysmjjsy.goya.component.security.authentication.device;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ysmjjsy.goya.component.security.authentication.configuration.properties.SecurityAuthenticationProperties;
+import com.ysmjjsy.goya.component.security.core.cache.SecurityCacheEvictEvent;
+import com.ysmjjsy.goya.component.security.core.domain.SecurityUserDevice;
+import com.ysmjjsy.goya.component.security.core.manager.SecurityUserManager;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.jspecify.annotations.Nullable;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * <p>登录设备异步记录器</p>
+ * <p>
+ * 登录请求线程只负责把 {@link DeviceLoginEvent} 放入有界队列，设备查询与写库均在后台线程完成：
+ * <ul>
+ *   <li>已知设备：同一处理周期内的最后登录时间按设备合并，周期结束时批量写入</li>
+ *   <li>未知设备：确认库中不存在后注册，并发布 {@link NewDeviceLoginEvent}</li>
+ * </ul>
+ * 每个用户的已知设备ID缓存在本地，命中时不再访问存储；设备删除后经 {@link SecurityUserManager#DEVICE_CACHE_NAME}
+ * 失效事件清除对应用户的缓存。登录时间写库失败时保留本批次，下一周期重试。
+ * 队列满时丢弃事件并告警，不阻塞登录。未启用时不创建后台线程，记录请求直接忽略。
+ *
+ * @author goya
+ * @since 2026/2/6 17:20
+ */
+@Slf4j
+public class DeviceLoginRecorder implements DisposableBean {
+
+    private final SecurityUserManager securityUserManager;
+    private final ApplicationEventPublisher eventPublisher;
+    private final boolean enabled;
+    private final BlockingQueue<DeviceLoginEvent> queue;
+    private final Cache<String, Set<String>> knownDevices;
+    private final Map<String, LocalDateTime> pendingLoginTimes = new HashMap<>();
+    private final @Nullable ScheduledExecutorService executor;
+
+    public DeviceLoginRecorder(SecurityUserManager securityUserManager,
+                               ApplicationEventPublisher eventPublisher,
+                               SecurityAuthenticationProperties.DeviceConfig deviceConfig) {
+        this.securityUserManager = securityUserManager;
+        this.eventPublisher = eventPublisher;
+        this.enabled = Boolean.TRUE.equals(deviceConfig.enabled());
+        this.queue = new ArrayBlockingQueue<>(deviceConfig.queueCapacity());
+        this.knownDevices = Caffeine.newBuilder()
+                .maximumSize(deviceConfig.cacheSize())
+                .expireAfterAccess(deviceConfig.cacheTtl())
+                .build();
+        if (enabled) {
+            this.executor = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform()
+                    .name("goya-device-recorder")
+                    .daemon(true)
+                    .factory());
+            long interval = deviceConfig.flushInterval().toMillis();
+            this.executor.scheduleWithFixedDelay(this::drainQuietly, interval, interval, TimeUnit.MILLISECONDS);
+        } else {
+            this.executor = null;
+        }
+    }
+
+    /**
+     * 记录一次登录，不阻塞调用线程
+     *
+     * @param event 登录设备事件
+     * @return 是否已入队
+     */
+    public boolean record(DeviceLoginEvent event) {
+        if (!enabled) {
+            return false;
+        }
+        if (queue.offer(event)) {
+            return true;
+        }
+        log.warn("[Goya] |- security [authentication] Device login queue is full, drop device [{}] of user [{}].",
+                event.deviceId(), event.userId());
+        return false;
+    }
+
+    /**
+     * 是否启用设备记录
+     *
+     * @return 是否启用
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 设备删除后失效对应用户的已知设备缓存，本节点与其他节点的事件均处理
+     *
+     * @param event 缓存失效事件
+     */
+    @EventListener
+    public void onCacheEvict(SecurityCacheEvictEvent event) {
+        if (event.matches(SecurityUserManager.DEVICE_CACHE_NAME)) {
+            knownDevices.invalidateAll(event.keys());
+        }
+    }
+
+    @Override
+    public void destroy() {
+        if (executor == null) {
+            return;
+        }
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(5, TimeUnit.SECONDS)) {
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException _) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+        // 停机前处理剩余事件
+        drainQuietly();
+    }
+
+    private void drainQuietly() {
+        try {
+            drain();
+        } catch (Exception e) {
+            log.warn("[Goya] |- security [authentication] Failed to record device login.", e);
+        }
+    }
+
+    private synchronized void drain() {
+        List<DeviceLoginEvent> events = new ArrayList<>();
+        queue.drainTo(events);
+        for (DeviceLoginEvent event : events) {
+            try {
+                handle(event);
+            } catch (Exception e) {
+                log.warn("[Goya] |- security [authentication] Failed to record device [{}] of user [{}].",
+                        event.deviceId(), event.userId(), e);
+            }
+        }
+        flush();
+    }
+
+    private void handle(DeviceLoginEvent event) {
+        Set<String> devices = knownDevices.get(event.userId(), this::loadDevices);
+        if (devices.contains(event.deviceId())) {
+            pendingLoginTimes.merge(event.deviceId(), event.loginTime(), (a, b) -> a.isAfter(b) ? a : b);
+            return;
+        }
+
+        // 缓存加载后其他节点可能已注册该设备
+        SecurityUserDevice device = securityUserManager.findByDeviceId(event.deviceId());
+        if (device != null) {
+            devices.add(event.deviceId());
+            pendingLoginTimes.merge(event.deviceId(), event.loginTime(), (a, b) -> a.isAfter(b) ? a : b);
+            return;
+        }
+
+        securityUserManager.registerDevice(event.userId(), event.deviceId(), event.deviceName(),
+                event.deviceType(), event.ipAddress(), event.userAgent());
+        devices.add(event.deviceId());
+        log.debug("[Goya] |- security [authentication] Device registered: {} | user: {}", event.deviceId(), event.userId());
+        eventPublisher.publishEvent(new NewDeviceLoginEvent(event));
+    }
+
+    private void flush() {
+        if (pendingLoginTimes.isEmpty()) {
+            return;
+        }
+        Map<String, LocalDateTime> batch = Map.copyOf(pendingLoginTimes);
+        // 写入成功后才清空，失败时保留到下一周期与新事件合并重试
+        securityUserManager.updateLastLoginTimes(batch);
+        pendingLoginTimes.clear();
+        log.debug("[Goya] |- security [authentication] Device login time updated for [{}] devices.", batch.size());
+    }
+
+    private Set<String> loadDevices(String userId) {
+        Set<String> devices = ConcurrentHashMap.newKeySet();
+        List<SecurityUserDevice> list = securityUserManager.findDevicesByUserId(userId);
+        if (list != null) {
+            for (SecurityUserDevice device : list) {
+                if (StringUtils.isNotBlank(device.getDeviceId())) {
+                    devices.add(device.getDeviceId());
+                }
+            }
+        }
+        return devices;
+    }
+}
@@ -0,0 +1,12 @@
+package com.ysmjjsy.goya.component.security.authentication.device;
+
+/**
+ * <p>新设备登录事件</p>
+ * <p>设备首次注册后通过 Spring 事件发布，可用于二次验证、登录提醒等</p>
+ *
+ * @param login 触发注册的登录事件
+ * @author goya
+ * @since 2026/2/6 17:20
+ */
+public record NewDeviceLoginEvent(DeviceLoginEvent login) {
+}
@@ -1,91 +1,168 @@
 package com.ysmjjsy.goya.component.security.authentication.errortimes;
 
-import com.ysmjjsy.goya.component.cache.multilevel.resolver.CacheSpecification;
-import com.ysmjjsy.goya.component.cache.multilevel.template.AbstractCounterTemplate;
-import com.ysmjjsy.goya.component.cache.multilevel.ttl.TtlStrategy;
-import com.ysmjjsy.goya.component.core.exception.CommonException;
+import com.ysmjjsy.goya.component.framework.cache.support.CacheCounterSupport;
 import com.ysmjjsy.goya.component.security.authentication.configuration.properties.SecurityAuthenticationProperties;
 import com.ysmjjsy.goya.component.security.authentication.constants.SecurityAuthenticationConst;
+import com.ysmjjsy.goya.component.security.core.domain.LoginLockState;
+import com.ysmjjsy.goya.component.security.core.service.ILoginThrottleService;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
 import org.springframework.util.Assert;
 
+import java.time.Duration;
+import java.time.Instant;
+
 /**
- * <p></p>
+ * <p>登录失败计数与渐进锁定</p>
+ * <p>
+ * 失败次数按“用户名 + IP”与“用户名”两个维度统计，计数与 TTL 在缓存端一次原子操作完成（首次创建时设置 TTL），
+ * 不再先 exists 再 increment。达到阈值后写入锁定记录，锁定时长为 {@code lockDuration * 2^(level-1)}，
+ * 不超过 {@code maxLockDuration}；锁定等级在 {@code lockLevelExpire} 内持续累加。
  *
  * @author goya
  * @since 2026/1/4 13:31
  */
 @Slf4j
-public class LoginFailureCacheManger extends AbstractCounterTemplate<String> {
+public class LoginFailureCacheManger extends CacheCounterSupport implements ILoginThrottleService {
+
+    private static final String UNKNOWN_IP = "unknown";
+    private static final String USER_SCOPE = "*";
 
     private final SecurityAuthenticationProperties.LoginFailureConfig loginFailureConfig;
 
     public LoginFailureCacheManger(SecurityAuthenticationProperties properties) {
+        super(SecurityAuthenticationConst.CACHE_SECURITY_AUTHENTICATION_LOGIN_FAILURE_PREFIX, properties.loginFailure().expire());
         this.loginFailureConfig = properties.loginFailure();
     }
 
     @Override
-    protected String getCacheName() {
-        return SecurityAuthenticationConst.CACHE_SECURITY_AUTHENTICATION_LOGIN_PREFIX;
+    public LoginLockState recordFailure(String username, String ipAddress) {
+        Assert.notNull(username, "username cannot be null");
+        if (!loginFailureConfig.enabled()) {
+            return unlocked(username, ipAddress, 0L);
+        }
+
+        String pairKey = pairKey(username, ipAddress);
+        String userKey = userKey(username);
+
+        long pairTimes = incr(pairKey);
+        long userTimes = incr(userKey);
+        log.debug("[Goya] |- Login failure [{}] has been recorded [{}] times, user total [{}].", pairKey, pairTimes, userTimes);
+
+        LoginLockState state = unlocked(username, ipAddress, pairTimes);
+        if (pairTimes >= loginFailureConfig.maxTimes()) {
+            state = lock(username, ipAddress, pairKey, pairTimes);
+        }
+        if (userTimes >= loginFailureConfig.userMaxTimes()) {
+            LoginLockState userState = lock(username, ipAddress, userKey, pairTimes);
+            state = later(state, userState);
+        }
+        return state;
     }
 
-    /**
-     * 在缓存有效期内进行计数
-     *
-     * @param identity 缓存 Key 的区分标识
-     * @return 当前错误次数
-     * @throws CommonException 超出最大限制次数错误
-     */
-    public boolean checkErrorTimes(String identity) throws CommonException {
-        if (loginFailureConfig.enabled()) {
-            Assert.notNull(identity, "identity cannot be null");
-            boolean exists = exists(identity);
-            long times;
-            if (exists) {
-                // 如果传入的 expire 不为零，那么就用 expire 参数值
-                times = increment(identity);
-            } else {
-                times = increment(identity, loginFailureConfig.expire());
-            }
-
-            if (times >= loginFailureConfig.maxTimes() - 1) {
-                log.warn("Requests are too frequent. Please try again later!, identity:{},times:{}", identity, times);
-                return true;
-            }
-
-            log.debug("[HZ-ZHG] |- {} has been recorded [{}] times.", identity, times);
-            return false;
-        } else {
-            return false;
+    @Override
+    public void recordSuccess(String username, String ipAddress) {
+        if (StringUtils.isBlank(username)) {
+            return;
+        }
+        String pairKey = pairKey(username, ipAddress);
+        String userKey = userKey(username);
+        reset(pairKey);
+        reset(userKey);
+        cacheService.resetCounter(SecurityAuthenticationConst.CACHE_SECURITY_AUTHENTICATION_LOGIN_LOCK_LEVEL_PREFIX, pairKey);
+        cacheService.resetCounter(SecurityAuthenticationConst.CACHE_SECURITY_AUTHENTICATION_LOGIN_LOCK_LEVEL_PREFIX, userKey);
+    }
+
+    @Override
+    public LoginLockState getLockState(String username, String ipAddress) {
+        if (!loginFailureConfig.enabled() || StringUtils.isBlank(username)) {
+            return unlocked(username, ipAddress, 0L);
+        }
+
+        String pairKey = pairKey(username, ipAddress);
+        String userKey = userKey(username);
+        Long failures = get(pairKey);
+        long times = failures == null ? 0L : failures;
+
+        LoginLockState pairState = lockState(username, ipAddress, pairKey, times);
+        LoginLockState userState = lockState(username, ipAddress, userKey, times);
+        return later(pairState, userState);
+    }
+
+    @Override
+    public void unlock(String username, String ipAddress) {
+        Assert.notNull(username, "username cannot be null");
+        String userKey = userKey(username);
+        clearLock(userKey);
+        reset(userKey);
+        if (StringUtils.isNotBlank(ipAddress)) {
+            String pairKey = pairKey(username, ipAddress);
+            clearLock(pairKey);
+            reset(pairKey);
         }
+        log.info("[Goya] |- Login lock of [{}] from [{}] has been released.", username, ipAddress);
     }
 
     /**
-     * 获取错误次数
-     *
-     * @param identity key
-     * @return 错误次数
+     * 锁定指定维度：等级原子加一，按等级计算锁定时长并清零该维度计数
      */
-    public int errorTimes(String identity) {
-        return get(identity).intValue();
+    private LoginLockState lock(String username, String ipAddress, String key, long failures) {
+        long level = cacheService.incrByWithTtlOnCreate(SecurityAuthenticationConst.CACHE_SECURITY_AUTHENTICATION_LOGIN_LOCK_LEVEL_PREFIX,
+                key, 1L, loginFailureConfig.lockLevelExpire());
+        Duration duration = lockDuration(level);
+        Instant lockedUntil = Instant.now().plus(duration);
+
+        cacheService.put(SecurityAuthenticationConst.CACHE_SECURITY_AUTHENTICATION_LOGIN_LOCK_PREFIX, key, lockedUntil.toEpochMilli(), duration);
+        reset(key);
+
+        log.warn("[Goya] |- Login of [{}] locked for [{}], level [{}].", key, duration, level);
+        return new LoginLockState(username, ipAddress, failures, level, lockedUntil);
+    }
+
+    private LoginLockState lockState(String username, String ipAddress, String key, long failures) {
+        Long lockedUntil = cacheService.get(SecurityAuthenticationConst.CACHE_SECURITY_AUTHENTICATION_LOGIN_LOCK_PREFIX, key, Long.class);
+        if (lockedUntil == null) {
+            return unlocked(username, ipAddress, failures);
+        }
+        Long level = cacheService.getCounter(SecurityAuthenticationConst.CACHE_SECURITY_AUTHENTICATION_LOGIN_LOCK_LEVEL_PREFIX, key);
+        return new LoginLockState(username, ipAddress, failures, level == null ? 0L : level, Instant.ofEpochMilli(lockedUntil));
+    }
+
+    private void clearLock(String key) {
+        cacheService.delete(SecurityAuthenticationConst.CACHE_SECURITY_AUTHENTICATION_LOGIN_LOCK_PREFIX, key);
+        cacheService.resetCounter(SecurityAuthenticationConst.CACHE_SECURITY_AUTHENTICATION_LOGIN_LOCK_LEVEL_PREFIX, key);
     }
 
     /**
-     * 清除错误次数
-     *
-     * @param identity key
+     * 指数退避：lockDuration * 2^(level-1)，不超过 maxLockDuration
      */
-    public void clear(String identity) {
-        evict(identity);
+    private Duration lockDuration(long level) {
+        long base = loginFailureConfig.lockDuration().toMillis();
+        long max = loginFailureConfig.maxLockDuration().toMillis();
+        int shift = (int) Math.min(Math.max(level - 1, 0L), 30L);
+        long millis = base > (max >> shift) ? max : base << shift;
+        return Duration.ofMillis(Math.min(millis, max));
     }
 
-    @Override
+    private static LoginLockState later(LoginLockState first, LoginLockState second) {
+        if (!second.locked()) {
+            return first;
+        }
+        if (!first.locked() || second.lockedUntil().isAfter(first.lockedUntil())) {
+            return second;
+        }
+        return first;
+    }
+
+    private static LoginLockState unlocked(String username, String ipAddress, long failures) {
+        return new LoginLockState(username, ipAddress, failures, 0L, null);
+    }
+
+    private static String pairKey(String username, String ipAddress) {
+        return username + ":" + (StringUtils.isBlank(ipAddress) ? UNKNOWN_IP : ipAddress);
+    }
 
-    protected CacheSpecification buildCacheSpecification(CacheSpecification defaultSpec) {
-        CacheSpecification.Builder builder = defaultSpec.toBuilder();
-        builder.ttl(loginFailureConfig.expire());
-        TtlStrategy.FixedRatioStrategy fixedRatioStrategy = new TtlStrategy.FixedRatioStrategy(0.8);
-        builder.localTtlStrategy(fixedRatioStrategy);
-        return super.buildCacheSpecification(builder.build());
+    private static String userKey(String username) {
+        return username + ":" + USER_SCOPE;
     }
 }
@@ -3,6 +3,7 @@ package com.ysmjjsy.goya.component.security.authentication.exception;
 import org.springframework.security.core.AuthenticationException;
 
 import java.io.Serial;
+import java.util.List;
 
 /**
  * <p>密码策略异常</p>
@@ -16,12 +17,28 @@ public class PasswordPolicyException extends AuthenticationException {
     @Serial
     private static final long serialVersionUID = -7318259255405597893L;
 
+    /**
+     * 全部未通过的规则说明
+     */
+    private final List<String> violations;
+
     public PasswordPolicyException(String message) {
         super(message);
+        this.violations = List.of(message);
+    }
+
+    public PasswordPolicyException(List<String> violations) {
+        super(String.join("；", violations));
+        this.violations = List.copyOf(violations);
     }
 
     public PasswordPolicyException(String message, Throwable cause) {
         super(message, cause);
+        this.violations = List.of(message);
+    }
+
+    public List<String> getViolations() {
+        return violations;
     }
 }
 
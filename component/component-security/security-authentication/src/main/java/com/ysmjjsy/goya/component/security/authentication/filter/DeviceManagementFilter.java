@@ -1,8 +1,8 @@
 package com.ysmjjsy.goya.component.security.authentication.filter;
 
+import com.ysmjjsy.goya.component.security.authentication.device.DeviceLoginEvent;
+import com.ysmjjsy.goya.component.security.authentication.device.DeviceLoginRecorder;
 import com.ysmjjsy.goya.component.security.core.domain.SecurityUser;
-import com.ysmjjsy.goya.component.security.core.domain.SecurityUserDevice;
-import com.ysmjjsy.goya.component.security.core.manager.SecurityUserManager;
 import com.ysmjjsy.goya.component.web.utils.UserAgent;
 import com.ysmjjsy.goya.component.web.utils.WebUtils;
 import jakarta.servlet.FilterChain;
@@ -13,8 +13,8 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
@@ -22,8 +22,11 @@ import java.time.LocalDateTime;
 
 /**
  * <p>设备管理过滤器</p>
- * <p>在登录时记录设备信息</p>
- * <p>注意：此过滤器需要在认证成功后执行</p>
+ * <p>在登录成功时记录设备信息</p>
+ * <p>
+ * 登录认证过滤器成功后不再继续过滤链，过滤链上无法区分本次请求是否完成了登录认证，
+ * 因此只由登录成功处理器调用 {@link #recordLogin}，过滤器自身不做记录，避免 GET 或已登录会话的请求被记为登录。
+ * 设备注册与登录时间更新交给 {@link DeviceLoginRecorder} 异步处理，新设备注册后发布 {@code NewDeviceLoginEvent}。
  *
  * @author goya
  * @since 2026/1/5
@@ -32,7 +35,7 @@ import java.time.LocalDateTime;
 @RequiredArgsConstructor
 public class DeviceManagementFilter extends OncePerRequestFilter {
 
-    private final SecurityUserManager securityUserManager;
+    private final DeviceLoginRecorder deviceLoginRecorder;
 
     @Override
     @NullMarked
@@ -41,49 +44,42 @@ public class DeviceManagementFilter extends OncePerRequestFilter {
             HttpServletResponse response,
             FilterChain filterChain) throws ServletException, IOException {
 
-        // 只在登录端点执行设备管理
-        if (request.getRequestURI() != null && request.getRequestURI().startsWith("/login")) {
-            // 在认证成功后记录设备信息
-            // 注意：由于过滤器执行顺序，这里可能需要在认证成功处理器中调用
-            // 或者使用事件监听器
-            filterChain.doFilter(request, response);
+        // 登录设备由登录成功处理器记录
+        filterChain.doFilter(request, response);
+    }
 
-            // 检查认证是否成功
-            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-            if (authentication != null && authentication.isAuthenticated()
-                    && authentication.getPrincipal() instanceof SecurityUser securityUser) {
-                try {
-                    // 提取用户ID
-                    String userId = securityUser.getUserId();
+    /**
+     * 记录本次登录的设备，只应在认证成功后调用
+     * <p>设备注册与登录时间更新异步完成，不阻塞登录</p>
+     *
+     * @param request        请求
+     * @param authentication 认证信息
+     */
+    public void recordLogin(HttpServletRequest request, @Nullable Authentication authentication) {
+        // 检查认证是否成功
+        if (!deviceLoginRecorder.isEnabled() || authentication == null || !authentication.isAuthenticated()
+                || !(authentication.getPrincipal() instanceof SecurityUser securityUser)) {
+            return;
+        }
+        try {
+            // 提取用户ID
+            String userId = securityUser.getUserId();
 
-                    if (StringUtils.isNotBlank(userId)) {
-                        // 生成设备指纹
-                        String deviceId = WebUtils.generateDeviceId(request);
-                        String deviceName = WebUtils.extractDeviceName(request);
-                        String deviceType = WebUtils.identifyDeviceType(request);
-                        String ipAddress = WebUtils.getClientIp(request);
-                        UserAgent userAgent = WebUtils.getUserAgent(request);
+            if (StringUtils.isNotBlank(userId)) {
+                // 生成设备指纹
+                String deviceId = WebUtils.generateDeviceId(request);
+                String deviceName = WebUtils.extractDeviceName(request);
+                String deviceType = WebUtils.identifyDeviceType(request);
+                String ipAddress = WebUtils.getClientIp(request);
+                UserAgent userAgent = WebUtils.getUserAgent(request);
 
-                        // 注册或更新设备
-                        SecurityUserDevice device = securityUserManager.findByDeviceId(deviceId);
-                        if (device == null) {
-                            // 新设备，注册
-                            securityUserManager.registerDevice(userId, deviceId, deviceName, deviceType, ipAddress, userAgent);
-                            log.debug("[Goya] |- security [authentication] Device registered: {} | user: {}", deviceId, userId);
-                        } else {
-                            // 更新最后登录时间
-                            securityUserManager.updateLastLoginTime(deviceId, LocalDateTime.now());
-                            log.debug("[Goya] |- security [authentication] Device login time updated: {} | user: {}", deviceId, userId);
-                        }
-                    }
-                } catch (Exception e) {
-                    log.warn("[Goya] |- security [authentication] Failed to record device information", e);
-                    // 设备管理失败不应影响认证流程
-                }
+                // 异步注册或更新设备
+                deviceLoginRecorder.record(new DeviceLoginEvent(userId, deviceId, deviceName, deviceType,
+                        ipAddress, userAgent, LocalDateTime.now()));
             }
-        } else {
-            filterChain.doFilter(request, response);
+        } catch (Exception e) {
+            log.warn("[Goya] |- security [authentication] Failed to record device information", e);
+            // 设备管理失败不应影响认证流程
         }
     }
 }
-
@@ -5,24 +5,47 @@ import com.ysmjjsy.goya.component.security.authentication.exception.PasswordPoli
 import com.ysmjjsy.goya.component.security.core.manager.SecurityUserManager;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
+import org.jspecify.annotations.Nullable;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.core.io.Resource;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
-import java.util.regex.Pattern;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.zip.GZIPInputStream;
 
 /**
  * <p>密码策略验证器</p>
- * <p>验证密码复杂度，检查历史密码（防止重复使用）</p>
+ * <p>验证密码复杂度，检查常见密码与历史密码（防止重复使用）</p>
+ * <ul>
+ *   <li>复杂度规则在一次字符遍历中全部判定，特殊字符集合启动时预先构建</li>
+ *   <li>常见/已泄露密码字典启动时加载到内存，按小写比对，字典支持 gzip 压缩</li>
+ *   <li>历史密码由有界线程池并行比对，整体受耗时上限约束，超时或比对异常均按不通过处理，分别给出提示</li>
+ *   <li>{@link #check} 返回全部未通过的规则，{@link #validate} 一次性抛出</li>
+ * </ul>
  *
  * @author goya
  * @since 2026/1/5
  */
 @Slf4j
-public class PasswordPolicyValidator {
+public class PasswordPolicyValidator implements DisposableBean {
+
+    private static final String DEFAULT_SPECIAL_CHARS = "!@#$%^&*()_+-=[]{}|;:,.<>?";
 
     private final SecurityUserManager securityUserManager;
     private final PasswordEncoder passwordEncoder;
     private final SecurityAuthenticationProperties.PasswordPolicy passwordPolicy;
+    private final BitSet specialChars;
+    private final Set<String> commonPasswords;
+    private final ExecutorService historyExecutor;
 
     public PasswordPolicyValidator(SecurityUserManager securityUserManager,
                                    PasswordEncoder passwordEncoder,
@@ -30,6 +53,15 @@ public class PasswordPolicyValidator {
         this.securityUserManager = securityUserManager;
         this.passwordEncoder = passwordEncoder;
         this.passwordPolicy = properties.passwordPolicy();
+        this.specialChars = toBitSet(StringUtils.isBlank(passwordPolicy.specialChars()) ? DEFAULT_SPECIAL_CHARS : passwordPolicy.specialChars());
+        this.commonPasswords = Boolean.TRUE.equals(passwordPolicy.rejectCommon())
+                ? loadCommonPasswords(passwordPolicy.commonPasswordsLocation())
+                : Collections.emptySet();
+        int parallelism = passwordPolicy.historyParallelism() == null ? 1 : Math.max(1, passwordPolicy.historyParallelism());
+        this.historyExecutor = Executors.newFixedThreadPool(parallelism, Thread.ofPlatform()
+                .name("goya-password-history-", 0)
+                .daemon(true)
+                .factory());
     }
 
     /**
@@ -49,105 +81,212 @@ public class PasswordPolicyValidator {
      * @throws AuthenticationException 如果密码不符合策略
      */
     public void validate(String password) throws AuthenticationException {
+        validate(null, password);
+    }
+
+    /**
+     * 验证密码是否符合策略，指定用户时同时检查历史密码
+     * <p>
+     * 供应用的修改密码、重置密码流程在写入新密码前调用；本模块只有登录流程，登录不产生新密码，
+     * 因此只调用不检查历史密码的 {@link #validate(String)}。
+     *
+     * @param userId   用户ID，为空时不检查历史密码
+     * @param password 密码
+     * @throws AuthenticationException 如果密码不符合策略，异常中包含全部未通过的规则
+     */
+    public void validate(@Nullable String userId, String password) throws AuthenticationException {
+        List<String> violations = check(userId, password);
+        if (!violations.isEmpty()) {
+            throw new PasswordPolicyException(violations);
+        }
+        log.debug("[Goya] |- security [authentication] Password policy validation passed.");
+    }
+
+    /**
+     * 检查密码，返回全部未通过的规则
+     *
+     * @param password 密码
+     * @return 未通过的规则说明，通过时为空
+     */
+    public List<String> check(String password) {
+        return check(null, password);
+    }
+
+    /**
+     * 检查密码，返回全部未通过的规则
+     *
+     * @param userId   用户ID，为空时不检查历史密码
+     * @param password 密码
+     * @return 未通过的规则说明，通过时为空
+     */
+    public List<String> check(@Nullable String userId, String password) {
         if (passwordPolicy.enabled() == null || !passwordPolicy.enabled()) {
-            return;
+            return Collections.emptyList();
         }
 
         if (StringUtils.isBlank(password)) {
-            throw new PasswordPolicyException("密码不能为空");
+            return List.of("密码不能为空");
         }
 
+        List<String> violations = new ArrayList<>();
+
         // 1. 长度检查
         int length = password.length();
         if (passwordPolicy.minLength() != null && length < passwordPolicy.minLength()) {
-            throw new PasswordPolicyException(
-                    String.format("密码长度不能少于%d个字符", passwordPolicy.minLength()));
+            violations.add(String.format("密码长度不能少于%d个字符", passwordPolicy.minLength()));
         }
         if (passwordPolicy.maxLength() != null && length > passwordPolicy.maxLength()) {
-            throw new PasswordPolicyException(
-                    String.format("密码长度不能超过%d个字符", passwordPolicy.maxLength()));
+            violations.add(String.format("密码长度不能超过%d个字符", passwordPolicy.maxLength()));
         }
 
-        // 2. 复杂度检查
-        if (Boolean.TRUE.equals(passwordPolicy.requireUppercase()) && !hasUppercase(password)) {
-            throw new PasswordPolicyException("密码必须包含至少一个大写字母");
+        // 2. 复杂度检查，一次遍历
+        boolean uppercase = false;
+        boolean lowercase = false;
+        boolean digit = false;
+        boolean special = false;
+        for (int i = 0; i < length; i++) {
+            char c = password.charAt(i);
+            if (c >= 'A' && c <= 'Z') {
+                uppercase = true;
+            } else if (c >= 'a' && c <= 'z') {
+                lowercase = true;
+            } else if (c >= '0' && c <= '9') {
+                digit = true;
+            } else if (specialChars.get(c)) {
+                special = true;
+            }
         }
-
-        if (Boolean.TRUE.equals(passwordPolicy.requireLowercase()) && !hasLowercase(password)) {
-            throw new PasswordPolicyException("密码必须包含至少一个小写字母");
+        if (Boolean.TRUE.equals(passwordPolicy.requireUppercase()) && !uppercase) {
+            violations.add("密码必须包含至少一个大写字母");
+        }
+        if (Boolean.TRUE.equals(passwordPolicy.requireLowercase()) && !lowercase) {
+            violations.add("密码必须包含至少一个小写字母");
+        }
+        if (Boolean.TRUE.equals(passwordPolicy.requireDigit()) && !digit) {
+            violations.add("密码必须包含至少一个数字");
+        }
+        if (Boolean.TRUE.equals(passwordPolicy.requireSpecialChar()) && !special) {
+            violations.add("密码必须包含至少一个特殊字符");
         }
 
-        if (Boolean.TRUE.equals(passwordPolicy.requireDigit()) && !hasDigit(password)) {
-            throw new PasswordPolicyException("密码必须包含至少一个数字");
+        // 3. 常见密码检查
+        if (!commonPasswords.isEmpty() && commonPasswords.contains(password.toLowerCase(Locale.ROOT))) {
+            violations.add("密码过于常见或已在泄露密码库中，请更换");
         }
 
-        if (Boolean.TRUE.equals(passwordPolicy.requireSpecialChar()) && !hasSpecialChar(password)) {
-            throw new PasswordPolicyException("密码必须包含至少一个特殊字符");
+        // 4. 历史密码检查，前面已不通过时不再做耗时的哈希比对
+        if (userId != null && violations.isEmpty()) {
+            switch (matchHistory(userId, password)) {
+                case MATCHED -> violations.add(String.format("不能使用最近%d次用过的密码", historyCount()));
+                case TIMEOUT -> violations.add("历史密码校验超时，请稍后重试");
+                case FAILED -> violations.add("历史密码校验失败，请稍后重试");
+                case NOT_MATCHED -> {
+                }
+            }
         }
 
-        log.debug("[Goya] |- security [authentication] Password policy validation passed.");
+        return violations;
     }
 
     /**
      * 检查密码是否在历史密码中（防止重复使用）
-     * <p>注意：此方法需要用户服务实现历史密码存储和检查逻辑</p>
+     * <p>用户服务提供已编码的历史密码时并行比对，否则交给用户服务自行判断；比对超时或失败按命中处理</p>
      *
      * @param userId   用户名
      * @param password 新密码
      * @return true如果密码在历史中，false如果不在
      */
     public boolean isPasswordInHistory(String userId, String password) {
+        return matchHistory(userId, password) != HistoryMatch.NOT_MATCHED;
+    }
+
+    @Override
+    public void destroy() {
+        historyExecutor.shutdownNow();
+    }
+
+    private HistoryMatch matchHistory(String userId, String password) {
         if (passwordPolicy.preventReuse() == null || !passwordPolicy.preventReuse()) {
-            return false;
+            return HistoryMatch.NOT_MATCHED;
         }
 
-        log.debug("[Goya] |- security [authentication] Password history check not implemented yet.");
-        return securityUserManager.isPasswordInHistory(userId, password);
-    }
+        List<String> history = securityUserManager.findPasswordHistory(userId, historyCount());
+        if (history == null || history.isEmpty()) {
+            return securityUserManager.isPasswordInHistory(userId, password) ? HistoryMatch.MATCHED : HistoryMatch.NOT_MATCHED;
+        }
 
-    /**
-     * 检查是否包含大写字母
-     *
-     * @param password 密码
-     * @return true如果包含大写字母
-     */
-    private boolean hasUppercase(String password) {
-        return Pattern.compile("[A-Z]").matcher(password).find();
+        CompletionService<Boolean> completionService = new ExecutorCompletionService<>(historyExecutor);
+        List<Future<Boolean>> futures = new ArrayList<>(history.size());
+        for (String encoded : history) {
+            futures.add(completionService.submit(() -> StringUtils.isNotBlank(encoded) && passwordEncoder.matches(password, encoded)));
+        }
+
+        Duration timeout = passwordPolicy.historyTimeout() == null ? Duration.ofSeconds(2) : passwordPolicy.historyTimeout();
+        long deadline = System.nanoTime() + timeout.toNanos();
+        try {
+            for (int i = 0; i < futures.size(); i++) {
+                Future<Boolean> done = completionService.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+                if (done == null) {
+                    log.warn("[Goya] |- security [authentication] Password history check for user [{}] exceeded {}.", userId, timeout);
+                    return HistoryMatch.TIMEOUT;
+                }
+                if (Boolean.TRUE.equals(done.get())) {
+                    return HistoryMatch.MATCHED;
+                }
+            }
+            return HistoryMatch.NOT_MATCHED;
+        } catch (InterruptedException _) {
+            Thread.currentThread().interrupt();
+            return HistoryMatch.TIMEOUT;
+        } catch (ExecutionException ex) {
+            log.warn("[Goya] |- security [authentication] Password history check for user [{}] failed.", userId, ex.getCause());
+            return HistoryMatch.FAILED;
+        } finally {
+            futures.forEach(future -> future.cancel(false));
+        }
     }
 
-    /**
-     * 检查是否包含小写字母
-     *
-     * @param password 密码
-     * @return true如果包含小写字母
-     */
-    private boolean hasLowercase(String password) {
-        return Pattern.compile("[a-z]").matcher(password).find();
+    private int historyCount() {
+        return passwordPolicy.historyCount() == null ? 5 : Math.max(1, passwordPolicy.historyCount());
     }
 
-    /**
-     * 检查是否包含数字
-     *
-     * @param password 密码
-     * @return true如果包含数字
-     */
-    private boolean hasDigit(String password) {
-        return Pattern.compile("[0-9]").matcher(password).find();
+    private static BitSet toBitSet(String chars) {
+        BitSet bits = new BitSet();
+        for (int i = 0; i < chars.length(); i++) {
+            bits.set(chars.charAt(i));
+        }
+        return bits;
     }
 
-    /**
-     * 检查是否包含特殊字符
-     *
-     * @param password 密码
-     * @return true如果包含特殊字符
-     */
-    private boolean hasSpecialChar(String password) {
-        String specialChars = passwordPolicy.specialChars();
-        if (StringUtils.isBlank(specialChars)) {
-            specialChars = "!@#$%^&*()_+-=[]{}|;:,.<>?";
+    private static Set<String> loadCommonPasswords(@Nullable String location) {
+        if (StringUtils.isBlank(location)) {
+            return Collections.emptySet();
+        }
+        Resource resource = new DefaultResourceLoader().getResource(location);
+        if (!resource.exists()) {
+            log.warn("[Goya] |- security [authentication] Common password list [{}] not found, check skipped.", location);
+            return Collections.emptySet();
+        }
+        Set<String> passwords = new HashSet<>();
+        try (InputStream raw = resource.getInputStream();
+             InputStream in = StringUtils.endsWithIgnoreCase(location, ".gz") ? new GZIPInputStream(raw) : raw;
+             BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                line = line.strip();
+                if (!line.isEmpty() && line.charAt(0) != '#') {
+                    passwords.add(line.toLowerCase(Locale.ROOT));
+                }
+            }
+        } catch (IOException ex) {
+            log.warn("[Goya] |- security [authentication] Load common password list [{}] failed, check skipped: {}", location, ex.getMessage());
+            return Collections.emptySet();
         }
-        String regex = "[" + Pattern.quote(specialChars) + "]";
-        return Pattern.compile(regex).matcher(password).find();
+        log.debug("[Goya] |- security [authentication] Loaded [{}] common passwords from [{}].", passwords.size(), location);
+        return Set.copyOf(passwords);
     }
-}
 
+    private enum HistoryMatch {
+        MATCHED, NOT_MATCHED, TIMEOUT, FAILED
+    }
+}
@@ -1,10 +1,14 @@
 package com.ysmjjsy.goya.component.security.authentication.provider;
 
+import com.ysmjjsy.goya.component.framework.servlet.utils.WebUtils;
+import com.ysmjjsy.goya.component.security.core.domain.LoginLockState;
 import com.ysmjjsy.goya.component.security.core.domain.SecurityUser;
 import com.ysmjjsy.goya.component.security.core.enums.LoginTypeEnum;
 import com.ysmjjsy.goya.component.security.core.manager.SecurityUserManager;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
 import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
 import org.springframework.security.authentication.*;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.AuthenticationException;
@@ -39,6 +43,12 @@ public abstract class AbstractAuthenticationProvider implements AuthenticationPr
     public final Authentication authenticate(Authentication authentication) throws AuthenticationException {
         assertSupports(authentication);
 
+        // 所有登录方式统一校验锁定状态，与失败计数使用同一标识
+        String lockKey = loginLockKey(authentication);
+        if (lockKey != null) {
+            checkLoginLock(lockKey);
+        }
+
         beforeAuthentication(authentication);
 
         try {
@@ -123,6 +133,31 @@ public abstract class AbstractAuthenticationProvider implements AuthenticationPr
         // 可在子类或统一拦截中添加预处理，如审计日志、限流等
     }
 
+    /**
+     * 登录锁定标识，默认与失败计数一致使用 {@link Authentication#getName()}
+     *
+     * @param authentication 原始 Authentication
+     * @return 锁定标识，返回 null 时不校验锁定
+     */
+    protected @Nullable String loginLockKey(Authentication authentication) {
+        String name = authentication.getName();
+        return StringUtils.isBlank(name) ? null : name;
+    }
+
+    /**
+     * 校验登录锁定状态，锁定期间直接拒绝，不再校验凭证
+     *
+     * @param username 用户名
+     * @throws LockedException 用户名或当前 IP 处于锁定期
+     */
+    protected void checkLoginLock(String username) {
+        LoginLockState state = securityUserManager.getLoginLockState(username, WebUtils.getClientIp());
+        if (state.locked()) {
+            log.warn("[Goya] |- login locked for user: {}, remaining: {}", username, state.remaining());
+            throw new LockedException("登录失败次数过多，请 " + Math.max(1L, state.remaining().toSeconds()) + " 秒后重试");
+        }
+    }
+
     /**
      * 认证后钩子，默认空实现
      */
@@ -5,6 +5,7 @@ import com.ysmjjsy.goya.component.security.core.enums.LoginTypeEnum;
 import com.ysmjjsy.goya.component.security.core.enums.SocialTypeEnum;
 import com.ysmjjsy.goya.component.security.core.manager.SecurityUserManager;
 import lombok.extern.slf4j.Slf4j;
+import org.jspecify.annotations.Nullable;
 import org.springframework.security.authentication.AuthenticationServiceException;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -42,6 +43,14 @@ public class SocialAuthenticationProvider extends AbstractAuthenticationProvider
         return LoginTypeEnum.SOCIAL;
     }
 
+    /**
+     * 社交登录的 principal 是登录渠道而非用户，认证前无法确定用户，不按渠道整体锁定
+     */
+    @Override
+    protected @Nullable String loginLockKey(Authentication authentication) {
+        return null;
+    }
+
     @Override
     protected Authentication doAuthenticate(Authentication authentication) throws AuthenticationException {
         SocialAuthenticationToken socialAuthenticationToken = (SocialAuthenticationToken) authentication;
@@ -1,5 +1,6 @@
 package com.ysmjjsy.goya.component.security.authorization.dpop;
 
+import com.ysmjjsy.goya.component.framework.common.utils.GoyaHashUtils;
 import com.ysmjjsy.goya.component.security.authorization.configuration.properties.SecurityResourceProperties;
 import com.ysmjjsy.goya.component.security.core.utils.DPoPKeyUtils;
 import jakarta.servlet.http.HttpServletRequest;
@@ -13,10 +14,6 @@ import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.security.oauth2.jwt.JwtDecoder;
 import org.springframework.security.oauth2.jwt.JwtException;
 
-import java.nio.charset.StandardCharsets;
-import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
-import java.util.Base64;
 import java.util.Map;
 
 /**
@@ -218,13 +215,7 @@ public class ResourceServerDPoPValidator {
      * @return Base64URL编码的哈希值
      */
     private String calculateAccessTokenHash(String accessToken) {
-        try {
-            MessageDigest digest = MessageDigest.getInstance("SHA-256");
-            byte[] hash = digest.digest(accessToken.getBytes(StandardCharsets.UTF_8));
-            return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
-        } catch (NoSuchAlgorithmException e) {
-            throw new RuntimeException("SHA-256 algorithm not available", e);
-        }
+        return GoyaHashUtils.sha256Base64Url(accessToken);
     }
 
     /**
@@ -0,0 +1,80 @@
+package com.ysmjjsy.goya.component.security.core.cache;
+
+import com.ysmjjsy.goya.component.framework.bus.message.BusMessageListener;
+import com.ysmjjsy.goya.component.framework.bus.message.BusMessageProducer;
+import com.ysmjjsy.goya.component.framework.bus.message.MessageEnvelope;
+import com.ysmjjsy.goya.component.framework.bus.runtime.BindingResolver;
+import com.ysmjjsy.goya.component.framework.core.json.GoyaJson;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * <p>安全模块本地缓存失效的跨节点广播</p>
+ *
+ * <p>本节点发布的 {@link SecurityCacheEvictEvent} 经 bus binding {@value #BINDING} 发给其他节点，
+ * 其他节点收到后以 remote 事件重新发布，不再转发。</p>
+ * <p>未在 framework.bus.bindings 中配置 {@value #BINDING} 时不广播，其他节点的本地缓存只能等待过期，
+ * 多实例部署时应配置该 binding。</p>
+ *
+ * @author goya
+ * @since 2026/2/10 10:00
+ */
+@Slf4j
+public class SecurityCacheEvictBroadcaster {
+
+    public static final String BINDING = "securityCacheEvict";
+
+    private static final String HDR_ORIGIN = "security.cache.origin";
+
+    private final ObjectProvider<BusMessageProducer> producerProvider;
+    private final ObjectProvider<BindingResolver> bindingResolverProvider;
+    private final ApplicationEventPublisher eventPublisher;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    public SecurityCacheEvictBroadcaster(ObjectProvider<BusMessageProducer> producerProvider,
+                                         ObjectProvider<BindingResolver> bindingResolverProvider,
+                                         ApplicationEventPublisher eventPublisher) {
+        this.producerProvider = producerProvider;
+        this.bindingResolverProvider = bindingResolverProvider;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @EventListener
+    public void onLocalEvict(SecurityCacheEvictEvent event) {
+        if (event.remote()) {
+            return;
+        }
+        BusMessageProducer producer = producerProvider.getIfAvailable();
+        BindingResolver bindingResolver = bindingResolverProvider.getIfAvailable();
+        if (producer == null || bindingResolver == null || !bindingResolver.all().containsKey(BINDING)) {
+            return;
+        }
+        Map<String, Object> headers = new LinkedHashMap<>();
+        headers.put(HDR_ORIGIN, nodeId);
+        MessageEnvelope<SecurityCacheEvictEvent> envelope = new MessageEnvelope<>(null, SecurityCacheEvictEvent.class.getName(),
+                Instant.now(), event.cacheName(), headers, event);
+        try {
+            producer.send(BINDING, envelope);
+        } catch (RuntimeException ex) {
+            log.warn("[Goya] |- security [core] Broadcast cache evict of [{}] failed, other nodes rely on cache ttl: {}", event.cacheName(), ex.getMessage(), ex);
+        }
+    }
+
+    @BusMessageListener(binding = BINDING)
+    public void onRemoteEvict(MessageEnvelope<?> envelope) {
+        if (envelope == null || envelope.payload() == null || nodeId.equals(envelope.headers().get(HDR_ORIGIN))) {
+            return;
+        }
+        SecurityCacheEvictEvent event = envelope.payload() instanceof SecurityCacheEvictEvent value
+                ? value
+                : GoyaJson.convertValue(envelope.payload(), SecurityCacheEvictEvent.class);
+        eventPublisher.publishEvent(new SecurityCacheEvictEvent(event.cacheName(), event.keys(), true));
+    }
+}
@@ -0,0 +1,40 @@
+package com.ysmjjsy.goya.component.security.core.cache;
+
+import java.util.List;
+
+/**
+ * <p>安全模块本地缓存失效事件</p>
+ * <p>
+ * 持有本地缓存的组件在数据变更后通过 ApplicationEventPublisher 发布 {@link #local} 事件，
+ * 并以 @EventListener 按 {@link #cacheName()} 监听，收到后失效对应键。
+ * {@link SecurityCacheEvictBroadcaster} 将本地事件转发给其他节点，其他节点以 {@link #remote()} 为 true 重新发布。
+ *
+ * @param cacheName 缓存名称
+ * @param keys      失效的键
+ * @param remote    是否来自其他节点
+ * @author goya
+ * @since 2026/2/10 10:00
+ */
+public record SecurityCacheEvictEvent(String cacheName, List<String> keys, boolean remote) {
+
+    /**
+     * 本节点发出的失效事件
+     *
+     * @param cacheName 缓存名称
+     * @param keys      失效的键
+     * @return 事件
+     */
+    public static SecurityCacheEvictEvent local(String cacheName, List<String> keys) {
+        return new SecurityCacheEvictEvent(cacheName, List.copyOf(keys), false);
+    }
+
+    /**
+     * 是否为指定缓存的事件
+     *
+     * @param name 缓存名称
+     * @return 是否匹配
+     */
+    public boolean matches(String name) {
+        return cacheName.equals(name);
+    }
+}
@@ -1,11 +1,17 @@
 package com.ysmjjsy.goya.component.security.core.configuration;
 
+import com.ysmjjsy.goya.component.framework.bus.message.BusMessageProducer;
+import com.ysmjjsy.goya.component.framework.bus.runtime.BindingResolver;
 import com.ysmjjsy.goya.component.framework.context.GoyaContext;
+import com.ysmjjsy.goya.component.security.core.cache.SecurityCacheEvictBroadcaster;
 import com.ysmjjsy.goya.component.security.core.configuration.properties.SecurityCoreProperties;
 import com.ysmjjsy.goya.component.security.core.context.GoyaSecurityContext;
+import com.ysmjjsy.goya.component.security.core.context.SecurityContextContributor;
 import com.ysmjjsy.goya.component.security.core.manager.SecurityUserManager;
+import com.ysmjjsy.goya.component.security.core.service.ILoginThrottleService;
 import com.ysmjjsy.goya.component.security.core.service.ISocialUserService;
 import com.ysmjjsy.goya.component.security.core.service.IUserService;
+import com.ysmjjsy.goya.component.security.core.tenant.TenantChangeBroadcaster;
 import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
@@ -13,6 +19,7 @@ import org.springframework.boot.context.properties.EnableConfigurationProperties
 import org.springframework.boot.web.server.autoconfigure.ServerProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.ApplicationEventPublisher;
 
 /**
  * <p>安全核心模块自动配置</p>
@@ -39,9 +46,34 @@ public class SecurityCoreAutoConfiguration {
 
     @Bean
     public SecurityUserManager securityUserManager(IUserService userService,
-                                                   ObjectProvider<ISocialUserService> socialUserServiceProvider) {
-        SecurityUserManager securityUserManager = new SecurityUserManager(userService, socialUserServiceProvider);
+                                                   ObjectProvider<ISocialUserService> socialUserServiceProvider,
+                                                   ObjectProvider<ILoginThrottleService> loginThrottleServiceProvider,
+                                                   ApplicationEventPublisher applicationEventPublisher) {
+        SecurityUserManager securityUserManager = new SecurityUserManager(userService, socialUserServiceProvider, loginThrottleServiceProvider, applicationEventPublisher);
         log.trace("[Goya] |- component [core] SecurityCoreAutoConfiguration |- bean [securityUserManager] register.");
         return securityUserManager;
     }
+
+    @Bean
+    public SecurityContextContributor securityContextContributor() {
+        SecurityContextContributor securityContextContributor = new SecurityContextContributor();
+        log.trace("[Goya] |- component [core] SecurityCoreAutoConfiguration |- bean [securityContextContributor] register.");
+        return securityContextContributor;
+    }
+
+    @Bean
+    public SecurityCacheEvictBroadcaster securityCacheEvictBroadcaster(ObjectProvider<BusMessageProducer> producerProvider,
+                                                                       ObjectProvider<BindingResolver> bindingResolverProvider,
+                                                                       ApplicationEventPublisher eventPublisher) {
+        SecurityCacheEvictBroadcaster broadcaster = new SecurityCacheEvictBroadcaster(producerProvider, bindingResolverProvider, eventPublisher);
+        log.trace("[Goya] |- component [core] SecurityCoreAutoConfiguration |- bean [securityCacheEvictBroadcaster] register.");
+        return broadcaster;
+    }
+
+    @Bean
+    public TenantChangeBroadcaster tenantChangeBroadcaster(ApplicationEventPublisher eventPublisher) {
+        TenantChangeBroadcaster broadcaster = new TenantChangeBroadcaster(eventPublisher);
+        log.trace("[Goya] |- component [core] SecurityCoreAutoConfiguration |- bean [tenantChangeBroadcaster] register.");
+        return broadcaster;
+    }
 }
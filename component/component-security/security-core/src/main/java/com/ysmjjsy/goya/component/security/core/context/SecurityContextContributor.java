@@ -0,0 +1,45 @@
+package com.ysmjjsy.goya.component.security.core.context;
+
+import com.ysmjjsy.goya.component.framework.core.context.propagation.ContextContributor;
+import com.ysmjjsy.goya.component.framework.core.context.propagation.ContextScope;
+import org.jspecify.annotations.Nullable;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.context.SecurityContextHolderStrategy;
+
+/**
+ * <p>Spring Security 上下文传播参与者</p>
+ * 异步任务以提交线程的认证身份执行；提交线程未认证时，执行线程的上下文被清空
+ *
+ * @author goya
+ * @since 2026/2/8 16:30
+ */
+public class SecurityContextContributor implements ContextContributor<SecurityContext> {
+
+    @Override
+    public @Nullable SecurityContext capture() {
+        SecurityContext context = strategy().getContext();
+        return context.getAuthentication() == null ? null : context;
+    }
+
+    @Override
+    public ContextScope restore(@Nullable SecurityContext value) {
+        SecurityContextHolderStrategy strategy = strategy();
+        SecurityContext previous = strategy.getContext();
+        set(strategy, value);
+        return () -> set(strategy, previous.getAuthentication() == null ? null : previous);
+    }
+
+    private static void set(SecurityContextHolderStrategy strategy, @Nullable SecurityContext context) {
+        if (context == null) {
+            strategy.clearContext();
+        } else {
+            strategy.setContext(context);
+        }
+    }
+
+    private static SecurityContextHolderStrategy strategy() {
+        // 每次读取，兼容运行期替换策略
+        return SecurityContextHolder.getContextHolderStrategy();
+    }
+}
@@ -0,0 +1,57 @@
+package com.ysmjjsy.goya.component.security.core.domain;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * <p>登录锁定状态</p>
+ *
+ * @param username    用户名
+ * @param ipAddress   IP 地址
+ * @param failures    当前统计窗口内（用户名 + IP）的失败次数
+ * @param level       锁定等级，每次触发锁定加一，锁定时长按等级指数增长
+ * @param lockedUntil 锁定截止时间，未锁定为 null
+ * @author goya
+ * @since 2026/2/5 14:10
+ */
+@Schema(description = "登录锁定状态")
+public record LoginLockState(
+        @Schema(description = "用户名")
+        String username,
+
+        @Schema(description = "IP地址")
+        String ipAddress,
+
+        @Schema(description = "失败次数")
+        long failures,
+
+        @Schema(description = "锁定等级")
+        long level,
+
+        @Schema(description = "锁定截止时间")
+        Instant lockedUntil
+) {
+
+    /**
+     * 是否处于锁定状态
+     *
+     * @return true 已锁定
+     */
+    public boolean locked() {
+        return lockedUntil != null && lockedUntil.isAfter(Instant.now());
+    }
+
+    /**
+     * 剩余锁定时长
+     *
+     * @return 剩余时长，未锁定返回 {@link Duration#ZERO}
+     */
+    public Duration remaining() {
+        if (!locked()) {
+            return Duration.ZERO;
+        }
+        return Duration.between(Instant.now(), lockedUntil);
+    }
+}
@@ -0,0 +1,18 @@
+package com.ysmjjsy.goya.component.security.core.enums;
+
+/**
+ * <p>SavedRequest 存储方式</p>
+ *
+ * @author goya
+ * @since 2026/2/6 14:05
+ */
+public enum SavedRequestStoreEnum {
+    /**
+     * 压缩并加密后整体写入 Cookie，服务端无状态
+     */
+    COOKIE,
+    /**
+     * 写入缓存，Cookie 中只保存带签名的引用
+     */
+    CACHE;
+}
@@ -1,10 +1,13 @@
 package com.ysmjjsy.goya.component.security.core.manager;
 
 import com.ysmjjsy.goya.component.framework.enums.StatusEnum;
+import com.ysmjjsy.goya.component.security.core.cache.SecurityCacheEvictEvent;
+import com.ysmjjsy.goya.component.security.core.domain.LoginLockState;
 import com.ysmjjsy.goya.component.security.core.domain.SecurityUser;
 import com.ysmjjsy.goya.component.security.core.domain.SecurityUserAuthAuditLog;
 import com.ysmjjsy.goya.component.security.core.domain.SecurityUserDevice;
 import com.ysmjjsy.goya.component.security.core.enums.SecurityOperationEnum;
+import com.ysmjjsy.goya.component.security.core.service.ILoginThrottleService;
 import com.ysmjjsy.goya.component.security.core.service.ISocialUserService;
 import com.ysmjjsy.goya.component.security.core.service.IUserService;
 import com.ysmjjsy.goya.component.web.enums.RequestMethodEnum;
@@ -13,12 +16,15 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.jspecify.annotations.NullMarked;
 import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
 
 /**
  * <p>用户服务接口</p>
@@ -30,8 +36,15 @@ import java.time.LocalDateTime;
 @RequiredArgsConstructor
 public class SecurityUserManager implements UserDetailsService {
 
+    /**
+     * 用户已知设备本地缓存名称，键为用户ID
+     */
+    public static final String DEVICE_CACHE_NAME = "securityUserDevice";
+
     private final IUserService userService;
     private final ObjectProvider<ISocialUserService> socialUserServiceProvider;
+    private final ObjectProvider<ILoginThrottleService> loginThrottleServiceProvider;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 用户锁定
@@ -42,6 +55,42 @@ public class SecurityUserManager implements UserDetailsService {
         userService.lockedUser(userId);
     }
 
+    /**
+     * 查询登录锁定状态
+     *
+     * @param username  用户名
+     * @param ipAddress IP 地址
+     * @return 锁定状态，未配置防暴力破解服务时返回未锁定
+     */
+    public LoginLockState getLoginLockState(String username, String ipAddress) {
+        ILoginThrottleService loginThrottleService = loginThrottleServiceProvider.getIfAvailable();
+        if (loginThrottleService == null) {
+            return new LoginLockState(username, ipAddress, 0L, 0L, null);
+        }
+        return loginThrottleService.getLockState(username, ipAddress);
+    }
+
+    /**
+     * 是否处于登录锁定状态
+     *
+     * @param username  用户名
+     * @param ipAddress IP 地址
+     * @return true 已锁定
+     */
+    public boolean isLoginLocked(String username, String ipAddress) {
+        return getLoginLockState(username, ipAddress).locked();
+    }
+
+    /**
+     * 解除登录锁定
+     *
+     * @param username  用户名
+     * @param ipAddress IP 地址，为空时只解除用户级锁定
+     */
+    public void unlockLogin(String username, String ipAddress) {
+        loginThrottleServiceProvider.ifAvailable(service -> service.unlock(username, ipAddress));
+    }
+
     /**
      * 根据手机号获取用户并保存
      *
@@ -323,7 +372,50 @@ public class SecurityUserManager implements UserDetailsService {
         userService.updateLastLoginTime(deviceId, lastLoginTime);
     }
 
+    /**
+     * 批量更新设备最后登录时间
+     *
+     * @param lastLoginTimes 设备ID -> 最后登录时间
+     */
+    public void updateLastLoginTimes(Map<String, LocalDateTime> lastLoginTimes) {
+        userService.updateLastLoginTimes(lastLoginTimes);
+    }
+
+    /**
+     * 删除设备，并失效各节点中该设备所属用户的已知设备缓存
+     *
+     * @param deviceId 设备ID
+     */
+    public void deleteDevice(String deviceId) {
+        SecurityUserDevice device = userService.findByDeviceId(deviceId);
+        userService.deleteDevice(deviceId);
+        if (device != null && device.getUserId() != null) {
+            eventPublisher.publishEvent(SecurityCacheEvictEvent.local(DEVICE_CACHE_NAME, List.of(device.getUserId())));
+        }
+    }
+
+    /**
+     * 查询用户的设备列表
+     *
+     * @param userId 用户ID
+     * @return 设备列表
+     */
+    public List<SecurityUserDevice> findDevicesByUserId(String userId) {
+        return userService.findByUserId(userId);
+    }
+
     public boolean isPasswordInHistory(String userId, String password) {
         return userService.isPasswordInHistory(userId,password);
     }
+
+    /**
+     * 查询最近使用过的密码（已编码）
+     *
+     * @param userId 用户ID
+     * @param limit  最多返回条数
+     * @return 已编码的历史密码，未实现时为空
+     */
+    public List<String> findPasswordHistory(String userId, int limit) {
+        return userService.findPasswordHistory(userId, limit);
+    }
 }
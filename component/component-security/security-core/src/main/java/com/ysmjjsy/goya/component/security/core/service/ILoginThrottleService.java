@@ -0,0 +1,48 @@
+package com.ysmjjsy.goya.component.security.core.service;
+
+import com.ysmjjsy.goya.component.security.core.domain.LoginLockState;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * <p>登录防暴力破解服务SPI</p>
+ * <p>按“用户名 + IP”统计失败次数，超过阈值后按指数退避锁定</p>
+ *
+ * @author goya
+ * @since 2026/2/5 14:12
+ */
+public interface ILoginThrottleService {
+
+    /**
+     * 记录一次登录失败
+     *
+     * @param username  用户名
+     * @param ipAddress IP 地址
+     * @return 记录后的锁定状态
+     */
+    LoginLockState recordFailure(String username, @Nullable String ipAddress);
+
+    /**
+     * 记录一次登录成功，清除该用户名 + IP 的失败计数与锁定等级
+     *
+     * @param username  用户名
+     * @param ipAddress IP 地址
+     */
+    void recordSuccess(String username, @Nullable String ipAddress);
+
+    /**
+     * 查询锁定状态（同时考虑用户名 + IP 锁定与用户级锁定）
+     *
+     * @param username  用户名
+     * @param ipAddress IP 地址
+     * @return 锁定状态
+     */
+    LoginLockState getLockState(String username, @Nullable String ipAddress);
+
+    /**
+     * 解除锁定
+     *
+     * @param username  用户名
+     * @param ipAddress IP 地址，为空时只解除用户级锁定
+     */
+    void unlock(String username, @Nullable String ipAddress);
+}
@@ -6,6 +6,8 @@ import org.jspecify.annotations.Nullable;
 
 /**
  * <p>租户服务SPI</p>
+ * <p>租户配置变更后，实现需调用 {@link com.ysmjjsy.goya.component.security.core.tenant.TenantChangeBroadcaster#publish}，
+ * 否则各节点缓存的租户 Issuer 与签名密钥只能等待过期。</p>
  *
  * @author goya
  * @since 2026/1/5
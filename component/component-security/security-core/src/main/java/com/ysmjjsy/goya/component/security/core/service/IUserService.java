@@ -6,6 +6,7 @@ import com.ysmjjsy.goya.component.security.core.domain.SecurityUserDevice;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 
 /**
  * <p>用户服务</p>
@@ -100,6 +101,16 @@ public interface IUserService {
      */
     void updateLastLoginTime(String deviceId, LocalDateTime lastLoginTime);
 
+    /**
+     * 批量更新设备最后登录时间
+     * <p>默认逐条更新，实现方可覆盖为批量写入</p>
+     *
+     * @param lastLoginTimes 设备ID -> 最后登录时间
+     */
+    default void updateLastLoginTimes(Map<String, LocalDateTime> lastLoginTimes) {
+        lastLoginTimes.forEach(this::updateLastLoginTime);
+    }
+
     /**
      * 删除设备
      *
@@ -124,4 +135,16 @@ public interface IUserService {
      * @return true如果密码在历史中，false如果不在
      */
     boolean isPasswordInHistory(String userId, String password);
+
+    /**
+     * 查询最近使用过的密码（已编码）
+     * <p>实现此方法后由密码策略并行比对历史密码，未实现时回退到 {@link #isPasswordInHistory(String, String)}</p>
+     *
+     * @param userId 用户ID
+     * @param limit  最多返回条数
+     * @return 已编码的历史密码，按时间倒序
+     */
+    default List<String> findPasswordHistory(String userId, int limit) {
+        return List.of();
+    }
 }
@@ -0,0 +1,61 @@
+package com.ysmjjsy.goya.component.security.core.tenant;
+
+import com.ysmjjsy.goya.component.security.core.cache.SecurityCacheEvictBroadcaster;
+import com.ysmjjsy.goya.component.security.core.cache.SecurityCacheEvictEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.jspecify.annotations.Nullable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+
+import java.util.List;
+
+/**
+ * <p>租户配置变更通知</p>
+ *
+ * <p>{@link com.ysmjjsy.goya.component.security.core.service.ITenantService} 的实现在租户的 Issuer、签名密钥或启用状态变更后调用 {@link #publish}，
+ * 本节点立即发布 {@link TenantChangedEvent}，同时发布缓存名为 {@value TenantChangedEvent#CACHE_NAME} 的 {@link SecurityCacheEvictEvent}，
+ * 由 {@link SecurityCacheEvictBroadcaster} 经 bus 发给其他节点；其他节点收到后在本地重新发布 {@link TenantChangedEvent}。</p>
+ *
+ * @author goya
+ * @since 2026/2/11 16:00
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class TenantChangeBroadcaster {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 通知租户配置已变更
+     *
+     * @param tenantId 租户ID，为空表示全部租户
+     */
+    public void publish(@Nullable String tenantId) {
+        String tenant = StringUtils.isBlank(tenantId) ? null : tenantId;
+        eventPublisher.publishEvent(new TenantChangedEvent(tenant));
+        eventPublisher.publishEvent(SecurityCacheEvictEvent.local(TenantChangedEvent.CACHE_NAME,
+                tenant == null ? List.of() : List.of(tenant)));
+    }
+
+    /**
+     * 其他节点的租户变更，键为空表示全部租户
+     *
+     * @param event 缓存失效事件
+     */
+    @EventListener
+    public void onCacheEvict(SecurityCacheEvictEvent event) {
+        if (!event.remote() || !event.matches(TenantChangedEvent.CACHE_NAME)) {
+            return;
+        }
+        log.debug("[Goya] |- security [core] Remote tenant change {} received.", event.keys());
+        if (event.keys() == null || event.keys().isEmpty()) {
+            eventPublisher.publishEvent(TenantChangedEvent.all());
+            return;
+        }
+        for (String tenantId : event.keys()) {
+            eventPublisher.publishEvent(new TenantChangedEvent(tenantId));
+        }
+    }
+}
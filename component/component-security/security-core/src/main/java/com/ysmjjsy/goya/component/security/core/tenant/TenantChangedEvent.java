@@ -0,0 +1,30 @@
+package com.ysmjjsy.goya.component.security.core.tenant;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * <p>租户配置变更事件</p>
+ * <p>
+ * {@link com.ysmjjsy.goya.component.security.core.service.ITenantService} 的实现在租户的 Issuer、签名密钥或启用状态变更后，
+ * 通过 {@link TenantChangeBroadcaster#publish} 在本节点发布该事件并广播给其他节点，使各节点依赖租户配置的本地缓存失效。
+ *
+ * @param tenantId 租户ID，为空表示全部租户
+ * @author goya
+ * @since 2026/2/8 18:10
+ */
+public record TenantChangedEvent(@Nullable String tenantId) {
+
+    /**
+     * 跨节点广播时使用的缓存名称
+     */
+    public static final String CACHE_NAME = "securityTenant";
+
+    /**
+     * 全部租户变更
+     *
+     * @return 事件
+     */
+    public static TenantChangedEvent all() {
+        return new TenantChangedEvent(null);
+    }
+}
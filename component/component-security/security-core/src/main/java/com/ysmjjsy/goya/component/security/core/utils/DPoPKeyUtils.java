@@ -1,13 +1,11 @@
 package com.ysmjjsy.goya.component.security.core.utils;
 
+import com.ysmjjsy.goya.component.framework.common.utils.GoyaHashUtils;
 import com.ysmjjsy.goya.component.framework.json.GoyaJson;
 import com.ysmjjsy.goya.component.security.core.exception.SecurityAuthenticationException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.oauth2.jwt.Jwt;
 
-import java.nio.charset.StandardCharsets;
-import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
 import java.util.*;
 
 /**
@@ -50,18 +48,11 @@ public class DPoPKeyUtils {
             // 2. 将JWK转换为规范化的JSON字符串（RFC 7638要求）
             String normalizedJwk = normalizeJwk(jwkObject);
 
-            // 3. 计算SHA-256哈希
-            MessageDigest digest = MessageDigest.getInstance("SHA-256");
-            byte[] hash = digest.digest(normalizedJwk.getBytes(StandardCharsets.UTF_8));
-
-            // 4. Base64URL编码（RFC 7638要求）
-            String thumbprint = Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+            // 3. 计算SHA-256哈希并Base64URL编码（RFC 7638要求）
+            String thumbprint = GoyaHashUtils.sha256Base64Url(normalizedJwk);
 
             log.debug("[Goya] |- security [core] DPoP key fingerprint extracted: {}", thumbprint);
             return thumbprint;
-        } catch (NoSuchAlgorithmException e) {
-            log.error("[Goya] |- security [core] SHA-256 algorithm not available", e);
-            return null;
         } catch (Exception e) {
             log.error("[Goya] |- security [core] Failed to extract DPoP key fingerprint", e);
             return null;
@@ -1,6 +1,7 @@
 package com.ysmjjsy.goya.component.security.oauth2.configuration;
 
 import com.ysmjjsy.goya.component.cache.multilevel.crypto.CryptoProcessor;
+import com.ysmjjsy.goya.component.security.authentication.configuration.properties.SecurityAuthenticationProperties;
 import com.ysmjjsy.goya.component.security.authentication.configurer.SecurityAuthenticationProviderConfigurer;
 import com.ysmjjsy.goya.component.security.authentication.filter.CaptchaValidationFilter;
 import com.ysmjjsy.goya.component.security.authentication.filter.DeviceManagementFilter;
@@ -14,8 +15,9 @@ import com.ysmjjsy.goya.component.security.core.tenant.PathTenantIdResolver;
 import com.ysmjjsy.goya.component.security.core.tenant.TenantIdResolver;
 import com.ysmjjsy.goya.component.security.oauth2.request.entrypoint.OAuth2AuthenticationEntryPoint;
 import com.ysmjjsy.goya.component.security.oauth2.request.handler.OAuth2AuthenticationSuccessHandler;
-import com.ysmjjsy.goya.component.security.oauth2.tenant.DefaultTenantIssuerResolver;
-import com.ysmjjsy.goya.component.security.oauth2.tenant.TenantIssuerResolver;
+import com.ysmjjsy.goya.component.security.oauth2.tenant.TenantAuthorizationServerContextFilter;
+import com.ysmjjsy.goya.component.security.oauth2.tenant.TenantIssuerRegistry;
+import com.ysmjjsy.goya.component.security.oauth2.tenant.TenantJwkSetLoader;
 import com.ysmjjsy.goya.component.security.oauth2.tenant.TenantRequestFilter;
 import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
@@ -79,9 +81,22 @@ public class SecurityAuthorizationServerAutoConfiguration {
         };
     }
 
+    /**
+     * 租户Issuer注册表，按租户缓存 Issuer、AuthorizationServerContext 与签名密钥
+     *
+     * @param authorizationServerSettings 授权服务器配置
+     * @param authenticationProperties    认证配置
+     * @param jwkSetLoaderProvider        租户签名密钥加载器（可选）
+     * @return TenantIssuerRegistry
+     */
     @Bean
-    public TenantIssuerResolver tenantIssuerResolver() {
-        return new DefaultTenantIssuerResolver(securityCoreProperties, tenantServiceProvider);
+    public TenantIssuerRegistry tenantIssuerRegistry(AuthorizationServerSettings authorizationServerSettings,
+                                                     SecurityAuthenticationProperties authenticationProperties,
+                                                     ObjectProvider<TenantJwkSetLoader> jwkSetLoaderProvider) {
+        TenantIssuerRegistry registry = new TenantIssuerRegistry(securityCoreProperties, authorizationServerSettings,
+                tenantServiceProvider, jwkSetLoaderProvider, authenticationProperties.tenantIssuer());
+        log.trace("[Goya] |- security [oauth2] SecurityAuthorizationServerAutoConfiguration |- bean [tenantIssuerRegistry] register.");
+        return registry;
     }
 
     @Bean
@@ -110,7 +125,8 @@ public class SecurityAuthorizationServerAutoConfiguration {
             AuthenticationManager authenticationManager,
             CryptoProcessor cryptoProcessor,
             SecurityAuthenticationFailureHandler failureHandler,
-            OAuth2AuthenticationSuccessHandler successHandler) {
+            OAuth2AuthenticationSuccessHandler successHandler,
+            DeviceManagementFilter deviceManagementFilter) {
         DelegatingAuthenticationConverter converter = new DelegatingAuthenticationConverter(List.of(
                 new PasswordAuthenticationConverter(cryptoProcessor),
                 new SmsAuthenticationConverter(cryptoProcessor),
@@ -122,7 +138,11 @@ public class SecurityAuthorizationServerAutoConfiguration {
                         && request.getRequestURI() != null
                         && request.getRequestURI().endsWith("/login"));
         filter.setFailureHandler(failureHandler);
-        filter.setSuccessHandler(successHandler);
+        // 登录成功后过滤链不再继续，只在认证成功时记录登录设备
+        filter.setSuccessHandler((request, response, authentication) -> {
+            deviceManagementFilter.recordLogin(request, authentication);
+            successHandler.onAuthenticationSuccess(request, response, authentication);
+        });
         return filter;
     }
 
@@ -139,8 +159,8 @@ public class SecurityAuthorizationServerAutoConfiguration {
             SecurityAuthenticationProviderConfigurer securityAuthenticationProviderConfigurer,
             OAuth2AuthenticationEntryPoint authenticationEntryPoint,
             TenantRequestFilter tenantRequestFilter,
+            TenantIssuerRegistry tenantIssuerRegistry,
             CaptchaValidationFilter captchaValidationFilter,
-            DeviceManagementFilter deviceManagementFilter,
             AuthenticationFilter loginAuthenticationFilter) throws Exception {
 
         OAuth2AuthorizationServerConfigurer authorizationServerConfigurer =
@@ -169,9 +189,9 @@ public class SecurityAuthorizationServerAutoConfiguration {
         http.oauth2ResourceServer(oauth2 -> oauth2.jwt(customizer -> {}));
 
         http.addFilterBefore(tenantRequestFilter, OAuth2AuthorizationEndpointFilter.class);
+        http.addFilterAfter(new TenantAuthorizationServerContextFilter(tenantIssuerRegistry), TenantRequestFilter.class);
         http.addFilterBefore(captchaValidationFilter, UsernamePasswordAuthenticationFilter.class);
         http.addFilterBefore(loginAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
-        http.addFilterAfter(deviceManagementFilter, UsernamePasswordAuthenticationFilter.class);
 
         return http.build();
     }
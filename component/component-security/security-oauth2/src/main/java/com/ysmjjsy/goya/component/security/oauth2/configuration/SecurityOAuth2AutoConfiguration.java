@@ -4,12 +4,20 @@ import com.nimbusds.jose.jwk.JWKSet;
 import com.nimbusds.jose.jwk.RSAKey;
 import com.nimbusds.jose.jwk.source.JWKSource;
 import com.nimbusds.jose.proc.SecurityContext;
-import com.ysmjjsy.goya.component.cache.multilevel.service.MultiLevelCacheService;
+import com.ysmjjsy.goya.component.framework.cache.api.MultiLevelCacheService;
+import com.ysmjjsy.goya.component.framework.cache.support.secret.RotatingSecretProvider;
 import com.ysmjjsy.goya.component.framework.context.SpringContext;
 import com.ysmjjsy.goya.component.security.authentication.configuration.properties.SecurityAuthenticationProperties;
+import com.ysmjjsy.goya.component.security.core.constants.SecurityConst;
 import com.ysmjjsy.goya.component.security.core.enums.CertificateEnum;
 import com.ysmjjsy.goya.component.security.core.manager.SecurityUserManager;
+import com.ysmjjsy.goya.component.security.oauth2.consent.CacheConsentRepository;
+import com.ysmjjsy.goya.component.security.oauth2.consent.CacheConsentService;
+import com.ysmjjsy.goya.component.security.oauth2.consent.ConsentRepository;
+import com.ysmjjsy.goya.component.security.oauth2.consent.ConsentService;
+import com.ysmjjsy.goya.component.security.oauth2.consent.JdbcConsentRepository;
 import com.ysmjjsy.goya.component.security.oauth2.request.CustomizerRequestCache;
+import com.ysmjjsy.goya.component.security.oauth2.request.SavedRequestSealer;
 import com.ysmjjsy.goya.component.security.oauth2.request.entrypoint.OAuth2AuthenticationEntryPoint;
 import com.ysmjjsy.goya.component.security.oauth2.request.handler.OAuth2AuthenticationSuccessHandler;
 import com.ysmjjsy.goya.component.security.oauth2.service.IOAuth2AuthorizationConsentService;
@@ -18,6 +26,8 @@ import com.ysmjjsy.goya.component.security.oauth2.service.IRegisteredClientServi
 import com.ysmjjsy.goya.component.security.oauth2.service.adapter.OAuth2AuthorizationConsentServiceAdapter;
 import com.ysmjjsy.goya.component.security.oauth2.service.adapter.OAuth2AuthorizationServiceAdapter;
 import com.ysmjjsy.goya.component.security.oauth2.service.adapter.RegisteredClientRepositoryAdapter;
+import com.ysmjjsy.goya.component.security.oauth2.tenant.TenantIssuerRegistry;
+import com.ysmjjsy.goya.component.security.oauth2.tenant.TenantJwkSource;
 import com.ysmjjsy.goya.component.security.oauth2.token.JwtTokenCustomizer;
 import com.ysmjjsy.goya.component.security.oauth2.token.TokenBlacklistStamp;
 import com.ysmjjsy.goya.component.security.oauth2.token.TokenManager;
@@ -26,11 +36,18 @@ import com.ysmjjsy.goya.component.security.oauth2.userinfo.SocialOAuth2UserServi
 import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.ArrayUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
 import org.springframework.core.io.Resource;
+import org.springframework.jdbc.core.simple.JdbcClient;
 import org.springframework.security.crypto.encrypt.KeyStoreKeyFactory;
 import org.springframework.security.oauth2.client.oidc.userinfo.OidcUserService;
 import org.springframework.security.oauth2.jwt.JwtEncoder;
@@ -39,14 +56,15 @@ import org.springframework.security.oauth2.server.authorization.OAuth2Authorizat
 import org.springframework.security.oauth2.server.authorization.OAuth2AuthorizationService;
 import org.springframework.security.oauth2.server.authorization.client.RegisteredClientRepository;
 import org.springframework.security.oauth2.server.authorization.token.*;
-import org.springframework.security.web.savedrequest.HttpSessionRequestCache;
 import org.springframework.security.web.savedrequest.RequestCache;
 
+import javax.sql.DataSource;
 import java.security.KeyPair;
 import java.security.KeyPairGenerator;
 import java.security.NoSuchAlgorithmException;
 import java.security.interfaces.RSAPrivateKey;
 import java.security.interfaces.RSAPublicKey;
+import java.util.Base64;
 import java.util.UUID;
 
 /**
@@ -56,7 +74,10 @@ import java.util.UUID;
  * @since 2026/1/22 23:03
  */
 @Slf4j
-@AutoConfiguration
+@AutoConfiguration(afterName = {
+        "org.springframework.boot.jdbc.autoconfigure.DataSourceAutoConfiguration",
+        "com.baomidou.dynamic.datasource.spring.boot.autoconfigure.DynamicDataSourceAutoConfiguration"
+})
 public class SecurityOAuth2AutoConfiguration {
 
     @PostConstruct
@@ -65,27 +86,44 @@ public class SecurityOAuth2AutoConfiguration {
     }
 
     /**
-     * 创建Redis RequestCache
-     * <p>用于保存和恢复 SavedRequest，支持无状态环境</p>
+     * 创建无状态 RequestCache
+     * <p>用于保存和恢复 SavedRequest，默认加密 Cookie 存储，可切换为缓存 + 签名引用</p>
      *
+     * @param properties   认证配置
      * @param cacheService 缓存服务（可选）
-     * @return RedisRequestCache
+     * @return CustomizerRequestCache
      */
     @Bean
-    @ConditionalOnBean(MultiLevelCacheService.class)
-    public RequestCache requestCache(MultiLevelCacheService cacheService) {
-        CustomizerRequestCache requestCache =
-                new CustomizerRequestCache(cacheService);
-        log.trace("[Goya] |- security [authentication] customizerRequestCache auto configure.");
+    @ConditionalOnMissingBean(RequestCache.class)
+    public RequestCache requestCache(SecurityAuthenticationProperties properties,
+                                     ObjectProvider<MultiLevelCacheService> cacheService) {
+        SecurityAuthenticationProperties.SavedRequestConfig config = properties.savedRequest();
+        RotatingSecretProvider secretProvider;
+        if (StringUtils.isNotBlank(config.previousKeyId()) && StringUtils.isNotBlank(config.previousSecret())) {
+            secretProvider = new RotatingSecretProvider(config.previousKeyId(), savedRequestSecret("previous-secret", config.previousSecret()));
+            secretProvider.rotate(config.keyId(), savedRequestSecret("secret", config.secret()));
+        } else {
+            secretProvider = new RotatingSecretProvider(config.keyId(), savedRequestSecret("secret", config.secret()));
+        }
+        SavedRequestSealer sealer = new SavedRequestSealer(secretProvider, config.ttl());
+        CustomizerRequestCache requestCache = new CustomizerRequestCache(config, sealer, cacheService.getIfAvailable());
+        log.trace("[Goya] |- security [oauth2] SecurityOAuth2AutoConfiguration |- bean [requestCache] register.");
         return requestCache;
     }
 
-    @Bean
-    @ConditionalOnMissingBean(RequestCache.class)
-    public RequestCache sessionRequestCache() {
-        HttpSessionRequestCache requestCache = new HttpSessionRequestCache();
-        log.trace("[Goya] |- security [authentication] HttpSessionRequestCache auto configure.");
-        return requestCache;
+    /**
+     * 解析 SavedRequest 密钥，未配置或长度不足时启动失败，避免各实例随机生成互不相认的密钥
+     */
+    private static byte[] savedRequestSecret(String name, String value) {
+        if (StringUtils.isBlank(value)) {
+            throw new IllegalStateException("SavedRequest " + name + " must be configured and shared by all instances: "
+                    + SecurityConst.PROPERTY_PLATFORM_SECURITY_AUTHENTICATION + ".saved-request." + name);
+        }
+        byte[] secret = Base64.getDecoder().decode(value);
+        if (secret.length < 32) {
+            throw new IllegalStateException("SavedRequest " + name + " must be at least 32 bytes after Base64 decoding");
+        }
+        return secret;
     }
 
     /**
@@ -134,15 +172,19 @@ public class SecurityOAuth2AutoConfiguration {
 
     /**
      * 配置缓存 OAuth2授权服务（优先使用）
-     * <p>实现全无状态设计，支持水平扩展</p>
+     * <p>本地缓存授权并按令牌哈希索引，可选延迟写入授权状态更新</p>
      *
-     * @param authorizationService authorizationService
-     * @return RedisOAuth2AuthorizationService
+     * @param authorizationService     authorizationService
+     * @param authenticationProperties 认证配置
+     * @return OAuth2AuthorizationServiceAdapter
      */
     @Bean
     @ConditionalOnBean(IOAuth2AuthorizationService.class)
-    public OAuth2AuthorizationService oAuth2AuthorizationService(IOAuth2AuthorizationService authorizationService) {
-        OAuth2AuthorizationServiceAdapter adapter = new OAuth2AuthorizationServiceAdapter(authorizationService);
+    public OAuth2AuthorizationService oAuth2AuthorizationService(IOAuth2AuthorizationService authorizationService,
+                                                                 SecurityAuthenticationProperties authenticationProperties,
+                                                                 ApplicationEventPublisher eventPublisher) {
+        OAuth2AuthorizationServiceAdapter adapter = new OAuth2AuthorizationServiceAdapter(authorizationService,
+                authenticationProperties.authorizationStore(), eventPublisher);
         log.trace("[Goya] |- security [oauth2] OAuth2AuthorizationService adapter auto configure.");
         return adapter;
     }
@@ -157,12 +199,40 @@ public class SecurityOAuth2AutoConfiguration {
 
     @Bean
     @ConditionalOnBean(IRegisteredClientService.class)
-    public RegisteredClientRepository registeredClientRepository(IRegisteredClientService registeredClientService) {
-        RegisteredClientRepositoryAdapter adapter = new RegisteredClientRepositoryAdapter(registeredClientService);
+    public RegisteredClientRepository registeredClientRepository(IRegisteredClientService registeredClientService,
+                                                                 SecurityAuthenticationProperties authenticationProperties,
+                                                                 ApplicationEventPublisher eventPublisher) {
+        RegisteredClientRepositoryAdapter adapter = new RegisteredClientRepositoryAdapter(registeredClientService,
+                authenticationProperties.authorizationStore(), eventPublisher);
         log.trace("[Goya] |- security [oauth2] RegisteredClientRepository adapter auto configure.");
         return adapter;
     }
 
+    /**
+     * 基于缓存的授权同意存储（未开启 JDBC 存储时使用）
+     *
+     * @param cacheService 缓存服务
+     * @return ConsentRepository
+     */
+    @Bean
+    @ConditionalOnMissingBean(ConsentRepository.class)
+    @ConditionalOnBean(MultiLevelCacheService.class)
+    public ConsentRepository cacheConsentRepository(MultiLevelCacheService cacheService) {
+        CacheConsentRepository repository = new CacheConsentRepository(cacheService);
+        log.trace("[Goya] |- security [oauth2] SecurityOAuth2AutoConfiguration |- bean [cacheConsentRepository] register.");
+        return repository;
+    }
+
+    @Bean
+    @ConditionalOnMissingBean(ConsentService.class)
+    @ConditionalOnBean({MultiLevelCacheService.class, ConsentRepository.class})
+    public ConsentService consentService(MultiLevelCacheService cacheService, ConsentRepository consentRepository,
+                                         ApplicationEventPublisher eventPublisher) {
+        CacheConsentService consentService = new CacheConsentService(cacheService, consentRepository, eventPublisher);
+        log.trace("[Goya] |- security [oauth2] SecurityOAuth2AutoConfiguration |- bean [consentService] register.");
+        return consentService;
+    }
+
     @Bean
     public TokenBlacklistStamp tokenBlacklistStamp(SecurityAuthenticationProperties properties) {
         TokenBlacklistStamp stamp = new TokenBlacklistStamp(properties.tokenBlackList());
@@ -194,9 +264,14 @@ public class SecurityOAuth2AutoConfiguration {
         return tokenService;
     }
 
+    /**
+     * 配置JWK Source
+     * <p>全局密钥作为默认值，租户配置了独立签名密钥时由 {@link TenantJwkSource} 按当前租户选择</p>
+     */
     @Bean
     @ConditionalOnMissingBean(JWKSource.class)
-    public JWKSource<SecurityContext> jwkSource(SecurityAuthenticationProperties authenticationProperties) throws NoSuchAlgorithmException {
+    public JWKSource<SecurityContext> jwkSource(SecurityAuthenticationProperties authenticationProperties,
+                                                ObjectProvider<TenantIssuerRegistry> tenantIssuerRegistryProvider) throws NoSuchAlgorithmException {
         SecurityAuthenticationProperties.Jwk jwk = authenticationProperties.jwk();
         KeyPair keyPair = null;
         if (jwk.certificate() == CertificateEnum.CUSTOM) {
@@ -219,7 +294,7 @@ public class SecurityOAuth2AutoConfiguration {
                 .keyID(UUID.randomUUID().toString())
                 .build();
         JWKSet jwkSet = new JWKSet(rsaKey);
-        return (jwkSelector, _) -> jwkSelector.select(jwkSet);
+        return new TenantJwkSource((jwkSelector, _) -> jwkSelector.select(jwkSet), tenantIssuerRegistryProvider);
     }
 
     /**
@@ -255,4 +330,25 @@ public class SecurityOAuth2AutoConfiguration {
         log.trace("[Goya] |- security [authentication] socialOAuth2UserService auto configure.");
         return socialOAuth2UserService;
     }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(JdbcClient.class)
+    static class JdbcConsentRepositoryConfiguration {
+
+        /**
+         * 基于 JDBC 的授权同意存储，需显式开启 authorization-store.jdbc-consent，表结构见 sql/oauth2_user_consent.sql
+         *
+         * @param dataSource 数据源
+         * @return ConsentRepository
+         */
+        @Bean
+        @ConditionalOnMissingBean(ConsentRepository.class)
+        @ConditionalOnBean(DataSource.class)
+        @ConditionalOnProperty(prefix = SecurityConst.PROPERTY_PLATFORM_SECURITY_AUTHENTICATION + ".authorization-store", name = "jdbc-consent", havingValue = "true")
+        public ConsentRepository jdbcConsentRepository(DataSource dataSource) {
+            JdbcConsentRepository repository = new JdbcConsentRepository(JdbcClient.create(dataSource));
+            log.trace("[Goya] |- security [oauth2] SecurityOAuth2AutoConfiguration |- bean [jdbcConsentRepository] register.");
+            return repository;
+        }
+    }
 }
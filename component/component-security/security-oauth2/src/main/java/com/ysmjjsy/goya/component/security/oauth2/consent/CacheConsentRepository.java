@@ -0,0 +1,73 @@
+package com.ysmjjsy.goya.component.security.oauth2.consent;
+
+import com.ysmjjsy.goya.component.framework.cache.api.CacheService;
+import lombok.RequiredArgsConstructor;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * <p>基于缓存的用户授权同意存储</p>
+ * <p>未配置数据源时的默认实现，以用户为 key 存放该用户全部授权同意记录</p>
+ *
+ * @author goya
+ * @since 2026/2/6 09:20
+ */
+@RequiredArgsConstructor
+public class CacheConsentRepository implements ConsentRepository {
+
+    private static final String CACHE_NAME = "oauth2_consent";
+    private static final Duration CONSENT_EXPIRY = Duration.ofDays(365);
+
+    private final CacheService cacheService;
+
+    @Override
+    public List<ConsentRecord> findByUserId(String userId) {
+        UserConsentRecords records = cacheService.get(CACHE_NAME, userId, UserConsentRecords.class);
+        return records == null ? List.of() : records.consents();
+    }
+
+    @Override
+    public void save(ConsentRecord record) {
+        List<ConsentRecord> consents = new ArrayList<>(findByUserId(record.userId()));
+        consents.removeIf(existing -> existing.clientId().equals(record.clientId()));
+        consents.add(record);
+        cacheService.put(CACHE_NAME, record.userId(), new UserConsentRecords(consents), CONSENT_EXPIRY);
+    }
+
+    @Override
+    public void delete(String userId, String clientId) {
+        List<ConsentRecord> consents = new ArrayList<>(findByUserId(userId));
+        if (!consents.removeIf(existing -> existing.clientId().equals(clientId))) {
+            return;
+        }
+        if (consents.isEmpty()) {
+            cacheService.delete(CACHE_NAME, userId);
+        } else {
+            cacheService.put(CACHE_NAME, userId, new UserConsentRecords(consents), CONSENT_EXPIRY);
+        }
+    }
+
+    @Override
+    public void deleteByUserId(String userId) {
+        cacheService.delete(CACHE_NAME, userId);
+    }
+
+    /**
+     * 单个用户的授权同意记录集合，作为缓存值整体读写
+     *
+     * @param consents 授权同意记录
+     */
+    public record UserConsentRecords(List<ConsentRecord> consents) implements Serializable {
+
+        @Serial
+        private static final long serialVersionUID = -2818305577390469128L;
+
+        public UserConsentRecords {
+            consents = consents == null ? List.of() : List.copyOf(consents);
+        }
+    }
+}
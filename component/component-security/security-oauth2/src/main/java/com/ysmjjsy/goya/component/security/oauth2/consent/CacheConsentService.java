@@ -1,30 +1,57 @@
 package com.ysmjjsy.goya.component.security.oauth2.consent;
 
-import com.ysmjjsy.goya.component.cache.multilevel.service.MultiLevelCacheService;
-import com.ysmjjsy.goya.component.framework.json.GoyaJson;
-import lombok.RequiredArgsConstructor;
+import com.ysmjjsy.goya.component.framework.cache.api.MultiLevelCacheService;
+import com.ysmjjsy.goya.component.security.core.cache.SecurityCacheEvictEvent;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
 
 import java.time.Duration;
-import java.util.HashSet;
-import java.util.Set;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
- * <p>基于Redis的用户授权同意服务实现</p>
- * <p>存储用户授权同意记录到Redis</p>
+ * <p>用户授权同意服务实现</p>
+ * <p>
+ * 授权记录由 {@link ConsentRepository} 持久化；本地缓存按用户保存 {@link UserConsents} 索引，
+ * 其中 scope 以客户端维度的 {@link ScopeDictionary} 编码为位图，{@link #isConsentGiven} 只做位判断，不涉及序列化。
+ * 写操作先写存储再失效本地索引，并通过 {@link SecurityCacheEvictEvent} 广播给其他实例；
+ * 未配置广播时其他实例的本地索引在 {@link #INDEX_EXPIRY} 内过期后重新加载。
  *
  * @author goya
  * @since 2026/1/5
  */
 @Slf4j
-@RequiredArgsConstructor
 public class CacheConsentService implements ConsentService {
 
+    private static final String INDEX_CACHE_NAME = "oauth2_consent_index";
+    private static final Duration INDEX_EXPIRY = Duration.ofMinutes(5);
+
     private final MultiLevelCacheService cacheService;
-    private static final String CACHE_NAME = "oauth2_consent";
-    private static final String KEY_PREFIX = "consent:";
-    private static final Duration CONSENT_EXPIRY = Duration.ofDays(365);
+    private final ConsentRepository consentRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Map<String, ScopeDictionary> dictionaries = new ConcurrentHashMap<>();
+
+    public CacheConsentService(MultiLevelCacheService cacheService, ConsentRepository consentRepository,
+                               ApplicationEventPublisher eventPublisher) {
+        this.cacheService = cacheService;
+        this.consentRepository = consentRepository;
+        this.eventPublisher = eventPublisher;
+    }
+
+    /**
+     * 其他实例修改授权同意后失效本地索引
+     *
+     * @param event 缓存失效事件
+     */
+    @EventListener
+    public void onCacheEvict(SecurityCacheEvictEvent event) {
+        if (event.remote() && event.matches(INDEX_CACHE_NAME)) {
+            event.keys().forEach(userId -> cacheService.evictLocal(INDEX_CACHE_NAME, userId));
+        }
+    }
 
     @Override
     public boolean isConsentGiven(String userId, String clientId, Set<String> scopes) {
@@ -32,25 +59,16 @@ public class CacheConsentService implements ConsentService {
             return false;
         }
 
-        String key = buildKey(userId, clientId);
-        String consentData = cacheService.get(CACHE_NAME, key);
-
-        if (StringUtils.isBlank(consentData)) {
+        UserConsents.Grant grant = loadIndex(userId).grant(clientId);
+        if (grant == null || grant.scopes().cardinality() == 0) {
             return false;
         }
-
-        try {
-            Set<String> consentedScopes = GoyaJson.fromJsonSet(consentData, String.class);
-            if (consentedScopes == null || consentedScopes.isEmpty()) {
-                return false;
-            }
-
-            // 检查请求的范围是否都在已授权范围内
-            return consentedScopes.containsAll(scopes);
-        } catch (Exception e) {
-            log.error("[Goya] |- security [authentication] Failed to parse consent data for key: {}", key, e);
-            return false;
+        if (scopes == null || scopes.isEmpty()) {
+            return true;
         }
+
+        // 检查请求的范围是否都在已授权范围内
+        return dictionary(clientId).containsAll(grant.scopes(), scopes);
     }
 
     @Override
@@ -59,11 +77,9 @@ public class CacheConsentService implements ConsentService {
             return;
         }
 
-        String key = buildKey(userId, clientId);
-        String consentData = GoyaJson.toJson(scopes);
-
-        cacheService.put(CACHE_NAME, key, consentData, CONSENT_EXPIRY);
-        log.debug("[Goya] |- security [authentication] Consent saved for user: {} | client: {} | scopes: {}", 
+        consentRepository.save(new ConsentRecord(userId, clientId, scopes, Instant.now()));
+        evictIndex(userId);
+        log.debug("[Goya] |- security [oauth2] Consent saved for user: {} | client: {} | scopes: {}",
                 userId, clientId, scopes);
     }
 
@@ -73,9 +89,20 @@ public class CacheConsentService implements ConsentService {
             return;
         }
 
-        String key = buildKey(userId, clientId);
-        cacheService.delete(CACHE_NAME, key);
-        log.debug("[Goya] |- security [authentication] Consent revoked for user: {} | client: {}", userId, clientId);
+        consentRepository.delete(userId, clientId);
+        evictIndex(userId);
+        log.debug("[Goya] |- security [oauth2] Consent revoked for user: {} | client: {}", userId, clientId);
+    }
+
+    @Override
+    public void revokeAllConsents(String userId) {
+        if (StringUtils.isBlank(userId)) {
+            return;
+        }
+
+        consentRepository.deleteByUserId(userId);
+        evictIndex(userId);
+        log.debug("[Goya] |- security [oauth2] All consents revoked for user: {}", userId);
     }
 
     @Override
@@ -84,31 +111,56 @@ public class CacheConsentService implements ConsentService {
             return new HashSet<>();
         }
 
-        String key = buildKey(userId, clientId);
-        String consentData = cacheService.get(CACHE_NAME, key);
-
-        if (StringUtils.isBlank(consentData)) {
+        UserConsents.Grant grant = loadIndex(userId).grant(clientId);
+        if (grant == null) {
             return new HashSet<>();
         }
+        return dictionary(clientId).decode(grant.scopes());
+    }
 
-        try {
-            Set<String> scopes = GoyaJson.fromJsonSet(consentData, String.class);
-            return scopes != null ? scopes : new HashSet<>();
-        } catch (Exception e) {
-            log.error("[Goya] |- security [authentication] Failed to parse consent data for key: {}", key, e);
-            return new HashSet<>();
+    @Override
+    public List<ConsentRecord> getConsents(String userId) {
+        if (StringUtils.isBlank(userId)) {
+            return List.of();
         }
+
+        Map<String, UserConsents.Grant> grants = loadIndex(userId).grants();
+        List<ConsentRecord> consents = new ArrayList<>(grants.size());
+        grants.forEach((clientId, grant) -> consents.add(
+                new ConsentRecord(userId, clientId, dictionary(clientId).decode(grant.scopes()), grant.grantedAt())));
+        return consents;
     }
 
     /**
-     * 构建Redis Key
+     * 加载用户授权索引，本地未命中时从存储加载并编码
      *
      * @param userId 用户ID
-     * @param clientId 客户端ID
-     * @return Redis Key
+     * @return {@link UserConsents}
      */
-    private String buildKey(String userId, String clientId) {
-        return KEY_PREFIX + userId + ":" + clientId;
+    private UserConsents loadIndex(String userId) {
+        UserConsents consents = cacheService.local().getOrLoad(INDEX_CACHE_NAME, userId, UserConsents.class, INDEX_EXPIRY,
+                () -> buildIndex(consentRepository.findByUserId(userId)));
+        return consents != null ? consents : UserConsents.EMPTY;
     }
-}
 
+    private UserConsents buildIndex(List<ConsentRecord> records) {
+        if (records == null || records.isEmpty()) {
+            return UserConsents.EMPTY;
+        }
+        Map<String, UserConsents.Grant> grants = HashMap.newHashMap(records.size());
+        for (ConsentRecord record : records) {
+            ScopeBits bits = dictionary(record.clientId()).encode(record.scopes());
+            grants.put(record.clientId(), new UserConsents.Grant(bits, record.grantedAt()));
+        }
+        return new UserConsents(grants);
+    }
+
+    private ScopeDictionary dictionary(String clientId) {
+        return dictionaries.computeIfAbsent(clientId, _ -> new ScopeDictionary());
+    }
+
+    private void evictIndex(String userId) {
+        cacheService.evictLocal(INDEX_CACHE_NAME, userId);
+        eventPublisher.publishEvent(SecurityCacheEvictEvent.local(INDEX_CACHE_NAME, List.of(userId)));
+    }
+}
@@ -0,0 +1,32 @@
+package com.ysmjjsy.goya.component.security.oauth2.consent;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.time.Instant;
+import java.util.Set;
+
+/**
+ * <p>用户授权同意记录</p>
+ * <p>持久化单元，{@link ConsentRepository} 以此为读写格式</p>
+ *
+ * @param userId    用户ID
+ * @param clientId  客户端ID
+ * @param scopes    已授权范围
+ * @param grantedAt 最近一次授权时间
+ * @author goya
+ * @since 2026/2/6 09:10
+ */
+public record ConsentRecord(
+        String userId,
+        String clientId,
+        Set<String> scopes,
+        Instant grantedAt
+) implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 4431280746375582316L;
+
+    public ConsentRecord {
+        scopes = scopes == null ? Set.of() : Set.copyOf(scopes);
+    }
+}
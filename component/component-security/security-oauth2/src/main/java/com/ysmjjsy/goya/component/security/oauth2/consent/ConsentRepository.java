@@ -0,0 +1,43 @@
+package com.ysmjjsy.goya.component.security.oauth2.consent;
+
+import java.util.List;
+
+/**
+ * <p>用户授权同意存储SPI</p>
+ * <p>以用户为维度读写，{@link CacheConsentService} 按用户加载后在内存中建立索引</p>
+ *
+ * @author goya
+ * @since 2026/2/6 09:12
+ */
+public interface ConsentRepository {
+
+    /**
+     * 查询用户的全部授权同意记录
+     *
+     * @param userId 用户ID
+     * @return 授权同意记录，没有时返回空列表
+     */
+    List<ConsentRecord> findByUserId(String userId);
+
+    /**
+     * 保存授权同意记录，同一用户与客户端已存在时覆盖
+     *
+     * @param record 授权同意记录
+     */
+    void save(ConsentRecord record);
+
+    /**
+     * 删除用户对指定客户端的授权同意
+     *
+     * @param userId   用户ID
+     * @param clientId 客户端ID
+     */
+    void delete(String userId, String clientId);
+
+    /**
+     * 删除用户的全部授权同意
+     *
+     * @param userId 用户ID
+     */
+    void deleteByUserId(String userId);
+}
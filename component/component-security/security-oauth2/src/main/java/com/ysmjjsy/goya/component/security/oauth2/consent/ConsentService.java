@@ -1,5 +1,6 @@
 package com.ysmjjsy.goya.component.security.oauth2.consent;
 
+import java.util.List;
 import java.util.Set;
 
 /**
@@ -46,5 +47,19 @@ public interface ConsentService {
      * @return 已授权的范围集合
      */
     Set<String> getConsentedScopes(String userId, String clientId);
-}
 
+    /**
+     * 撤销用户的全部授权同意
+     *
+     * @param userId 用户ID
+     */
+    void revokeAllConsents(String userId);
+
+    /**
+     * 获取用户已授权的全部客户端
+     *
+     * @param userId 用户ID
+     * @return 授权同意记录
+     */
+    List<ConsentRecord> getConsents(String userId);
+}
@@ -0,0 +1,96 @@
+package com.ysmjjsy.goya.component.security.oauth2.consent;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.simple.JdbcClient;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * <p>基于 JDBC 的用户授权同意存储</p>
+ * <p>表结构见 {@code sql/oauth2_user_consent.sql}，scopes 以空格分隔存储（与 OAuth2 scope 参数格式一致）</p>
+ * <p>保存先 UPDATE，未命中再 INSERT；并发插入触发主键冲突时回退为 UPDATE，不依赖特定数据库的 upsert 语法</p>
+ *
+ * @author goya
+ * @since 2026/2/6 09:30
+ */
+@RequiredArgsConstructor
+public class JdbcConsentRepository implements ConsentRepository {
+
+    private static final String SELECT_BY_USER =
+            "SELECT user_id, client_id, scopes, granted_at FROM oauth2_user_consent WHERE user_id = ?";
+    private static final String UPDATE =
+            "UPDATE oauth2_user_consent SET scopes = ?, granted_at = ? WHERE user_id = ? AND client_id = ?";
+    private static final String INSERT =
+            "INSERT INTO oauth2_user_consent (user_id, client_id, scopes, granted_at) VALUES (?, ?, ?, ?)";
+    private static final String DELETE =
+            "DELETE FROM oauth2_user_consent WHERE user_id = ? AND client_id = ?";
+    private static final String DELETE_BY_USER =
+            "DELETE FROM oauth2_user_consent WHERE user_id = ?";
+
+    private static final String SCOPE_DELIMITER = " ";
+
+    private final JdbcClient jdbcClient;
+
+    @Override
+    public List<ConsentRecord> findByUserId(String userId) {
+        return jdbcClient.sql(SELECT_BY_USER)
+                .param(userId)
+                .query((rs, _) -> {
+                    Timestamp grantedAt = rs.getTimestamp("granted_at");
+                    return new ConsentRecord(
+                            rs.getString("user_id"),
+                            rs.getString("client_id"),
+                            parseScopes(rs.getString("scopes")),
+                            grantedAt == null ? null : grantedAt.toInstant());
+                })
+                .list();
+    }
+
+    @Override
+    public void save(ConsentRecord record) {
+        String scopes = String.join(SCOPE_DELIMITER, record.scopes());
+        Timestamp grantedAt = Timestamp.from(record.grantedAt() == null ? Instant.now() : record.grantedAt());
+
+        if (update(record, scopes, grantedAt) > 0) {
+            return;
+        }
+        try {
+            jdbcClient.sql(INSERT)
+                    .params(record.userId(), record.clientId(), scopes, grantedAt)
+                    .update();
+        } catch (DuplicateKeyException _) {
+            // 并发首次授权：另一请求已插入，改为覆盖
+            update(record, scopes, grantedAt);
+        }
+    }
+
+    private int update(ConsentRecord record, String scopes, Timestamp grantedAt) {
+        return jdbcClient.sql(UPDATE)
+                .params(scopes, grantedAt, record.userId(), record.clientId())
+                .update();
+    }
+
+    @Override
+    public void delete(String userId, String clientId) {
+        jdbcClient.sql(DELETE).params(userId, clientId).update();
+    }
+
+    @Override
+    public void deleteByUserId(String userId) {
+        jdbcClient.sql(DELETE_BY_USER).param(userId).update();
+    }
+
+    private static Set<String> parseScopes(String scopes) {
+        if (StringUtils.isBlank(scopes)) {
+            return Set.of();
+        }
+        return Arrays.stream(StringUtils.split(scopes, SCOPE_DELIMITER)).collect(Collectors.toUnmodifiableSet());
+    }
+}
@@ -0,0 +1,61 @@
+package com.ysmjjsy.goya.component.security.oauth2.consent;
+
+import java.util.Arrays;
+
+/**
+ * <p>授权范围位图</p>
+ * <p>位下标由所属客户端的 {@link ScopeDictionary} 分配，不可变，相同内容的实例由字典驻留共享</p>
+ *
+ * @author goya
+ * @since 2026/2/6 09:40
+ */
+public final class ScopeBits {
+
+    static final ScopeBits EMPTY = new ScopeBits(new long[0]);
+
+    private final long[] words;
+    private final int hash;
+
+    ScopeBits(long[] words) {
+        this.words = words;
+        this.hash = Arrays.hashCode(words);
+    }
+
+    /**
+     * 指定下标是否已置位
+     *
+     * @param index 位下标
+     * @return true 已置位
+     */
+    public boolean get(int index) {
+        int word = index >>> 6;
+        return word < words.length && (words[word] & (1L << index)) != 0;
+    }
+
+    /**
+     * 已置位数量
+     *
+     * @return 数量
+     */
+    public int cardinality() {
+        int count = 0;
+        for (long word : words) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+
+    long[] words() {
+        return words;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return this == o || (o instanceof ScopeBits that && hash == that.hash && Arrays.equals(words, that.words));
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+}
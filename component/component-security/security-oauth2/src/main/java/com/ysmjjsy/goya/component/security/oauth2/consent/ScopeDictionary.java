@@ -0,0 +1,125 @@
+package com.ysmjjsy.goya.component.security.oauth2.consent;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * <p>客户端授权范围字典</p>
+ * <p>
+ * 每个客户端一份，为出现过的 scope 分配只增不减的位下标，并驻留相同内容的 {@link ScopeBits}，
+ * 同一客户端下授权范围相同的用户共享同一位图实例。字典只存在于当前进程内，不参与持久化。
+ *
+ * @author goya
+ * @since 2026/2/6 09:45
+ */
+public final class ScopeDictionary {
+
+    /**
+     * 驻留池上限，超出后不再驻留（仍可正常使用）
+     */
+    private static final int MAX_INTERNED = 1024;
+
+    private final Map<String, Integer> indexes = new ConcurrentHashMap<>();
+    private final Map<ScopeBits, ScopeBits> interned = new ConcurrentHashMap<>();
+    private volatile String[] names = new String[0];
+
+    /**
+     * scope 对应的位下标
+     *
+     * @param scope scope
+     * @return 位下标，未出现过返回 -1
+     */
+    public int indexOf(String scope) {
+        Integer index = indexes.get(scope);
+        return index == null ? -1 : index;
+    }
+
+    /**
+     * 位图是否包含全部 scope，不分配内存
+     *
+     * @param bits   已授权位图
+     * @param scopes 请求的 scope
+     * @return true 全部包含
+     */
+    public boolean containsAll(ScopeBits bits, Collection<String> scopes) {
+        for (String scope : scopes) {
+            int index = indexOf(scope);
+            if (index < 0 || !bits.get(index)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 将 scope 集合编码为位图，新 scope 会被分配下标
+     *
+     * @param scopes scope 集合
+     * @return 驻留后的位图
+     */
+    public ScopeBits encode(Collection<String> scopes) {
+        if (scopes == null || scopes.isEmpty()) {
+            return ScopeBits.EMPTY;
+        }
+        long[] words = new long[0];
+        for (String scope : scopes) {
+            int index = intern(scope);
+            int word = index >>> 6;
+            if (word >= words.length) {
+                words = Arrays.copyOf(words, word + 1);
+            }
+            words[word] |= 1L << index;
+        }
+        ScopeBits bits = new ScopeBits(words);
+        ScopeBits existed = interned.get(bits);
+        if (existed != null) {
+            return existed;
+        }
+        if (interned.size() >= MAX_INTERNED) {
+            return bits;
+        }
+        existed = interned.putIfAbsent(bits, bits);
+        return existed != null ? existed : bits;
+    }
+
+    /**
+     * 将位图解码为 scope 集合
+     *
+     * @param bits 位图
+     * @return scope 集合
+     */
+    public Set<String> decode(ScopeBits bits) {
+        String[] snapshot = names;
+        long[] words = bits.words();
+        Set<String> scopes = LinkedHashSet.newLinkedHashSet(bits.cardinality());
+        for (int word = 0; word < words.length; word++) {
+            long remaining = words[word];
+            while (remaining != 0) {
+                int index = (word << 6) + Long.numberOfTrailingZeros(remaining);
+                scopes.add(snapshot[index]);
+                remaining &= remaining - 1;
+            }
+        }
+        return scopes;
+    }
+
+    private int intern(String scope) {
+        Integer index = indexes.get(scope);
+        if (index != null) {
+            return index;
+        }
+        synchronized (this) {
+            index = indexes.get(scope);
+            if (index != null) {
+                return index;
+            }
+            String[] grown = Arrays.copyOf(names, names.length + 1);
+            int assigned = names.length;
+            grown[assigned] = scope;
+            // 先发布名称再发布下标，保证能查到下标的线程一定能解码
+            names = grown;
+            indexes.put(scope, assigned);
+            return assigned;
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.ysmjjsy.goya.component.security.oauth2.consent;
+
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * <p>单个用户的授权同意索引</p>
+ * <p>clientId -> 已授权范围位图，由 {@link CacheConsentService} 按用户从 {@link ConsentRepository} 加载构建，仅存于本地缓存</p>
+ *
+ * @param grants 客户端授权
+ * @author goya
+ * @since 2026/2/6 09:55
+ */
+public record UserConsents(Map<String, Grant> grants) {
+
+    static final UserConsents EMPTY = new UserConsents(Map.of());
+
+    public UserConsents {
+        grants = Map.copyOf(grants);
+    }
+
+    /**
+     * 获取指定客户端的授权
+     *
+     * @param clientId 客户端ID
+     * @return 授权，不存在返回 null
+     */
+    public Grant grant(String clientId) {
+        return grants.get(clientId);
+    }
+
+    /**
+     * 单个客户端的授权
+     *
+     * @param scopes    已授权范围位图
+     * @param grantedAt 授权时间
+     */
+    public record Grant(ScopeBits scopes, Instant grantedAt) {
+    }
+}
@@ -1,14 +1,18 @@
 package com.ysmjjsy.goya.component.security.oauth2.request;
 
-import com.ysmjjsy.goya.component.cache.multilevel.service.MultiLevelCacheService;
-import com.ysmjjsy.goya.component.framework.json.GoyaJson;
+import com.ysmjjsy.goya.component.framework.cache.api.CacheService;
+import com.ysmjjsy.goya.component.framework.common.utils.GoyaIdUtils;
+import com.ysmjjsy.goya.component.security.authentication.configuration.properties.SecurityAuthenticationProperties;
+import com.ysmjjsy.goya.component.security.core.enums.SavedRequestStoreEnum;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
 import org.springframework.security.web.savedrequest.RequestCache;
 import org.springframework.security.web.savedrequest.SavedRequest;
 
@@ -16,303 +20,229 @@ import java.time.Duration;
 import java.util.*;
 
 /**
- * <p>基于Redis的RequestCache实现</p>
- * <p>实现全无状态设计，支持水平扩展</p>
- * <p>用于保存和恢复 SavedRequest，支持 OAuth2 授权流程中的请求恢复</p>
+ * <p>无状态 RequestCache 实现</p>
+ * <p>用于保存和恢复 SavedRequest，支持 OAuth2 授权流程中的请求恢复，多节点部署无需会话粘滞</p>
  *
- * <p>存储结构：</p>
+ * <p>存储方式（{@link SecurityAuthenticationProperties.SavedRequestConfig#store()}）：</p>
  * <ul>
- *   <li>请求缓存：oauth2:request:{requestId} -> SavedRequestData (JSON序列化)</li>
+ *   <li>COOKIE：请求经 {@link SavedRequestCodec} 编码压缩、{@link SavedRequestSealer} 加密后整体写入 Cookie（{@code e.} 前缀），
+ *   恢复时不访问任何存储；超出 Cookie 长度上限时自动改用 CACHE</li>
+ *   <li>CACHE：编码后的请求写入缓存，Cookie 只保存带签名的随机引用（{@code r.} 前缀），验签通过才访问缓存</li>
  * </ul>
  *
- * <p>Request ID 策略：</p>
- * <ul>
- *   <li>优先使用请求参数中的 state（OAuth2 标准参数）</li>
- *   <li>如果不存在，生成 UUID 并存储在请求参数中</li>
- * </ul>
- *
- * <p>特性：</p>
- * <ul>
- *   <li>支持多节点部署（无状态）</li>
- *   <li>支持水平扩展</li>
- *   <li>自动过期清理（基于TTL）</li>
- *   <li>高性能（Redis内存存储）</li>
- * </ul>
+ * <p>同一请求内解析结果缓存在 request attribute 中，getRequest / removeRequest 不会重复解密或查询缓存。</p>
  *
  * @author goya
  * @since 2025/12/21
  */
 @Slf4j
-@RequiredArgsConstructor
 public class CustomizerRequestCache implements RequestCache {
 
-    private final MultiLevelCacheService cacheService;
-
-    // Redis Key 前缀
-    private static final String REQUEST_KEY_PREFIX = "oauth2:request:";
-
-    // 缓存名称
-    private static final String CACHE_NAME = "oauth2";
+    private static final String CACHE_NAME = "oauth2_saved_request";
+    private static final String SEALED_PREFIX = "e.";
+    private static final String REFERENCE_PREFIX = "r.";
+    private static final String RESOLVED_ATTRIBUTE = CustomizerRequestCache.class.getName() + ".RESOLVED";
 
-    // 过期时间配置（与授权码有效期一致）
-    private static final Duration REQUEST_TTL = Duration.ofSeconds(300); // 5分钟
-
-    // Request ID 参数名
-    private static final String REQUEST_ID_PARAM = "request_id";
-    private static final String STATE_PARAM = "state";
+    /**
+     * 不保存的请求头：凭证类由当前请求携带，条件请求与传输相关的头在恢复后没有意义
+     */
+    private static final Set<String> EXCLUDED_HEADERS = Set.of(
+            "cookie", "authorization", "proxy-authorization",
+            "if-modified-since", "if-none-match", "if-match", "if-unmodified-since",
+            "content-length", "transfer-encoding", "connection", "keep-alive", "upgrade");
+
+    private final SecurityAuthenticationProperties.SavedRequestConfig config;
+    private final SavedRequestSealer sealer;
+    private final @Nullable CacheService cacheService;
+
+    public CustomizerRequestCache(SecurityAuthenticationProperties.SavedRequestConfig config,
+                                  SavedRequestSealer sealer,
+                                  @Nullable CacheService cacheService) {
+        this.config = config;
+        this.sealer = sealer;
+        this.cacheService = cacheService;
+        if (config.store() == SavedRequestStoreEnum.CACHE && cacheService == null) {
+            log.warn("[Goya] |- security [oauth2] SavedRequest store is CACHE but no cache service available, fallback to COOKIE.");
+        }
+    }
 
     @Override
+    @NullMarked
     public void saveRequest(HttpServletRequest request, HttpServletResponse response) {
-        // 1. 生成或获取 Request ID
-        String requestId = getOrGenerateRequestId(request);
-
-        // 2. 提取请求信息
-        SavedRequestData requestData = extractRequestData(request);
-
-        // 3. 保存到 Redis
-        String key = REQUEST_KEY_PREFIX + requestId;
+        SavedRequestData requestData = extractRequestData(request, true);
         try {
-            String value = GoyaJson.toJson(requestData);
-            cacheService.put(CACHE_NAME, key, value, REQUEST_TTL);
-            log.debug("[Goya] |- security [authentication] SavedRequest saved: {} -> {}", key, requestData.redirectUrl());
-
-            // 4. 将 Request ID 添加到响应中（通过 Cookie 或请求参数）
-            // 由于无状态，我们通过 Cookie 传递 Request ID
-            addRequestIdToResponse(response, requestId);
+            String value = store(requestData);
+            writeCookie(response, value, config.ttl());
+            request.setAttribute(RESOLVED_ATTRIBUTE, Optional.of(requestData));
+            log.debug("[Goya] |- security [oauth2] SavedRequest saved: {}", requestData.redirectUrl());
         } catch (Exception e) {
-            log.error("[Goya] |- security [authentication] Failed to save SavedRequest: {}", key, e);
+            log.error("[Goya] |- security [oauth2] Failed to save SavedRequest: {}", requestData.redirectUrl(), e);
         }
     }
 
     @Override
-    public SavedRequest getRequest(HttpServletRequest request, HttpServletResponse response) {
-        // 1. 获取 Request ID
-        String requestId = getRequestId(request);
-        if (StringUtils.isBlank(requestId)) {
-            return null;
-        }
-
-        // 2. 从 Redis 获取 SavedRequestData
-        String key = REQUEST_KEY_PREFIX + requestId;
-        String value = cacheService.get(CACHE_NAME, key);
-
-        if (value == null) {
-            log.debug("[Goya] |- security [authentication] SavedRequest not found: {}", key);
-            return null;
-        }
-
-        // 3. 反序列化并转换为 SavedRequest
-        try {
-            SavedRequestData requestData = GoyaJson.fromJson(value, SavedRequestData.class);
-            return createSavedRequest(requestData);
-        } catch (Exception e) {
-            log.error("[Goya] |- security [authentication] Failed to deserialize SavedRequest: {}", key, e);
-            return null;
-        }
+    @NullMarked
+    public @Nullable SavedRequest getRequest(HttpServletRequest request, HttpServletResponse response) {
+        return resolve(request).orElse(null);
     }
 
     @Override
     @NullMarked
-    public HttpServletRequest getMatchingRequest(HttpServletRequest request, HttpServletResponse response) {
-        // Spring Security 标准实现：返回匹配的请求
-        // 对于无状态场景，我们直接返回原始请求
-        SavedRequest savedRequest = getRequest(request, response);
-        if (savedRequest != null) {
-            // 这里需要构建一个新的 HttpServletRequest，包含原始请求的参数
-            // 简化实现：返回原始请求（实际应该合并参数）
-            return request;
+    public @Nullable HttpServletRequest getMatchingRequest(HttpServletRequest request, HttpServletResponse response) {
+        // 绝大多数请求没有该 Cookie，直接返回，不做任何解码
+        if (readCookie(request) == null) {
+            return null;
         }
-        return null;
+        SavedRequestData savedRequest = resolve(request).orElse(null);
+        if (savedRequest == null || !savedRequest.redirectUrl().equals(buildRedirectUrl(request))) {
+            return null;
+        }
+        removeRequest(request, response);
+        log.debug("[Goya] |- security [oauth2] SavedRequest matched, replay: {}", savedRequest.redirectUrl());
+        return new SavedRequestWrapper(request, savedRequest);
     }
 
     @Override
     @NullMarked
     public void removeRequest(HttpServletRequest request, HttpServletResponse response) {
-        // 1. 获取 Request ID
-        String requestId = getRequestId(request);
-        if (StringUtils.isBlank(requestId)) {
+        String value = readCookie(request);
+        if (value == null) {
             return;
         }
-
-        // 2. 从 Redis 删除
-        String key = REQUEST_KEY_PREFIX + requestId;
-        try {
-            cacheService.delete(CACHE_NAME, key);
-            log.debug("[Goya] |- security [authentication] SavedRequest removed: {}", key);
-        } catch (Exception e) {
-            log.error("[Goya] |- security [authentication] Failed to remove SavedRequest: {}", key, e);
+        if (value.startsWith(REFERENCE_PREFIX) && cacheService != null) {
+            String id = sealer.verify(value.substring(REFERENCE_PREFIX.length()));
+            if (id != null) {
+                try {
+                    cacheService.delete(CACHE_NAME, id);
+                } catch (Exception e) {
+                    log.error("[Goya] |- security [oauth2] Failed to remove SavedRequest: {}", id, e);
+                }
+            }
         }
+        writeCookie(response, "", Duration.ZERO);
+        request.setAttribute(RESOLVED_ATTRIBUTE, Optional.empty());
+        log.debug("[Goya] |- security [oauth2] SavedRequest removed.");
     }
 
     /**
-     * 获取或生成 Request ID
-     * <p>优先使用 state 参数，如果不存在则生成 UUID</p>
-     *
-     * @param request HTTP 请求
-     * @return Request ID
+     * 按配置写入存储，返回 Cookie 值
      */
-    private String getOrGenerateRequestId(HttpServletRequest request) {
-        // 1. 尝试从 state 参数获取（OAuth2 标准参数）
-        String state = request.getParameter(STATE_PARAM);
-        if (StringUtils.isNotBlank(state)) {
-            return state;
+    private String store(SavedRequestData requestData) {
+        byte[] encoded = SavedRequestCodec.encode(requestData);
+        if (config.store() == SavedRequestStoreEnum.CACHE && cacheService != null) {
+            return storeInCache(encoded);
         }
 
-        // 2. 尝试从 request_id 参数获取
-        String requestId = request.getParameter(REQUEST_ID_PARAM);
-        if (StringUtils.isNotBlank(requestId)) {
-            return requestId;
+        String sealed = SEALED_PREFIX + sealer.seal(encoded);
+        if (sealed.length() <= config.maxCookieSize()) {
+            return sealed;
         }
-
-        // 3. 尝试从 Cookie 获取
-        Cookie[] cookies = request.getCookies();
-        if (cookies != null) {
-            for (Cookie cookie : cookies) {
-                if (REQUEST_ID_PARAM.equals(cookie.getName())) {
-                    return cookie.getValue();
-                }
-            }
+        if (cacheService != null) {
+            log.debug("[Goya] |- security [oauth2] SavedRequest cookie [{}] bytes exceeds limit, store in cache.", sealed.length());
+            return storeInCache(encoded);
         }
+        // 无缓存可用时舍弃请求头，保证参数可以恢复
+        log.warn("[Goya] |- security [oauth2] SavedRequest cookie [{}] bytes exceeds limit, headers dropped.", sealed.length());
+        SavedRequestData withoutHeaders = new SavedRequestData(requestData.redirectUrl(), requestData.method(),
+                requestData.parameterMap(), Map.of(), requestData.locales());
+        return SEALED_PREFIX + sealer.seal(SavedRequestCodec.encode(withoutHeaders));
+    }
 
-        // 4. 生成新的 UUID
-        return UUID.randomUUID().toString();
+    private String storeInCache(byte[] encoded) {
+        String id = GoyaIdUtils.fastSimpleUUID();
+        Objects.requireNonNull(cacheService).put(CACHE_NAME, id, encoded, config.ttl());
+        return REFERENCE_PREFIX + sealer.sign(id);
     }
 
     /**
-     * 获取 Request ID
-     *
-     * @param request HTTP 请求
-     * @return Request ID
+     * 解析 Cookie 中的 SavedRequest，结果在当前请求内复用
      */
-    private String getRequestId(HttpServletRequest request) {
-        // 1. 从请求参数获取
-        String requestId = request.getParameter(REQUEST_ID_PARAM);
-        if (StringUtils.isNotBlank(requestId)) {
-            return requestId;
+    @SuppressWarnings("unchecked")
+    private Optional<SavedRequestData> resolve(HttpServletRequest request) {
+        Object resolved = request.getAttribute(RESOLVED_ATTRIBUTE);
+        if (resolved instanceof Optional<?> optional) {
+            return (Optional<SavedRequestData>) optional;
         }
 
-        // 2. 从 Cookie 获取
-        Cookie[] cookies = request.getCookies();
-        if (cookies != null) {
-            for (Cookie cookie : cookies) {
-                if (REQUEST_ID_PARAM.equals(cookie.getName())) {
-                    return cookie.getValue();
+        Optional<SavedRequestData> result = Optional.ofNullable(load(readCookie(request)));
+        request.setAttribute(RESOLVED_ATTRIBUTE, result);
+        return result;
+    }
+
+    private @Nullable SavedRequestData load(@Nullable String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            byte[] encoded = null;
+            if (value.startsWith(SEALED_PREFIX)) {
+                encoded = sealer.open(value.substring(SEALED_PREFIX.length()));
+            } else if (value.startsWith(REFERENCE_PREFIX) && cacheService != null) {
+                String id = sealer.verify(value.substring(REFERENCE_PREFIX.length()));
+                if (id != null) {
+                    encoded = cacheService.get(CACHE_NAME, id, byte[].class);
                 }
             }
+            if (encoded == null) {
+                log.debug("[Goya] |- security [oauth2] SavedRequest cookie invalid or expired.");
+                return null;
+            }
+            return SavedRequestCodec.decode(encoded);
+        } catch (Exception e) {
+            log.warn("[Goya] |- security [oauth2] Failed to restore SavedRequest.", e);
+            return null;
         }
-
-        return null;
-    }
-
-    /**
-     * 将 Request ID 添加到响应中
-     *
-     * @param response HTTP 响应
-     * @param requestId Request ID
-     */
-    private void addRequestIdToResponse(HttpServletResponse response, String requestId) {
-        // 通过 Cookie 传递 Request ID（无状态兼容）
-        Cookie cookie = new Cookie(REQUEST_ID_PARAM, requestId);
-        cookie.setPath("/");
-        cookie.setHttpOnly(true);
-        cookie.setMaxAge((int) REQUEST_TTL.getSeconds());
-        // 注意：生产环境应该设置 SameSite 和 Secure 属性
-        response.addCookie(cookie);
     }
 
-    /**
-     * 提取请求数据
-     *
-     * @param request HTTP 请求
-     * @return SavedRequestData
-     */
-    private SavedRequestData extractRequestData(HttpServletRequest request) {
-        // 1. 构建完整的请求 URL（包含查询参数）
-        String redirectUrl = buildRedirectUrl(request);
-
-        // 2. 提取请求参数
-        Map<String, String[]> parameterMap = new HashMap<>(request.getParameterMap());
-
-        // 3. 提取请求头
-        Map<String, List<String>> headers = new HashMap<>();
-        Enumeration<String> headerNames = request.getHeaderNames();
-        while (headerNames.hasMoreElements()) {
-            String headerName = headerNames.nextElement();
-            List<String> headerValues = Collections.list(request.getHeaders(headerName));
-            headers.put(headerName, headerValues);
+    private @Nullable String readCookie(HttpServletRequest request) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) {
+            return null;
         }
-
-        // 4. 提取 Cookies
-        List<String> cookies = new ArrayList<>();
-        Cookie[] requestCookies = request.getCookies();
-        if (requestCookies != null) {
-            for (Cookie cookie : requestCookies) {
-                cookies.add(cookie.getName() + "=" + cookie.getValue());
+        for (Cookie cookie : cookies) {
+            if (config.cookieName().equals(cookie.getName()) && StringUtils.isNotBlank(cookie.getValue())) {
+                return cookie.getValue();
             }
         }
+        return null;
+    }
 
-        // 5. 提取 Locale 列表（从 Accept-Language 请求头）
-        List<Locale> locales = extractLocales(request);
-
-        return new SavedRequestData(
-                redirectUrl,
-                request.getMethod(),
-                parameterMap,
-                headers,
-                cookies,
-                locales
-        );
+    private void writeCookie(HttpServletResponse response, String value, Duration maxAge) {
+        ResponseCookie cookie = ResponseCookie.from(config.cookieName(), value)
+                .path("/")
+                .httpOnly(true)
+                .secure(Boolean.TRUE.equals(config.cookieSecure()))
+                .sameSite(config.cookieSameSite())
+                .maxAge(maxAge)
+                .build();
+        response.addHeader(HttpHeaders.SET_COOKIE, cookie.toString());
     }
 
     /**
-     * 提取请求的 Locale 列表
-     * <p>从 Accept-Language 请求头解析，支持多个 Locale 的优先级排序</p>
+     * 提取请求数据
      *
-     * @param request HTTP 请求
-     * @return Locale 列表，按优先级排序
+     * @param request        HTTP 请求
+     * @param includeHeaders 是否包含请求头
+     * @return SavedRequestData
      */
-    private List<Locale> extractLocales(HttpServletRequest request) {
-        List<Locale> locales = new ArrayList<>();
-
-        // 1. 尝试从 Accept-Language 请求头解析
-        String acceptLanguage = request.getHeader("Accept-Language");
-        if (StringUtils.isNotBlank(acceptLanguage)) {
-            try {
-                // 解析 Accept-Language 头（格式：zh-CN,zh;q=0.9,en;q=0.8）
-                String[] languageRanges = acceptLanguage.split(",");
-                for (String range : languageRanges) {
-                    // 移除质量值（q=0.9）
-                    String localeStr = range.split(";")[0].trim();
-                    if (StringUtils.isNotBlank(localeStr)) {
-                        try {
-                            Locale locale = Locale.forLanguageTag(localeStr);
-                            if (locale != null && !locale.getLanguage().isEmpty()) {
-                                locales.add(locale);
-                            }
-                        } catch (Exception e) {
-                            log.debug("[Goya] |- security [authentication] Failed to parse locale: {}", localeStr);
-                        }
-                    }
+    private SavedRequestData extractRequestData(HttpServletRequest request, boolean includeHeaders) {
+        Map<String, String[]> parameterMap = new LinkedHashMap<>(request.getParameterMap());
+
+        Map<String, List<String>> headers = new LinkedHashMap<>();
+        if (includeHeaders) {
+            Enumeration<String> headerNames = request.getHeaderNames();
+            while (headerNames.hasMoreElements()) {
+                String headerName = headerNames.nextElement().toLowerCase(Locale.ROOT);
+                if (!EXCLUDED_HEADERS.contains(headerName)) {
+                    headers.put(headerName, Collections.list(request.getHeaders(headerName)));
                 }
-            } catch (Exception e) {
-                log.debug("[Goya] |- security [authentication] Failed to parse Accept-Language header: {}", acceptLanguage);
             }
         }
 
-        // 2. 如果没有从 Accept-Language 解析到，使用请求的默认 Locale
-        if (locales.isEmpty()) {
-            Locale requestLocale = request.getLocale();
-            if (requestLocale != null) {
-                locales.add(requestLocale);
-            }
-        }
+        // 容器已按 Accept-Language 的质量值排序，没有该请求头时返回默认 Locale
+        List<Locale> locales = Collections.list(request.getLocales());
 
-        // 3. 如果仍然为空，添加系统默认 Locale
-        if (locales.isEmpty()) {
-            locales.add(Locale.getDefault());
-        }
-
-        return locales;
+        return new SavedRequestData(buildRedirectUrl(request), request.getMethod(), parameterMap, headers, locales);
     }
 
     /**
@@ -330,65 +260,4 @@ public class CustomizerRequestCache implements RequestCache {
         }
         return requestURL.toString();
     }
-
-    /**
-     * 创建 SavedRequest 对象
-     *
-     * @param requestData SavedRequestData
-     * @return SavedRequest
-     */
-    private SavedRequest createSavedRequest(SavedRequestData requestData) {
-        return new SavedRequest() {
-            @Override
-            public List<Cookie> getCookies() {
-                List<Cookie> cookies = new ArrayList<>();
-                if (requestData.cookies() != null) {
-                    for (String cookieStr : requestData.cookies()) {
-                        String[] parts = cookieStr.split("=", 2);
-                        if (parts.length == 2) {
-                            Cookie cookie = new Cookie(parts[0], parts[1]);
-                            cookies.add(cookie);
-                        }
-                    }
-                }
-                return cookies;
-            }
-
-            @Override
-            public String getRedirectUrl() {
-                return requestData.redirectUrl();
-            }
-
-            @Override
-            public List<String> getHeaderValues(String name) {
-                return requestData.headers().getOrDefault(name, Collections.emptyList());
-            }
-
-            @Override
-            public Collection<String> getHeaderNames() {
-                return requestData.headers().keySet();
-            }
-
-            @Override
-            public List<Locale> getLocales() {
-                return requestData.locales() != null ? requestData.locales() : List.of();
-            }
-
-            @Override
-            public String[] getParameterValues(String name) {
-                return requestData.parameterMap().get(name);
-            }
-
-            @Override
-            public Map<String, String[]> getParameterMap() {
-                return requestData.parameterMap();
-            }
-
-            @Override
-            public String getMethod() {
-                return requestData.method();
-            }
-        };
-    }
 }
-
@@ -0,0 +1,176 @@
+package com.ysmjjsy.goya.component.security.oauth2.request;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * <p>SavedRequest 二进制编解码</p>
+ * <p>
+ * 格式：version(1) + method + redirectUrl + 参数 + 请求头 + 语言标签，字符串为 int 长度前缀 + UTF-8 字节
+ * （不使用 writeUTF，避免超过 64KB 的参数值编码失败），整体 raw deflate 压缩。相比 JSON 没有字段名与转义开销，适合放入 Cookie。
+ *
+ * @author goya
+ * @since 2026/2/6 14:20
+ */
+public final class SavedRequestCodec {
+
+    private static final byte VERSION = 2;
+
+    /**
+     * 解压后允许的最大长度，防止构造的压缩数据耗尽内存
+     */
+    private static final int MAX_INFLATED_SIZE = 256 * 1024;
+
+    private SavedRequestCodec() {
+    }
+
+    /**
+     * 编码
+     *
+     * @param data SavedRequestData
+     * @return 压缩后的字节
+     */
+    public static byte[] encode(SavedRequestData data) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(512);
+        try (DataOutputStream out = new DataOutputStream(buffer)) {
+            out.writeByte(VERSION);
+            writeString(out, data.method());
+            writeString(out, data.redirectUrl());
+
+            out.writeShort(data.parameterMap().size());
+            for (Map.Entry<String, String[]> entry : data.parameterMap().entrySet()) {
+                writeString(out, entry.getKey());
+                writeValues(out, Arrays.asList(entry.getValue()));
+            }
+
+            out.writeShort(data.headers().size());
+            for (Map.Entry<String, List<String>> entry : data.headers().entrySet()) {
+                writeString(out, entry.getKey());
+                writeValues(out, entry.getValue());
+            }
+
+            out.writeShort(data.locales().size());
+            for (Locale locale : data.locales()) {
+                writeString(out, locale.toLanguageTag());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return deflate(buffer.toByteArray());
+    }
+
+    /**
+     * 解码
+     *
+     * @param bytes 压缩后的字节
+     * @return SavedRequestData
+     * @throws IllegalArgumentException 数据损坏或版本不支持
+     */
+    public static SavedRequestData decode(byte[] bytes) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(inflate(bytes)))) {
+            byte version = in.readByte();
+            if (version != VERSION) {
+                throw new IllegalArgumentException("Unsupported saved request version: " + version);
+            }
+            String method = readString(in);
+            String redirectUrl = readString(in);
+
+            int parameterCount = in.readUnsignedShort();
+            Map<String, String[]> parameters = LinkedHashMap.newLinkedHashMap(parameterCount);
+            for (int i = 0; i < parameterCount; i++) {
+                String name = readString(in);
+                parameters.put(name, readValues(in).toArray(String[]::new));
+            }
+
+            int headerCount = in.readUnsignedShort();
+            Map<String, List<String>> headers = LinkedHashMap.newLinkedHashMap(headerCount);
+            for (int i = 0; i < headerCount; i++) {
+                String name = readString(in);
+                headers.put(name, readValues(in));
+            }
+
+            int localeCount = in.readUnsignedShort();
+            List<Locale> locales = new ArrayList<>(localeCount);
+            for (int i = 0; i < localeCount; i++) {
+                locales.add(Locale.forLanguageTag(readString(in)));
+            }
+            return new SavedRequestData(redirectUrl, method, parameters, headers, locales);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Malformed saved request", e);
+        }
+    }
+
+    private static void writeValues(DataOutputStream out, List<String> values) throws IOException {
+        out.writeShort(values.size());
+        for (String value : values) {
+            writeString(out, value == null ? "" : value);
+        }
+    }
+
+    private static List<String> readValues(DataInputStream in) throws IOException {
+        int count = in.readUnsignedShort();
+        List<String> values = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            values.add(readString(in));
+        }
+        return List.copyOf(values);
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 0 || length > in.available()) {
+            throw new IllegalArgumentException("Malformed saved request string length: " + length);
+        }
+        return new String(in.readNBytes(length), StandardCharsets.UTF_8);
+    }
+
+    private static byte[] deflate(byte[] raw) {
+        Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+        try {
+            deflater.setInput(raw);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(raw.length / 2 + 16);
+            byte[] chunk = new byte[512];
+            while (!deflater.finished()) {
+                out.write(chunk, 0, deflater.deflate(chunk));
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static byte[] inflate(byte[] compressed) {
+        Inflater inflater = new Inflater(true);
+        try {
+            inflater.setInput(compressed);
+            ByteArrayOutputStream out = new ByteArrayOutputStream(compressed.length * 3);
+            byte[] chunk = new byte[1024];
+            while (!inflater.finished()) {
+                int n = inflater.inflate(chunk);
+                if (n == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new IllegalArgumentException("Truncated saved request");
+                }
+                out.write(chunk, 0, n);
+                if (out.size() > MAX_INFLATED_SIZE) {
+                    throw new IllegalArgumentException("Saved request exceeds " + MAX_INFLATED_SIZE + " bytes");
+                }
+            }
+            return out.toByteArray();
+        } catch (DataFormatException e) {
+            throw new IllegalArgumentException("Malformed saved request", e);
+        } finally {
+            inflater.end();
+        }
+    }
+}
@@ -1,49 +1,78 @@
 package com.ysmjjsy.goya.component.security.oauth2.request;
 
-import java.io.Serializable;
-import java.util.List;
-import java.util.Locale;
-import java.util.Map;
+import jakarta.servlet.http.Cookie;
+import org.springframework.security.web.savedrequest.SavedRequest;
+
+import java.io.Serial;
+import java.util.*;
 
 /**
- * <p>SavedRequest 数据传输对象</p>
- * <p>用于序列化 SavedRequest 的关键信息到 Redis</p>
- * <p>提取自 HttpServletRequest 的不可序列化对象</p>
+ * <p>SavedRequest 数据</p>
+ * <p>提取自 HttpServletRequest 的可序列化信息，由 {@link SavedRequestCodec} 编码为紧凑二进制</p>
+ * <p>Cookie 不保存：恢复时浏览器会重新携带，保存反而会把会话类 Cookie 写入另一个 Cookie 或缓存</p>
  *
+ * @param redirectUrl  请求 URL（完整路径，包含查询参数）
+ * @param method       HTTP 方法
+ * @param parameterMap 请求参数
+ * @param headers      请求头（名称小写）
+ * @param locales      语言环境列表
  * @author goya
  * @since 2025/12/21
  */
 public record SavedRequestData(
-        /*
-          请求 URL（完整路径，包含查询参数）
-         */
         String redirectUrl,
-
-        /*
-          HTTP 方法
-         */
         String method,
-
-        /*
-          请求参数（Map<String, String[]>）
-         */
         Map<String, String[]> parameterMap,
-
-        /*
-          请求头（Map<String, List<String>>）
-         */
         Map<String, List<String>> headers,
+        List<Locale> locales
+) implements SavedRequest {
 
-        /*
-          Cookies（List<String>，格式：name=value）
-         */
-        List<String> cookies,
+    @Serial
+    private static final long serialVersionUID = -7381641360412519352L;
 
-        /*
-          语言环境列表（List<Locale>）
-          从 Accept-Language 请求头提取，用于国际化支持
-         */
-        List<Locale> locales
-) implements Serializable {
-}
+    public SavedRequestData {
+        parameterMap = parameterMap == null ? Map.of() : Collections.unmodifiableMap(parameterMap);
+        headers = headers == null ? Map.of() : Collections.unmodifiableMap(headers);
+        locales = locales == null ? List.of() : List.copyOf(locales);
+    }
+
+    @Override
+    public String getRedirectUrl() {
+        return redirectUrl;
+    }
 
+    @Override
+    public List<Cookie> getCookies() {
+        return List.of();
+    }
+
+    @Override
+    public String getMethod() {
+        return method;
+    }
+
+    @Override
+    public List<String> getHeaderValues(String name) {
+        return headers.getOrDefault(name.toLowerCase(Locale.ROOT), List.of());
+    }
+
+    @Override
+    public Collection<String> getHeaderNames() {
+        return headers.keySet();
+    }
+
+    @Override
+    public List<Locale> getLocales() {
+        return locales;
+    }
+
+    @Override
+    public String[] getParameterValues(String name) {
+        return parameterMap.get(name);
+    }
+
+    @Override
+    public Map<String, String[]> getParameterMap() {
+        return parameterMap;
+    }
+}
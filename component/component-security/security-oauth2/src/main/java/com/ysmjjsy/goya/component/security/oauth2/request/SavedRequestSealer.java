@@ -0,0 +1,181 @@
+package com.ysmjjsy.goya.component.security.oauth2.request;
+
+import com.ysmjjsy.goya.component.framework.cache.support.secret.SecretProvider;
+
+import javax.crypto.Cipher;
+import javax.crypto.Mac;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * <p>SavedRequest 封装</p>
+ * <p>
+ * COOKIE 模式使用 AES-256-GCM 加密并认证：{@code base64url(version | kidLen | kid | issuedAt | iv | ciphertext+tag)}，
+ * 头部整体作为 AAD，篡改、换钥或过期都会导致解封失败。
+ * CACHE 模式对随机引用做 HMAC-SHA256：{@code id.kid.issuedAt.sig}，验签通过才会访问缓存。
+ * 加密与签名密钥由 {@link SecretProvider} 的同一密钥按用途派生，支持按 kid 轮换。
+ *
+ * @author goya
+ * @since 2026/2/6 14:40
+ */
+public class SavedRequestSealer {
+
+    private static final byte VERSION = 1;
+    private static final int IV_LENGTH = 12;
+    private static final int TAG_BITS = 128;
+    private static final String CIPHER = "AES/GCM/NoPadding";
+    private static final String HMAC = "HmacSHA256";
+    private static final byte[] ENC_INFO = "goya:saved-request:enc".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] SIG_INFO = "goya:saved-request:sig".getBytes(StandardCharsets.UTF_8);
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final SecretProvider secretProvider;
+    private final Duration ttl;
+    private final SecureRandom random = new SecureRandom();
+    private final Map<String, DerivedKeys> keys = new ConcurrentHashMap<>();
+
+    public SavedRequestSealer(SecretProvider secretProvider, Duration ttl) {
+        this.secretProvider = secretProvider;
+        this.ttl = ttl;
+    }
+
+    /**
+     * 加密封装
+     *
+     * @param payload 明文
+     * @return Cookie 安全的字符串
+     */
+    public String seal(byte[] payload) {
+        String kid = secretProvider.currentKeyId();
+        byte[] kidBytes = kid.getBytes(StandardCharsets.UTF_8);
+        byte[] iv = new byte[IV_LENGTH];
+        random.nextBytes(iv);
+
+        ByteBuffer header = ByteBuffer.allocate(2 + kidBytes.length + Long.BYTES + IV_LENGTH);
+        header.put(VERSION).put((byte) kidBytes.length).put(kidBytes).putLong(System.currentTimeMillis()).put(iv);
+        byte[] aad = header.array();
+
+        try {
+            Cipher cipher = Cipher.getInstance(CIPHER);
+            cipher.init(Cipher.ENCRYPT_MODE, keys(kid).encryption(), new GCMParameterSpec(TAG_BITS, iv));
+            cipher.updateAAD(aad);
+            byte[] sealed = cipher.doFinal(payload);
+            return ENCODER.encodeToString(ByteBuffer.allocate(aad.length + sealed.length).put(aad).put(sealed).array());
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Failed to seal saved request", e);
+        }
+    }
+
+    /**
+     * 解密并校验
+     *
+     * @param token {@link #seal} 的结果
+     * @return 明文，无效或过期返回 null
+     */
+    public byte[] open(String token) {
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(DECODER.decode(token));
+            if (buffer.get() != VERSION) {
+                return null;
+            }
+            byte[] kidBytes = new byte[buffer.get() & 0xFF];
+            buffer.get(kidBytes);
+            long issuedAt = buffer.getLong();
+            if (expired(issuedAt)) {
+                return null;
+            }
+            byte[] iv = new byte[IV_LENGTH];
+            buffer.get(iv);
+            int headerLength = buffer.position();
+
+            Cipher cipher = Cipher.getInstance(CIPHER);
+            cipher.init(Cipher.DECRYPT_MODE, keys(new String(kidBytes, StandardCharsets.UTF_8)).encryption(),
+                    new GCMParameterSpec(TAG_BITS, iv));
+            cipher.updateAAD(buffer.array(), 0, headerLength);
+            return cipher.doFinal(buffer.array(), headerLength, buffer.remaining());
+        } catch (GeneralSecurityException | RuntimeException _) {
+            return null;
+        }
+    }
+
+    /**
+     * 为缓存引用签名
+     *
+     * @param id 随机引用
+     * @return 带签名的引用
+     */
+    public String sign(String id) {
+        String kid = secretProvider.currentKeyId();
+        String content = id + "." + kid + "." + System.currentTimeMillis();
+        return content + "." + ENCODER.encodeToString(hmac(keys(kid).signing(), content));
+    }
+
+    /**
+     * 校验缓存引用
+     *
+     * @param reference {@link #sign} 的结果
+     * @return 随机引用，签名无效或过期返回 null
+     */
+    public String verify(String reference) {
+        int sigIndex = reference.lastIndexOf('.');
+        int tsIndex = sigIndex > 0 ? reference.lastIndexOf('.', sigIndex - 1) : -1;
+        int kidIndex = tsIndex > 0 ? reference.lastIndexOf('.', tsIndex - 1) : -1;
+        if (kidIndex <= 0) {
+            return null;
+        }
+        try {
+            String content = reference.substring(0, sigIndex);
+            String kid = reference.substring(kidIndex + 1, tsIndex);
+            byte[] expected = hmac(keys(kid).signing(), content);
+            byte[] actual = DECODER.decode(reference.substring(sigIndex + 1));
+            if (!MessageDigest.isEqual(expected, actual)
+                    || expired(Long.parseLong(reference.substring(tsIndex + 1, sigIndex)))) {
+                return null;
+            }
+            return reference.substring(0, kidIndex);
+        } catch (RuntimeException _) {
+            return null;
+        }
+    }
+
+    private boolean expired(long issuedAt) {
+        return System.currentTimeMillis() - issuedAt > ttl.toMillis();
+    }
+
+    private DerivedKeys keys(String kid) {
+        return keys.computeIfAbsent(kid, id -> {
+            byte[] secret = secretProvider.secretFor(id);
+            return new DerivedKeys(
+                    new SecretKeySpec(hmac(new SecretKeySpec(secret, HMAC), ENC_INFO), "AES"),
+                    new SecretKeySpec(hmac(new SecretKeySpec(secret, HMAC), SIG_INFO), HMAC));
+        });
+    }
+
+    private static byte[] hmac(SecretKeySpec key, String content) {
+        return hmac(key, content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static byte[] hmac(SecretKeySpec key, byte[] content) {
+        try {
+            Mac mac = Mac.getInstance(HMAC);
+            mac.init(key);
+            return mac.doFinal(content);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HMAC failure", e);
+        }
+    }
+
+    private record DerivedKeys(SecretKeySpec encryption, SecretKeySpec signing) {
+    }
+}
@@ -0,0 +1,133 @@
+package com.ysmjjsy.goya.component.security.oauth2.request;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import org.springframework.security.web.savedrequest.SavedRequest;
+
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.*;
+
+/**
+ * <p>恢复 SavedRequest 的请求包装</p>
+ * <p>
+ * 方法、请求头、语言取自保存的请求；参数为当前请求参数与保存参数的合并（当前请求优先，保存值去重追加），
+ * 与 Spring Security 内置 SavedRequestAwareWrapper 的语义一致。Cookie 仍使用当前请求携带的值。
+ *
+ * @author goya
+ * @since 2026/2/6 15:05
+ */
+public class SavedRequestWrapper extends HttpServletRequestWrapper {
+
+    private static final String DATE_PATTERN = "EEE, dd MMM yyyy HH:mm:ss zzz";
+
+    private final SavedRequest savedRequest;
+
+    public SavedRequestWrapper(HttpServletRequest request, SavedRequest savedRequest) {
+        super(request);
+        this.savedRequest = savedRequest;
+    }
+
+    @Override
+    public String getMethod() {
+        return savedRequest.getMethod();
+    }
+
+    @Override
+    public String getHeader(String name) {
+        List<String> values = savedRequest.getHeaderValues(name);
+        return values.isEmpty() ? null : values.getFirst();
+    }
+
+    @Override
+    public Enumeration<String> getHeaders(String name) {
+        return Collections.enumeration(savedRequest.getHeaderValues(name));
+    }
+
+    @Override
+    public Enumeration<String> getHeaderNames() {
+        return Collections.enumeration(savedRequest.getHeaderNames());
+    }
+
+    @Override
+    public long getDateHeader(String name) {
+        String value = getHeader(name);
+        if (value == null) {
+            return -1L;
+        }
+        try {
+            return new SimpleDateFormat(DATE_PATTERN, Locale.US).parse(value).getTime();
+        } catch (ParseException e) {
+            throw new IllegalArgumentException(value, e);
+        }
+    }
+
+    @Override
+    public int getIntHeader(String name) {
+        String value = getHeader(name);
+        return value == null ? -1 : Integer.parseInt(value);
+    }
+
+    @Override
+    public Locale getLocale() {
+        List<Locale> locales = savedRequest.getLocales();
+        return locales.isEmpty() ? Locale.getDefault() : locales.getFirst();
+    }
+
+    @Override
+    public Enumeration<Locale> getLocales() {
+        List<Locale> locales = savedRequest.getLocales();
+        return Collections.enumeration(locales.isEmpty() ? List.of(Locale.getDefault()) : locales);
+    }
+
+    @Override
+    public String getParameter(String name) {
+        String value = super.getParameter(name);
+        if (value != null) {
+            return value;
+        }
+        String[] saved = savedRequest.getParameterValues(name);
+        return saved == null || saved.length == 0 ? null : saved[0];
+    }
+
+    @Override
+    public Map<String, String[]> getParameterMap() {
+        Set<String> names = getCombinedParameterNames();
+        Map<String, String[]> parameterMap = LinkedHashMap.newLinkedHashMap(names.size());
+        for (String name : names) {
+            parameterMap.put(name, getParameterValues(name));
+        }
+        return Collections.unmodifiableMap(parameterMap);
+    }
+
+    @Override
+    public Enumeration<String> getParameterNames() {
+        return Collections.enumeration(getCombinedParameterNames());
+    }
+
+    @Override
+    public String[] getParameterValues(String name) {
+        String[] saved = savedRequest.getParameterValues(name);
+        String[] current = super.getParameterValues(name);
+        if (saved == null) {
+            return current;
+        }
+        if (current == null) {
+            return saved;
+        }
+        List<String> currentValues = Arrays.asList(current);
+        List<String> combined = new ArrayList<>(currentValues);
+        for (String value : saved) {
+            if (!currentValues.contains(value)) {
+                combined.add(value);
+            }
+        }
+        return combined.toArray(String[]::new);
+    }
+
+    private Set<String> getCombinedParameterNames() {
+        Set<String> names = new LinkedHashSet<>(super.getParameterMap().keySet());
+        names.addAll(savedRequest.getParameterMap().keySet());
+        return names;
+    }
+}
@@ -1,39 +1,333 @@
 package com.ysmjjsy.goya.component.security.oauth2.service.adapter;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ysmjjsy.goya.component.framework.common.utils.GoyaHashUtils;
+import com.ysmjjsy.goya.component.security.authentication.configuration.properties.SecurityAuthenticationProperties;
+import com.ysmjjsy.goya.component.security.core.cache.SecurityCacheEvictEvent;
 import com.ysmjjsy.goya.component.security.oauth2.service.IOAuth2AuthorizationService;
-import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.jspecify.annotations.Nullable;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.security.oauth2.core.OAuth2AccessToken;
+import org.springframework.security.oauth2.core.OAuth2DeviceCode;
+import org.springframework.security.oauth2.core.OAuth2RefreshToken;
+import org.springframework.security.oauth2.core.OAuth2Token;
+import org.springframework.security.oauth2.core.OAuth2UserCode;
+import org.springframework.security.oauth2.core.endpoint.OAuth2ParameterNames;
+import org.springframework.security.oauth2.core.oidc.OidcIdToken;
+import org.springframework.security.oauth2.core.oidc.endpoint.OidcParameterNames;
 import org.springframework.security.oauth2.server.authorization.OAuth2Authorization;
+import org.springframework.security.oauth2.server.authorization.OAuth2AuthorizationCode;
 import org.springframework.security.oauth2.server.authorization.OAuth2AuthorizationService;
 import org.springframework.security.oauth2.server.authorization.OAuth2TokenType;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
 /**
  * <p>OAuth2AuthorizationService 适配器</p>
+ * <p>
+ * 在 {@link IOAuth2AuthorizationService} 之前加一层本地缓存：
+ * <ul>
+ *   <li>按 id 缓存授权，并以令牌值的 SHA-256 建立令牌到授权 id 的索引，按 access_token / id_token 查询命中索引时不访问存储；
+ *   索引只是线索，命中后仍校验授权当前确实持有该令牌，因此轮换、吊销后的旧令牌不会被误认</li>
+ *   <li>授权码、刷新令牌、state、设备码、用户码以及未指定类型的查询是一次性凭证的消费入口，
+ *   不使用本地缓存，始终回查存储（仅本节点尚未写入的延迟版本除外），防止其他节点已消费的凭证在本节点被重放</li>
+ *   <li>更新或删除已有授权后发布 {@link SecurityCacheEvictEvent}，其他节点随即失效该授权的本地缓存</li>
+ *   <li>开启延迟写入后，对已有授权的纯追加更新（只新增令牌，不替换、不吊销已有令牌）先写本地缓存，
+ *   由后台线程按授权合并后批量写入存储；新授权、吊销与令牌替换始终同步写入，删除同步执行并丢弃待写入版本</li>
+ * </ul>
+ * 未配置跨节点广播时，其他节点的吊销在本地缓存过期后可见，过期时间应保持较短；延迟写入期间其他节点读不到最新状态，
+ * 多实例部署时仅在令牌请求会路由到签发节点时开启。
  *
  * @author goya
  * @since 2026/1/5
  */
-@RequiredArgsConstructor
-public class OAuth2AuthorizationServiceAdapter implements OAuth2AuthorizationService {
+@Slf4j
+public class OAuth2AuthorizationServiceAdapter implements OAuth2AuthorizationService, DisposableBean {
+
+    private static final OAuth2TokenType STATE_TOKEN_TYPE = new OAuth2TokenType(OAuth2ParameterNames.STATE);
+
+    /**
+     * 令牌类型 -> 令牌类，findByToken 按类型校验时使用
+     */
+    private static final Map<String, Class<? extends OAuth2Token>> TOKEN_CLASSES = Map.of(
+            OAuth2ParameterNames.CODE, OAuth2AuthorizationCode.class,
+            OAuth2TokenType.ACCESS_TOKEN.getValue(), OAuth2AccessToken.class,
+            OAuth2TokenType.REFRESH_TOKEN.getValue(), OAuth2RefreshToken.class,
+            OidcParameterNames.ID_TOKEN, OidcIdToken.class,
+            OAuth2ParameterNames.DEVICE_CODE, OAuth2DeviceCode.class,
+            OAuth2ParameterNames.USER_CODE, OAuth2UserCode.class
+    );
+
+    public static final String CACHE_NAME = "oauth2Authorization";
+
+    private static final int LOCK_STRIPES = 64;
 
     private final IOAuth2AuthorizationService authorizationService;
+    private final Cache<String, OAuth2Authorization> authorizations;
+    private final Cache<String, String> tokenIndex;
+    private final Map<String, OAuth2Authorization> pending = new ConcurrentHashMap<>();
+    private final ReentrantLock[] locks = new ReentrantLock[LOCK_STRIPES];
+    private final int pendingCapacity;
+    private final ApplicationEventPublisher eventPublisher;
+    private final @Nullable ScheduledExecutorService executor;
+
+    public OAuth2AuthorizationServiceAdapter(IOAuth2AuthorizationService authorizationService,
+                                             SecurityAuthenticationProperties.AuthorizationStoreConfig config,
+                                             ApplicationEventPublisher eventPublisher) {
+        this.authorizationService = authorizationService;
+        this.eventPublisher = eventPublisher;
+        this.authorizations = Caffeine.newBuilder()
+                .maximumSize(config.authorizationCacheSize())
+                .expireAfterWrite(config.authorizationCacheTtl())
+                .build();
+        this.tokenIndex = Caffeine.newBuilder()
+                .maximumSize(config.authorizationCacheSize() * 4L)
+                .expireAfterWrite(config.authorizationCacheTtl())
+                .build();
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            locks[i] = new ReentrantLock();
+        }
+        this.pendingCapacity = config.pendingCapacity();
+        if (Boolean.TRUE.equals(config.writeBehind())) {
+            this.executor = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform()
+                    .name("goya-authorization-writer")
+                    .daemon(true)
+                    .factory());
+            long interval = config.flushInterval().toMillis();
+            this.executor.scheduleWithFixedDelay(this::flushQuietly, interval, interval, TimeUnit.MILLISECONDS);
+        } else {
+            this.executor = null;
+        }
+    }
 
     @Override
     public void save(OAuth2Authorization authorization) {
-        authorizationService.save(authorization);
+        OAuth2Authorization current = current(authorization.getId());
+        if (executor != null && current != null && pending.size() < pendingCapacity && isAppendOnly(current, authorization)) {
+            pending.put(authorization.getId(), authorization);
+            cache(authorization);
+            return;
+        }
+        write(authorization);
+        cache(authorization);
+        if (current != null) {
+            // 更新已有授权（令牌轮换、吊销、授权码消费），其他节点缓存的旧版本需立即失效
+            eventPublisher.publishEvent(SecurityCacheEvictEvent.local(CACHE_NAME, List.of(authorization.getId())));
+        }
     }
 
     @Override
     public void remove(OAuth2Authorization authorization) {
-        authorizationService.remove(authorization);
+        ReentrantLock lock = lock(authorization.getId());
+        lock.lock();
+        try {
+            pending.remove(authorization.getId());
+            authorizationService.remove(authorization);
+        } finally {
+            lock.unlock();
+            authorizations.invalidate(authorization.getId());
+            tokenIndex.invalidateAll(tokenHashes(authorization));
+            eventPublisher.publishEvent(SecurityCacheEvictEvent.local(CACHE_NAME, List.of(authorization.getId())));
+        }
+    }
+
+    /**
+     * 其他节点更新或删除授权后失效本地缓存；令牌索引只是线索，找不到授权时自然回查存储
+     *
+     * @param event 缓存失效事件
+     */
+    @EventListener
+    public void onCacheEvict(SecurityCacheEvictEvent event) {
+        if (event.remote() && event.matches(CACHE_NAME)) {
+            authorizations.invalidateAll(event.keys());
+        }
     }
 
     @Override
-    public OAuth2Authorization findById(String id) {
-        return authorizationService.findById(id);
+    public @Nullable OAuth2Authorization findById(String id) {
+        OAuth2Authorization authorization = current(id);
+        if (authorization == null) {
+            authorization = authorizationService.findById(id);
+            if (authorization != null) {
+                cache(authorization);
+            }
+        }
+        return authorization;
     }
 
     @Override
-    public OAuth2Authorization findByToken(String token, OAuth2TokenType tokenType) {
-        return authorizationService.findByToken(token, tokenType);
+    public @Nullable OAuth2Authorization findByToken(String token, @Nullable OAuth2TokenType tokenType) {
+        String id = tokenIndex.getIfPresent(GoyaHashUtils.sha256Base64Url(token));
+        if (id != null) {
+            // 一次性凭证只信任本节点尚未写入的版本，不信任可能已被其他节点消费的缓存
+            OAuth2Authorization authorization = isReusable(tokenType) ? current(id) : pending.get(id);
+            if (authorization != null) {
+                if (hasToken(authorization, token, tokenType)) {
+                    return authorization;
+                }
+                // 令牌已不属于该授权（已轮换或移除），待写入期间存储中仍是旧版本，不能回查存储
+                if (pending.containsKey(id)) {
+                    return null;
+                }
+            }
+        }
+
+        OAuth2Authorization authorization = authorizationService.findByToken(token, tokenType);
+        if (authorization == null) {
+            return null;
+        }
+        OAuth2Authorization newer = pending.get(authorization.getId());
+        if (newer != null) {
+            return hasToken(newer, token, tokenType) ? newer : null;
+        }
+        cache(authorization);
+        return authorization;
+    }
+
+    /**
+     * 立即写入全部待写入授权
+     */
+    public void flush() {
+        for (String id : new ArrayList<>(pending.keySet())) {
+            ReentrantLock lock = lock(id);
+            lock.lock();
+            try {
+                OAuth2Authorization authorization = pending.get(id);
+                if (authorization != null) {
+                    authorizationService.save(authorization);
+                    pending.remove(id, authorization);
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    @Override
+    public void destroy() {
+        if (executor != null) {
+            executor.shutdown();
+            try {
+                executor.awaitTermination(5, TimeUnit.SECONDS);
+            } catch (InterruptedException _) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        flushQuietly();
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            log.warn("[Goya] |- security [oauth2] Flush pending authorizations failed, [{}] will be retried.", pending.size(), e);
+        }
+    }
+
+    /**
+     * 同步写入，并丢弃同一授权的待写入版本
+     */
+    private void write(OAuth2Authorization authorization) {
+        ReentrantLock lock = lock(authorization.getId());
+        lock.lock();
+        try {
+            pending.remove(authorization.getId());
+            authorizationService.save(authorization);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private @Nullable OAuth2Authorization current(String id) {
+        OAuth2Authorization authorization = pending.get(id);
+        return authorization != null ? authorization : authorizations.getIfPresent(id);
+    }
+
+    private void cache(OAuth2Authorization authorization) {
+        authorizations.put(authorization.getId(), authorization);
+        for (String hash : tokenHashes(authorization)) {
+            tokenIndex.put(hash, authorization.getId());
+        }
+    }
+
+    private ReentrantLock lock(String id) {
+        return locks[Math.floorMod(id.hashCode(), LOCK_STRIPES)];
+    }
+
+    /**
+     * 是否为可重复使用、允许从本地缓存应答的令牌类型；未指定类型时可能是任意令牌，按一次性凭证处理
+     */
+    private static boolean isReusable(@Nullable OAuth2TokenType tokenType) {
+        return OAuth2TokenType.ACCESS_TOKEN.equals(tokenType)
+                || (tokenType != null && OidcParameterNames.ID_TOKEN.equals(tokenType.getValue()));
+    }
+
+    /**
+     * 新版本是否只在当前版本基础上追加令牌：已有令牌全部保留，且值与吊销状态不变
+     */
+    private static boolean isAppendOnly(OAuth2Authorization current, OAuth2Authorization updated) {
+        for (Class<? extends OAuth2Token> tokenClass : TOKEN_CLASSES.values()) {
+            OAuth2Authorization.Token<? extends OAuth2Token> before = current.getToken(tokenClass);
+            if (before == null) {
+                continue;
+            }
+            OAuth2Authorization.Token<? extends OAuth2Token> after = updated.getToken(tokenClass);
+            if (after == null
+                    || !after.getToken().getTokenValue().equals(before.getToken().getTokenValue())
+                    || after.isInvalidated() != before.isInvalidated()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean hasToken(OAuth2Authorization authorization, String token, @Nullable OAuth2TokenType tokenType) {
+        if (tokenType == null) {
+            if (token.equals(authorization.getAttribute(OAuth2ParameterNames.STATE))) {
+                return true;
+            }
+            for (Class<? extends OAuth2Token> tokenClass : TOKEN_CLASSES.values()) {
+                if (matches(authorization.getToken(tokenClass), token)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        if (STATE_TOKEN_TYPE.equals(tokenType)) {
+            return token.equals(authorization.getAttribute(OAuth2ParameterNames.STATE));
+        }
+        Class<? extends OAuth2Token> tokenClass = TOKEN_CLASSES.get(tokenType.getValue());
+        return tokenClass != null && matches(authorization.getToken(tokenClass), token);
+    }
+
+    private static boolean matches(OAuth2Authorization.@Nullable Token<? extends OAuth2Token> token, String value) {
+        return token != null && Objects.equals(token.getToken().getTokenValue(), value);
+    }
+
+    private static List<String> tokenHashes(OAuth2Authorization authorization) {
+        List<String> hashes = new ArrayList<>(TOKEN_CLASSES.size() + 1);
+        String state = authorization.getAttribute(OAuth2ParameterNames.STATE);
+        if (state != null) {
+            hashes.add(GoyaHashUtils.sha256Base64Url(state));
+        }
+        for (Class<? extends OAuth2Token> tokenClass : TOKEN_CLASSES.values()) {
+            OAuth2Authorization.Token<? extends OAuth2Token> token = authorization.getToken(tokenClass);
+            if (token != null) {
+                hashes.add(GoyaHashUtils.sha256Base64Url(token.getToken().getTokenValue()));
+            }
+        }
+        return hashes;
     }
 }
@@ -1,33 +1,113 @@
 package com.ysmjjsy.goya.component.security.oauth2.service.adapter;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ysmjjsy.goya.component.security.authentication.configuration.properties.SecurityAuthenticationProperties;
+import com.ysmjjsy.goya.component.security.core.cache.SecurityCacheEvictEvent;
 import com.ysmjjsy.goya.component.security.oauth2.service.IRegisteredClientService;
-import lombok.RequiredArgsConstructor;
+import org.jspecify.annotations.Nullable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
 import org.springframework.security.oauth2.server.authorization.client.RegisteredClient;
 import org.springframework.security.oauth2.server.authorization.client.RegisteredClientRepository;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * <p>RegisteredClientRepository 适配器</p>
+ * <p>
+ * 授权服务器处理一次令牌请求会多次按 id / clientId 查询客户端，这里在本地缓存查询结果：
+ * 按 id 缓存客户端，clientId 只映射到 id，两者共用同一份对象；本节点保存时立即失效，
+ * 并发布 {@link SecurityCacheEvictEvent} 通知其他节点失效。未经本适配器的修改（如直接改库）在缓存过期后可见。
+ * 未找到的客户端不缓存，新注册的客户端立即可用。
  *
  * @author goya
  * @since 2026/1/5
  */
-@RequiredArgsConstructor
 public class RegisteredClientRepositoryAdapter implements RegisteredClientRepository {
 
+    public static final String CACHE_NAME = "registeredClient";
+
     private final IRegisteredClientService registeredClientService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Cache<String, RegisteredClient> clients;
+    private final Cache<String, String> clientIds;
+
+    public RegisteredClientRepositoryAdapter(IRegisteredClientService registeredClientService,
+                                             SecurityAuthenticationProperties.AuthorizationStoreConfig config,
+                                             ApplicationEventPublisher eventPublisher) {
+        this.registeredClientService = registeredClientService;
+        this.eventPublisher = eventPublisher;
+        this.clients = Caffeine.newBuilder()
+                .maximumSize(config.clientCacheSize())
+                .expireAfterWrite(config.clientCacheTtl())
+                .build();
+        this.clientIds = Caffeine.newBuilder()
+                .maximumSize(config.clientCacheSize())
+                .expireAfterWrite(config.clientCacheTtl())
+                .build();
+    }
 
     @Override
     public void save(RegisteredClient registeredClient) {
-        registeredClientService.save(registeredClient);
+        RegisteredClient previous = clients.getIfPresent(registeredClient.getId());
+        try {
+            registeredClientService.save(registeredClient);
+        } finally {
+            List<String> keys = new ArrayList<>(3);
+            keys.add(registeredClient.getId());
+            keys.add(registeredClient.getClientId());
+            if (previous != null) {
+                keys.add(previous.getClientId());
+            }
+            evict(keys);
+            eventPublisher.publishEvent(SecurityCacheEvictEvent.local(CACHE_NAME, keys));
+        }
+    }
+
+    /**
+     * 其他节点修改客户端后失效本地缓存，键同时包含 id 与 clientId
+     *
+     * @param event 缓存失效事件
+     */
+    @EventListener
+    public void onCacheEvict(SecurityCacheEvictEvent event) {
+        if (event.remote() && event.matches(CACHE_NAME)) {
+            evict(event.keys());
+        }
     }
 
     @Override
-    public RegisteredClient findById(String id) {
-        return registeredClientService.findById(id);
+    public @Nullable RegisteredClient findById(String id) {
+        RegisteredClient client = clients.getIfPresent(id);
+        if (client == null) {
+            client = registeredClientService.findById(id);
+            cache(client);
+        }
+        return client;
     }
 
     @Override
-    public RegisteredClient findByClientId(String clientId) {
-        return registeredClientService.findByClientId(clientId);
+    public @Nullable RegisteredClient findByClientId(String clientId) {
+        String id = clientIds.getIfPresent(clientId);
+        RegisteredClient client = id != null ? clients.getIfPresent(id) : null;
+        if (client == null || !clientId.equals(client.getClientId())) {
+            client = registeredClientService.findByClientId(clientId);
+            cache(client);
+        }
+        return client;
+    }
+
+    private void evict(List<String> keys) {
+        clients.invalidateAll(keys);
+        clientIds.invalidateAll(keys);
+    }
+
+    private void cache(@Nullable RegisteredClient client) {
+        if (client != null) {
+            clients.put(client.getId(), client);
+            clientIds.put(client.getClientId(), client.getId());
+        }
     }
 }
@@ -8,14 +8,16 @@ import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
+import org.springframework.security.oauth2.server.authorization.context.AuthorizationServerContext;
 import org.springframework.security.oauth2.server.authorization.context.AuthorizationServerContextHolder;
-import org.springframework.security.oauth2.server.authorization.settings.AuthorizationServerSettings;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
 
 /**
  * <p>租户Issuer上下文过滤器</p>
+ * <p>
+ * 从 {@link TenantIssuerRegistry} 取得租户缓存的上下文，覆盖授权服务器默认推导的上下文，结束后恢复原上下文。
  *
  * @author goya
  * @since 2026/1/5
@@ -24,8 +26,7 @@ import java.io.IOException;
 @RequiredArgsConstructor
 public class TenantAuthorizationServerContextFilter extends OncePerRequestFilter {
 
-    private final TenantIssuerResolver tenantIssuerResolver;
-    private final AuthorizationServerSettings authorizationServerSettings;
+    private final TenantIssuerRegistry tenantIssuerRegistry;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request,
@@ -41,14 +42,17 @@ public class TenantAuthorizationServerContextFilter extends OncePerRequestFilter
             return;
         }
 
-        String issuer = tenantIssuerResolver.resolveIssuer(request, tenantId);
-        AuthorizationServerContextHolder.setContext(
-                new DefaultAuthorizationServerContext(authorizationServerSettings, issuer));
+        AuthorizationServerContext previous = AuthorizationServerContextHolder.getContext();
+        AuthorizationServerContextHolder.setContext(tenantIssuerRegistry.resolveContext(request, tenantId));
 
         try {
             filterChain.doFilter(request, response);
         } finally {
-            AuthorizationServerContextHolder.resetContext();
+            if (previous != null) {
+                AuthorizationServerContextHolder.setContext(previous);
+            } else {
+                AuthorizationServerContextHolder.resetContext();
+            }
         }
     }
 }
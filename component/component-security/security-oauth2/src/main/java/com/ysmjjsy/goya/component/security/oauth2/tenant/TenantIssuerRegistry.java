@@ -0,0 +1,176 @@
+package com.ysmjjsy.goya.component.security.oauth2.tenant;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.ysmjjsy.goya.component.security.authentication.configuration.properties.SecurityAuthenticationProperties;
+import com.ysmjjsy.goya.component.security.core.configuration.properties.SecurityCoreProperties;
+import com.ysmjjsy.goya.component.security.core.domain.SecurityTenant;
+import com.ysmjjsy.goya.component.security.core.service.ITenantService;
+import com.ysmjjsy.goya.component.security.core.tenant.TenantChangedEvent;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.jspecify.annotations.Nullable;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.event.EventListener;
+import org.springframework.security.oauth2.server.authorization.context.AuthorizationServerContext;
+import org.springframework.security.oauth2.server.authorization.settings.AuthorizationServerSettings;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * <p>租户Issuer注册表</p>
+ * <p>
+ * 按租户缓存 Issuer、对应的 {@link AuthorizationServerContext} 以及租户签名密钥，请求路径上不再访问租户存储：
+ * <ul>
+ *   <li>租户配置了 Issuer 或全局配置了认证中心地址时，Issuer 固定，上下文只创建一次</li>
+ *   <li>否则 Issuer 由请求地址推导，按请求来源（scheme + host + port）各缓存一份，数量有上限，防止伪造 Host 撑大缓存</li>
+ *   <li>签名密钥由 {@link TenantJwkSetLoader} 加载，与 Issuer 在同一缓存项中，保证两者一致</li>
+ * </ul>
+ * 收到 {@link TenantChangedEvent} 时失效对应租户（其他节点的变更经 bus 转为本地事件），未收到事件时按配置的过期时间重新加载。
+ *
+ * @author goya
+ * @since 2026/2/8 18:20
+ */
+@Slf4j
+public class TenantIssuerRegistry implements TenantIssuerResolver {
+
+    private static final String TENANT_PATH_PREFIX = "/t/";
+
+    /**
+     * 每个租户按请求来源缓存的上下文上限
+     */
+    private static final int MAX_ORIGINS = 8;
+
+    private final SecurityCoreProperties coreProperties;
+    private final AuthorizationServerSettings authorizationServerSettings;
+    private final ObjectProvider<ITenantService> tenantServiceProvider;
+    private final ObjectProvider<TenantJwkSetLoader> jwkSetLoaderProvider;
+    private final Cache<String, Entry> entries;
+
+    public TenantIssuerRegistry(SecurityCoreProperties coreProperties,
+                                AuthorizationServerSettings authorizationServerSettings,
+                                ObjectProvider<ITenantService> tenantServiceProvider,
+                                ObjectProvider<TenantJwkSetLoader> jwkSetLoaderProvider,
+                                SecurityAuthenticationProperties.TenantIssuerConfig config) {
+        this.coreProperties = coreProperties;
+        this.authorizationServerSettings = authorizationServerSettings;
+        this.tenantServiceProvider = tenantServiceProvider;
+        this.jwkSetLoaderProvider = jwkSetLoaderProvider;
+        this.entries = Caffeine.newBuilder()
+                .maximumSize(config.cacheSize())
+                .expireAfterWrite(config.cacheTtl())
+                .build();
+    }
+
+    @Override
+    public String resolveIssuer(HttpServletRequest request, String tenantId) {
+        return resolveContext(request, tenantId).getIssuer();
+    }
+
+    /**
+     * 获取租户的授权服务器上下文
+     *
+     * @param request  HTTP请求，Issuer 需由请求推导时使用
+     * @param tenantId 租户ID
+     * @return AuthorizationServerContext
+     */
+    public AuthorizationServerContext resolveContext(HttpServletRequest request, String tenantId) {
+        return entry(tenantId).context(request);
+    }
+
+    /**
+     * 获取租户签名密钥
+     *
+     * @param tenantId 租户ID
+     * @return JWKSet，租户未配置独立密钥时返回null
+     */
+    public @Nullable JWKSet resolveJwkSet(String tenantId) {
+        return entry(tenantId).jwkSet;
+    }
+
+    /**
+     * 失效单个租户
+     *
+     * @param tenantId 租户ID
+     */
+    public void invalidate(String tenantId) {
+        entries.invalidate(tenantId);
+    }
+
+    /**
+     * 失效全部租户
+     */
+    public void invalidateAll() {
+        entries.invalidateAll();
+    }
+
+    @EventListener
+    public void onTenantChanged(TenantChangedEvent event) {
+        if (StringUtils.isBlank(event.tenantId())) {
+            invalidateAll();
+            log.debug("[Goya] |- security [oauth2] Tenant issuer cache cleared.");
+        } else {
+            invalidate(event.tenantId());
+            log.debug("[Goya] |- security [oauth2] Tenant [{}] issuer cache invalidated.", event.tenantId());
+        }
+    }
+
+    private Entry entry(String tenantId) {
+        return entries.get(tenantId, this::load);
+    }
+
+    /**
+     * 加载租户配置；加载失败时异常直接抛出且不缓存，避免在密钥不可用期间回退到全局密钥签发
+     */
+    private Entry load(String tenantId) {
+        ITenantService tenantService = tenantServiceProvider.getIfAvailable();
+        SecurityTenant tenant = tenantService != null ? tenantService.loadTenant(tenantId) : null;
+
+        String issuer = null;
+        if (tenant != null && StringUtils.isNotBlank(tenant.issuer())) {
+            issuer = tenant.issuer();
+        } else if (StringUtils.isNotBlank(coreProperties.authServiceUri())) {
+            issuer = coreProperties.authServiceUri() + TENANT_PATH_PREFIX + tenantId;
+        }
+
+        JWKSet jwkSet = null;
+        TenantJwkSetLoader jwkSetLoader = jwkSetLoaderProvider.getIfAvailable();
+        if (tenant != null && jwkSetLoader != null) {
+            jwkSet = jwkSetLoader.load(tenant);
+        }
+        return new Entry(tenantId, issuer, jwkSet);
+    }
+
+    private final class Entry {
+
+        private final String tenantId;
+        private final @Nullable AuthorizationServerContext fixedContext;
+        private final @Nullable JWKSet jwkSet;
+        private final Map<String, AuthorizationServerContext> derivedContexts = new ConcurrentHashMap<>();
+
+        private Entry(String tenantId, @Nullable String issuer, @Nullable JWKSet jwkSet) {
+            this.tenantId = tenantId;
+            this.fixedContext = issuer != null ? new DefaultAuthorizationServerContext(authorizationServerSettings, issuer) : null;
+            this.jwkSet = jwkSet;
+        }
+
+        private AuthorizationServerContext context(HttpServletRequest request) {
+            if (fixedContext != null) {
+                return fixedContext;
+            }
+            String requestUrl = request.getRequestURL().toString();
+            String origin = requestUrl.substring(0, requestUrl.length() - request.getRequestURI().length());
+            AuthorizationServerContext context = derivedContexts.get(origin);
+            if (context == null) {
+                context = new DefaultAuthorizationServerContext(authorizationServerSettings, origin + TENANT_PATH_PREFIX + tenantId);
+                if (derivedContexts.size() < MAX_ORIGINS) {
+                    derivedContexts.putIfAbsent(origin, context);
+                }
+            }
+            return context;
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.ysmjjsy.goya.component.security.oauth2.tenant;
+
+import com.nimbusds.jose.jwk.JWKSet;
+import com.ysmjjsy.goya.component.security.core.domain.SecurityTenant;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * <p>租户签名密钥加载SPI</p>
+ * <p>
+ * 返回的 JWKSet 需包含私钥，既用于该租户的 Token 签名，也用于其 JWK Set 端点发布公钥；
+ * 结果随租户Issuer一起缓存，密钥轮换后调用 {@link com.ysmjjsy.goya.component.security.core.tenant.TenantChangeBroadcaster#publish} 通知各节点。
+ *
+ * @author goya
+ * @since 2026/2/8 18:15
+ */
+@FunctionalInterface
+public interface TenantJwkSetLoader {
+
+    /**
+     * 加载租户签名密钥
+     *
+     * @param tenant 租户配置
+     * @return JWKSet，返回null时使用全局密钥
+     */
+    @Nullable
+    JWKSet load(SecurityTenant tenant);
+}
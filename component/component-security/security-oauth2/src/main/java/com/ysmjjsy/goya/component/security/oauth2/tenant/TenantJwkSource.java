@@ -0,0 +1,43 @@
+package com.ysmjjsy.goya.component.security.oauth2.tenant;
+
+import com.nimbusds.jose.KeySourceException;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKSelector;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.source.JWKSource;
+import com.nimbusds.jose.proc.SecurityContext;
+import com.ysmjjsy.goya.component.framework.tenant.TenantContext;
+import lombok.RequiredArgsConstructor;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.util.List;
+
+/**
+ * <p>按租户选择签名密钥的 JWKSource</p>
+ * <p>
+ * 当前请求带有租户且 {@link TenantIssuerRegistry} 中该租户配置了独立密钥时，从租户密钥中选择，
+ * Token 签名与 JWK Set 端点因此都只使用该租户的密钥；否则使用全局密钥。
+ *
+ * @author goya
+ * @since 2026/2/8 18:30
+ */
+@RequiredArgsConstructor
+public class TenantJwkSource implements JWKSource<SecurityContext> {
+
+    private final JWKSource<SecurityContext> defaultJwkSource;
+    private final ObjectProvider<TenantIssuerRegistry> tenantIssuerRegistryProvider;
+
+    @Override
+    public List<JWK> get(JWKSelector jwkSelector, SecurityContext context) throws KeySourceException {
+        String tenantId = TenantContext.getTenantId();
+        if (StringUtils.isNotBlank(tenantId)) {
+            TenantIssuerRegistry registry = tenantIssuerRegistryProvider.getIfAvailable();
+            JWKSet jwkSet = registry != null ? registry.resolveJwkSet(tenantId) : null;
+            if (jwkSet != null) {
+                return jwkSelector.select(jwkSet);
+            }
+        }
+        return defaultJwkSource.get(jwkSelector, context);
+    }
+}
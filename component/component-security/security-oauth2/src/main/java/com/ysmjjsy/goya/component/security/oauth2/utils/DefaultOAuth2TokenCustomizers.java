@@ -1,5 +1,6 @@
 package com.ysmjjsy.goya.component.security.oauth2.utils;
 
+import com.ysmjjsy.goya.component.framework.common.utils.GoyaHashUtils;
 import org.springframework.security.oauth2.core.ClientAuthenticationMethod;
 import org.springframework.security.oauth2.core.OAuth2AuthenticationException;
 import org.springframework.security.oauth2.core.OAuth2Error;
@@ -10,7 +11,6 @@ import org.springframework.security.oauth2.server.authorization.authentication.O
 import org.springframework.security.oauth2.server.authorization.authentication.OAuth2TokenExchangeCompositeAuthenticationToken;
 import org.springframework.security.oauth2.server.authorization.token.*;
 
-import java.security.MessageDigest;
 import java.security.cert.X509Certificate;
 import java.util.*;
 
@@ -75,9 +75,7 @@ final class DefaultOAuth2TokenCustomizers {
     }
 
     private static String computeSHA256Thumbprint(X509Certificate x509Certificate) throws Exception {
-        MessageDigest md = MessageDigest.getInstance("SHA-256");
-        byte[] digest = md.digest(x509Certificate.getEncoded());
-        return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+        return GoyaHashUtils.base64Url(GoyaHashUtils.sha256(x509Certificate.getEncoded()));
     }
 
 }
@@ -0,0 +1,8 @@
+-- 用户授权同意（JdbcConsentRepository），MySQL / PostgreSQL / SQLite 通用
+CREATE TABLE IF NOT EXISTS oauth2_user_consent (
+    user_id VARCHAR(64) NOT NULL,
+    client_id VARCHAR(100) NOT NULL,
+    scopes VARCHAR(1000) NOT NULL,
+    granted_at TIMESTAMP NULL,
+    PRIMARY KEY (user_id, client_id)
+);